@@ -0,0 +1,188 @@
+package com.company.apiframework.benchmark;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.company.apiframework.codec.CodecHttpMessageConverter;
+import com.company.apiframework.codec.CodecRegistry;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+
+/**
+ * Compares the cached codec registry with the per-call Jackson paths it replaces.
+ *
+ * <p>Each pair runs the same payload (an order with ten lines) through the path used
+ * before the registry and through the registry:</p>
+ * <ul>
+ *   <li>REST: RestTemplate's {@code MappingJackson2HttpMessageConverter} against
+ *       {@link CodecHttpMessageConverter}, reading a single object, reading a generic
+ *       {@code List<Order>} and writing an object</li>
+ *   <li>Mocks: {@code writeValueAsString} followed by {@code readValue} against
+ *       {@link CodecRegistry#convert(Object, Class)}</li>
+ *   <li>SOAP: {@code XmlMapper.readValue} against the XML registry</li>
+ * </ul>
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main CodecBenchmark -prof gc"
+ * </pre>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    private static final Type ORDER_LIST = new TypeReference<List<Order>>() { }.getType();
+
+    private MappingJackson2HttpMessageConverter jacksonConverter;
+    private CodecHttpMessageConverter codecConverter;
+    private CodecRegistry jsonCodecs;
+    private XmlMapper xmlMapper;
+    private CodecRegistry xmlCodecs;
+
+    private Order order;
+    private byte[] orderJson;
+    private byte[] orderListJson;
+    private String orderXml;
+
+    @Setup
+    public void setUp() throws IOException {
+        jacksonConverter = new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build());
+        jsonCodecs = new CodecRegistry(jacksonConverter.getObjectMapper());
+        codecConverter = new CodecHttpMessageConverter(jsonCodecs);
+        xmlMapper = new XmlMapper();
+        xmlCodecs = new CodecRegistry(xmlMapper);
+
+        order = Order.sample(1);
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            orders.add(Order.sample(i));
+        }
+        orderJson = jsonCodecs.writeAsBytes(order);
+        orderListJson = jsonCodecs.getObjectMapper().writeValueAsBytes(orders);
+        orderXml = xmlMapper.writeValueAsString(order);
+    }
+
+    @Benchmark
+    public Object restReadJackson() throws IOException {
+        return jacksonConverter.read(Order.class, null, jsonMessage(orderJson));
+    }
+
+    @Benchmark
+    public Object restReadCodec() throws IOException {
+        return codecConverter.read(Order.class, null, jsonMessage(orderJson));
+    }
+
+    @Benchmark
+    public Object restReadGenericJackson() throws IOException {
+        return jacksonConverter.read(ORDER_LIST, null, jsonMessage(orderListJson));
+    }
+
+    @Benchmark
+    public Object restReadGenericCodec() throws IOException {
+        return codecConverter.read(ORDER_LIST, null, jsonMessage(orderListJson));
+    }
+
+    @Benchmark
+    public Object restWriteJackson() throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        jacksonConverter.write(order, MediaType.APPLICATION_JSON, message);
+        return message;
+    }
+
+    @Benchmark
+    public Object restWriteCodec() throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        codecConverter.write(order, MediaType.APPLICATION_JSON, message);
+        return message;
+    }
+
+    @Benchmark
+    public Object mockConvertMapper() throws IOException {
+        String json = jsonCodecs.getObjectMapper().writeValueAsString(order);
+        return jsonCodecs.getObjectMapper().readValue(json, Order.class);
+    }
+
+    @Benchmark
+    public Object mockConvertCodec() throws IOException {
+        return jsonCodecs.convert(order, Order.class);
+    }
+
+    @Benchmark
+    public Object soapReadMapper() throws IOException {
+        return xmlMapper.readValue(orderXml, Order.class);
+    }
+
+    @Benchmark
+    public Object soapReadCodec() throws IOException {
+        return xmlCodecs.read(orderXml, Order.class);
+    }
+
+    private static MockHttpInputMessage jsonMessage(byte[] body) {
+        MockHttpInputMessage message = new MockHttpInputMessage(body);
+        message.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return message;
+    }
+
+    /**
+     * Benchmark payload.
+     */
+    public static class Order {
+        public String id;
+        public String customer;
+        public BigDecimal total;
+        public List<Line> lines = new ArrayList<>();
+
+        static Order sample(int seed) {
+            Order order = new Order();
+            order.id = "ORD-" + seed;
+            order.customer = "customer-" + seed + "@example.com";
+            order.total = BigDecimal.ZERO;
+            for (int i = 0; i < 10; i++) {
+                Line line = new Line();
+                line.sku = "SKU-" + seed + "-" + i;
+                line.quantity = i + 1;
+                line.price = new BigDecimal("19.99");
+                order.lines.add(line);
+                order.total = order.total.add(line.price.multiply(BigDecimal.valueOf(line.quantity)));
+            }
+            return order;
+        }
+    }
+
+    /**
+     * Order line of the benchmark payload.
+     */
+    public static class Line {
+        public String sku;
+        public int quantity;
+        public BigDecimal price;
+    }
+}
@@ -0,0 +1,244 @@
+package com.company.apiframework.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import com.company.apiframework.client.transport.JdkHttpClientTransport;
+import com.company.apiframework.client.transport.TransportRequest;
+import com.company.apiframework.config.TransportProperties;
+
+/**
+ * Compares the pooled HTTP/1.1 RestTemplate engine with the JDK transport over
+ * HTTP/1.1 and over HTTP/2 (h2c) against a local Jetty stub.
+ *
+ * <p>Every scenario sends the same number of GET requests with the same number in
+ * flight to a handler that answers after a fixed delay, and reports latency
+ * percentiles, throughput and the peak number of client sockets open to the stub.
+ * Sockets are counted from {@code /proc/self/net/tcp}, so the socket column is only
+ * available on Linux.</p>
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.company.apiframework.benchmark.Http2TransportBenchmark \
+ *     -Dbenchmark.requests=20000 -Dbenchmark.concurrency=200 -Dbenchmark.delayMs=5
+ * </pre>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class Http2TransportBenchmark {
+
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20000);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 200);
+    private static final int DELAY_MS = Integer.getInteger("benchmark.delayMs", 5);
+    private static final int POOL_MAX_TOTAL = 100;
+    private static final int POOL_MAX_PER_ROUTE = 20;
+
+    public static void main(String[] args) throws Exception {
+        Server server = startStub();
+        int port = ((ServerConnector) server.getConnectors()[0]).getLocalPort();
+        String url = "http://127.0.0.1:" + port + "/resource";
+
+        System.out.printf(Locale.ROOT, "requests=%d concurrency=%d serverDelay=%dms%n", REQUESTS, CONCURRENCY, DELAY_MS);
+        System.out.printf(Locale.ROOT, "%-30s %10s %10s %12s %8s%n", "scenario", "p50 ms", "p99 ms", "req/s", "sockets");
+        try {
+            report("rest-template http/1.1 pool", port, runRestTemplate(url, port));
+            report("jdk-http-client http/1.1", port, runJdkTransport(url, port, TransportProperties.HttpVersion.HTTP_1_1));
+            report("jdk-http-client http/2 (h2c)", port, runJdkTransport(url, port, TransportProperties.HttpVersion.HTTP_2));
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static Server startStub() throws Exception {
+        Server server = new Server();
+        HttpConfiguration config = new HttpConfiguration();
+        ServerConnector connector = new ServerConnector(server,
+                new HttpConnectionFactory(config), new HTTP2CServerConnectionFactory(config));
+        connector.setHost("127.0.0.1");
+        connector.setPort(0);
+        server.addConnector(connector);
+        server.setHandler(new AbstractHandler() {
+            @Override
+            public void handle(String target, Request baseRequest, HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
+                try {
+                    Thread.sleep(DELAY_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                response.setContentType("application/json");
+                response.getOutputStream().write("{\"status\":\"ok\"}".getBytes(StandardCharsets.UTF_8));
+                baseRequest.setHandled(true);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private static Result runRestTemplate(String url, int port) throws Exception {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(POOL_MAX_TOTAL);
+        connectionManager.setDefaultMaxPerRoute(POOL_MAX_PER_ROUTE);
+        CloseableHttpClient httpClient = HttpClients.custom().setConnectionManager(connectionManager).build();
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        ExecutorService callers = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            restTemplate.getForObject(url, String.class);
+            SocketSampler sampler = new SocketSampler(port);
+            long[] latencies = new long[REQUESTS];
+            List<CompletableFuture<Void>> calls = new ArrayList<>(REQUESTS);
+            long start = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++) {
+                int index = i;
+                calls.add(CompletableFuture.runAsync(() -> {
+                    long begin = System.nanoTime();
+                    restTemplate.getForObject(url, String.class);
+                    latencies[index] = System.nanoTime() - begin;
+                }, callers));
+            }
+            CompletableFuture.allOf(calls.toArray(new CompletableFuture<?>[0])).join();
+            return new Result(latencies, System.nanoTime() - start, sampler.stop());
+        } finally {
+            callers.shutdownNow();
+            httpClient.close();
+        }
+    }
+
+    private static Result runJdkTransport(String url, int port, TransportProperties.HttpVersion version)
+            throws Exception {
+        TransportProperties properties = new TransportProperties();
+        properties.setHttpVersion(version);
+        // HTTP/1.1 gets the same per-route limit as the pool; HTTP/2 multiplexes everything
+        properties.setMaxConcurrentStreams(version == TransportProperties.HttpVersion.HTTP_2
+                ? CONCURRENCY : POOL_MAX_PER_ROUTE);
+        JdkHttpClientTransport transport = new JdkHttpClientTransport("benchmark", 1000, 30000, properties);
+        try {
+            // Settles the h2c upgrade so the measured requests start on an established connection
+            transport.send(get(url)).get(10, TimeUnit.SECONDS);
+            SocketSampler sampler = new SocketSampler(port);
+            Semaphore inFlight = new Semaphore(CONCURRENCY);
+            long[] latencies = new long[REQUESTS];
+            List<CompletableFuture<?>> calls = new ArrayList<>(REQUESTS);
+            long start = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++) {
+                int index = i;
+                inFlight.acquire();
+                long begin = System.nanoTime();
+                calls.add(transport.send(get(url)).whenComplete((response, throwable) -> {
+                    latencies[index] = System.nanoTime() - begin;
+                    inFlight.release();
+                }));
+            }
+            CompletableFuture.allOf(calls.toArray(new CompletableFuture<?>[0])).join();
+            return new Result(latencies, System.nanoTime() - start, sampler.stop());
+        } finally {
+            transport.close();
+        }
+    }
+
+    private static TransportRequest get(String url) {
+        return new TransportRequest("GET", url, Collections.singletonMap("Accept", "application/json"), null);
+    }
+
+    private static void report(String scenario, int port, Result result) {
+        long[] sorted = result.latencies.clone();
+        Arrays.sort(sorted);
+        double seconds = result.elapsedNanos / 1_000_000_000.0;
+        System.out.printf(Locale.ROOT, "%-30s %10.2f %10.2f %12.0f %8s%n", scenario,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), sorted.length / seconds,
+                result.peakSockets < 0 ? "n/a" : String.valueOf(result.peakSockets));
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static final class Result {
+        private final long[] latencies;
+        private final long elapsedNanos;
+        private final int peakSockets;
+
+        private Result(long[] latencies, long elapsedNanos, int peakSockets) {
+            this.latencies = latencies;
+            this.elapsedNanos = elapsedNanos;
+            this.peakSockets = peakSockets;
+        }
+    }
+
+    /**
+     * Samples the established client connections to the stub port every few milliseconds.
+     */
+    private static final class SocketSampler {
+        private static final Path[] TCP_TABLES = {Paths.get("/proc/self/net/tcp"), Paths.get("/proc/self/net/tcp6")};
+
+        private final String remotePort;
+        private final AtomicInteger peak = new AtomicInteger();
+        private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        private SocketSampler(int port) {
+            this.remotePort = String.format(Locale.ROOT, ":%04X", port);
+            if (Files.isReadable(TCP_TABLES[0])) {
+                scheduler.scheduleAtFixedRate(() -> peak.accumulateAndGet(count(), Math::max), 0, 5, TimeUnit.MILLISECONDS);
+            } else {
+                peak.set(-1);
+            }
+        }
+
+        private int stop() {
+            scheduler.shutdownNow();
+            return peak.get();
+        }
+
+        private int count() {
+            int sockets = 0;
+            for (Path table : TCP_TABLES) {
+                try {
+                    for (String line : Files.readAllLines(table)) {
+                        // Columns: sl local_address rem_address st ...; state 01 is ESTABLISHED
+                        String[] columns = line.trim().split("\\s+");
+                        if (columns.length > 3 && columns[2].endsWith(remotePort) && "01".equals(columns[3])) {
+                            sockets++;
+                        }
+                    }
+                } catch (IOException e) {
+                    // tcp6 is missing when IPv6 is disabled
+                }
+            }
+            return sockets;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.company.apiframework.async;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Executor used by API clients to run calls asynchronously.
+ *
+ * <p>Unlike {@link CompletableFuture#supplyAsync(Supplier, Executor)}, {@link #submit(Supplier)}
+ * always returns a future, even when the executor refuses the task: a rejected or shed
+ * task completes its future exceptionally instead of throwing on the caller's thread
+ * or leaving the future pending forever. Cancelling the returned future with
+ * {@code cancel(true)} interrupts the call if it is running and skips it if it is
+ * still waiting.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see BoundedAsyncExecutor
+ * @see VirtualThreadAsyncExecutor
+ */
+public interface AsyncExecutor extends Executor {
+
+    /**
+     * Run a task asynchronously.
+     *
+     * @param <T> Result type
+     * @param task Task to run
+     * @return Future completed with the task result, or exceptionally if the task failed or was rejected
+     */
+    <T> CompletableFuture<T> submit(Supplier<T> task);
+
+    /**
+     * Get a snapshot of the executor metrics. Executors that are not framework-managed report none.
+     *
+     * @return Map of metric name to value
+     */
+    default Map<String, Object> getMetrics() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Stop accepting calls, wait briefly for running calls and fail the ones still waiting.
+     * Executors that are not framework-managed are owned by their creator and ignore this.
+     *
+     * @param timeoutMs Maximum time to wait for running calls
+     */
+    default void shutdown(long timeoutMs) {
+    }
+
+    /**
+     * Adapt a plain executor. Returns the argument itself if it already is an AsyncExecutor.
+     *
+     * @param executor Executor to adapt
+     * @return AsyncExecutor backed by the given executor
+     */
+    static AsyncExecutor wrap(Executor executor) {
+        if (executor instanceof AsyncExecutor) {
+            return (AsyncExecutor) executor;
+        }
+        return new AsyncExecutor() {
+            @Override
+            public <T> CompletableFuture<T> submit(Supplier<T> task) {
+                AsyncTask<T> asyncTask = new AsyncTask<>(task);
+                try {
+                    executor.execute(asyncTask);
+                } catch (RuntimeException e) {
+                    asyncTask.fail(e);
+                }
+                return asyncTask.getFuture();
+            }
+
+            @Override
+            public void execute(Runnable command) {
+                executor.execute(command);
+            }
+        };
+    }
+}
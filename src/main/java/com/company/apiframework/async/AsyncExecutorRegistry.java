@@ -0,0 +1,95 @@
+package com.company.apiframework.async;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import com.company.apiframework.config.ApiProperties;
+import com.company.apiframework.config.AsyncProperties;
+
+/**
+ * Framework-managed async executors, one per RestTemplate profile.
+ *
+ * <p>Executors are created lazily from {@link ApiProperties#resolveAsync(String)} the
+ * first time a profile runs an async call, and are shut down when the Spring context
+ * closes. All API clients of a profile share its executor. Depending on
+ * {@link AsyncProperties#getMode()} a profile runs on a bounded platform thread pool
+ * or on virtual threads limited by a semaphore.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see BoundedAsyncExecutor
+ * @see VirtualThreadAsyncExecutor
+ */
+public class AsyncExecutorRegistry implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncExecutorRegistry.class);
+
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
+    private final ApiProperties apiProperties;
+    private final ConcurrentMap<String, AsyncExecutor> executors = new ConcurrentHashMap<>();
+
+    public AsyncExecutorRegistry(ApiProperties apiProperties) {
+        this.apiProperties = apiProperties;
+    }
+
+    /**
+     * Get the executor of a profile, creating it on first use.
+     *
+     * @param profileName RestTemplate profile name
+     * @return Shared executor for the profile
+     */
+    public AsyncExecutor forProfile(String profileName) {
+        AsyncExecutor executor = executors.get(profileName);
+        if (executor != null) {
+            return executor;
+        }
+        return executors.computeIfAbsent(profileName, this::createExecutor);
+    }
+
+    /**
+     * Get metrics of all executors created so far.
+     *
+     * @return Map of profile name to executor metrics
+     */
+    public Map<String, Map<String, Object>> getMetrics() {
+        Map<String, Map<String, Object>> metrics = new LinkedHashMap<>();
+        executors.forEach((profile, executor) -> metrics.put(profile, executor.getMetrics()));
+        return metrics;
+    }
+
+    /**
+     * Shut down all executors, failing calls that are still queued.
+     */
+    @Override
+    public void destroy() {
+        executors.values().forEach(executor -> executor.shutdown(SHUTDOWN_TIMEOUT_MS));
+        executors.clear();
+        logger.info("Async executors shut down");
+    }
+
+    private AsyncExecutor createExecutor(String profileName) {
+        AsyncProperties properties = apiProperties.resolveAsync(profileName);
+        if (properties.getMode() == AsyncProperties.Mode.VIRTUAL) {
+            if (VirtualThreads.isSupported()) {
+                logger.info("Creating virtual thread executor for profile '{}' (maxConcurrency={}, maxWaiting={}, policy={})",
+                        profileName, properties.getMaxConcurrency(), properties.getQueueCapacity(),
+                        properties.getRejectionPolicy());
+                return new VirtualThreadAsyncExecutor(profileName, properties);
+            }
+            logger.warn("Virtual threads are not available on Java {}; profile '{}' falls back to platform threads",
+                    System.getProperty("java.version"), profileName);
+        }
+        logger.info("Creating async executor for profile '{}' (core={}, max={}, queue={}, policy={})",
+                profileName, properties.getCorePoolSize(), properties.getMaxPoolSize(),
+                properties.getQueueCapacity(), properties.getRejectionPolicy());
+        return new BoundedAsyncExecutor(profileName, properties);
+    }
+}
@@ -0,0 +1,104 @@
+package com.company.apiframework.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Helpers for the futures returned by the async API.
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class AsyncFutures {
+
+    private AsyncFutures() {
+    }
+
+    /**
+     * Re-publish a future's outcome on another executor.
+     *
+     * <p>Non-async stages chained on the returned future run on {@code completionExecutor}
+     * instead of the framework's I/O thread. Cancelling the returned future cancels
+     * (and interrupts) the source.</p>
+     *
+     * @param <T> Result type
+     * @param source Future to follow
+     * @param completionExecutor Executor that completes the returned future
+     * @return Future completed on the given executor with the source's result or failure
+     */
+    public static <T> CompletableFuture<T> completeOn(CompletableFuture<T> source, Executor completionExecutor) {
+        CompletableFuture<T> result = new UpstreamCancellingFuture<>(source);
+        source.whenComplete((value, throwable) -> {
+            try {
+                completionExecutor.execute(() -> {
+                    if (throwable != null) {
+                        result.completeExceptionally(unwrap(throwable));
+                    } else {
+                        result.complete(value);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Mirror a dependent future so that cancelling the result also cancels its upstream.
+     *
+     * <p>Stages derived with {@code thenApply}/{@code handle} do not cancel the future
+     * they were derived from; use this when the caller's cancel must reach the I/O.</p>
+     *
+     * @param <T> Result type
+     * @param dependent Future to mirror, usually derived from {@code upstream}
+     * @param upstream Future to cancel when the result is cancelled
+     * @return Future completed with the dependent's result or failure
+     */
+    public static <T> CompletableFuture<T> linkCancellation(CompletableFuture<T> dependent, Future<?> upstream) {
+        CompletableFuture<T> result = new UpstreamCancellingFuture<>(upstream);
+        dependent.whenComplete((value, throwable) -> {
+            if (throwable != null) {
+                result.completeExceptionally(unwrap(throwable));
+            } else {
+                result.complete(value);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Strip the {@link CompletionException} wrapper added by dependent stages.
+     *
+     * @param throwable Failure reported by a future
+     * @return The underlying cause
+     */
+    public static Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    /**
+     * Future whose cancellation is forwarded to the future it follows.
+     */
+    private static final class UpstreamCancellingFuture<T> extends CompletableFuture<T> {
+
+        private final Future<?> upstream;
+
+        UpstreamCancellingFuture(Future<?> upstream) {
+            this.upstream = upstream;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            upstream.cancel(mayInterruptIfRunning);
+            return super.cancel(mayInterruptIfRunning);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.company.apiframework.async;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Semaphore whose {@link #acquire()} returns a future instead of blocking.
+ *
+ * <p>Used by non-blocking transports to cap concurrent exchanges without parking
+ * a thread per waiting request: a request that finds no free permit is queued and
+ * continues on the releasing thread once a permit frees up. Waiters are served in
+ * FIFO order. Cancelling a waiter's future withdraws it from the queue. The number
+ * of permits can be changed at runtime; after a decrease, holders above the new
+ * limit keep their permits and no one else gets one until enough are released.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class AsyncSemaphore {
+
+    private static final CompletableFuture<Void> ACQUIRED = CompletableFuture.completedFuture(null);
+
+    private final AtomicInteger permits;
+    private final AtomicInteger available;
+    private final Queue<CompletableFuture<Void>> waiters = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param permits Maximum number of concurrent holders (at least 1)
+     */
+    public AsyncSemaphore(int permits) {
+        this.permits = new AtomicInteger(Math.max(1, permits));
+        this.available = new AtomicInteger(this.permits.get());
+    }
+
+    /**
+     * Acquire a permit.
+     *
+     * @return Future completed once the caller holds a permit; already complete if one was free
+     */
+    public CompletableFuture<Void> acquire() {
+        int current;
+        while ((current = available.get()) > 0) {
+            if (available.compareAndSet(current, current - 1)) {
+                return ACQUIRED;
+            }
+        }
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        waiters.add(waiter);
+        // A permit may have been released between the check above and enqueueing
+        drain();
+        return waiter;
+    }
+
+    /**
+     * Return a permit, handing it to the oldest waiter if there is one.
+     */
+    public void release() {
+        available.incrementAndGet();
+        drain();
+    }
+
+    /**
+     * Change the number of permits.
+     *
+     * @param permits New maximum number of concurrent holders (at least 1)
+     */
+    public void setPermits(int permits) {
+        int target = Math.max(1, permits);
+        int previous = this.permits.getAndSet(target);
+        if (target != previous) {
+            available.addAndGet(target - previous);
+            drain();
+        }
+    }
+
+    /**
+     * @return Number of free permits
+     */
+    public int getAvailablePermits() {
+        return Math.max(0, available.get());
+    }
+
+    /**
+     * @return Total number of permits
+     */
+    public int getPermits() {
+        return permits.get();
+    }
+
+    /**
+     * @return Number of queued waiters (linear in the queue length; for metrics only)
+     */
+    public int getWaiting() {
+        return waiters.size();
+    }
+
+    private void drain() {
+        while (!waiters.isEmpty()) {
+            int current = available.get();
+            if (current <= 0) {
+                return;
+            }
+            if (!available.compareAndSet(current, current - 1)) {
+                continue;
+            }
+            CompletableFuture<Void> waiter = waiters.poll();
+            if (waiter == null) {
+                // Queue emptied concurrently: give the permit back and re-check for new waiters
+                available.incrementAndGet();
+                continue;
+            }
+            if (!waiter.complete(null)) {
+                // Waiter was cancelled: the permit stays available
+                available.incrementAndGet();
+            }
+        }
+    }
+}
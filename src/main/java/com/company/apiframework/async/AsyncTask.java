@@ -0,0 +1,88 @@
+package com.company.apiframework.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Task wrapper that owns the caller's future and remembers when it was submitted.
+ *
+ * <p>Executors fail the future through {@link #fail(Throwable)} when they reject or
+ * shed the task, so callers always get a completed future back.</p>
+ *
+ * <p>Cancelling the future with {@code cancel(true)} interrupts the thread running
+ * the task; a task cancelled before it starts is skipped. The interrupt is delivered
+ * only while the task runs, so it never leaks into later work of a pooled thread or
+ * of a caller that ran the task itself.</p>
+ */
+final class AsyncTask<T> implements Runnable {
+
+    private final Supplier<T> supplier;
+    private final TaskFuture future = new TaskFuture();
+    private final long enqueuedNanos = System.nanoTime();
+
+    // Guarded by "this": the thread running the task, and whether cancel() interrupted it
+    private Thread runner;
+    private boolean interruptedByCancel;
+
+    AsyncTask(Supplier<T> supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public void run() {
+        synchronized (this) {
+            if (future.isDone()) {
+                return;
+            }
+            runner = Thread.currentThread();
+        }
+        try {
+            future.complete(supplier.get());
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+        } finally {
+            boolean clearInterrupt;
+            synchronized (this) {
+                runner = null;
+                clearInterrupt = interruptedByCancel;
+            }
+            if (clearInterrupt) {
+                Thread.interrupted();
+            }
+        }
+    }
+
+    void fail(Throwable cause) {
+        future.completeExceptionally(cause);
+    }
+
+    CompletableFuture<T> getFuture() {
+        return future;
+    }
+
+    long getEnqueuedNanos() {
+        return enqueuedNanos;
+    }
+
+    private synchronized void interruptRunner() {
+        if (runner != null) {
+            interruptedByCancel = true;
+            runner.interrupt();
+        }
+    }
+
+    /**
+     * Future whose {@code cancel(true)} interrupts the running task.
+     */
+    private final class TaskFuture extends CompletableFuture<T> {
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled && mayInterruptIfRunning) {
+                interruptRunner();
+            }
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.company.apiframework.async;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.company.apiframework.config.AsyncProperties;
+import com.company.apiframework.config.AsyncProperties.RejectionPolicy;
+import com.company.apiframework.exception.ApiException;
+
+/**
+ * Bounded, instrumented thread pool for the async calls of one RestTemplate profile.
+ *
+ * <p>The pool has a fixed maximum number of threads and a bounded queue, so a traffic
+ * spike can never create an unbounded number of threads. When both are exhausted the
+ * configured {@link RejectionPolicy} decides what happens to the new call:</p>
+ * <ul>
+ *   <li><strong>CALLER_RUNS:</strong> the call runs on the submitting thread</li>
+ *   <li><strong>FAIL_FAST:</strong> the call fails immediately with error code {@code ASYNC_REJECTED}</li>
+ *   <li><strong>SHED:</strong> the oldest queued call fails with {@code ASYNC_SHED} and the new call is queued</li>
+ * </ul>
+ *
+ * <p><strong>Metrics:</strong> queue depth, active threads, pool size, completed,
+ * rejected, shed and caller-runs counts, and the time calls spend waiting in the
+ * queue (average and maximum). See {@link #getMetrics()}.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see AsyncExecutorRegistry
+ */
+public class BoundedAsyncExecutor implements AsyncExecutor {
+
+    private final String profileName;
+    private final RejectionPolicy rejectionPolicy;
+    private final int queueCapacity;
+    private final InstrumentedThreadPool pool;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final LongAdder waitCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /**
+     * @param profileName RestTemplate profile this executor serves (used in thread names and metrics)
+     * @param properties Pool sizing and rejection policy
+     */
+    public BoundedAsyncExecutor(String profileName, AsyncProperties properties) {
+        this.profileName = profileName;
+        this.rejectionPolicy = properties.getRejectionPolicy() != null
+                ? properties.getRejectionPolicy() : RejectionPolicy.CALLER_RUNS;
+        this.queueCapacity = Math.max(1, properties.getQueueCapacity());
+
+        int corePoolSize = Math.max(1, properties.getCorePoolSize());
+        int maxPoolSize = Math.max(corePoolSize, properties.getMaxPoolSize());
+        this.pool = new InstrumentedThreadPool(corePoolSize, maxPoolSize, properties.getKeepAliveMs(),
+                new ArrayBlockingQueue<>(queueCapacity),
+                new NamedThreadFactory("api-async-" + profileName + "-"),
+                new PolicyHandler());
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        AsyncTask<T> asyncTask = new AsyncTask<>(task);
+        submitted.increment();
+        pool.execute(asyncTask);
+        return asyncTask.getFuture();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        submitted.increment();
+        pool.execute(command);
+    }
+
+    /**
+     * @return Profile name this executor serves
+     */
+    public String getProfileName() {
+        return profileName;
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        long waits = waitCount.sum();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("mode", "platform");
+        metrics.put("rejectionPolicy", rejectionPolicy.name());
+        metrics.put("corePoolSize", pool.getCorePoolSize());
+        metrics.put("maxPoolSize", pool.getMaximumPoolSize());
+        metrics.put("poolSize", pool.getPoolSize());
+        metrics.put("activeThreads", pool.getActiveCount());
+        metrics.put("queueDepth", pool.getQueue().size());
+        metrics.put("queueCapacity", queueCapacity);
+        metrics.put("submittedTasks", submitted.sum());
+        metrics.put("completedTasks", pool.getCompletedTaskCount());
+        metrics.put("rejectedTasks", rejected.sum());
+        metrics.put("shedTasks", shed.sum());
+        metrics.put("callerRunsTasks", callerRuns.sum());
+        metrics.put("averageWaitMs", waits == 0 ? 0.0 : totalWaitNanos.sum() / (double) waits / 1_000_000.0);
+        metrics.put("maxWaitMs", TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+        return metrics;
+    }
+
+    /**
+     * @return Number of calls currently waiting for a thread
+     */
+    public int getQueueDepth() {
+        return pool.getQueue().size();
+    }
+
+    /**
+     * @return Number of threads currently running calls
+     */
+    public int getActiveThreads() {
+        return pool.getActiveCount();
+    }
+
+    @Override
+    public void shutdown(long timeoutMs) {
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS)) {
+                failAll(pool.shutdownNow());
+            }
+        } catch (InterruptedException e) {
+            failAll(pool.shutdownNow());
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void failAll(List<Runnable> pending) {
+        for (Runnable runnable : pending) {
+            if (runnable instanceof AsyncTask) {
+                ((AsyncTask<?>) runnable).fail(new ApiException("ASYNC_REJECTED",
+                        "Async executor for profile '" + profileName + "' was shut down"));
+            }
+        }
+    }
+
+    private void recordWait(long waitNanos) {
+        waitCount.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    /**
+     * Thread pool that records how long tasks waited in the queue.
+     */
+    private final class InstrumentedThreadPool extends ThreadPoolExecutor {
+
+        InstrumentedThreadPool(int corePoolSize, int maxPoolSize, long keepAliveMs,
+                               ArrayBlockingQueue<Runnable> queue, NamedThreadFactory threadFactory,
+                               RejectedExecutionHandler handler) {
+            super(corePoolSize, maxPoolSize, keepAliveMs, TimeUnit.MILLISECONDS, queue, threadFactory, handler);
+        }
+
+        @Override
+        protected void beforeExecute(Thread thread, Runnable runnable) {
+            super.beforeExecute(thread, runnable);
+            if (runnable instanceof AsyncTask) {
+                recordWait(System.nanoTime() - ((AsyncTask<?>) runnable).getEnqueuedNanos());
+            }
+        }
+    }
+
+    /**
+     * Applies the configured rejection policy when the pool and queue are saturated.
+     */
+    private final class PolicyHandler implements RejectedExecutionHandler {
+
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                reject(runnable, new ApiException("ASYNC_REJECTED",
+                        "Async executor for profile '" + profileName + "' is shut down"));
+                return;
+            }
+
+            switch (rejectionPolicy) {
+                case CALLER_RUNS:
+                    callerRuns.increment();
+                    runnable.run();
+                    break;
+                case SHED:
+                    Runnable oldest = executor.getQueue().poll();
+                    if (oldest != null) {
+                        shed.increment();
+                        reject(oldest, new ApiException("ASYNC_SHED",
+                                "Async call shed from saturated queue of profile '" + profileName + "'"));
+                    }
+                    if (!executor.getQueue().offer(runnable)) {
+                        rejected.increment();
+                        reject(runnable, new ApiException("ASYNC_REJECTED",
+                                "Async queue of profile '" + profileName + "' is full"));
+                    }
+                    break;
+                case FAIL_FAST:
+                default:
+                    rejected.increment();
+                    reject(runnable, new ApiException("ASYNC_REJECTED",
+                            "Async queue of profile '" + profileName + "' is full"));
+                    break;
+            }
+        }
+
+        private void reject(Runnable runnable, ApiException cause) {
+            if (runnable instanceof AsyncTask) {
+                ((AsyncTask<?>) runnable).fail(cause);
+            } else {
+                throw new RejectedExecutionException(cause.getMessage(), cause);
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.company.apiframework.async;
+
+import com.company.apiframework.config.AsyncProperties;
+
+/**
+ * Bounded executor for API clients created without one.
+ *
+ * <p>Clients built outside the Spring context (tests, tools, the executor-less
+ * client and factory constructors) share one {@link BoundedAsyncExecutor} sized from
+ * the default {@link AsyncProperties} instead of each starting an unbounded thread
+ * pool. It is created on first use; its daemon threads live as long as the JVM and
+ * it is never shut down. Clients created by the framework use the executor of their
+ * profile from {@link AsyncExecutorRegistry}.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class DefaultAsyncExecutor {
+
+    private DefaultAsyncExecutor() {
+    }
+
+    /**
+     * @return Executor shared by all clients created without one
+     */
+    public static AsyncExecutor get() {
+        return Holder.INSTANCE;
+    }
+
+    private static final class Holder {
+        private static final AsyncExecutor INSTANCE = new BoundedAsyncExecutor("shared", new AsyncProperties());
+    }
+}
@@ -0,0 +1,130 @@
+package com.company.apiframework.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * One {@link AsyncSemaphore} per key, kept only while the key is in use.
+ *
+ * <p>Keys such as origins come and go with the traffic. A key's semaphore is created
+ * by the first {@link #acquire(String, int)} and dropped as soon as no caller holds or
+ * waits for one of its permits, so the map stays as small as the set of keys with
+ * calls in flight instead of growing with every key ever seen.</p>
+ *
+ * <p>Each acquire passes the key's current limit, so limits that change at runtime
+ * apply to the next acquire (see {@link AsyncSemaphore#setPermits(int)}).</p>
+ *
+ * <p>Every permit obtained must be returned with {@link #release(String)}. A pending
+ * acquire that is cancelled or fails needs no release.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class KeyedAsyncSemaphore {
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Acquire a permit for a key.
+     *
+     * @param key Key whose permits are shared, e.g. an origin
+     * @param permits Current number of permits of the key
+     * @return Future completed once the caller holds a permit; already complete if one was free
+     */
+    public CompletableFuture<Void> acquire(String key, int permits) {
+        Entry entry = join(key, permits);
+        if (entry.semaphore.getPermits() != Math.max(1, permits)) {
+            entry.semaphore.setPermits(permits);
+        }
+        CompletableFuture<Void> permit = entry.semaphore.acquire();
+        if (!permit.isDone()) {
+            permit.whenComplete((ignored, failure) -> {
+                if (failure != null) {
+                    leave(key, entry);
+                }
+            });
+        }
+        return permit;
+    }
+
+    /**
+     * Return a permit obtained with {@link #acquire(String, int)}.
+     *
+     * @param key Key the permit was acquired for
+     */
+    public void release(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.semaphore.release();
+            leave(key, entry);
+        }
+    }
+
+    /**
+     * @return Number of keys with permits held or awaited
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Visit the semaphores of the keys in use (for metrics).
+     *
+     * @param action Receives each key and its semaphore
+     */
+    public void forEach(BiConsumer<String, AsyncSemaphore> action) {
+        entries.forEach((key, entry) -> action.accept(key, entry.semaphore));
+    }
+
+    private Entry join(String key, int permits) {
+        while (true) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                Entry created = new Entry(permits);
+                entry = entries.putIfAbsent(key, created);
+                if (entry == null) {
+                    return created;
+                }
+            }
+            if (entry.join()) {
+                return entry;
+            }
+            // The last user left and is removing the entry: replace it
+            entries.remove(key, entry);
+        }
+    }
+
+    private void leave(String key, Entry entry) {
+        if (entry.users.decrementAndGet() == 0 && entry.users.compareAndSet(0, -1)) {
+            entries.remove(key, entry);
+        }
+    }
+
+    /**
+     * Semaphore of one key and the number of callers holding or awaiting its permits;
+     * -1 once retired.
+     */
+    private static final class Entry {
+
+        private final AsyncSemaphore semaphore;
+        private final AtomicInteger users = new AtomicInteger(1);
+
+        private Entry(int permits) {
+            this.semaphore = new AsyncSemaphore(permits);
+        }
+
+        private boolean join() {
+            int current;
+            while ((current = users.get()) >= 0) {
+                if (users.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.company.apiframework.async;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.company.apiframework.config.AsyncProperties;
+import com.company.apiframework.config.AsyncProperties.RejectionPolicy;
+import com.company.apiframework.exception.ApiException;
+
+/**
+ * Async executor that runs every call on its own virtual thread (Java 21+).
+ *
+ * <p>Blocking calls such as {@code RestTemplate.exchange} park their virtual thread
+ * instead of holding an OS thread, so a profile can have tens of thousands of calls
+ * in flight on a handful of carrier threads. Concurrency is limited by a semaphore
+ * of {@code max-concurrency} permits per profile instead of a thread pool: calls
+ * beyond the limit wait (parked) for a permit.</p>
+ *
+ * <p>At most {@code queue-capacity} calls may wait for a permit. Beyond that the
+ * rejection policy applies: CALLER_RUNS blocks the submitting thread until a permit
+ * is free and runs the call there; FAIL_FAST and SHED fail the new call with
+ * {@code ASYNC_REJECTED} (waiting virtual threads cannot be shed individually).</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see VirtualThreads
+ * @see AsyncExecutorRegistry
+ */
+public class VirtualThreadAsyncExecutor implements AsyncExecutor {
+
+    private final String profileName;
+    private final RejectionPolicy rejectionPolicy;
+    private final int maxConcurrency;
+    private final int maxWaiting;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final LongAdder waitCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /**
+     * @param profileName RestTemplate profile this executor serves (used in thread names and metrics)
+     * @param properties Concurrency limit, waiting limit and rejection policy
+     * @throws UnsupportedOperationException if the JVM has no virtual threads
+     */
+    public VirtualThreadAsyncExecutor(String profileName, AsyncProperties properties) {
+        this.profileName = profileName;
+        this.rejectionPolicy = properties.getRejectionPolicy() != null
+                ? properties.getRejectionPolicy() : RejectionPolicy.CALLER_RUNS;
+        this.maxConcurrency = Math.max(1, properties.getMaxConcurrency());
+        this.maxWaiting = Math.max(0, properties.getQueueCapacity());
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.executor = VirtualThreads.newThreadPerTaskExecutor("api-vthread-" + profileName + "-");
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        AsyncTask<T> asyncTask = new AsyncTask<>(task);
+        submitted.increment();
+        dispatch(asyncTask);
+        return asyncTask.getFuture();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        submitted.increment();
+        dispatch(command);
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        long waits = waitCount.sum();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("mode", "virtual");
+        metrics.put("rejectionPolicy", rejectionPolicy.name());
+        metrics.put("maxConcurrency", maxConcurrency);
+        metrics.put("inFlight", maxConcurrency - permits.availablePermits());
+        metrics.put("waiting", waiting.get());
+        metrics.put("maxWaiting", maxWaiting);
+        metrics.put("submittedTasks", submitted.sum());
+        metrics.put("completedTasks", completed.sum());
+        metrics.put("rejectedTasks", rejected.sum());
+        metrics.put("callerRunsTasks", callerRuns.sum());
+        metrics.put("averageWaitMs", waits == 0 ? 0.0 : totalWaitNanos.sum() / (double) waits / 1_000_000.0);
+        metrics.put("maxWaitMs", TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+        return metrics;
+    }
+
+    /**
+     * @return Profile name this executor serves
+     */
+    public String getProfileName() {
+        return profileName;
+    }
+
+    @Override
+    public void shutdown(long timeoutMs) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS)) {
+                // Interrupts parked threads; calls still waiting for a permit fail with ASYNC_REJECTED
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void dispatch(Runnable task) {
+        if (waiting.incrementAndGet() > maxWaiting && permits.availablePermits() == 0) {
+            waiting.decrementAndGet();
+            onSaturated(task);
+            return;
+        }
+        try {
+            executor.execute(() -> runWithPermit(task));
+        } catch (RejectedExecutionException e) {
+            waiting.decrementAndGet();
+            rejected.increment();
+            reject(task, new ApiException("ASYNC_REJECTED",
+                    "Async executor for profile '" + profileName + "' is shut down"));
+        }
+    }
+
+    private void onSaturated(Runnable task) {
+        if (rejectionPolicy == RejectionPolicy.CALLER_RUNS) {
+            callerRuns.increment();
+            waiting.incrementAndGet();
+            runWithPermit(task);
+            return;
+        }
+        rejected.increment();
+        reject(task, new ApiException("ASYNC_REJECTED",
+                "Too many async calls waiting in profile '" + profileName + "'"));
+    }
+
+    private void runWithPermit(Runnable task) {
+        long start = System.nanoTime();
+        boolean acquired = false;
+        try {
+            permits.acquire();
+            acquired = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            waiting.decrementAndGet();
+        }
+        if (!acquired) {
+            rejected.increment();
+            reject(task, new ApiException("ASYNC_REJECTED",
+                    "Interrupted while waiting for a permit in profile '" + profileName + "'"));
+            return;
+        }
+
+        recordWait(System.nanoTime() - start);
+        try {
+            task.run();
+        } finally {
+            permits.release();
+            completed.increment();
+        }
+    }
+
+    private void recordWait(long waitNanos) {
+        waitCount.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    private void reject(Runnable task, ApiException cause) {
+        if (task instanceof AsyncTask) {
+            ((AsyncTask<?>) task).fail(cause);
+        } else {
+            throw new RejectedExecutionException(cause.getMessage(), cause);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.company.apiframework.bulk;
+
+import java.util.concurrent.CompletionStage;
+
+import com.company.apiframework.model.ApiRequest;
+import com.company.apiframework.model.ApiResponse;
+
+/**
+ * Routes and sends the individual requests of a bulk call.
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see BulkExecutor
+ */
+public interface BulkDispatcher {
+
+    /**
+     * @param request Request about to be sent
+     * @return Connection pool and route the request will use
+     */
+    BulkRoute route(ApiRequest request);
+
+    /**
+     * Send a request without blocking the calling thread.
+     *
+     * @param <T> Response type
+     * @param request Request to send
+     * @param responseType Expected response type class
+     * @return Stage completed with the response
+     */
+    <T> CompletionStage<ApiResponse<T>> dispatch(ApiRequest request, Class<T> responseType);
+}
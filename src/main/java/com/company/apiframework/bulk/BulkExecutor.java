@@ -0,0 +1,246 @@
+package com.company.apiframework.bulk;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.company.apiframework.async.AsyncFutures;
+import com.company.apiframework.async.AsyncSemaphore;
+import com.company.apiframework.exception.ApiException;
+import com.company.apiframework.model.ApiRequest;
+import com.company.apiframework.model.ApiResponse;
+
+/**
+ * Runs many independent requests with bounded concurrency.
+ *
+ * <p>Each bulk call has its own limit on requests in flight. On top of that, every
+ * request takes a permit from the shared {@link RouteConcurrencyLimiter} for its
+ * connection pool and route, so bulk work fills a pool without queueing for
+ * connections beyond its size. Waiting for a permit never blocks a thread.</p>
+ *
+ * <p>Requests are pulled from the source only when the bulk call has room for
+ * another one, so a lazily generated source is never materialized up front. They
+ * are dispatched in source order; a request whose route is saturated holds its
+ * bulk slot until it gets a route permit.</p>
+ *
+ * <p>Every request produces a {@link BulkResult}; failures of individual requests
+ * never fail the bulk call. The returned future fails only if the source itself
+ * throws. Cancelling it stops pulling requests and cancels those in flight.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class BulkExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkExecutor.class);
+
+    private final BulkDispatcher dispatcher;
+    private final RouteConcurrencyLimiter limiter;
+
+    public BulkExecutor(BulkDispatcher dispatcher, RouteConcurrencyLimiter limiter) {
+        this.dispatcher = dispatcher;
+        this.limiter = limiter;
+    }
+
+    /**
+     * Run all requests and collect the results in input order.
+     *
+     * @param <T> Response type
+     * @param requests Requests to send (consumed lazily)
+     * @param responseType Expected response type class
+     * @param maxConcurrency Maximum requests of this call in flight at once
+     * @return Future completed with one result per request, in input order
+     */
+    public <T> CompletableFuture<List<BulkResult<T>>> executeAll(Iterator<ApiRequest> requests, Class<T> responseType,
+                                                               int maxConcurrency) {
+        List<BulkResult<T>> results = new ArrayList<>();
+        CompletableFuture<Void> done = executeAll(requests, responseType, maxConcurrency, result -> {
+            synchronized (results) {
+                while (results.size() <= result.getIndex()) {
+                    results.add(null);
+                }
+                results.set(result.getIndex(), result);
+            }
+        });
+        CompletableFuture<List<BulkResult<T>>> ordered = done.thenApply(ignored -> {
+            synchronized (results) {
+                return new ArrayList<>(results);
+            }
+        });
+        return AsyncFutures.linkCancellation(ordered, done);
+    }
+
+    /**
+     * Run all requests and hand each result to a consumer as soon as it completes.
+     *
+     * <p>The consumer is called on the thread that completed the request, possibly from
+     * several threads at once, and must be thread-safe and quick.</p>
+     *
+     * @param <T> Response type
+     * @param requests Requests to send (consumed lazily)
+     * @param responseType Expected response type class
+     * @param maxConcurrency Maximum requests of this call in flight at once
+     * @param onResult Receives every result in completion order
+     * @return Future completed once every result has been delivered
+     */
+    public <T> CompletableFuture<Void> executeAll(Iterator<ApiRequest> requests, Class<T> responseType,
+                                                  int maxConcurrency, Consumer<BulkResult<T>> onResult) {
+        Execution<T> execution = new Execution<>(requests, responseType, maxConcurrency, onResult);
+        execution.pump();
+        return execution.done;
+    }
+
+    /**
+     * @return In-flight and waiting bulk requests per connection pool and route
+     */
+    public Map<String, Object> getMetrics() {
+        return limiter.getMetrics();
+    }
+
+    /**
+     * State of one bulk call. Only one thread pulls from the source at a time: the
+     * pump either keeps dispatching or parks itself on a single permit waiter.
+     */
+    private final class Execution<T> {
+
+        private final Iterator<ApiRequest> source;
+        private final Class<T> responseType;
+        private final AsyncSemaphore slots;
+        private final Consumer<BulkResult<T>> onResult;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        // One count per undelivered request, plus one until the source is exhausted
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private final Set<CompletableFuture<?>> inFlight = ConcurrentHashMap.newKeySet();
+        private int nextIndex;
+
+        private Execution(Iterator<ApiRequest> source, Class<T> responseType, int maxConcurrency,
+                          Consumer<BulkResult<T>> onResult) {
+            this.source = source;
+            this.responseType = responseType;
+            this.slots = new AsyncSemaphore(maxConcurrency);
+            this.onResult = onResult;
+            done.whenComplete((ignored, throwable) -> {
+                if (done.isCancelled()) {
+                    inFlight.forEach(call -> call.cancel(true));
+                }
+            });
+        }
+
+        private void pump() {
+            while (true) {
+                CompletableFuture<Void> slot = slots.acquire();
+                if (!slot.isDone()) {
+                    slot.thenRun(() -> {
+                        if (dispatchNext()) {
+                            pump();
+                        }
+                    });
+                    return;
+                }
+                if (!dispatchNext()) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Pull and start the next request while holding a slot.
+         *
+         * @return false once the source is exhausted or the call is over
+         */
+        private boolean dispatchNext() {
+            ApiRequest request;
+            try {
+                if (done.isDone() || !source.hasNext()) {
+                    slots.release();
+                    sourceExhausted();
+                    return false;
+                }
+                request = source.next();
+            } catch (RuntimeException e) {
+                slots.release();
+                logger.error("Bulk request source failed: {}", e.getMessage(), e);
+                done.completeExceptionally(e);
+                inFlight.forEach(call -> call.cancel(true));
+                return false;
+            }
+
+            int index = nextIndex++;
+            pending.incrementAndGet();
+            BulkRoute route;
+            try {
+                route = dispatcher.route(request);
+            } catch (RuntimeException e) {
+                deliver(new BulkResult<>(index, request, null, toApiException(e)));
+                return true;
+            }
+            limiter.acquire(route).thenRun(() -> start(index, request, route));
+            return true;
+        }
+
+        private void start(int index, ApiRequest request, BulkRoute route) {
+            if (done.isCancelled()) {
+                limiter.release(route);
+                deliver(new BulkResult<>(index, request, null, toApiException(new CancellationException())));
+                return;
+            }
+
+            CompletableFuture<ApiResponse<T>> call;
+            try {
+                call = dispatcher.dispatch(request, responseType).toCompletableFuture();
+            } catch (RuntimeException e) {
+                limiter.release(route);
+                deliver(new BulkResult<>(index, request, null, toApiException(e)));
+                return;
+            }
+            inFlight.add(call);
+            call.whenComplete((response, throwable) -> {
+                inFlight.remove(call);
+                limiter.release(route);
+                deliver(throwable != null
+                        ? new BulkResult<>(index, request, null, toApiException(throwable))
+                        : new BulkResult<>(index, request, response, null));
+            });
+        }
+
+        private void deliver(BulkResult<T> result) {
+            try {
+                onResult.accept(result);
+            } catch (RuntimeException e) {
+                logger.error("Bulk result consumer failed for request {}: {}", result.getIndex(), e.getMessage(), e);
+            }
+            slots.release();
+            if (pending.decrementAndGet() == 0) {
+                done.complete(null);
+            }
+        }
+
+        private void sourceExhausted() {
+            if (pending.decrementAndGet() == 0) {
+                done.complete(null);
+            }
+        }
+
+        private ApiException toApiException(Throwable throwable) {
+            Throwable cause = AsyncFutures.unwrap(throwable);
+            if (cause instanceof ApiException) {
+                return (ApiException) cause;
+            }
+            if (cause instanceof CancellationException) {
+                return new ApiException("BULK_CANCELLED", "Bulk call was cancelled", cause);
+            }
+            return new ApiException("BULK_ERROR", String.valueOf(cause.getMessage()), cause);
+        }
+    }
+}
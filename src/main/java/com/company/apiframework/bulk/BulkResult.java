@@ -0,0 +1,71 @@
+package com.company.apiframework.bulk;
+
+import com.company.apiframework.exception.ApiException;
+import com.company.apiframework.model.ApiRequest;
+import com.company.apiframework.model.ApiResponse;
+
+/**
+ * Outcome of one request of a bulk call.
+ *
+ * <p>Bulk calls have partial-failure semantics: every request produces a result,
+ * whether it succeeded, returned an error response or could not run at all. A result
+ * carries either the {@link ApiResponse} (which may itself be an error response) or,
+ * when the call did not produce a response, the {@link ApiException} that stopped it.</p>
+ *
+ * @param <T> Response body type
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class BulkResult<T> {
+
+    private final int index;
+    private final ApiRequest request;
+    private final ApiResponse<T> response;
+    private final ApiException exception;
+
+    BulkResult(int index, ApiRequest request, ApiResponse<T> response, ApiException exception) {
+        this.index = index;
+        this.request = request;
+        this.response = response;
+        this.exception = exception;
+    }
+
+    /**
+     * @return Position of the request in the bulk input (0-based)
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public ApiRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * @return Response of the call, or null if the call failed without one
+     */
+    public ApiResponse<T> getResponse() {
+        return response;
+    }
+
+    /**
+     * @return Why the call produced no response (rejected, cancelled, routing failed), or null
+     */
+    public ApiException getException() {
+        return exception;
+    }
+
+    /**
+     * @return true if the call produced a successful response
+     */
+    public boolean isSuccess() {
+        return exception == null && response != null && response.isSuccess();
+    }
+
+    @Override
+    public String toString() {
+        return "BulkResult{index=" + index + ", success=" + isSuccess() +
+               (exception != null ? ", exception=" + exception.getMessage() : ", response=" + response) + "}";
+    }
+}
@@ -0,0 +1,83 @@
+package com.company.apiframework.bulk;
+
+import java.net.URI;
+import java.util.Locale;
+
+/**
+ * Connection pool a bulk request will draw from.
+ *
+ * <p>HttpClient pools limit connections per profile (max connections) and per
+ * route (scheme, host and port). A bulk call is limited the same way, with the
+ * limits in force when the request is routed, so it keeps the pool busy without
+ * queueing for connections it cannot get.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see RouteConcurrencyLimiter
+ */
+public final class BulkRoute {
+
+    private final String profile;
+    private final int maxConnections;
+    private final String origin;
+    private final int maxConnectionsPerRoute;
+
+    /**
+     * @param profile Key of the connection pool (RestTemplate profile name)
+     * @param maxConnections Concurrent bulk calls allowed across the pool
+     * @param origin Route within the pool, see {@link #originOf(String)}
+     * @param maxConnectionsPerRoute Concurrent bulk calls allowed per route
+     */
+    public BulkRoute(String profile, int maxConnections, String origin, int maxConnectionsPerRoute) {
+        this.profile = profile;
+        this.maxConnections = Math.max(1, maxConnections);
+        this.origin = origin;
+        this.maxConnectionsPerRoute = Math.max(1, Math.min(maxConnectionsPerRoute, this.maxConnections));
+    }
+
+    /**
+     * Derive the pool route of a URL the way HttpClient does: scheme, host and port.
+     *
+     * @param url Request URL
+     * @return Lower-cased {@code scheme://host:port}, or the URL itself if it cannot be parsed
+     */
+    public static String originOf(String url) {
+        if (url == null) {
+            return "";
+        }
+        try {
+            URI uri = URI.create(url);
+            if (uri.getScheme() == null || uri.getHost() == null) {
+                return url;
+            }
+            String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+            int port = uri.getPort() != -1 ? uri.getPort() : ("https".equals(scheme) ? 443 : 80);
+            return scheme + "://" + uri.getHost().toLowerCase(Locale.ROOT) + ":" + port;
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    public String getProfile() {
+        return profile;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkRoute{" + profile + " " + origin + ", maxConnections=" + maxConnections +
+               ", maxConnectionsPerRoute=" + maxConnectionsPerRoute + "}";
+    }
+}
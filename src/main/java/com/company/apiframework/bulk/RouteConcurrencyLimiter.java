@@ -0,0 +1,81 @@
+package com.company.apiframework.bulk;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.company.apiframework.async.KeyedAsyncSemaphore;
+
+/**
+ * Concurrency limits for bulk calls per connection pool and per route.
+ *
+ * <p>Shared by all bulk calls of an {@link BulkExecutor}, so concurrent bulk calls
+ * together never hold more requests in flight than a pool has connections. Permits
+ * are taken route first, then pool, so requests queued behind a saturated route do
+ * not hold pool permits that other routes could use; waiting does not block a
+ * thread.</p>
+ *
+ * <p>Each {@link BulkRoute} carries the limits in force when it was routed, and every
+ * acquire applies them, so per-route limits resized at runtime take effect for the
+ * next bulk request. Limits of pools and routes without bulk requests in flight are
+ * not kept.</p>
+ *
+ * <p>Only bulk traffic is counted. Single calls made at the same time still compete
+ * for the same connections.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class RouteConcurrencyLimiter {
+
+    private final KeyedAsyncSemaphore profiles = new KeyedAsyncSemaphore();
+    private final KeyedAsyncSemaphore routes = new KeyedAsyncSemaphore();
+
+    /**
+     * Acquire a route and a pool permit.
+     *
+     * @param route Route of the request
+     * @return Future completed once both permits are held
+     */
+    public CompletableFuture<Void> acquire(BulkRoute route) {
+        return routes.acquire(routeKey(route), route.getMaxConnectionsPerRoute())
+                .thenCompose(ignored -> profiles.acquire(route.getProfile(), route.getMaxConnections()));
+    }
+
+    /**
+     * Release the permits taken by {@link #acquire(BulkRoute)}.
+     *
+     * @param route Route of the request
+     */
+    public void release(BulkRoute route) {
+        profiles.release(route.getProfile());
+        routes.release(routeKey(route));
+    }
+
+    /**
+     * @return Per profile and per route: permits, in-flight and waiting bulk requests
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("profiles", describe(profiles));
+        metrics.put("routes", describe(routes));
+        return metrics;
+    }
+
+    private static String routeKey(BulkRoute route) {
+        return route.getProfile() + " " + route.getOrigin();
+    }
+
+    private static Map<String, Object> describe(KeyedAsyncSemaphore limits) {
+        Map<String, Object> described = new LinkedHashMap<>();
+        limits.forEach((key, limit) -> {
+            Map<String, Object> metrics = new LinkedHashMap<>();
+            metrics.put("permits", limit.getPermits());
+            metrics.put("inFlight", limit.getPermits() - limit.getAvailablePermits());
+            metrics.put("waiting", limit.getWaiting());
+            described.put(key, metrics);
+        });
+        return described;
+    }
+}
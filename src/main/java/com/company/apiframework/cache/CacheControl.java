@@ -0,0 +1,148 @@
+package com.company.apiframework.cache;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * HTTP caching header helpers: {@code Cache-Control} directives, HTTP dates and
+ * explicit freshness lifetimes as defined by RFC 9111.
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+final class CacheControl {
+
+    static final String CACHE_CONTROL = "Cache-Control";
+    static final String EXPIRES = "Expires";
+    static final String DATE = "Date";
+    static final String AGE = "Age";
+    static final String ETAG = "ETag";
+    static final String LAST_MODIFIED = "Last-Modified";
+    static final String VARY = "Vary";
+    static final String AUTHORIZATION = "Authorization";
+    static final String IF_NONE_MATCH = "If-None-Match";
+    static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+
+    private CacheControl() {
+    }
+
+    /**
+     * @param value {@code Cache-Control} header value, may be null
+     * @return Lower-cased directive names mapped to their unquoted values ("" without a value)
+     */
+    static Map<String, String> parse(String value) {
+        if (value == null || value.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> directives = new HashMap<>();
+        for (String part : value.split(",")) {
+            String directive = part.trim();
+            if (directive.isEmpty()) {
+                continue;
+            }
+            int equals = directive.indexOf('=');
+            if (equals < 0) {
+                directives.put(directive.toLowerCase(Locale.ROOT), "");
+            } else {
+                String argument = directive.substring(equals + 1).trim();
+                if (argument.length() >= 2 && argument.startsWith("\"") && argument.endsWith("\"")) {
+                    argument = argument.substring(1, argument.length() - 1);
+                }
+                directives.put(directive.substring(0, equals).trim().toLowerCase(Locale.ROOT), argument);
+            }
+        }
+        return directives;
+    }
+
+    /**
+     * Look up a header regardless of the case its name was sent in.
+     *
+     * @param headers Headers, may be null
+     * @param name Header name
+     * @return First matching value, or null
+     */
+    static String header(Map<String, String> headers, String name) {
+        if (headers == null || headers.isEmpty()) {
+            return null;
+        }
+        String value = headers.get(name);
+        if (value != null) {
+            return value;
+        }
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey())) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param directives Parsed {@code Cache-Control} directives
+     * @param name Directive with a delta-seconds argument
+     * @return Argument in milliseconds, or -1 if absent or invalid
+     */
+    static long seconds(Map<String, String> directives, String name) {
+        String value = directives.get(name);
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Math.max(0, Long.parseLong(value)) * 1000;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Explicit freshness lifetime of a response in a shared cache: {@code s-maxage},
+     * then {@code max-age}, then {@code Expires} minus {@code Date}.
+     *
+     * @param headers Response headers
+     * @param nowMillis Time the response was received
+     * @return Lifetime in milliseconds, 0 if the response must be revalidated, -1 without explicit freshness
+     */
+    static long freshnessLifetimeMillis(Map<String, String> headers, long nowMillis) {
+        Map<String, String> directives = parse(header(headers, CACHE_CONTROL));
+        if (directives.containsKey("no-cache")) {
+            return 0;
+        }
+        long sharedMaxAge = seconds(directives, "s-maxage");
+        if (sharedMaxAge >= 0) {
+            return sharedMaxAge;
+        }
+        long maxAge = seconds(directives, "max-age");
+        if (maxAge >= 0) {
+            return maxAge;
+        }
+        String expires = header(headers, EXPIRES);
+        if (expires != null) {
+            // An invalid Expires value means "already expired"
+            long expiresAt = parseDate(expires);
+            long date = parseDate(header(headers, DATE));
+            return expiresAt < 0 ? 0 : Math.max(0, expiresAt - (date >= 0 ? date : nowMillis));
+        }
+        return -1;
+    }
+
+    /**
+     * @param value HTTP-date, may be null
+     * @return Epoch milliseconds, or -1 if absent or invalid
+     */
+    static long parseDate(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.company.apiframework.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A stored response: status, headers and body text plus what is needed to judge
+ * its freshness. Instances are immutable; revalidation replaces the entry.
+ *
+ * <p>Entries read back from a serialized store carry their status message,
+ * headers and body as bytes, which are decoded on first access.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see ResponseCache
+ */
+public final class CachedResponse {
+
+    private final int statusCode;
+    private final long storedAtMillis;
+    private final long initialAgeMillis;
+    private final long freshnessLifetimeMillis;
+    private final Map<String, String> varyValues;
+    private final long sizeBytes;
+
+    // Serialized status message, headers and body; null once decoded or for heap entries
+    private volatile byte[] serialized;
+    private volatile Content content;
+
+    /**
+     * @param statusCode HTTP status code
+     * @param statusMessage HTTP reason phrase
+     * @param headers Response headers
+     * @param body Response body text
+     * @param storedAtMillis Time the response was received
+     * @param initialAgeMillis Age the response already had when received
+     * @param freshnessLifetimeMillis How long the response is fresh, 0 to always revalidate
+     * @param varyValues Values of the request headers named by {@code Vary}
+     */
+    public CachedResponse(int statusCode, String statusMessage, Map<String, String> headers, String body,
+                          long storedAtMillis, long initialAgeMillis, long freshnessLifetimeMillis,
+                          Map<String, String> varyValues) {
+        this.statusCode = statusCode;
+        this.storedAtMillis = storedAtMillis;
+        this.initialAgeMillis = Math.max(0, initialAgeMillis);
+        this.freshnessLifetimeMillis = Math.max(0, freshnessLifetimeMillis);
+        this.varyValues = Collections.unmodifiableMap(new TreeMap<>(varyValues));
+        this.content = new Content(statusMessage, headers, body);
+        long size = body != null ? body.getBytes(StandardCharsets.UTF_8).length : 0;
+        for (Map.Entry<String, String> header : content.headers.entrySet()) {
+            size += header.getKey().length() + (header.getValue() != null ? header.getValue().length() : 0);
+        }
+        this.sizeBytes = size;
+    }
+
+    /**
+     * Entry read back from a serialized store.
+     *
+     * @param source Entry whose freshness data is kept (its content is not touched)
+     * @param serialized Bytes from {@link #serialize()}
+     */
+    CachedResponse(CachedResponse source, byte[] serialized) {
+        this.statusCode = source.statusCode;
+        this.storedAtMillis = source.storedAtMillis;
+        this.initialAgeMillis = source.initialAgeMillis;
+        this.freshnessLifetimeMillis = source.freshnessLifetimeMillis;
+        this.varyValues = source.varyValues;
+        this.sizeBytes = source.sizeBytes;
+        this.serialized = serialized;
+    }
+
+    /**
+     * @return Status message, headers and body as bytes for a serialized store
+     */
+    byte[] serialize() {
+        Content current = content();
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream((int) Math.min(sizeBytes + 64, Integer.MAX_VALUE));
+            DataOutputStream out = new DataOutputStream(bytes);
+            writeString(out, current.statusMessage);
+            out.writeInt(current.headers.size());
+            for (Map.Entry<String, String> header : current.headers.entrySet()) {
+                writeString(out, header.getKey());
+                writeString(out, header.getValue());
+            }
+            writeString(out, current.body);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return A copy holding only freshness data, the part of an entry a serialized store keeps on the heap
+     */
+    CachedResponse withoutContent() {
+        return new CachedResponse(this, null);
+    }
+
+    /**
+     * @param nowMillis Current time
+     * @return Current age of the response in milliseconds
+     */
+    public long getAgeMillis(long nowMillis) {
+        return initialAgeMillis + Math.max(0, nowMillis - storedAtMillis);
+    }
+
+    /**
+     * @param nowMillis Current time
+     * @return true while the response may be served without revalidation
+     */
+    public boolean isFresh(long nowMillis) {
+        return freshnessLifetimeMillis > getAgeMillis(nowMillis);
+    }
+
+    /**
+     * @return true if the response carries an {@code ETag} or {@code Last-Modified} validator
+     */
+    public boolean hasValidator() {
+        return getETag() != null || getLastModified() != null;
+    }
+
+    public String getETag() {
+        return getHeaders().get(CacheControl.ETAG);
+    }
+
+    public String getLastModified() {
+        return getHeaders().get(CacheControl.LAST_MODIFIED);
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getStatusMessage() {
+        return content().statusMessage;
+    }
+
+    public Map<String, String> getHeaders() {
+        return content().headers;
+    }
+
+    public String getBody() {
+        return content().body;
+    }
+
+    public long getStoredAtMillis() {
+        return storedAtMillis;
+    }
+
+    public long getFreshnessLifetimeMillis() {
+        return freshnessLifetimeMillis;
+    }
+
+    public Map<String, String> getVaryValues() {
+        return varyValues;
+    }
+
+    /**
+     * @return Approximate memory held by the body and headers, in bytes
+     */
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    private Content content() {
+        Content current = content;
+        if (current == null) {
+            byte[] bytes = serialized;
+            if (bytes == null) {
+                throw new IllegalStateException("Cached response has no content");
+            }
+            current = deserialize(bytes);
+            content = current;
+            serialized = null;
+        }
+        return current;
+    }
+
+    private static Content deserialize(byte[] bytes) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            String statusMessage = readString(in);
+            int headerCount = in.readInt();
+            Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (int i = 0; i < headerCount; i++) {
+                headers.put(readString(in), readString(in));
+            }
+            return new Content(statusMessage, headers, readString(in));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Length-prefixed UTF-8, -1 for null; writeUTF is limited to 64 KB
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static final class Content {
+
+        private final String statusMessage;
+        private final Map<String, String> headers;
+        private final String body;
+
+        private Content(String statusMessage, Map<String, String> headers, String body) {
+            this.statusMessage = statusMessage;
+            Map<String, String> copy = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            copy.putAll(headers);
+            this.headers = Collections.unmodifiableMap(copy);
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.company.apiframework.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.company.apiframework.async.AsyncFutures;
+import com.company.apiframework.client.ApiCallback;
+import com.company.apiframework.client.ApiClient;
+import com.company.apiframework.client.ResponseStreamHandler;
+import com.company.apiframework.exception.ApiException;
+import com.company.apiframework.model.ApiRequest;
+import com.company.apiframework.model.ApiResponse;
+import com.company.apiframework.codec.CodecRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link ApiClient} decorator that answers cacheable requests from an
+ * {@link HttpResponseCache}.
+ *
+ * <p>Cacheable requests are fetched from the wrapped client as text, so the cache
+ * holds the representation rather than a typed object that callers could modify.
+ * Typed bodies are read from that text with the framework's cached readers on every
+ * response, cached or not. A fresh entry is returned without a call; a stale entry
+ * with a validator is revalidated with {@code If-None-Match} /
+ * {@code If-Modified-Since}, and a {@code 304} answer returns the stored body.
+ * Cached responses carry an {@code Age} header.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class CachingApiClient implements ApiClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachingApiClient.class);
+
+    private final ApiClient delegate;
+    private final HttpResponseCache cache;
+    private final CodecRegistry codecs;
+
+    /**
+     * @param delegate Client that sends requests the cache cannot answer
+     * @param cache Cache of the client's profile
+     * @param objectMapper Reads typed bodies from cached text
+     */
+    public CachingApiClient(ApiClient delegate, HttpResponseCache cache, ObjectMapper objectMapper) {
+        this(delegate, cache, new CodecRegistry(objectMapper));
+    }
+
+    /**
+     * @param delegate Client that sends requests the cache cannot answer
+     * @param cache Cache of the client's profile
+     * @param codecs Reads typed bodies from cached text
+     */
+    public CachingApiClient(ApiClient delegate, HttpResponseCache cache, CodecRegistry codecs) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.codecs = codecs;
+    }
+
+    @Override
+    public <T> ApiResponse<T> execute(ApiRequest request, Class<T> responseType) {
+        if (!isCacheable(request, responseType)) {
+            ApiResponse<T> response = delegate.execute(request, responseType);
+            cache.invalidateAfter(request, response);
+            return response;
+        }
+        long startTime = System.currentTimeMillis();
+        String key = cache.keyOf(request);
+        CachedResponse cached = cache.lookup(key, request);
+        if (cached != null && cache.isFresh(cached, request)) {
+            cache.recordHit();
+            return fromCache(cached, responseType, startTime);
+        }
+        ApiResponse<String> response = delegate.execute(conditional(request, cached), String.class);
+        return complete(key, request, cached, response, responseType, startTime);
+    }
+
+    @Override
+    public ApiResponse<String> execute(ApiRequest request) {
+        return execute(request, String.class);
+    }
+
+    @Override
+    public <R> ApiResponse<R> executeStreaming(ApiRequest request, ResponseStreamHandler<R> handler) {
+        // Streamed bodies are never materialized, so they are not cached
+        ApiResponse<R> response = delegate.executeStreaming(request, handler);
+        cache.invalidateAfter(request, response);
+        return response;
+    }
+
+    @Override
+    public <T> void executeAsync(ApiRequest request, Class<T> responseType, ApiCallback<T> callback) {
+        executeAsync(request, responseType).whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                Throwable cause = AsyncFutures.unwrap(throwable);
+                callback.onException(cause instanceof Exception
+                        ? (Exception) cause : new ApiException("Async execution failed", cause));
+            } else if (response.hasError()) {
+                callback.onError(response);
+            } else {
+                callback.onSuccess(response);
+            }
+        });
+    }
+
+    @Override
+    public <T> CompletionStage<ApiResponse<T>> executeAsync(ApiRequest request, Class<T> responseType) {
+        if (!isCacheable(request, responseType)) {
+            CompletableFuture<ApiResponse<T>> call = delegate.executeAsync(request, responseType).toCompletableFuture();
+            return AsyncFutures.linkCancellation(call.thenApply(response -> {
+                cache.invalidateAfter(request, response);
+                return response;
+            }), call);
+        }
+        long startTime = System.currentTimeMillis();
+        String key = cache.keyOf(request);
+        CachedResponse cached = cache.lookup(key, request);
+        if (cached != null && cache.isFresh(cached, request)) {
+            cache.recordHit();
+            return CompletableFuture.completedFuture(fromCache(cached, responseType, startTime));
+        }
+        CompletableFuture<ApiResponse<String>> call =
+                delegate.executeAsync(conditional(request, cached), String.class).toCompletableFuture();
+        return AsyncFutures.linkCancellation(
+                call.thenApply(response -> complete(key, request, cached, response, responseType, startTime)), call);
+    }
+
+    @Override
+    public boolean supportsProtocol(String protocol) {
+        return delegate.supportsProtocol(protocol);
+    }
+
+    @Override
+    public String getProtocolType() {
+        return delegate.getProtocolType();
+    }
+
+    private boolean isCacheable(ApiRequest request, Class<?> responseType) {
+        return responseType != byte[].class && cache.isCacheable(request);
+    }
+
+    private <T> ApiResponse<T> complete(String key, ApiRequest request, CachedResponse cached,
+                                        ApiResponse<String> response, Class<T> responseType, long startTime) {
+        if (cached != null && response.getStatusCode() == 304) {
+            cache.recordRevalidated();
+            return fromCache(cache.revalidate(key, request, cached, response), responseType, startTime);
+        }
+        cache.recordMiss();
+        cache.store(key, request, response);
+        return convert(response, responseType);
+    }
+
+    /**
+     * Add the stored entry's validators to the request, if there is an entry to revalidate.
+     */
+    private static ApiRequest conditional(ApiRequest request, CachedResponse cached) {
+        if (cached == null || !cached.hasValidator()) {
+            return request;
+        }
+        ApiRequest conditional = new ApiRequest(request.getUrl(), request.getMethod());
+        conditional.getHeaders().putAll(request.getHeaders());
+        conditional.getParameters().putAll(request.getParameters());
+        conditional.setDeadline(request.getDeadline());
+        if (cached.getETag() != null) {
+            conditional.addHeader(CacheControl.IF_NONE_MATCH, cached.getETag());
+        }
+        if (cached.getLastModified() != null) {
+            conditional.addHeader(CacheControl.IF_MODIFIED_SINCE, cached.getLastModified());
+        }
+        return conditional;
+    }
+
+    private <T> ApiResponse<T> fromCache(CachedResponse cached, Class<T> responseType, long startTime) {
+        ApiResponse<T> response = new ApiResponse<>();
+        response.setStatusCode(cached.getStatusCode());
+        response.setStatusMessage(cached.getStatusMessage());
+        response.getHeaders().putAll(cached.getHeaders());
+        response.getHeaders().put(CacheControl.AGE, String.valueOf(cached.getAgeMillis(cache.now()) / 1000));
+        readBody(response, cached.getBody(), responseType);
+        response.setResponseTimeMs(System.currentTimeMillis() - startTime);
+        return response;
+    }
+
+    private <T> ApiResponse<T> convert(ApiResponse<String> source, Class<T> responseType) {
+        ApiResponse<T> response = new ApiResponse<>();
+        response.setStatusCode(source.getStatusCode());
+        response.setStatusMessage(source.getStatusMessage());
+        response.getHeaders().putAll(source.getHeaders());
+        response.setResponseTimeMs(source.getResponseTimeMs());
+        response.setRawResponse(source.getRawResponse());
+        if (source.hasError()) {
+            response.markAsError(source.getErrorCode(), source.getErrorMessage());
+            return response;
+        }
+        readBody(response, source.getBody(), responseType);
+        return response;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void readBody(ApiResponse<T> response, String body, Class<T> responseType) {
+        try {
+            if (responseType == String.class) {
+                response.setBody((T) body);
+            } else if (body != null && !body.isEmpty() && responseType != Void.class) {
+                response.setBody(codecs.read(body, responseType));
+            }
+            response.setSuccess(true);
+        } catch (Exception e) {
+            logger.error("Failed to read REST API response: {}", e.getMessage(), e);
+            response.setRawResponse(body);
+            response.markAsError("REST_ERROR", e.getMessage());
+        }
+    }
+}
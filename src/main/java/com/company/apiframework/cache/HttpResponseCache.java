@@ -0,0 +1,415 @@
+package com.company.apiframework.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import com.company.apiframework.config.CacheProperties;
+import com.company.apiframework.config.CacheProperties.Tier;
+import com.company.apiframework.model.ApiRequest;
+import com.company.apiframework.model.ApiResponse;
+import com.company.apiframework.routing.UrlPattern;
+
+/**
+ * HTTP caching rules and statistics for one RestTemplate profile.
+ *
+ * <p>Behaves as a shared cache in the sense of RFC 9111, because one application
+ * serves many users from it:</p>
+ * <ul>
+ *   <li>Only GET requests without a body on a cached route are looked up; requests
+ *       that carry their own conditional headers bypass the cache.</li>
+ *   <li>Only {@code 200} responses are stored, and only with explicit freshness
+ *       ({@code s-maxage}, {@code max-age}, {@code Expires}) or a validator.
+ *       {@code no-store}, {@code private} and {@code Vary: *} prevent storing.
+ *       Responses to requests with {@code Authorization} are stored only if marked
+ *       {@code public}, {@code s-maxage} or {@code must-revalidate}.</li>
+ *   <li>A request {@code Cache-Control: no-cache} or {@code max-age=0} forces
+ *       revalidation; {@code no-store} skips storing the response.</li>
+ *   <li>Request headers named by the response's {@code Vary} must match for a hit.</li>
+ *   <li>A successful unsafe request (POST, PUT, PATCH, DELETE) invalidates the
+ *       cached response of its URL.</li>
+ * </ul>
+ *
+ * <p>Each route's entries go to the store of its {@link Tier}: routes matching
+ * {@code off-heap-routes} to the off-heap store, other cached routes to the store
+ * of the profile's {@code tier}.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see CachingApiClient
+ */
+public class HttpResponseCache {
+
+    private final String profileName;
+    private final Map<Tier, ResponseCache> tierStores;
+    private final Tier tier;
+    private final List<UrlPattern> routes;
+    private final List<UrlPattern> offHeapRoutes;
+    private final Clock clock;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong revalidated = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong stores = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public HttpResponseCache(String profileName, CacheProperties properties) {
+        this(profileName, properties, createStores(profileName, properties), Clock.systemUTC());
+    }
+
+    /**
+     * Cache whose routes all use one store, whatever their tier.
+     *
+     * @param profileName RestTemplate profile name
+     * @param properties Cache settings of the profile
+     * @param store Storage for the entries
+     * @param clock Time source for ages and freshness
+     */
+    public HttpResponseCache(String profileName, CacheProperties properties, ResponseCache store, Clock clock) {
+        this(profileName, properties, singleStore(store), clock);
+    }
+
+    /**
+     * @param profileName RestTemplate profile name
+     * @param properties Cache settings of the profile
+     * @param stores Storage per tier; routes of a tier without a store are not cached
+     * @param clock Time source for ages and freshness
+     */
+    public HttpResponseCache(String profileName, CacheProperties properties, Map<Tier, ResponseCache> stores,
+                             Clock clock) {
+        this.profileName = profileName;
+        this.tierStores = new EnumMap<>(Tier.class);
+        this.tierStores.putAll(stores);
+        this.tier = properties.getTier();
+        this.routes = properties.getRoutes().stream().map(UrlPattern::compile).collect(Collectors.toList());
+        this.offHeapRoutes = properties.getOffHeapRoutes().stream().map(UrlPattern::compile)
+                .collect(Collectors.toList());
+        this.clock = clock;
+    }
+
+    /**
+     * @param request Request about to be sent
+     * @return true if the response may be served from or stored in the cache
+     */
+    public boolean isCacheable(ApiRequest request) {
+        return "GET".equalsIgnoreCase(request.getMethod()) && request.getBody() == null
+                && CacheControl.header(request.getHeaders(), CacheControl.IF_NONE_MATCH) == null
+                && CacheControl.header(request.getHeaders(), CacheControl.IF_MODIFIED_SINCE) == null
+                && storeFor(request.getUrl()) != null;
+    }
+
+    /**
+     * @param request Cacheable request
+     * @return Key of the request's URL and parameters
+     */
+    public String keyOf(ApiRequest request) {
+        return keyOf(request.getUrl(), request.getParameters());
+    }
+
+    /**
+     * Find a stored response whose {@code Vary} headers match the request.
+     *
+     * @param key Key from {@link #keyOf(ApiRequest)}
+     * @param request Cacheable request
+     * @return Stored response, fresh or stale, or null
+     */
+    public CachedResponse lookup(String key, ApiRequest request) {
+        ResponseCache store = storeFor(request.getUrl());
+        CachedResponse cached = store != null ? store.get(key) : null;
+        if (cached == null) {
+            return null;
+        }
+        for (Map.Entry<String, String> vary : cached.getVaryValues().entrySet()) {
+            String value = CacheControl.header(request.getHeaders(), vary.getKey());
+            if (!vary.getValue().equals(value != null ? value : "")) {
+                return null;
+            }
+        }
+        return cached;
+    }
+
+    /**
+     * @param cached Stored response
+     * @param request Request it would answer
+     * @return true if it may be served without revalidation
+     */
+    public boolean isFresh(CachedResponse cached, ApiRequest request) {
+        Map<String, String> directives = CacheControl.parse(
+                CacheControl.header(request.getHeaders(), CacheControl.CACHE_CONTROL));
+        if (directives.containsKey("no-cache")) {
+            return false;
+        }
+        long now = clock.millis();
+        long maxAge = CacheControl.seconds(directives, "max-age");
+        if (maxAge >= 0 && cached.getAgeMillis(now) >= maxAge) {
+            return false;
+        }
+        return cached.isFresh(now);
+    }
+
+    /**
+     * Store a response if HTTP allows it.
+     *
+     * @param key Key from {@link #keyOf(ApiRequest)}
+     * @param request Request that produced the response
+     * @param response Response with its body as text
+     * @return The stored entry, or null if it was not stored
+     */
+    public CachedResponse store(String key, ApiRequest request, ApiResponse<String> response) {
+        ResponseCache store = storeFor(request.getUrl());
+        if (store == null || response.hasError() || response.getStatusCode() != 200
+                || !isStorable(request, response.getHeaders())) {
+            return null;
+        }
+        long now = clock.millis();
+        long lifetime = CacheControl.freshnessLifetimeMillis(response.getHeaders(), now);
+        CachedResponse cached = new CachedResponse(response.getStatusCode(), response.getStatusMessage(),
+                response.getHeaders(), response.getBody(), now, ageOf(response.getHeaders()), lifetime,
+                varyValues(request, response.getHeaders()));
+        if (lifetime < 0 && !cached.hasValidator()) {
+            return null;
+        }
+        if (!store.put(key, cached)) {
+            return null;
+        }
+        stores.incrementAndGet();
+        return cached;
+    }
+
+    /**
+     * Refresh a stored response after the upstream confirmed it with {@code 304 Not Modified}.
+     *
+     * @param key Key from {@link #keyOf(ApiRequest)}
+     * @param request Request that was revalidated
+     * @param cached Entry that was revalidated
+     * @param notModified The 304 response, whose headers update the entry
+     * @return The refreshed entry
+     */
+    public CachedResponse revalidate(String key, ApiRequest request, CachedResponse cached,
+                                     ApiResponse<?> notModified) {
+        long now = clock.millis();
+        Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.putAll(cached.getHeaders());
+        notModified.getHeaders().forEach((name, value) -> {
+            // A 304 has no body, so its Content-Length does not describe the stored one
+            if (!"Content-Length".equalsIgnoreCase(name)) {
+                headers.put(name, value);
+            }
+        });
+        CachedResponse refreshed = new CachedResponse(cached.getStatusCode(), cached.getStatusMessage(), headers,
+                cached.getBody(), now, ageOf(notModified.getHeaders()),
+                Math.max(0, CacheControl.freshnessLifetimeMillis(headers, now)), cached.getVaryValues());
+        ResponseCache store = storeFor(request.getUrl());
+        if (store != null) {
+            store.put(key, refreshed);
+        }
+        return refreshed;
+    }
+
+    /**
+     * Drop the cached response of a URL after a successful unsafe request to it.
+     *
+     * @param request Request that was sent
+     * @param response Its response
+     */
+    public void invalidateAfter(ApiRequest request, ApiResponse<?> response) {
+        String method = request.getMethod() != null ? request.getMethod().toUpperCase(Locale.ROOT) : "";
+        boolean safe = "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)
+                || "TRACE".equals(method);
+        ResponseCache store = storeFor(request.getUrl());
+        if (!safe && response != null && !response.hasError() && store != null) {
+            store.remove(keyOf(request.getUrl(), null));
+            invalidations.incrementAndGet();
+        }
+    }
+
+    /**
+     * Release the stores, deleting any memory-mapped file.
+     */
+    public void close() {
+        distinctStores().values().forEach(ResponseCache::close);
+    }
+
+    /**
+     * @return Current time of the cache's clock
+     */
+    public long now() {
+        return clock.millis();
+    }
+
+    public void recordHit() {
+        hits.incrementAndGet();
+    }
+
+    public void recordRevalidated() {
+        revalidated.incrementAndGet();
+    }
+
+    public void recordMiss() {
+        misses.incrementAndGet();
+    }
+
+    public String getProfileName() {
+        return profileName;
+    }
+
+    /**
+     * @return Lookup counters, hit ratio and per-tier store metrics (entries, bytes, evictions)
+     */
+    public Map<String, Object> getMetrics() {
+        long hitCount = hits.get();
+        long revalidatedCount = revalidated.get();
+        long lookups = hitCount + revalidatedCount + misses.get();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("hits", hitCount);
+        metrics.put("revalidated", revalidatedCount);
+        metrics.put("misses", misses.get());
+        metrics.put("hitRatio", lookups == 0 ? 0.0 : (double) (hitCount + revalidatedCount) / lookups);
+        metrics.put("stores", stores.get());
+        metrics.put("invalidations", invalidations.get());
+        distinctStores().forEach((storeTier, store) ->
+                metrics.put(storeTier == Tier.OFF_HEAP ? "offHeap" : "heap", store.getMetrics()));
+        return metrics;
+    }
+
+    /**
+     * @return Store of the route's tier, or null if the route is not cached
+     */
+    private ResponseCache storeFor(String url) {
+        if (url == null) {
+            return null;
+        }
+        if (matchesAny(offHeapRoutes, url)) {
+            return tierStores.get(Tier.OFF_HEAP);
+        }
+        if (routes.isEmpty() || matchesAny(routes, url)) {
+            return tierStores.get(tier);
+        }
+        return null;
+    }
+
+    private Map<Tier, ResponseCache> distinctStores() {
+        Map<ResponseCache, Boolean> seen = new IdentityHashMap<>();
+        Map<Tier, ResponseCache> distinct = new EnumMap<>(Tier.class);
+        tierStores.forEach((storeTier, store) -> {
+            if (seen.put(store, Boolean.TRUE) == null) {
+                distinct.put(storeTier, store);
+            }
+        });
+        return distinct;
+    }
+
+    private static boolean matchesAny(List<UrlPattern> patterns, String url) {
+        for (UrlPattern pattern : patterns) {
+            if (pattern.matches(url)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<Tier, ResponseCache> singleStore(ResponseCache store) {
+        Map<Tier, ResponseCache> stores = new EnumMap<>(Tier.class);
+        stores.put(Tier.HEAP, store);
+        stores.put(Tier.OFF_HEAP, store);
+        return stores;
+    }
+
+    /**
+     * Create the stores of the tiers the settings use.
+     */
+    private static Map<Tier, ResponseCache> createStores(String profileName, CacheProperties properties) {
+        Map<Tier, ResponseCache> stores = new EnumMap<>(Tier.class);
+        if (properties.getTier() == Tier.HEAP) {
+            stores.put(Tier.HEAP, new InMemoryResponseCache(properties.getMaxEntries(),
+                    properties.getMaxSizeBytes(), properties.getMaxEntrySizeBytes()));
+        }
+        if (properties.getTier() == Tier.OFF_HEAP || !properties.getOffHeapRoutes().isEmpty()) {
+            stores.put(Tier.OFF_HEAP, new OffHeapResponseCache(properties.getMaxEntries(),
+                    properties.getOffHeapMaxSizeBytes(), properties.getOffHeapMaxEntrySizeBytes(),
+                    properties.getOffHeapBlockSizeBytes(), mappedFile(profileName, properties)));
+        }
+        return Collections.unmodifiableMap(stores);
+    }
+
+    private static Path mappedFile(String profileName, CacheProperties properties) {
+        if (properties.getOffHeapDirectory() == null || properties.getOffHeapDirectory().isEmpty()) {
+            return null;
+        }
+        try {
+            Path directory = Files.createDirectories(Paths.get(properties.getOffHeapDirectory()));
+            return Files.createTempFile(directory, "api-cache-" + profileName + "-", ".bin");
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not create response cache file in "
+                    + properties.getOffHeapDirectory(), e);
+        }
+    }
+
+    private static boolean isStorable(ApiRequest request, Map<String, String> responseHeaders) {
+        Map<String, String> requestDirectives = CacheControl.parse(
+                CacheControl.header(request.getHeaders(), CacheControl.CACHE_CONTROL));
+        Map<String, String> directives = CacheControl.parse(
+                CacheControl.header(responseHeaders, CacheControl.CACHE_CONTROL));
+        if (requestDirectives.containsKey("no-store") || directives.containsKey("no-store")
+                || directives.containsKey("private")) {
+            return false;
+        }
+        if ("*".equals(trim(CacheControl.header(responseHeaders, CacheControl.VARY)))) {
+            return false;
+        }
+        return CacheControl.header(request.getHeaders(), CacheControl.AUTHORIZATION) == null
+                || directives.containsKey("public") || directives.containsKey("s-maxage")
+                || directives.containsKey("must-revalidate");
+    }
+
+    private static Map<String, String> varyValues(ApiRequest request, Map<String, String> responseHeaders) {
+        String vary = CacheControl.header(responseHeaders, CacheControl.VARY);
+        Map<String, String> values = new TreeMap<>();
+        if (vary != null) {
+            for (String name : vary.split(",")) {
+                String header = name.trim().toLowerCase(Locale.ROOT);
+                if (!header.isEmpty()) {
+                    String value = CacheControl.header(request.getHeaders(), header);
+                    values.put(header, value != null ? value : "");
+                }
+            }
+        }
+        return values;
+    }
+
+    private static long ageOf(Map<String, String> headers) {
+        String age = trim(CacheControl.header(headers, CacheControl.AGE));
+        if (age == null) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Long.parseLong(age)) * 1000;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static String keyOf(String url, Map<String, Object> parameters) {
+        if (parameters == null || parameters.isEmpty()) {
+            return url;
+        }
+        return url + "|" + new TreeMap<>(parameters);
+    }
+
+    private static String trim(String value) {
+        return value != null ? value.trim() : null;
+    }
+}
@@ -0,0 +1,85 @@
+package com.company.apiframework.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Heap {@link ResponseCache} bounded by entry count and total size.
+ *
+ * <p>Entries are kept in least-recently-used order and the oldest are evicted
+ * once either limit is exceeded. All operations take one lock; they only touch
+ * the map, so the lock is held briefly.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class InMemoryResponseCache implements ResponseCache {
+
+    private final int maxEntries;
+    private final long maxSizeBytes;
+    private final long maxEntrySizeBytes;
+
+    // Access-ordered: iteration starts at the least recently used entry
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeBytes;
+    private long evictions;
+
+    /**
+     * @param maxEntries Maximum number of entries
+     * @param maxSizeBytes Maximum total size of all entries
+     * @param maxEntrySizeBytes Largest entry that is accepted
+     */
+    public InMemoryResponseCache(int maxEntries, long maxSizeBytes, long maxEntrySizeBytes) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.maxSizeBytes = Math.max(0, maxSizeBytes);
+        this.maxEntrySizeBytes = Math.min(Math.max(0, maxEntrySizeBytes), this.maxSizeBytes);
+    }
+
+    @Override
+    public synchronized CachedResponse get(String key) {
+        return entries.get(key);
+    }
+
+    @Override
+    public synchronized boolean put(String key, CachedResponse response) {
+        if (response.getSizeBytes() > maxEntrySizeBytes) {
+            remove(key);
+            return false;
+        }
+        CachedResponse previous = entries.put(key, response);
+        if (previous != null) {
+            sizeBytes -= previous.getSizeBytes();
+        }
+        sizeBytes += response.getSizeBytes();
+
+        Iterator<CachedResponse> eldest = entries.values().iterator();
+        while ((entries.size() > maxEntries || sizeBytes > maxSizeBytes) && eldest.hasNext()) {
+            CachedResponse evicted = eldest.next();
+            eldest.remove();
+            sizeBytes -= evicted.getSizeBytes();
+            evictions++;
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized void remove(String key) {
+        CachedResponse removed = entries.remove(key);
+        if (removed != null) {
+            sizeBytes -= removed.getSizeBytes();
+        }
+    }
+
+    @Override
+    public synchronized Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("entries", entries.size());
+        metrics.put("maxEntries", maxEntries);
+        metrics.put("sizeBytes", sizeBytes);
+        metrics.put("maxSizeBytes", maxSizeBytes);
+        metrics.put("evictions", evictions);
+        return metrics;
+    }
+}
@@ -0,0 +1,239 @@
+package com.company.apiframework.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link ResponseCache} that keeps serialized responses outside the Java heap.
+ *
+ * <p>The storage is reserved up front, either as direct memory or as a file mapped
+ * into memory, and divided into fixed-size blocks. A response occupies as many
+ * blocks as its serialized size needs, so freed blocks are always reusable and the
+ * storage does not fragment. Only the index (key, block numbers and freshness data)
+ * is on the heap; the status message, headers and body are copied out on a hit and
+ * decoded when first read.</p>
+ *
+ * <p>Entries are evicted in least-recently-used order when the entry limit is
+ * reached or there are not enough free blocks. All operations take one lock.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class OffHeapResponseCache implements ResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(OffHeapResponseCache.class);
+
+    // Largest buffer per segment; a single ByteBuffer cannot exceed 2 GB
+    private static final int MAX_SEGMENT_BYTES = 1 << 30;
+
+    private final int maxEntries;
+    private final long maxEntrySizeBytes;
+    private final int blockSize;
+    private final int blocksPerSegment;
+    private final int totalBlocks;
+    private final ByteBuffer[] segments;
+    private final Path file;
+
+    // Stack of free block numbers
+    private final int[] freeBlocks;
+    private int freeCount;
+
+    // Access-ordered: iteration starts at the least recently used entry
+    private final LinkedHashMap<String, Slot> index = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeBytes;
+    private long evictions;
+
+    /**
+     * Off-heap store in direct memory.
+     *
+     * @param maxEntries Maximum number of entries
+     * @param maxSizeBytes Storage to reserve
+     * @param maxEntrySizeBytes Largest serialized entry that is accepted
+     * @param blockSize Allocation unit in bytes
+     */
+    public OffHeapResponseCache(int maxEntries, long maxSizeBytes, long maxEntrySizeBytes, int blockSize) {
+        this(maxEntries, maxSizeBytes, maxEntrySizeBytes, blockSize, null);
+    }
+
+    /**
+     * @param maxEntries Maximum number of entries
+     * @param maxSizeBytes Storage to reserve
+     * @param maxEntrySizeBytes Largest serialized entry that is accepted
+     * @param blockSize Allocation unit in bytes
+     * @param file File to map the storage to, deleted by {@link #close()}; null for direct memory
+     */
+    public OffHeapResponseCache(int maxEntries, long maxSizeBytes, long maxEntrySizeBytes, int blockSize, Path file) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.blockSize = Math.max(64, Math.min(blockSize, MAX_SEGMENT_BYTES));
+        this.blocksPerSegment = MAX_SEGMENT_BYTES / this.blockSize;
+        this.totalBlocks = (int) Math.min(Integer.MAX_VALUE, Math.max(1, maxSizeBytes / this.blockSize));
+        this.maxEntrySizeBytes = Math.min(Math.max(0, maxEntrySizeBytes), (long) totalBlocks * this.blockSize);
+        this.file = file;
+        this.segments = allocate(file);
+        this.freeBlocks = new int[totalBlocks];
+        for (int i = 0; i < totalBlocks; i++) {
+            freeBlocks[i] = totalBlocks - 1 - i;
+        }
+        this.freeCount = totalBlocks;
+    }
+
+    @Override
+    public synchronized CachedResponse get(String key) {
+        Slot slot = index.get(key);
+        if (slot == null) {
+            return null;
+        }
+        byte[] bytes = new byte[slot.length];
+        int offset = 0;
+        for (int block : slot.blocks) {
+            int length = Math.min(blockSize, slot.length - offset);
+            region(block).get(bytes, offset, length);
+            offset += length;
+        }
+        return new CachedResponse(slot.metadata, bytes);
+    }
+
+    @Override
+    public boolean put(String key, CachedResponse response) {
+        // Serialize outside the lock; it is the expensive part
+        byte[] bytes = response.serialize();
+        int needed = Math.max(1, (bytes.length + blockSize - 1) / blockSize);
+        synchronized (this) {
+            remove(key);
+            if (bytes.length > maxEntrySizeBytes) {
+                return false;
+            }
+            Iterator<Slot> eldest = index.values().iterator();
+            while ((index.size() >= maxEntries || freeCount < needed) && eldest.hasNext()) {
+                Slot evicted = eldest.next();
+                eldest.remove();
+                release(evicted);
+                evictions++;
+            }
+            if (freeCount < needed) {
+                return false;
+            }
+            int[] blocks = new int[needed];
+            for (int i = 0; i < needed; i++) {
+                blocks[i] = freeBlocks[--freeCount];
+            }
+            int offset = 0;
+            for (int block : blocks) {
+                int length = Math.min(blockSize, bytes.length - offset);
+                region(block).put(bytes, offset, length);
+                offset += length;
+            }
+            index.put(key, new Slot(response.withoutContent(), blocks, bytes.length));
+            sizeBytes += bytes.length;
+            return true;
+        }
+    }
+
+    @Override
+    public synchronized void remove(String key) {
+        Slot removed = index.remove(key);
+        if (removed != null) {
+            release(removed);
+        }
+    }
+
+    @Override
+    public synchronized Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("entries", index.size());
+        metrics.put("maxEntries", maxEntries);
+        metrics.put("sizeBytes", sizeBytes);
+        metrics.put("usedBytes", (long) (totalBlocks - freeCount) * blockSize);
+        metrics.put("maxSizeBytes", (long) totalBlocks * blockSize);
+        metrics.put("evictions", evictions);
+        metrics.put("memoryMapped", file != null);
+        return metrics;
+    }
+
+    /**
+     * Drop all entries and delete the mapped file, if any. The memory itself is
+     * returned once the buffers are garbage collected.
+     */
+    @Override
+    public synchronized void close() {
+        index.clear();
+        freeCount = 0;
+        sizeBytes = 0;
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warn("Could not delete response cache file {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private void release(Slot slot) {
+        for (int block : slot.blocks) {
+            freeBlocks[freeCount++] = block;
+        }
+        sizeBytes -= slot.length;
+    }
+
+    /**
+     * @return View of one block, positioned at its start and limited to its end
+     */
+    private ByteBuffer region(int block) {
+        ByteBuffer region = segments[block / blocksPerSegment].duplicate();
+        int position = (block % blocksPerSegment) * blockSize;
+        region.limit(position + blockSize);
+        region.position(position);
+        return region;
+    }
+
+    private ByteBuffer[] allocate(Path file) {
+        long capacity = (long) totalBlocks * blockSize;
+        long segmentBytes = (long) blocksPerSegment * blockSize;
+        ByteBuffer[] buffers = new ByteBuffer[(totalBlocks + blocksPerSegment - 1) / blocksPerSegment];
+        if (file == null) {
+            for (int i = 0; i < buffers.length; i++) {
+                buffers[i] = ByteBuffer.allocateDirect((int) Math.min(segmentBytes, capacity - i * segmentBytes));
+            }
+            return buffers;
+        }
+        // Mappings stay valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            for (int i = 0; i < buffers.length; i++) {
+                long position = i * segmentBytes;
+                buffers[i] = channel.map(FileChannel.MapMode.READ_WRITE, position,
+                        Math.min(segmentBytes, capacity - position));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not map response cache file " + file, e);
+        }
+        return buffers;
+    }
+
+    /**
+     * Index entry: freshness data on the heap, content in the listed blocks.
+     */
+    private static final class Slot {
+
+        private final CachedResponse metadata;
+        private final int[] blocks;
+        private final int length;
+
+        private Slot(CachedResponse metadata, int[] blocks, int length) {
+            this.metadata = metadata;
+            this.blocks = blocks;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.company.apiframework.cache;
+
+import java.util.Map;
+
+/**
+ * Storage for cached HTTP responses.
+ *
+ * <p>The HTTP rules (what may be stored, freshness, revalidation) live in
+ * {@link HttpResponseCache}; a store only keeps entries by key and enforces its own
+ * size limits. Implementations must be thread-safe.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see InMemoryResponseCache
+ * @see OffHeapResponseCache
+ */
+public interface ResponseCache {
+
+    /**
+     * @param key Cache key
+     * @return Stored entry, or null
+     */
+    CachedResponse get(String key);
+
+    /**
+     * Store or replace an entry. A store may decline entries that exceed its limits.
+     *
+     * @param key Cache key
+     * @param response Entry to store
+     * @return true if the entry was stored
+     */
+    boolean put(String key, CachedResponse response);
+
+    /**
+     * @param key Cache key
+     */
+    void remove(String key);
+
+    /**
+     * @return Store metrics such as entries, size in bytes and evictions
+     */
+    Map<String, Object> getMetrics();
+
+    /**
+     * Release storage held outside the heap. The store is not used afterwards.
+     */
+    default void close() {
+    }
+}
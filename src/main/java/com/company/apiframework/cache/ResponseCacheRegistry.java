@@ -0,0 +1,93 @@
+package com.company.apiframework.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import com.company.apiframework.client.ApiClient;
+import com.company.apiframework.codec.CodecRegistry;
+import com.company.apiframework.config.ApiProperties;
+import com.company.apiframework.config.CacheProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * HTTP response caches per RestTemplate profile.
+ *
+ * <p>Caches are created from {@link ApiProperties#resolveCache(String)} the first
+ * time a profile's client is built and are shared by all clients of the profile.
+ * Clients of profiles with caching disabled are returned unchanged. Off-heap
+ * stores are released when the application context closes.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see CachingApiClient
+ */
+public class ResponseCacheRegistry implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCacheRegistry.class);
+
+    private final ApiProperties apiProperties;
+    private final CodecRegistry codecs;
+    private final ConcurrentMap<String, HttpResponseCache> caches = new ConcurrentHashMap<>();
+
+    public ResponseCacheRegistry(ApiProperties apiProperties, ObjectMapper objectMapper) {
+        this(apiProperties, new CodecRegistry(objectMapper));
+    }
+
+    /**
+     * @param apiProperties Framework configuration properties
+     * @param codecs Reads typed bodies from cached responses
+     */
+    public ResponseCacheRegistry(ApiProperties apiProperties, CodecRegistry codecs) {
+        this.apiProperties = apiProperties;
+        this.codecs = codecs;
+    }
+
+    /**
+     * Wrap a client with response caching if its profile enables it.
+     *
+     * @param client Client to wrap
+     * @param profileName RestTemplate profile of the client
+     * @return Caching client, or {@code client} itself if caching is disabled
+     */
+    public ApiClient wrap(ApiClient client, String profileName) {
+        CacheProperties properties = apiProperties.resolveCache(profileName);
+        if (properties == null || !properties.isEnabled()) {
+            return client;
+        }
+        HttpResponseCache cache = caches.computeIfAbsent(profileName, name -> {
+            logger.info("Enabling response cache for profile '{}' (routes={}, tier={}, offHeapRoutes={}, "
+                    + "maxEntries={})", name, properties.getRoutes().isEmpty() ? "all" : properties.getRoutes(),
+                    properties.getTier(), properties.getOffHeapRoutes(), properties.getMaxEntries());
+            return new HttpResponseCache(name, properties);
+        });
+        return new CachingApiClient(client, cache, codecs);
+    }
+
+    /**
+     * Get metrics of all caching profiles.
+     *
+     * @return Map of profile name to hit ratio, byte size and other cache metrics
+     */
+    public Map<String, Map<String, Object>> getMetrics() {
+        Map<String, Map<String, Object>> metrics = new LinkedHashMap<>();
+        caches.forEach((profile, cache) -> metrics.put(profile, cache.getMetrics()));
+        return metrics;
+    }
+
+    /**
+     * Release the caches' stores, including off-heap memory and mapped files.
+     */
+    @Override
+    public void destroy() {
+        caches.values().forEach(HttpResponseCache::close);
+        caches.clear();
+        logger.info("Response caches released");
+    }
+}
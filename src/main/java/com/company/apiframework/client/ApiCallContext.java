@@ -0,0 +1,87 @@
+package com.company.apiframework.client;
+
+import java.util.function.Supplier;
+
+import com.company.apiframework.model.Deadline;
+
+/**
+ * Per-thread context of the API call currently being executed.
+ *
+ * <p>RestTemplate does not let a caller pass per-request settings down to the HTTP
+ * client, so clients publish the request's {@link Deadline} here for the duration of
+ * the exchange. {@link com.company.apiframework.client.rest.DeadlineAwareRequestFactory}
+ * reads it on the same thread to cap pool, connect and socket timeouts.</p>
+ *
+ * <p>Streaming calls are flagged the same way so that interceptors such as
+ * {@link com.company.apiframework.interceptor.LoggingInterceptor} leave the response
+ * body unread.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class ApiCallContext {
+
+    private static final ThreadLocal<Deadline> DEADLINE = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> STREAMING = new ThreadLocal<>();
+
+    private ApiCallContext() {
+    }
+
+    /**
+     * @return Deadline of the call running on this thread, or null if it has none
+     */
+    public static Deadline currentDeadline() {
+        return DEADLINE.get();
+    }
+
+    /**
+     * Run a call with the given deadline visible to the HTTP layer on this thread.
+     *
+     * @param <T> Result type
+     * @param deadline Deadline of the call (null for none)
+     * @param call Call to run
+     * @return Result of the call
+     */
+    public static <T> T withDeadline(Deadline deadline, Supplier<T> call) {
+        Deadline previous = DEADLINE.get();
+        DEADLINE.set(deadline);
+        try {
+            return call.get();
+        } finally {
+            if (previous != null) {
+                DEADLINE.set(previous);
+            } else {
+                DEADLINE.remove();
+            }
+        }
+    }
+
+    /**
+     * @return true if the call running on this thread streams its response body to the caller
+     */
+    public static boolean isStreaming() {
+        return Boolean.TRUE.equals(STREAMING.get());
+    }
+
+    /**
+     * Run a call whose response body must reach the caller unread.
+     *
+     * @param <T> Result type
+     * @param call Call to run
+     * @return Result of the call
+     */
+    public static <T> T withStreaming(Supplier<T> call) {
+        Boolean previous = STREAMING.get();
+        STREAMING.set(Boolean.TRUE);
+        try {
+            return call.get();
+        } finally {
+            if (previous != null) {
+                STREAMING.set(previous);
+            } else {
+                STREAMING.remove();
+            }
+        }
+    }
+}
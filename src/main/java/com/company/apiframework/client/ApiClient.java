@@ -1,5 +1,12 @@
 package com.company.apiframework.client;
 
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import com.company.apiframework.async.AsyncFutures;
+import com.company.apiframework.exception.ApiException;
 import com.company.apiframework.model.ApiRequest;
 import com.company.apiframework.model.ApiResponse;
 
@@ -14,7 +21,7 @@ import com.company.apiframework.model.ApiResponse;
  * <ul>
  *   <li><strong>Protocol Abstraction:</strong> Same interface for REST and SOAP</li>
  *   <li><strong>Type Safety:</strong> Generic return types for strongly-typed responses</li>
- *   <li><strong>Async Support:</strong> Non-blocking operations with callbacks</li>
+ *   <li><strong>Async Support:</strong> Non-blocking operations with callbacks or CompletionStages</li>
  *   <li><strong>Flexibility:</strong> Support for both typed and string responses</li>
  * </ul>
  * 
@@ -42,6 +49,11 @@ import com.company.apiframework.model.ApiResponse;
  *         // Handle error
  *     }
  * });
+ * 
+ * // Asynchronous composition
+ * CompletionStage&lt;ApiResponse&lt;User&gt;&gt; user = client.executeAsync(userRequest, User.class);
+ * CompletionStage&lt;ApiResponse&lt;Account&gt;&gt; account = client.executeAsync(accountRequest, Account.class);
+ * user.thenCombine(account, (u, a) -&gt; merge(u.getBody(), a.getBody()));
  * </pre>
  * 
  * @author API Framework Team
@@ -119,6 +131,115 @@ public interface ApiClient {
      */
     <T> void executeAsync(ApiRequest request, Class<T> responseType, ApiCallback<T> callback);
     
+    /**
+     * Executes an API request asynchronously and returns a stage for composition.
+     * 
+     * <p>The stage completes normally with the ApiResponse for successful calls and
+     * for HTTP errors alike (check {@code hasError()}), and exceptionally with an
+     * ApiException when the call could not be executed, e.g. because the async
+     * executor rejected it. Dependent stages without an explicit executor run on
+     * the framework thread that completed the call; use
+     * {@link #executeAsyncOn(ApiRequest, Class, Executor)} to hand them off.</p>
+     * 
+     * <p><strong>Cancellation:</strong> {@code toCompletableFuture().cancel(true)}
+     * skips a call that has not started and interrupts one that is running.
+     * Framework clients override this method to provide that; the default
+     * implementation adapts the callback API and cannot interrupt the call.</p>
+     * 
+     * @param <T> The expected response body type
+     * @param request The API request to execute
+     * @param responseType The class representing the expected response type
+     * @return Stage completed with the response
+     */
+    default <T> CompletionStage<ApiResponse<T>> executeAsync(ApiRequest request, Class<T> responseType) {
+        CompletableFuture<ApiResponse<T>> future = new CompletableFuture<>();
+        executeAsync(request, responseType, new ApiCallback<T>() {
+            @Override
+            public void onSuccess(ApiResponse<T> response) {
+                future.complete(response);
+            }
+            
+            @Override
+            public void onError(ApiResponse<T> response) {
+                future.complete(response);
+            }
+            
+            @Override
+            public void onException(Exception exception) {
+                future.completeExceptionally(exception instanceof ApiException
+                        ? exception : new ApiException("Async execution failed", exception));
+            }
+        });
+        return future;
+    }
+    
+    /**
+     * Executes an API request asynchronously and completes the returned stage on
+     * the given executor.
+     * 
+     * <p>Same as {@link #executeAsync(ApiRequest, Class)}, but dependent stages
+     * without an explicit executor run on {@code completionExecutor}, which keeps
+     * slow continuations off the framework's I/O threads. Cancelling the returned
+     * stage cancels the call.</p>
+     * 
+     * <p>This is not an {@code executeAsync} overload because a three-argument
+     * overload would make lambda callbacks passed to
+     * {@link #executeAsync(ApiRequest, Class, ApiCallback)} ambiguous.</p>
+     * 
+     * @param <T> The expected response body type
+     * @param request The API request to execute
+     * @param responseType The class representing the expected response type
+     * @param completionExecutor Executor that completes the returned stage
+     * @return Stage completed on {@code completionExecutor} with the response
+     */
+    default <T> CompletionStage<ApiResponse<T>> executeAsyncOn(ApiRequest request, Class<T> responseType,
+                                                              Executor completionExecutor) {
+        return AsyncFutures.completeOn(executeAsync(request, responseType).toCompletableFuture(), completionExecutor);
+    }
+    
+    /**
+     * Executes an API request synchronously and hands the response body to a handler
+     * as a stream.
+     * 
+     * <p>Use this for payloads too large to materialize: the body is not
+     * deserialized or buffered, and the handler reads it from the open connection.
+     * The connection is released when the handler returns or throws. The handler is
+     * only called for successful responses; HTTP errors, I/O failures and handler
+     * exceptions produce error responses as with {@link #execute(ApiRequest, Class)}.
+     * The handler's result becomes the body of the returned response.</p>
+     * 
+     * <p>Framework RestTemplate and transport clients stream from the connection. The default
+     * implementation reads the body into memory first and is only suitable for
+     * clients without a streaming transport.</p>
+     * 
+     * @param <R> Result type of the handler
+     * @param request The API request to execute
+     * @param handler Consumer of the response body
+     * @return ApiResponse with status, headers and the handler's result
+     */
+    default <R> ApiResponse<R> executeStreaming(ApiRequest request, ResponseStreamHandler<R> handler) {
+        ApiResponse<byte[]> response = execute(request, byte[].class);
+        ApiResponse<R> result = new ApiResponse<>();
+        result.setStatusCode(response.getStatusCode());
+        result.setStatusMessage(response.getStatusMessage());
+        result.getHeaders().putAll(response.getHeaders());
+        result.setResponseTimeMs(response.getResponseTimeMs());
+        if (response.hasError()) {
+            result.setRawResponse(response.getRawResponse());
+            result.markAsError(response.getErrorCode(), response.getErrorMessage());
+            return result;
+        }
+        byte[] body = response.getBody() != null ? response.getBody() : new byte[0];
+        try {
+            result.setBody(handler.handle(new StreamingResponse(response.getStatusCode(),
+                    response.getStatusMessage(), response.getHeaders(), new ByteArrayInputStream(body))));
+            result.setSuccess(true);
+        } catch (Exception e) {
+            result.markAsError("STREAM_ERROR", e.getMessage());
+        }
+        return result;
+    }
+    
     /**
      * Checks if this client implementation supports the specified protocol.
      * 
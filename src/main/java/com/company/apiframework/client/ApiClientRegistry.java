@@ -0,0 +1,250 @@
+package com.company.apiframework.client;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.web.client.RestTemplate;
+
+import com.company.apiframework.async.AsyncExecutor;
+import com.company.apiframework.async.AsyncExecutorRegistry;
+import com.company.apiframework.cache.ResponseCacheRegistry;
+import com.company.apiframework.client.rest.RestClientFactory;
+import com.company.apiframework.client.transport.HttpTransport;
+import com.company.apiframework.client.transport.HttpTransportRegistry;
+import com.company.apiframework.client.soap.SoapClientFactory;
+import com.company.apiframework.coalescing.CoalescingRegistry;
+import com.company.apiframework.hedging.HedgingRegistry;
+
+/**
+ * Registry of shared {@link ApiClient} instances, keyed by RestTemplate.
+ *
+ * <p>Clients are stateless apart from their RestTemplate and async executor, so a
+ * single instance per RestTemplate (and therefore per RestTemplate profile) can be
+ * shared by every caller. The registry builds each client once on first use and
+ * hands out the same instance afterwards, which keeps the request hot path free
+ * of client and thread pool allocations.</p>
+ *
+ * <p><strong>Lifecycle:</strong> each client is built with the bounded async executor
+ * of its RestTemplate's profile, taken from the {@link AsyncExecutorRegistry}, which
+ * owns and shuts down the executors. Only clients of known RestTemplates are cached:
+ * those created for a profile and those added with {@link #register(RestTemplate)}.
+ * Any other RestTemplate, such as one passed to a single call, gets a new client on
+ * every lookup, so the registry never holds on to RestTemplates the caller has
+ * dropped. Cached clients are released when the Spring context closes; registered
+ * RestTemplates that are discarded at runtime should be released with
+ * {@link #evict(RestTemplate)}.</p>
+ *
+ * <p><strong>Transport engine:</strong> REST clients of profiles configured with a
+ * non-blocking transport engine send requests through that engine instead of the
+ * RestTemplate; see {@link HttpTransportRegistry}.</p>
+ *
+ * <p><strong>Hedging:</strong> REST clients of profiles with hedging enabled are
+ * wrapped by the {@link HedgingRegistry}, which hedges slow idempotent calls.</p>
+ *
+ * <p><strong>Coalescing:</strong> REST clients of profiles with coalescing enabled
+ * are wrapped by the {@link CoalescingRegistry}, so concurrent identical requests
+ * share one (possibly hedged) call.</p>
+ *
+ * <p><strong>Caching:</strong> REST clients of profiles with a response cache are
+ * wrapped by the {@link ResponseCacheRegistry} outermost, so cache hits skip
+ * coalescing and hedging entirely.</p>
+ *
+ * <p>Coalescing and caching share responses between callers of a profile, keyed on
+ * the {@link com.company.apiframework.model.ApiRequest} alone. They only apply to
+ * RestTemplates created for a profile: any other RestTemplate resolves to the
+ * "default" profile but may add its own credentials in interceptors the key cannot
+ * see, so its responses must not reach other RestTemplates.</p>
+ *
+ * <p><strong>Usage Examples:</strong></p>
+ * <pre>
+ * ApiClient client = apiClientRegistry.getRestClient(paymentApiRestTemplate);
+ * ApiResponse&lt;String&gt; response = client.execute(request);
+ * </pre>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see RestClientFactory
+ * @see SoapClientFactory
+ */
+public class ApiClientRegistry implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiClientRegistry.class);
+
+    private final RestClientFactory restClientFactory;
+    private final SoapClientFactory soapClientFactory;
+    private final AsyncExecutorRegistry asyncExecutorRegistry;
+    private final HttpTransportRegistry transportRegistry;
+    private final HedgingRegistry hedgingRegistry;
+    private final CoalescingRegistry coalescingRegistry;
+    private final ResponseCacheRegistry responseCacheRegistry;
+    private final Function<RestTemplate, String> profileResolver;
+    private final Predicate<RestTemplate> profileTemplates;
+
+    // RestTemplate does not override equals/hashCode, so keys are compared by identity
+    private final Set<RestTemplate> registeredTemplates = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<RestTemplate, ApiClient> restClients = new ConcurrentHashMap<>();
+    private final ConcurrentMap<RestTemplate, ApiClient> soapClients = new ConcurrentHashMap<>();
+
+    /**
+     * @param restClientFactory Factory for REST clients
+     * @param soapClientFactory Factory for SOAP clients
+     * @param asyncExecutorRegistry Source of the per-profile async executors
+     * @param transportRegistry Source of the per-profile transport engines
+     * @param hedgingRegistry Source of the per-profile hedging policies
+     * @param coalescingRegistry Source of the per-profile request coalescers
+     * @param responseCacheRegistry Source of the per-profile response caches
+     * @param profileResolver Maps a RestTemplate to its profile name
+     * @param profileTemplates Whether a RestTemplate was created for a profile; their clients are always cached
+     */
+    public ApiClientRegistry(RestClientFactory restClientFactory, SoapClientFactory soapClientFactory,
+                             AsyncExecutorRegistry asyncExecutorRegistry, HttpTransportRegistry transportRegistry,
+                             HedgingRegistry hedgingRegistry, CoalescingRegistry coalescingRegistry,
+                             ResponseCacheRegistry responseCacheRegistry, Function<RestTemplate, String> profileResolver,
+                             Predicate<RestTemplate> profileTemplates) {
+        this.restClientFactory = restClientFactory;
+        this.soapClientFactory = soapClientFactory;
+        this.asyncExecutorRegistry = asyncExecutorRegistry;
+        this.transportRegistry = transportRegistry;
+        this.hedgingRegistry = hedgingRegistry;
+        this.coalescingRegistry = coalescingRegistry;
+        this.responseCacheRegistry = responseCacheRegistry;
+        this.profileResolver = profileResolver;
+        this.profileTemplates = profileTemplates;
+    }
+
+    /**
+     * Mark a RestTemplate as long-lived so that its clients are cached until it is evicted.
+     *
+     * @param restTemplate RestTemplate registered at runtime
+     */
+    public void register(RestTemplate restTemplate) {
+        if (restTemplate != null) {
+            registeredTemplates.add(restTemplate);
+        }
+    }
+
+    /**
+     * Get the REST client for a RestTemplate.
+     *
+     * <p>Clients of profile and registered RestTemplates are created on first use and
+     * shared; any other RestTemplate gets a new, uncached client.</p>
+     *
+     * @param restTemplate RestTemplate the client should use
+     * @return REST API client
+     */
+    public ApiClient getRestClient(RestTemplate restTemplate) {
+        ApiClient client = restClients.get(restTemplate);
+        if (client != null) {
+            return client;
+        }
+        if (!isCacheable(restTemplate)) {
+            return createRestClient(restTemplate);
+        }
+        return restClients.computeIfAbsent(restTemplate, this::createRestClient);
+    }
+
+    /**
+     * Get the SOAP client for a RestTemplate.
+     *
+     * <p>Clients of profile and registered RestTemplates are created on first use and
+     * shared; any other RestTemplate gets a new, uncached client.</p>
+     *
+     * @param restTemplate RestTemplate the client should use
+     * @return SOAP API client
+     */
+    public ApiClient getSoapClient(RestTemplate restTemplate) {
+        ApiClient client = soapClients.get(restTemplate);
+        if (client != null) {
+            return client;
+        }
+        if (!isCacheable(restTemplate)) {
+            return createSoapClient(restTemplate);
+        }
+        return soapClients.computeIfAbsent(restTemplate, this::createSoapClient);
+    }
+
+    /**
+     * Get the shared client for a protocol ("REST" or "SOAP").
+     *
+     * @param protocol Protocol name (case-insensitive)
+     * @param restTemplate RestTemplate the client should use
+     * @return Shared API client for the protocol
+     */
+    public ApiClient getClient(String protocol, RestTemplate restTemplate) {
+        if ("SOAP".equalsIgnoreCase(protocol)) {
+            return getSoapClient(restTemplate);
+        }
+        return getRestClient(restTemplate);
+    }
+
+    /**
+     * Unregister a RestTemplate that is no longer in use and drop its cached clients.
+     *
+     * @param restTemplate RestTemplate whose clients should be released
+     */
+    public void evict(RestTemplate restTemplate) {
+        if (restTemplate == null) {
+            return;
+        }
+        registeredTemplates.remove(restTemplate);
+        restClients.remove(restTemplate);
+        soapClients.remove(restTemplate);
+    }
+
+    /**
+     * Get the number of cached clients across both protocols.
+     *
+     * @return Number of cached clients
+     */
+    public int size() {
+        return restClients.size() + soapClients.size();
+    }
+
+    /**
+     * Release all cached clients. The async executors are shut down by their registry.
+     */
+    @Override
+    public void destroy() {
+        registeredTemplates.clear();
+        restClients.clear();
+        soapClients.clear();
+        logger.info("API client registry shut down");
+    }
+
+    private ApiClient createRestClient(RestTemplate restTemplate) {
+        HttpTransport transport = transportRegistry.forRestTemplate(restTemplate);
+        ApiClient client;
+        if (transport.isNonBlocking()) {
+            logger.debug("REST client uses the {} transport", transport.getName());
+            client = restClientFactory.createClient(transport);
+        } else {
+            client = restClientFactory.createClient(restTemplate, executorFor(restTemplate));
+        }
+        String profileName = profileResolver.apply(restTemplate);
+        client = hedgingRegistry.wrap(client, profileName);
+        if (!profileTemplates.test(restTemplate)) {
+            return client;
+        }
+        client = coalescingRegistry.wrap(client, profileName);
+        return responseCacheRegistry.wrap(client, profileName);
+    }
+
+    private ApiClient createSoapClient(RestTemplate restTemplate) {
+        return soapClientFactory.createClient(restTemplate, executorFor(restTemplate));
+    }
+
+    private boolean isCacheable(RestTemplate restTemplate) {
+        return registeredTemplates.contains(restTemplate) || profileTemplates.test(restTemplate);
+    }
+
+    private AsyncExecutor executorFor(RestTemplate restTemplate) {
+        return asyncExecutorRegistry.forProfile(profileResolver.apply(restTemplate));
+    }
+}
@@ -0,0 +1,108 @@
+package com.company.apiframework.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Decodes a streamed JSON body one element at a time.
+ *
+ * <p>Accepts a top-level JSON array ({@code [{...},{...}]}) as well as
+ * newline-delimited JSON ({@code {...}\n{...}}). Elements are bound with Jackson's
+ * streaming parser as the stream is pulled, so only the current element is held in
+ * memory however large the body is. The stream must be consumed while the
+ * connection is open, i.e. inside the {@link ResponseStreamHandler}.</p>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>
+ * ApiResponse&lt;Long&gt; imported = client.executeStreaming(request,
+ *     JsonElementStream.handler(objectMapper, Order.class,
+ *         orders -&gt; orders.map(repository::save).collect(Collectors.counting())));
+ * </pre>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class JsonElementStream {
+
+    private JsonElementStream() {
+    }
+
+    /**
+     * Open a lazily decoded stream of the elements of a JSON body.
+     *
+     * <p>Closing the returned stream closes {@code body}. Malformed content fails the
+     * pull that reaches it with an unchecked exception caused by the parse error.</p>
+     *
+     * @param <T> Element type
+     * @param body JSON array or NDJSON content
+     * @param reader Reader bound to the element type
+     * @return Sequential stream of elements
+     * @throws IOException If the start of the body cannot be read
+     */
+    public static <T> Stream<T> elements(InputStream body, ObjectReader reader) throws IOException {
+        MappingIterator<T> iterator = reader.readValues(body);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        iterator.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * Create a handler that passes the decoded elements of a response to a function.
+     *
+     * <p>Decoding failures are reported like other read failures of the body.</p>
+     *
+     * @param <T> Element type
+     * @param <R> Result type
+     * @param objectMapper Mapper the elements are bound with
+     * @param elementType Element type
+     * @param function Consumes the elements and returns the call's result
+     * @return Handler for {@link ApiClient#executeStreaming}
+     */
+    public static <T, R> ResponseStreamHandler<R> handler(ObjectMapper objectMapper, Class<T> elementType,
+                                                          Function<? super Stream<T>, ? extends R> function) {
+        return handler(objectMapper.readerFor(elementType), function);
+    }
+
+    /**
+     * Create a handler that passes the elements decoded by a prepared reader to a function.
+     *
+     * <p>Use this with a cached reader, e.g. {@code CodecRegistry.readerFor(elementType)},
+     * to avoid building a reader for every call.</p>
+     *
+     * @param <T> Element type
+     * @param <R> Result type
+     * @param reader Reader bound to the element type
+     * @param function Consumes the elements and returns the call's result
+     * @return Handler for {@link ApiClient#executeStreaming}
+     */
+    public static <T, R> ResponseStreamHandler<R> handler(ObjectReader reader,
+                                                          Function<? super Stream<T>, ? extends R> function) {
+        return response -> {
+            try (Stream<T> elements = elements(response.getBody(), reader)) {
+                return function.apply(elements);
+            } catch (RuntimeException e) {
+                // MappingIterator wraps parse and I/O errors in unchecked exceptions
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw e;
+            }
+        };
+    }
+}
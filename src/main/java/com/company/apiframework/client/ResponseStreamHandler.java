@@ -0,0 +1,38 @@
+package com.company.apiframework.client;
+
+import java.io.IOException;
+
+/**
+ * Consumes a response body while the connection is open.
+ *
+ * <p>Used with {@link ApiClient#executeStreaming(com.company.apiframework.model.ApiRequest,
+ * ResponseStreamHandler)} for payloads too large to hold in memory: the handler
+ * reads {@link StreamingResponse#getBody()} incrementally and returns whatever
+ * summary the caller needs (a record count, a file path, nothing). It is only
+ * called for successful (2xx) responses.</p>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>
+ * ApiResponse&lt;Long&gt; lines = client.executeStreaming(request, response -&gt; {
+ *     try (BufferedReader reader = new BufferedReader(
+ *             new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+ *         return reader.lines().peek(exporter::write).count();
+ *     }
+ * });
+ * </pre>
+ *
+ * @param <R> Result of handling the body
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+@FunctionalInterface
+public interface ResponseStreamHandler<R> {
+
+    /**
+     * @param response Live response; its body is closed after this method returns
+     * @return Result stored as the body of the returned ApiResponse
+     * @throws IOException If reading the body fails
+     */
+    R handle(StreamingResponse response) throws IOException;
+}
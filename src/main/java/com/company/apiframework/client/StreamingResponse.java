@@ -0,0 +1,64 @@
+package com.company.apiframework.client;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Live HTTP response handed to a {@link ResponseStreamHandler}.
+ *
+ * <p>The body is read straight from the connection and is only valid while the
+ * handler runs; the framework closes it and releases the connection when the
+ * handler returns or throws. Handlers that stop reading early need not drain the
+ * stream.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see ApiClient#executeStreaming(com.company.apiframework.model.ApiRequest, ResponseStreamHandler)
+ */
+public final class StreamingResponse {
+
+    private final int statusCode;
+    private final String statusMessage;
+    private final Map<String, String> headers;
+    private final InputStream body;
+
+    /**
+     * @param statusCode HTTP status code
+     * @param statusMessage HTTP reason phrase
+     * @param headers Response headers (first value of each)
+     * @param body Response body stream
+     */
+    public StreamingResponse(int statusCode, String statusMessage, Map<String, String> headers, InputStream body) {
+        this.statusCode = statusCode;
+        this.statusMessage = statusMessage;
+        Map<String, String> copy = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        copy.putAll(headers);
+        this.headers = Collections.unmodifiableMap(copy);
+        this.body = body;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getStatusMessage() {
+        return statusMessage;
+    }
+
+    /**
+     * @return Response headers, matched case-insensitively
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @return Response body as read from the connection
+     */
+    public InputStream getBody() {
+        return body;
+    }
+}
@@ -0,0 +1,56 @@
+package com.company.apiframework.client.rest;
+
+import java.net.URI;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.protocol.HttpContext;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import com.company.apiframework.client.ApiCallContext;
+import com.company.apiframework.model.Deadline;
+
+/**
+ * HttpComponents request factory that applies the calling request's deadline.
+ *
+ * <p>For requests executed with a {@link Deadline} (see {@link ApiCallContext}) the
+ * connection-request (pool lease), connect and socket timeouts configured on the
+ * factory are each capped at the budget remaining when the request is created, so a
+ * call can no longer wait for a pooled connection or a slow upstream past its
+ * deadline. Requests without a deadline use the configured timeouts unchanged.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class DeadlineAwareRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    public DeadlineAwareRequestFactory() {
+        super();
+    }
+
+    public DeadlineAwareRequestFactory(HttpClient httpClient) {
+        super(httpClient);
+    }
+
+    @Override
+    protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
+        Deadline deadline = ApiCallContext.currentDeadline();
+        if (deadline == null) {
+            return super.createHttpContext(httpMethod, uri);
+        }
+
+        RequestConfig configured = createRequestConfig(getHttpClient());
+        RequestConfig.Builder builder = configured != null ? RequestConfig.copy(configured) : RequestConfig.custom();
+        builder.setConnectionRequestTimeout(deadline.capTimeout(
+                configured != null ? configured.getConnectionRequestTimeout() : -1));
+        builder.setConnectTimeout(deadline.capTimeout(configured != null ? configured.getConnectTimeout() : -1));
+        builder.setSocketTimeout(deadline.capTimeout(configured != null ? configured.getSocketTimeout() : -1));
+
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(builder.build());
+        return context;
+    }
+}
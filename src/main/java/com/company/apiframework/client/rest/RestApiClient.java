@@ -1,26 +1,46 @@
 package com.company.apiframework.client.rest;
 
+import com.company.apiframework.async.AsyncExecutor;
+import com.company.apiframework.async.AsyncFutures;
+import com.company.apiframework.async.DefaultAsyncExecutor;
+import com.company.apiframework.client.ApiCallContext;
 import com.company.apiframework.client.ApiCallback;
 import com.company.apiframework.client.ApiClient;
+import com.company.apiframework.client.ResponseStreamHandler;
+import com.company.apiframework.client.StreamingResponse;
 import com.company.apiframework.exception.ApiException;
 import com.company.apiframework.model.ApiRequest;
 import com.company.apiframework.model.ApiResponse;
+import com.company.apiframework.model.Deadline;
+import com.company.apiframework.model.RequestBodyWriter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.util.concurrent.ListenableFuture;
 import org.springframework.util.concurrent.ListenableFutureCallback;
 import org.springframework.web.client.AsyncRestTemplate;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
 /**
  * REST API client implementation
+ * 
+ * <p>{@link #executeStreaming(ApiRequest, ResponseStreamHandler)} reads large bodies
+ * straight from the connection instead of deserializing them.</p>
+ * 
+ * <p>Request bodies accepted by {@link RequestBodyWriter#from(Object)} (InputStream,
+ * Path, File or a writer callback) are written to the connection while the request
+ * is sent. When the client has an upload request factory, these requests skip the
+ * RestTemplate's interceptors, which would otherwise buffer the whole body.</p>
  */
 public class RestApiClient implements ApiClient {
     
@@ -28,21 +48,66 @@ public class RestApiClient implements ApiClient {
     private static final String PROTOCOL_TYPE = "REST";
     
     private final RestTemplate restTemplate;
+    private final RestTemplate uploadTemplate;
     private final ObjectMapper objectMapper;
-    private final Executor asyncExecutor;
+    private final AsyncExecutor asyncExecutor;
     
+    /**
+     * Create a client whose asynchronous calls run on the bounded executor shared by
+     * all clients created without one ({@link DefaultAsyncExecutor}).
+     */
     public RestApiClient(RestTemplate restTemplate, ObjectMapper objectMapper) {
+        this(restTemplate, objectMapper, DefaultAsyncExecutor.get());
+    }
+    
+    /**
+     * Create a client that runs asynchronous calls on a shared executor.
+     * The executor is owned by the caller and is never shut down by this client.
+     * A bounded executor may reject calls; rejected calls are reported through
+     * {@link ApiCallback#onException(Exception)} as an ApiException carrying the executor's error code.
+     */
+    public RestApiClient(RestTemplate restTemplate, ObjectMapper objectMapper, Executor asyncExecutor) {
+        this(restTemplate, objectMapper, asyncExecutor, null);
+    }
+    
+    /**
+     * Create a client that sends streaming request bodies through a non-buffering request factory.
+     * The factory should share the RestTemplate's connection pool and timeouts; without one,
+     * streaming bodies go through the RestTemplate and may be buffered by its interceptors.
+     */
+    public RestApiClient(RestTemplate restTemplate, ObjectMapper objectMapper, Executor asyncExecutor,
+                         ClientHttpRequestFactory uploadRequestFactory) {
         this.restTemplate = restTemplate;
+        this.uploadTemplate = uploadRequestFactory != null
+                ? createUploadTemplate(restTemplate, uploadRequestFactory) : restTemplate;
         this.objectMapper = objectMapper;
-        this.asyncExecutor = Executors.newCachedThreadPool();
+        this.asyncExecutor = AsyncExecutor.wrap(asyncExecutor);
+    }
+    
+    /**
+     * Copy of the RestTemplate's conversion and error handling without its interceptors
+     */
+    private static RestTemplate createUploadTemplate(RestTemplate restTemplate, ClientHttpRequestFactory factory) {
+        RestTemplate uploadTemplate = new RestTemplate(restTemplate.getMessageConverters());
+        uploadTemplate.setRequestFactory(factory);
+        uploadTemplate.setUriTemplateHandler(restTemplate.getUriTemplateHandler());
+        uploadTemplate.setErrorHandler(restTemplate.getErrorHandler());
+        return uploadTemplate;
     }
     
     @Override
     public <T> ApiResponse<T> execute(ApiRequest request, Class<T> responseType) {
         long startTime = System.currentTimeMillis();
         ApiResponse<T> apiResponse = new ApiResponse<>();
+        Deadline deadline = request.getDeadline();
         
         try {
+            // Fail fast if the budget was spent while queued or retrying
+            if (deadline != null && deadline.isExpired()) {
+                apiResponse.markAsError("DEADLINE_EXCEEDED", "Deadline exceeded before the call was sent");
+                return apiResponse;
+            }
+            
             // Build HTTP headers
             HttpHeaders headers = new HttpHeaders();
             request.getHeaders().forEach(headers::add);
@@ -55,14 +120,21 @@ public class RestApiClient implements ApiClient {
             // Create HTTP entity
             Object requestBody = request.getBody();
             HttpEntity<?> entity = new HttpEntity<>(requestBody, headers);
+            RequestBodyWriter bodyWriter = RequestBodyWriter.from(requestBody);
             
-            // Execute request
-            ResponseEntity<T> response = restTemplate.exchange(
-                    request.getUrl(),
-                    HttpMethod.valueOf(request.getMethod().toUpperCase()),
-                    entity,
-                    responseType
-            );
+            // Execute request; the request factory caps its timeouts at the remaining budget
+            ResponseEntity<T> response = ApiCallContext.withDeadline(deadline, () -> bodyWriter == null
+                    ? restTemplate.exchange(
+                            request.getUrl(),
+                            HttpMethod.valueOf(request.getMethod().toUpperCase()),
+                            entity,
+                            responseType)
+                    : uploadTemplate.execute(
+                            request.getUrl(),
+                            HttpMethod.valueOf(request.getMethod().toUpperCase()),
+                            uploadCallback(request, bodyWriter,
+                                    uploadTemplate.acceptHeaderRequestCallback(responseType)),
+                            uploadTemplate.responseEntityExtractor(responseType)));
             
             // Map response
             apiResponse.setStatusCode(response.getStatusCodeValue());
@@ -77,6 +149,19 @@ public class RestApiClient implements ApiClient {
                 }
             });
             
+        } catch (ResourceAccessException e) {
+            if (deadline != null && deadline.isExpired()) {
+                logger.warn("REST API call exceeded its deadline: {}", e.getMessage());
+                apiResponse.markAsError("DEADLINE_EXCEEDED", e.getMessage());
+            } else {
+                logger.error("REST API call failed: {}", e.getMessage(), e);
+                apiResponse.markAsError("REST_ERROR", e.getMessage());
+            }
+        } catch (RestClientResponseException e) {
+            // Keep the status so callers and retries can tell client from server errors
+            logger.error("REST API call failed: {}", e.getMessage(), e);
+            apiResponse.setStatusCode(e.getRawStatusCode());
+            apiResponse.markAsError("REST_ERROR", e.getMessage());
         } catch (RestClientException e) {
             logger.error("REST API call failed: {}", e.getMessage(), e);
             apiResponse.markAsError("REST_ERROR", e.getMessage());
@@ -95,12 +180,106 @@ public class RestApiClient implements ApiClient {
         return execute(request, String.class);
     }
     
+    /**
+     * Stream the response body to the handler over the live connection.
+     * The body is never buffered; the connection returns to the pool once the
+     * handler has returned and RestTemplate has closed the response.
+     */
+    @Override
+    public <R> ApiResponse<R> executeStreaming(ApiRequest request, ResponseStreamHandler<R> handler) {
+        long startTime = System.currentTimeMillis();
+        ApiResponse<R> apiResponse = new ApiResponse<>();
+        Deadline deadline = request.getDeadline();
+        
+        try {
+            if (deadline != null && deadline.isExpired()) {
+                apiResponse.markAsError("DEADLINE_EXCEEDED", "Deadline exceeded before the call was sent");
+                return apiResponse;
+            }
+            
+            HttpHeaders headers = new HttpHeaders();
+            request.getHeaders().forEach(headers::add);
+            if (!headers.containsKey(HttpHeaders.CONTENT_TYPE)) {
+                headers.setContentType(MediaType.APPLICATION_JSON);
+            }
+            HttpEntity<?> entity = new HttpEntity<>(request.getBody(), headers);
+            RequestBodyWriter bodyWriter = RequestBodyWriter.from(request.getBody());
+            RestTemplate template = bodyWriter != null ? uploadTemplate : restTemplate;
+            RequestCallback callback = bodyWriter != null
+                    ? uploadCallback(request, bodyWriter, null) : restTemplate.httpEntityCallback(entity);
+            
+            // Runs while the connection is open; RestTemplate closes the response afterwards
+            ResponseExtractor<R> extractor = response -> {
+                apiResponse.setStatusCode(response.getRawStatusCode());
+                apiResponse.setStatusMessage(response.getStatusText());
+                response.getHeaders().forEach((key, values) -> {
+                    if (!values.isEmpty()) {
+                        apiResponse.getHeaders().put(key, values.get(0));
+                    }
+                });
+                return handler.handle(new StreamingResponse(apiResponse.getStatusCode(),
+                        apiResponse.getStatusMessage(), apiResponse.getHeaders(), response.getBody()));
+            };
+            R result = ApiCallContext.withDeadline(deadline, () -> ApiCallContext.withStreaming(
+                    () -> template.execute(
+                            request.getUrl(),
+                            HttpMethod.valueOf(request.getMethod().toUpperCase()),
+                            callback,
+                            extractor)));
+            
+            apiResponse.setBody(result);
+            apiResponse.setSuccess(true);
+            
+        } catch (ResourceAccessException e) {
+            if (deadline != null && deadline.isExpired()) {
+                logger.warn("REST API streaming call exceeded its deadline: {}", e.getMessage());
+                apiResponse.markAsError("DEADLINE_EXCEEDED", e.getMessage());
+            } else {
+                logger.error("REST API streaming call failed: {}", e.getMessage(), e);
+                apiResponse.markAsError("REST_ERROR", e.getMessage());
+            }
+        } catch (RestClientException e) {
+            logger.error("REST API streaming call failed: {}", e.getMessage(), e);
+            apiResponse.markAsError("REST_ERROR", e.getMessage());
+        } catch (Exception e) {
+            logger.error("Unexpected error during REST API streaming call: {}", e.getMessage(), e);
+            apiResponse.markAsError("STREAM_ERROR", e.getMessage());
+        } finally {
+            apiResponse.setResponseTimeMs(System.currentTimeMillis() - startTime);
+        }
+        
+        return apiResponse;
+    }
+    
+    /**
+     * Write a streaming body to the request. Non-buffering requests send it as the
+     * connection accepts it, chunked unless the request sets a Content-Length.
+     */
+    private static RequestCallback uploadCallback(ApiRequest request, RequestBodyWriter bodyWriter,
+                                                  RequestCallback acceptCallback) {
+        return clientRequest -> {
+            if (acceptCallback != null) {
+                acceptCallback.doWithRequest(clientRequest);
+            }
+            HttpHeaders headers = clientRequest.getHeaders();
+            request.getHeaders().forEach(headers::add);
+            if (!headers.containsKey(HttpHeaders.CONTENT_TYPE)) {
+                headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+            }
+            if (clientRequest instanceof StreamingHttpOutputMessage) {
+                ((StreamingHttpOutputMessage) clientRequest).setBody(bodyWriter::writeTo);
+            } else {
+                bodyWriter.writeTo(clientRequest.getBody());
+            }
+        };
+    }
+    
     @Override
     public <T> void executeAsync(ApiRequest request, Class<T> responseType, ApiCallback<T> callback) {
-        CompletableFuture.supplyAsync(() -> execute(request, responseType), asyncExecutor)
+        asyncExecutor.submit(() -> execute(request, responseType))
                 .whenComplete((response, throwable) -> {
                     if (throwable != null) {
-                        callback.onException(new ApiException("Async execution failed", throwable));
+                        callback.onException(toApiException(throwable));
                     } else if (response.hasError()) {
                         callback.onError(response);
                     } else {
@@ -109,6 +288,19 @@ public class RestApiClient implements ApiClient {
                 });
     }
     
+    @Override
+    public <T> CompletionStage<ApiResponse<T>> executeAsync(ApiRequest request, Class<T> responseType) {
+        return asyncExecutor.submit(() -> execute(request, responseType));
+    }
+    
+    private static ApiException toApiException(Throwable throwable) {
+        Throwable cause = AsyncFutures.unwrap(throwable);
+        if (cause instanceof ApiException) {
+            return (ApiException) cause;
+        }
+        return new ApiException("Async execution failed", cause);
+    }
+    
     @Override
     public boolean supportsProtocol(String protocol) {
         return PROTOCOL_TYPE.equalsIgnoreCase(protocol);
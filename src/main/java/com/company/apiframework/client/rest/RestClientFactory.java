@@ -1,8 +1,16 @@
 package com.company.apiframework.client.rest;
 
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import com.company.apiframework.async.DefaultAsyncExecutor;
 import com.company.apiframework.client.ApiClient;
+import com.company.apiframework.client.transport.HttpTransport;
+import com.company.apiframework.client.transport.TransportApiClient;
+import com.company.apiframework.codec.CodecRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -12,10 +20,48 @@ public class RestClientFactory {
     
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final CodecRegistry codecs;
+    private final Function<RestTemplate, ClientHttpRequestFactory> uploadFactories;
+    private final Function<RestTemplate, Executor> asyncExecutors;
     
     public RestClientFactory(RestTemplate restTemplate, ObjectMapper objectMapper) {
+        this(restTemplate, objectMapper, template -> null);
+    }
+    
+    /**
+     * @param restTemplate Default RestTemplate
+     * @param objectMapper Object mapper for request and response bodies
+     * @param uploadFactories Non-buffering request factory for streamed uploads per RestTemplate (may return null)
+     */
+    public RestClientFactory(RestTemplate restTemplate, ObjectMapper objectMapper,
+                             Function<RestTemplate, ClientHttpRequestFactory> uploadFactories) {
+        this(restTemplate, new CodecRegistry(objectMapper), uploadFactories);
+    }
+    
+    /**
+     * @param restTemplate Default RestTemplate
+     * @param codecs Cached readers and writers of the JSON mapper for transport clients
+     * @param uploadFactories Non-buffering request factory for streamed uploads per RestTemplate (may return null)
+     */
+    public RestClientFactory(RestTemplate restTemplate, CodecRegistry codecs,
+                             Function<RestTemplate, ClientHttpRequestFactory> uploadFactories) {
+        this(restTemplate, codecs, uploadFactories, template -> DefaultAsyncExecutor.get());
+    }
+    
+    /**
+     * @param restTemplate Default RestTemplate
+     * @param codecs Cached readers and writers of the JSON mapper for transport clients
+     * @param uploadFactories Non-buffering request factory for streamed uploads per RestTemplate (may return null)
+     * @param asyncExecutors Executor for the asynchronous calls of clients created without one, per RestTemplate
+     */
+    public RestClientFactory(RestTemplate restTemplate, CodecRegistry codecs,
+                             Function<RestTemplate, ClientHttpRequestFactory> uploadFactories,
+                             Function<RestTemplate, Executor> asyncExecutors) {
         this.restTemplate = restTemplate;
-        this.objectMapper = objectMapper;
+        this.objectMapper = codecs.getObjectMapper();
+        this.codecs = codecs;
+        this.uploadFactories = uploadFactories;
+        this.asyncExecutors = asyncExecutors;
     }
     
     /**
@@ -24,7 +70,7 @@ public class RestClientFactory {
      * @return New REST API client instance
      */
     public ApiClient createClient() {
-        return new RestApiClient(restTemplate, objectMapper);
+        return createClient(restTemplate);
     }
     
     /**
@@ -34,6 +80,28 @@ public class RestClientFactory {
      * @return New REST API client instance
      */
     public ApiClient createClient(RestTemplate customRestTemplate) {
-        return new RestApiClient(customRestTemplate, objectMapper);
+        return createClient(customRestTemplate, asyncExecutors.apply(customRestTemplate));
+    }
+    
+    /**
+     * Create a REST API client with custom RestTemplate and a shared async executor
+     * 
+     * @param customRestTemplate Custom RestTemplate to use
+     * @param asyncExecutor Executor for asynchronous calls (owned by the caller)
+     * @return New REST API client instance
+     */
+    public ApiClient createClient(RestTemplate customRestTemplate, Executor asyncExecutor) {
+        return new RestApiClient(customRestTemplate, objectMapper, asyncExecutor,
+                uploadFactories.apply(customRestTemplate));
+    }
+    
+    /**
+     * Create a REST API client that sends requests through a transport engine
+     * 
+     * @param transport Transport to send requests with (owned by the caller)
+     * @return New REST API client instance
+     */
+    public ApiClient createClient(HttpTransport transport) {
+        return new TransportApiClient(transport, codecs);
     }
-} 
\ No newline at end of file
+}
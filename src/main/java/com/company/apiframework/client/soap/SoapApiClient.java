@@ -1,8 +1,7 @@
 package com.company.apiframework.client.soap;
 
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,18 +10,34 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 
+import com.company.apiframework.async.AsyncExecutor;
+import com.company.apiframework.async.AsyncFutures;
+import com.company.apiframework.async.DefaultAsyncExecutor;
+import com.company.apiframework.client.ApiCallContext;
 import com.company.apiframework.client.ApiCallback;
 import com.company.apiframework.client.ApiClient;
+import com.company.apiframework.client.ResponseStreamHandler;
+import com.company.apiframework.client.StreamingResponse;
+import com.company.apiframework.codec.CodecRegistry;
 import com.company.apiframework.exception.ApiException;
 import com.company.apiframework.model.ApiRequest;
 import com.company.apiframework.model.ApiResponse;
+import com.company.apiframework.model.Deadline;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 
 /**
  * SOAP API client implementation
+ * 
+ * <p>Typed responses keep only the parsed object; the envelope is kept as the raw
+ * response only for String responses, where it is the body itself.
+ * {@link #executeStreaming(ApiRequest, ResponseStreamHandler)} hands the response
+ * envelope to the handler as a stream for payloads too large to parse in memory.</p>
  */
 public class SoapApiClient implements ApiClient {
     
@@ -30,21 +45,58 @@ public class SoapApiClient implements ApiClient {
     private static final String PROTOCOL_TYPE = "SOAP";
     
     private final RestTemplate restTemplate;
-    private final XmlMapper xmlMapper;
-    private final Executor asyncExecutor;
+    private final CodecRegistry codecs;
+    private final AsyncExecutor asyncExecutor;
     
+    /**
+     * Create a client whose asynchronous calls run on the bounded executor shared by
+     * all clients created without one ({@link DefaultAsyncExecutor}).
+     */
     public SoapApiClient(RestTemplate restTemplate, XmlMapper xmlMapper) {
+        this(restTemplate, xmlMapper, DefaultAsyncExecutor.get());
+    }
+    
+    /**
+     * Create a client with cached XML writers and readers whose asynchronous calls run
+     * on the bounded executor shared by all clients created without one.
+     */
+    public SoapApiClient(RestTemplate restTemplate, CodecRegistry codecs) {
+        this(restTemplate, codecs, DefaultAsyncExecutor.get());
+    }
+    
+    /**
+     * Create a client that runs asynchronous calls on a shared executor.
+     * The executor is owned by the caller and is never shut down by this client.
+     * A bounded executor may reject calls; rejected calls are reported through
+     * {@link ApiCallback#onException(Exception)} as an ApiException carrying the executor's error code.
+     */
+    public SoapApiClient(RestTemplate restTemplate, XmlMapper xmlMapper, Executor asyncExecutor) {
+        this(restTemplate, new CodecRegistry(xmlMapper), asyncExecutor);
+    }
+    
+    /**
+     * Create a client that writes and reads SOAP bodies with cached XML writers and readers.
+     * The executor is owned by the caller and is never shut down by this client.
+     */
+    public SoapApiClient(RestTemplate restTemplate, CodecRegistry codecs, Executor asyncExecutor) {
         this.restTemplate = restTemplate;
-        this.xmlMapper = xmlMapper;
-        this.asyncExecutor = Executors.newCachedThreadPool();
+        this.codecs = codecs;
+        this.asyncExecutor = AsyncExecutor.wrap(asyncExecutor);
     }
     
     @Override
     public <T> ApiResponse<T> execute(ApiRequest request, Class<T> responseType) {
         long startTime = System.currentTimeMillis();
         ApiResponse<T> apiResponse = new ApiResponse<>();
+        Deadline deadline = request.getDeadline();
         
         try {
+            // Fail fast if the budget was spent while queued or retrying
+            if (deadline != null && deadline.isExpired()) {
+                apiResponse.markAsError("DEADLINE_EXCEEDED", "Deadline exceeded before the call was sent");
+                return apiResponse;
+            }
+            
             // Build SOAP headers
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.TEXT_XML);
@@ -58,12 +110,12 @@ public class SoapApiClient implements ApiClient {
             HttpEntity<String> entity = new HttpEntity<>(soapEnvelope, headers);
             
             // Execute SOAP request
-            ResponseEntity<String> response = restTemplate.exchange(
+            ResponseEntity<String> response = ApiCallContext.withDeadline(deadline, () -> restTemplate.exchange(
                     request.getUrl(),
                     HttpMethod.POST,
                     entity,
                     String.class
-            );
+            ));
             
             // Parse response
             T parsedResponse = parseSoapResponse(response.getBody(), responseType);
@@ -72,7 +124,9 @@ public class SoapApiClient implements ApiClient {
             apiResponse.setStatusCode(response.getStatusCodeValue());
             apiResponse.setStatusMessage(response.getStatusCode().getReasonPhrase());
             apiResponse.setBody(parsedResponse);
-            apiResponse.setRawResponse(response.getBody());
+            if (responseType == String.class) {
+                apiResponse.setRawResponse(response.getBody());
+            }
             apiResponse.setSuccess(true);
             
             // Map response headers
@@ -82,6 +136,19 @@ public class SoapApiClient implements ApiClient {
                 }
             });
             
+        } catch (ResourceAccessException e) {
+            if (deadline != null && deadline.isExpired()) {
+                logger.warn("SOAP API call exceeded its deadline: {}", e.getMessage());
+                apiResponse.markAsError("DEADLINE_EXCEEDED", e.getMessage());
+            } else {
+                logger.error("SOAP API call failed: {}", e.getMessage(), e);
+                apiResponse.markAsError("SOAP_ERROR", e.getMessage());
+            }
+        } catch (RestClientResponseException e) {
+            // Keep the status so callers and retries can tell client from server errors
+            logger.error("SOAP API call failed: {}", e.getMessage(), e);
+            apiResponse.setStatusCode(e.getRawStatusCode());
+            apiResponse.markAsError("SOAP_ERROR", e.getMessage());
         } catch (RestClientException e) {
             logger.error("SOAP API call failed: {}", e.getMessage(), e);
             apiResponse.markAsError("SOAP_ERROR", e.getMessage());
@@ -100,12 +167,77 @@ public class SoapApiClient implements ApiClient {
         return execute(request, String.class);
     }
     
+    /**
+     * Send the SOAP envelope and stream the response envelope to the handler over
+     * the live connection. The handler parses the envelope itself, e.g. with StAX.
+     */
+    @Override
+    public <R> ApiResponse<R> executeStreaming(ApiRequest request, ResponseStreamHandler<R> handler) {
+        long startTime = System.currentTimeMillis();
+        ApiResponse<R> apiResponse = new ApiResponse<>();
+        Deadline deadline = request.getDeadline();
+        
+        try {
+            if (deadline != null && deadline.isExpired()) {
+                apiResponse.markAsError("DEADLINE_EXCEEDED", "Deadline exceeded before the call was sent");
+                return apiResponse;
+            }
+            
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.TEXT_XML);
+            headers.add("SOAPAction", request.getSoapAction() != null ? request.getSoapAction() : "");
+            request.getHeaders().forEach(headers::add);
+            HttpEntity<String> entity = new HttpEntity<>(createSoapEnvelope(request), headers);
+            
+            // Runs while the connection is open; RestTemplate closes the response afterwards
+            ResponseExtractor<R> extractor = response -> {
+                apiResponse.setStatusCode(response.getRawStatusCode());
+                apiResponse.setStatusMessage(response.getStatusText());
+                response.getHeaders().forEach((key, values) -> {
+                    if (!values.isEmpty()) {
+                        apiResponse.getHeaders().put(key, values.get(0));
+                    }
+                });
+                return handler.handle(new StreamingResponse(apiResponse.getStatusCode(),
+                        apiResponse.getStatusMessage(), apiResponse.getHeaders(), response.getBody()));
+            };
+            R result = ApiCallContext.withDeadline(deadline, () -> ApiCallContext.withStreaming(
+                    () -> restTemplate.execute(
+                            request.getUrl(),
+                            HttpMethod.POST,
+                            restTemplate.httpEntityCallback(entity),
+                            extractor)));
+            
+            apiResponse.setBody(result);
+            apiResponse.setSuccess(true);
+            
+        } catch (ResourceAccessException e) {
+            if (deadline != null && deadline.isExpired()) {
+                logger.warn("SOAP API streaming call exceeded its deadline: {}", e.getMessage());
+                apiResponse.markAsError("DEADLINE_EXCEEDED", e.getMessage());
+            } else {
+                logger.error("SOAP API streaming call failed: {}", e.getMessage(), e);
+                apiResponse.markAsError("SOAP_ERROR", e.getMessage());
+            }
+        } catch (RestClientException e) {
+            logger.error("SOAP API streaming call failed: {}", e.getMessage(), e);
+            apiResponse.markAsError("SOAP_ERROR", e.getMessage());
+        } catch (Exception e) {
+            logger.error("Unexpected error during SOAP API streaming call: {}", e.getMessage(), e);
+            apiResponse.markAsError("STREAM_ERROR", e.getMessage());
+        } finally {
+            apiResponse.setResponseTimeMs(System.currentTimeMillis() - startTime);
+        }
+        
+        return apiResponse;
+    }
+    
     @Override
     public <T> void executeAsync(ApiRequest request, Class<T> responseType, ApiCallback<T> callback) {
-        CompletableFuture.supplyAsync(() -> execute(request, responseType), asyncExecutor)
+        asyncExecutor.submit(() -> execute(request, responseType))
                 .whenComplete((response, throwable) -> {
                     if (throwable != null) {
-                        callback.onException(new ApiException("Async SOAP execution failed", throwable));
+                        callback.onException(toApiException(throwable));
                     } else if (response.hasError()) {
                         callback.onError(response);
                     } else {
@@ -114,6 +246,19 @@ public class SoapApiClient implements ApiClient {
                 });
     }
     
+    @Override
+    public <T> CompletionStage<ApiResponse<T>> executeAsync(ApiRequest request, Class<T> responseType) {
+        return asyncExecutor.submit(() -> execute(request, responseType));
+    }
+    
+    private static ApiException toApiException(Throwable throwable) {
+        Throwable cause = AsyncFutures.unwrap(throwable);
+        if (cause instanceof ApiException) {
+            return (ApiException) cause;
+        }
+        return new ApiException("Async SOAP execution failed", cause);
+    }
+    
     @Override
     public boolean supportsProtocol(String protocol) {
         return PROTOCOL_TYPE.equalsIgnoreCase(protocol);
@@ -139,7 +284,7 @@ public class SoapApiClient implements ApiClient {
                 if (request.getBody() instanceof String) {
                     envelope.append(request.getBody());
                 } else {
-                    String xmlBody = xmlMapper.writeValueAsString(request.getBody());
+                    String xmlBody = codecs.writeAsString(request.getBody());
                     envelope.append(xmlBody);
                 }
             }
@@ -166,7 +311,7 @@ public class SoapApiClient implements ApiClient {
             String bodyContent = extractSoapBody(soapResponse);
             
             if (bodyContent != null && !bodyContent.trim().isEmpty()) {
-                return xmlMapper.readValue(bodyContent, responseType);
+                return codecs.read(bodyContent, responseType);
             }
             
             return null;
@@ -1,8 +1,13 @@
 package com.company.apiframework.client.soap;
 
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
 import org.springframework.web.client.RestTemplate;
 
+import com.company.apiframework.async.DefaultAsyncExecutor;
 import com.company.apiframework.client.ApiClient;
+import com.company.apiframework.codec.CodecRegistry;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 
 /**
@@ -10,10 +15,27 @@ import com.fasterxml.jackson.dataformat.xml.XmlMapper;
  */
 public class SoapClientFactory {
     
-    private final XmlMapper xmlMapper;
+    private final CodecRegistry codecs;
+    private final Function<RestTemplate, Executor> asyncExecutors;
     
     public SoapClientFactory(XmlMapper xmlMapper) {
-        this.xmlMapper = xmlMapper;
+        this(new CodecRegistry(xmlMapper));
+    }
+    
+    /**
+     * @param codecs Cached readers and writers of the XML mapper
+     */
+    public SoapClientFactory(CodecRegistry codecs) {
+        this(codecs, template -> DefaultAsyncExecutor.get());
+    }
+    
+    /**
+     * @param codecs Cached readers and writers of the XML mapper
+     * @param asyncExecutors Executor for the asynchronous calls of clients created without one, per RestTemplate
+     */
+    public SoapClientFactory(CodecRegistry codecs, Function<RestTemplate, Executor> asyncExecutors) {
+        this.codecs = codecs;
+        this.asyncExecutors = asyncExecutors;
     }
     
     /**
@@ -22,7 +44,7 @@ public class SoapClientFactory {
      * @return New SOAP API client instance
      */
     public ApiClient createClient() {
-        return new SoapApiClient(new RestTemplate(), xmlMapper);
+        return createClient(new RestTemplate());
     }
     
     /**
@@ -32,6 +54,17 @@ public class SoapClientFactory {
      * @return New SOAP API client instance
      */
     public ApiClient createClient(RestTemplate restTemplate) {
-        return new SoapApiClient(restTemplate, xmlMapper);
+        return createClient(restTemplate, asyncExecutors.apply(restTemplate));
+    }
+    
+    /**
+     * Create a SOAP API client with custom RestTemplate and a shared async executor
+     * 
+     * @param restTemplate Custom RestTemplate to use
+     * @param asyncExecutor Executor for asynchronous calls (owned by the caller)
+     * @return New SOAP API client instance
+     */
+    public ApiClient createClient(RestTemplate restTemplate, Executor asyncExecutor) {
+        return new SoapApiClient(restTemplate, codecs, asyncExecutor);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,77 @@
+package com.company.apiframework.client.transport;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Transport SPI: sends one HTTP exchange and completes a future with the raw response.
+ *
+ * <p>Implementations only move bytes; serialization, error mapping and the
+ * {@code ApiResponse} contract live in {@link TransportApiClient}. A transport
+ * completes its future normally for every HTTP status (including 4xx and 5xx) and
+ * exceptionally only when no response was received (connection failure, timeout,
+ * rejected by the async executor). Cancelling the future aborts the exchange where
+ * the engine supports it.</p>
+ *
+ * <p><strong>Implementations:</strong></p>
+ * <ul>
+ *   <li>{@link RestTemplateTransport} - blocking RestTemplate calls on the profile's async executor</li>
+ *   <li>{@link JdkHttpClientTransport} - non-blocking JDK {@code HttpClient}, a few I/O threads per profile</li>
+ * </ul>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see HttpTransportRegistry
+ */
+public interface HttpTransport {
+
+    /**
+     * Send a request.
+     *
+     * @param request Request to send
+     * @return Future completed with the response, or exceptionally if none was received
+     */
+    CompletableFuture<TransportResponse> send(TransportRequest request);
+
+    /**
+     * Send a request without reading the response body into memory.
+     *
+     * <p>The future completes once the status and headers have arrived; the body is
+     * read from {@link TransportResponse#getBodyStream()}, which the caller must close.
+     * The default implementation buffers the body with {@link #send}.</p>
+     *
+     * @param request Request to send
+     * @return Future completed with the response, or exceptionally if none was received
+     */
+    default CompletableFuture<TransportResponse> sendStreaming(TransportRequest request) {
+        return send(request);
+    }
+
+    /**
+     * @return true if in-flight requests do not each hold a thread
+     */
+    boolean isNonBlocking();
+
+    /**
+     * @return Engine name used in logs and metrics
+     */
+    String getName();
+
+    /**
+     * Get a snapshot of the transport metrics.
+     *
+     * @return Map of metric name to value
+     */
+    default Map<String, Object> getMetrics() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Release the engine's threads and connections. Transports built on a caller-owned
+     * RestTemplate leave it untouched.
+     */
+    default void close() {
+    }
+}
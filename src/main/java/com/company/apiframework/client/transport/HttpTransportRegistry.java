@@ -0,0 +1,100 @@
+package com.company.apiframework.client.transport;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.web.client.RestTemplate;
+
+import com.company.apiframework.async.AsyncExecutorRegistry;
+import com.company.apiframework.config.RestTemplateBeanConfiguration;
+import com.company.apiframework.config.RestTemplateProfile;
+import com.company.apiframework.config.TransportProperties;
+import com.company.apiframework.interceptor.CompressionInterceptor;
+
+/**
+ * Resolves the {@link HttpTransport} that REST calls through a RestTemplate should use.
+ *
+ * <p>The engine is chosen per profile by {@link RestTemplateBeanConfiguration}
+ * ({@code api.framework.profiles.<profile>.transport.engine}). Profiles on the
+ * non-blocking engine share one transport per profile, created on first use and
+ * closed with the Spring context. All other RestTemplates, including those
+ * registered at runtime, get a new {@link RestTemplateTransport} around themselves;
+ * it is held by the client built on it, not by this registry.</p>
+ *
+ * <p>Non-blocking transports of profiles with compression enabled are wrapped in a
+ * {@link CompressingTransport} sharing the profile's {@code CompressionInterceptor}.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class HttpTransportRegistry implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpTransportRegistry.class);
+
+    private final RestTemplateBeanConfiguration restTemplateBeanConfiguration;
+    private final AsyncExecutorRegistry asyncExecutorRegistry;
+
+    // Non-blocking transports by profile name
+    private final ConcurrentMap<String, HttpTransport> profileTransports = new ConcurrentHashMap<>();
+
+    public HttpTransportRegistry(RestTemplateBeanConfiguration restTemplateBeanConfiguration,
+                                 AsyncExecutorRegistry asyncExecutorRegistry) {
+        this.restTemplateBeanConfiguration = restTemplateBeanConfiguration;
+        this.asyncExecutorRegistry = asyncExecutorRegistry;
+    }
+
+    /**
+     * Get the transport for a RestTemplate.
+     *
+     * @param restTemplate RestTemplate whose profile selects the engine
+     * @return Transport to send REST requests with
+     */
+    public HttpTransport forRestTemplate(RestTemplate restTemplate) {
+        RestTemplateProfile profile = restTemplateBeanConfiguration.getProfile(restTemplate);
+        if (profile != null && profile.getTransport().getEngine() == TransportProperties.Engine.JDK_HTTP_CLIENT) {
+            HttpTransport transport = profileTransports.get(profile.getName());
+            return transport != null ? transport
+                    : profileTransports.computeIfAbsent(profile.getName(), name -> createNonBlocking(profile));
+        }
+
+        String profileName = restTemplateBeanConfiguration.getProfileName(restTemplate);
+        return new RestTemplateTransport(restTemplate, asyncExecutorRegistry.forProfile(profileName));
+    }
+
+    /**
+     * Get metrics of the non-blocking transports created so far.
+     *
+     * @return Map of profile name to transport metrics
+     */
+    public Map<String, Map<String, Object>> getMetrics() {
+        Map<String, Map<String, Object>> metrics = new LinkedHashMap<>();
+        profileTransports.forEach((profile, transport) -> metrics.put(profile, transport.getMetrics()));
+        return metrics;
+    }
+
+    /**
+     * Close all non-blocking transports.
+     */
+    @Override
+    public void destroy() {
+        profileTransports.values().forEach(HttpTransport::close);
+        profileTransports.clear();
+        logger.info("HTTP transports shut down");
+    }
+
+    private HttpTransport createNonBlocking(RestTemplateProfile profile) {
+        TransportProperties properties = profile.getTransport();
+        logger.info("Creating non-blocking transport for profile '{}' (ioThreads={})",
+                profile.getName(), properties.getIoThreads());
+        HttpTransport transport = new JdkHttpClientTransport(profile.getName(), profile.getConnectionTimeoutMs(),
+                profile.getReadTimeoutMs(), properties);
+        CompressionInterceptor compression = restTemplateBeanConfiguration.getCompression(profile.getName());
+        return compression != null ? new CompressingTransport(transport, compression) : transport;
+    }
+}
@@ -0,0 +1,338 @@
+package com.company.apiframework.client.transport;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import com.company.apiframework.async.AsyncFutures;
+import com.company.apiframework.async.AsyncSemaphore;
+import com.company.apiframework.async.KeyedAsyncSemaphore;
+import com.company.apiframework.async.NamedThreadFactory;
+import com.company.apiframework.config.TransportProperties;
+import com.company.apiframework.model.Deadline;
+
+/**
+ * Non-blocking transport built on the JDK {@code java.net.http.HttpClient} (Java 11+).
+ *
+ * <p>The client multiplexes all in-flight requests of a profile over one selector
+ * thread and completes responses on a small pool of {@code io-threads}, so thousands
+ * of concurrent calls need no more than a handful of threads. Connection and read
+ * timeouts are taken from the profile; the read timeout bounds the whole exchange
+ * and is capped at the remaining budget of requests that carry a deadline.</p>
+ *
+ * <p><strong>HTTP/2:</strong> when the profile prefers HTTP/2, concurrent requests
+ * to an origin are multiplexed as streams over a shared connection instead of
+ * occupying one pooled connection each. In-flight requests per origin are capped
+ * at {@code max-concurrent-streams} by an {@link AsyncSemaphore}, so requests over
+ * the limit queue without holding a thread or opening another connection. An
+ * origin's semaphore is dropped once it has no requests in flight.</p>
+ *
+ * <p>Headers the JDK client manages itself (Connection, Content-Length, Expect, Host,
+ * Upgrade) are not forwarded. Cancelling a future returned by {@link #send} aborts
+ * the exchange.</p>
+ *
+ * <p>{@link #sendStreaming} completes when the headers arrive and hands over the body
+ * as an {@code InputStream} fed by the I/O threads; the exchange timeout does not
+ * cover reading it. The connection (and, for HTTP/2, the stream permit) is held until
+ * the caller closes the stream.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class JdkHttpClientTransport implements HttpTransport {
+
+    private static final Set<String> RESTRICTED_HEADERS = new HashSet<>(Arrays.asList(
+            "connection", "content-length", "expect", "host", "upgrade"));
+
+    private final String profileName;
+    private final int ioThreads;
+    private final Duration requestTimeout;
+    private final ExecutorService ioExecutor;
+    private final HttpClient httpClient;
+    private final int maxConcurrentStreams;
+    private final KeyedAsyncSemaphore streamLimits = new KeyedAsyncSemaphore();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * @param profileName RestTemplate profile this transport serves
+     * @param connectTimeoutMs Connection timeout in milliseconds
+     * @param readTimeoutMs Timeout for the whole exchange in milliseconds (0 = none)
+     * @param properties Transport settings of the profile
+     */
+    public JdkHttpClientTransport(String profileName, int connectTimeoutMs, int readTimeoutMs,
+                                  TransportProperties properties) {
+        this.profileName = profileName;
+        this.ioThreads = Math.max(1, properties.getIoThreads());
+        this.requestTimeout = readTimeoutMs > 0 ? Duration.ofMillis(readTimeoutMs) : null;
+        this.maxConcurrentStreams = Math.max(0, properties.getMaxConcurrentStreams());
+        this.ioExecutor = Executors.newFixedThreadPool(ioThreads,
+                new NamedThreadFactory("api-nio-" + profileName + "-"));
+
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .executor(ioExecutor)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .version(properties.getHttpVersion() == TransportProperties.HttpVersion.HTTP_2
+                        ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1);
+        if (connectTimeoutMs > 0) {
+            builder.connectTimeout(Duration.ofMillis(connectTimeoutMs));
+        }
+        this.httpClient = builder.build();
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> send(TransportRequest request) {
+        return send(request, false);
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> sendStreaming(TransportRequest request) {
+        return send(request, true);
+    }
+
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return "jdk-http-client";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("engine", getName());
+        metrics.put("httpVersion", httpClient.version().name());
+        metrics.put("ioThreads", ioThreads);
+        metrics.put("inFlight", inFlight.get());
+        metrics.put("requests", requests.sum());
+        metrics.put("failures", failures.sum());
+        metrics.put("maxConcurrentStreams", maxConcurrentStreams);
+        AtomicInteger waiting = new AtomicInteger();
+        streamLimits.forEach((origin, limit) -> waiting.addAndGet(limit.getWaiting()));
+        metrics.put("waitingForStream", waiting.get());
+        metrics.put("origins", streamLimits.size());
+        return metrics;
+    }
+
+    /**
+     * @return Profile name this transport serves
+     */
+    public String getProfileName() {
+        return profileName;
+    }
+
+    @Override
+    public void close() {
+        ioExecutor.shutdown();
+        try {
+            if (!ioExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                ioExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            ioExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private CompletableFuture<TransportResponse> send(TransportRequest request, boolean streaming) {
+        HttpRequest httpRequest;
+        try {
+            httpRequest = toHttpRequest(request);
+        } catch (IllegalArgumentException e) {
+            CompletableFuture<TransportResponse> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+
+        if (maxConcurrentStreams == 0) {
+            return exchange(httpRequest, streaming);
+        }
+        return exchangeWithPermit(request, httpRequest, streaming, origin(httpRequest.uri()));
+    }
+
+    private CompletableFuture<TransportResponse> exchange(HttpRequest httpRequest, boolean streaming) {
+        if (streaming) {
+            return exchange(httpRequest, HttpResponse.BodyHandlers.ofInputStream(),
+                    result -> new TransportResponse(result.statusCode(), result.headers().map(), result.body()));
+        }
+        return exchange(httpRequest, HttpResponse.BodyHandlers.ofByteArray(),
+                result -> new TransportResponse(result.statusCode(), result.headers().map(), result.body()));
+    }
+
+    private <B> CompletableFuture<TransportResponse> exchange(HttpRequest httpRequest,
+                                                              HttpResponse.BodyHandler<B> bodyHandler,
+                                                              Function<HttpResponse<B>, TransportResponse> mapper) {
+        requests.increment();
+        inFlight.incrementAndGet();
+        CompletableFuture<HttpResponse<B>> exchange;
+        try {
+            exchange = httpClient.sendAsync(httpRequest, bodyHandler);
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            failures.increment();
+            CompletableFuture<TransportResponse> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        CompletableFuture<TransportResponse> response = exchange
+                .whenComplete((result, throwable) -> {
+                    inFlight.decrementAndGet();
+                    if (throwable != null) {
+                        failures.increment();
+                    }
+                })
+                .thenApply(mapper);
+        return AsyncFutures.linkCancellation(response, exchange);
+    }
+
+    /**
+     * Start the exchange once a stream permit is free. Cancelling the result withdraws
+     * the request from the queue, or aborts the exchange if it already started. Time
+     * spent waiting for the permit counts against the request's deadline. A streamed
+     * response keeps the permit until its body is closed. Whatever fails once the
+     * permit is granted returns it and completes the result exceptionally.
+     */
+    private CompletableFuture<TransportResponse> exchangeWithPermit(TransportRequest request, HttpRequest httpRequest,
+                                                                    boolean streaming, String origin) {
+        CompletableFuture<Void> permit = streamLimits.acquire(origin, maxConcurrentStreams);
+        Runnable release = () -> streamLimits.release(origin);
+        AtomicReference<CompletableFuture<TransportResponse>> started = new AtomicReference<>();
+        CompletableFuture<TransportResponse> result = new CompletableFuture<TransportResponse>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                permit.cancel(false);
+                CompletableFuture<TransportResponse> exchange = started.get();
+                if (exchange != null) {
+                    exchange.cancel(mayInterruptIfRunning);
+                }
+                return super.cancel(mayInterruptIfRunning);
+            }
+        };
+
+        permit.whenComplete((ignored, permitFailure) -> {
+            if (permitFailure != null) {
+                result.completeExceptionally(AsyncFutures.unwrap(permitFailure));
+                return;
+            }
+            if (result.isDone()) {
+                release.run();
+                return;
+            }
+            CompletableFuture<TransportResponse> exchange;
+            try {
+                Deadline deadline = request.getDeadline();
+                if (deadline != null && deadline.isExpired()) {
+                    throw new HttpTimeoutException("Deadline exceeded while waiting for a stream");
+                }
+                // Rebuild so the exchange timeout reflects the budget left after waiting
+                exchange = exchange(deadline != null ? toHttpRequest(request) : httpRequest, streaming);
+            } catch (IOException | RuntimeException e) {
+                release.run();
+                failures.increment();
+                result.completeExceptionally(e);
+                return;
+            }
+            started.set(exchange);
+            exchange.whenComplete((response, throwable) -> {
+                if (throwable != null) {
+                    release.run();
+                    result.completeExceptionally(AsyncFutures.unwrap(throwable));
+                } else if (response.isStreamed()) {
+                    TransportResponse released = releaseOnClose(response, release);
+                    if (!result.complete(released)) {
+                        closeQuietly(released.getBodyStream());
+                    }
+                } else {
+                    release.run();
+                    result.complete(response);
+                }
+            });
+            if (result.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private static TransportResponse releaseOnClose(TransportResponse response, Runnable release) {
+        AtomicBoolean released = new AtomicBoolean();
+        InputStream body = new FilterInputStream(response.getBodyStream()) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    if (released.compareAndSet(false, true)) {
+                        release.run();
+                    }
+                }
+            }
+        };
+        return new TransportResponse(response.getStatusCode(), response.getHeaders(), body);
+    }
+
+    private static void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException e) {
+            // Nobody reads the body of a cancelled exchange
+        }
+    }
+
+    private static String origin(URI uri) {
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+
+    private HttpRequest toHttpRequest(TransportRequest request) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(request.getUrl()));
+        Deadline deadline = request.getDeadline();
+        if (deadline != null) {
+            builder.timeout(Duration.ofMillis(deadline.capTimeout(
+                    requestTimeout != null ? (int) Math.min(Integer.MAX_VALUE, requestTimeout.toMillis()) : 0)));
+        } else if (requestTimeout != null) {
+            builder.timeout(requestTimeout);
+        }
+        request.getHeaders().forEach((name, value) -> {
+            if (!RESTRICTED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                builder.header(name, value);
+            }
+        });
+        HttpRequest.BodyPublisher body;
+        if (request.getBodyStream() != null) {
+            // Unknown length: sent with chunked encoding as the stream is read
+            body = HttpRequest.BodyPublishers.ofInputStream(request.getBodyStream());
+        } else if (request.getBody() != null) {
+            body = HttpRequest.BodyPublishers.ofByteArray(request.getBody());
+        } else {
+            body = HttpRequest.BodyPublishers.noBody();
+        }
+        return builder.method(request.getMethod(), body).build();
+    }
+}
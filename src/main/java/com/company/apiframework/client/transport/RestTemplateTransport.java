@@ -0,0 +1,79 @@
+package com.company.apiframework.client.transport;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+
+import com.company.apiframework.async.AsyncExecutor;
+import com.company.apiframework.client.ApiCallContext;
+
+/**
+ * Blocking transport that sends requests through a RestTemplate.
+ *
+ * <p>Each in-flight request holds a thread of the profile's async executor while
+ * it waits for the response. RestTemplate interceptors and error handling apply as
+ * usual, except that HTTP error statuses are returned as responses rather than
+ * thrown, as the {@link HttpTransport} contract requires.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class RestTemplateTransport implements HttpTransport {
+
+    private final RestTemplate restTemplate;
+    private final AsyncExecutor executor;
+
+    /**
+     * @param restTemplate RestTemplate to send requests with (owned by the caller)
+     * @param executor Executor the blocking calls run on
+     */
+    public RestTemplateTransport(RestTemplate restTemplate, AsyncExecutor executor) {
+        this.restTemplate = restTemplate;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> send(TransportRequest request) {
+        return executor.submit(() -> ApiCallContext.withDeadline(request.getDeadline(), () -> exchange(request)));
+    }
+
+    /**
+     * Send a request on the calling thread.
+     *
+     * @param request Request to send
+     * @return Response, for every HTTP status
+     * @throws org.springframework.web.client.RestClientException if no response was received
+     */
+    public TransportResponse exchange(TransportRequest request) {
+        HttpHeaders headers = new HttpHeaders();
+        request.getHeaders().forEach(headers::add);
+        Object body = request.getBodyStream() != null
+                ? new InputStreamResource(request.getBodyStream().get()) : request.getBody();
+        HttpEntity<Object> entity = new HttpEntity<>(body, headers);
+
+        try {
+            ResponseEntity<byte[]> response = restTemplate.exchange(
+                    request.getUrl(), HttpMethod.valueOf(request.getMethod()), entity, byte[].class);
+            return new TransportResponse(response.getStatusCodeValue(), response.getHeaders(), response.getBody());
+        } catch (HttpStatusCodeException e) {
+            return new TransportResponse(e.getRawStatusCode(), e.getResponseHeaders(), e.getResponseBodyAsByteArray());
+        }
+    }
+
+    @Override
+    public boolean isNonBlocking() {
+        return false;
+    }
+
+    @Override
+    public String getName() {
+        return "rest-template";
+    }
+}
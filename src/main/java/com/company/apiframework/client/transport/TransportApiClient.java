@@ -0,0 +1,414 @@
+package com.company.apiframework.client.transport;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import com.company.apiframework.async.AsyncFutures;
+import com.company.apiframework.client.ApiCallback;
+import com.company.apiframework.client.ApiClient;
+import com.company.apiframework.client.ResponseStreamHandler;
+import com.company.apiframework.client.StreamingResponse;
+import com.company.apiframework.exception.ApiException;
+import com.company.apiframework.model.ApiRequest;
+import com.company.apiframework.model.ApiResponse;
+import com.company.apiframework.model.Deadline;
+import com.company.apiframework.model.RequestBodyWriter;
+import com.company.apiframework.codec.CodecRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * REST API client that sends requests through an {@link HttpTransport}.
+ *
+ * <p>Used for profiles whose transport engine is non-blocking. Bodies are serialized
+ * with the framework ObjectMapper (Strings and byte arrays are sent as-is) and
+ * responses are mapped to the same {@link ApiResponse} contract as
+ * {@code RestApiClient}: HTTP errors and I/O failures produce error responses with
+ * error code {@code REST_ERROR}, and only executor rejections complete the async
+ * stage exceptionally. Requests whose deadline is spent fail with
+ * {@code DEADLINE_EXCEEDED}.</p>
+ *
+ * <p>InputStream, Path and File bodies are streamed to the transport without being
+ * read into memory. {@link RequestBodyWriter} callbacks write to an OutputStream,
+ * which the transports cannot pull from, so they are buffered before sending.</p>
+ *
+ * <p>The synchronous {@link #execute(ApiRequest, Class)} waits for the
+ * non-blocking exchange; prefer {@link #executeAsync(ApiRequest, Class)} to keep
+ * threads free.</p>
+ *
+ * <p>{@link #executeStreaming(ApiRequest, ResponseStreamHandler)} uses
+ * {@link HttpTransport#sendStreaming}: the handler reads the body as it arrives on the
+ * calling thread, and the body is closed once the handler returns.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see HttpTransport
+ */
+public class TransportApiClient implements ApiClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransportApiClient.class);
+    private static final String PROTOCOL_TYPE = "REST";
+
+    private final HttpTransport transport;
+    private final CodecRegistry codecs;
+
+    public TransportApiClient(HttpTransport transport, ObjectMapper objectMapper) {
+        this(transport, new CodecRegistry(objectMapper));
+    }
+
+    /**
+     * @param transport Transport to send requests with (owned by the caller)
+     * @param codecs Cached readers and writers for JSON bodies
+     */
+    public TransportApiClient(HttpTransport transport, CodecRegistry codecs) {
+        this.transport = transport;
+        this.codecs = codecs;
+    }
+
+    @Override
+    public <T> ApiResponse<T> execute(ApiRequest request, Class<T> responseType) {
+        CompletableFuture<ApiResponse<T>> future = executeAsync(request, responseType).toCompletableFuture();
+        Deadline deadline = request.getDeadline();
+        try {
+            if (deadline == null) {
+                return future.get();
+            }
+            // Slack for the transport's own timeout to fire and be mapped first
+            return future.get(deadline.remainingMillis() + 50, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return errorResponse("DEADLINE_EXCEEDED", "Deadline exceeded while waiting for the response", 0);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return errorResponse("INTERRUPTED", "Interrupted while waiting for the response", 0);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ApiException) {
+                ApiException apiException = (ApiException) cause;
+                return errorResponse(apiException.getErrorCode(), apiException.getMessage(), 0);
+            }
+            return errorResponse("UNEXPECTED_ERROR", String.valueOf(cause), 0);
+        }
+    }
+
+    @Override
+    public ApiResponse<String> execute(ApiRequest request) {
+        return execute(request, String.class);
+    }
+
+    @Override
+    public <T> void executeAsync(ApiRequest request, Class<T> responseType, ApiCallback<T> callback) {
+        executeAsync(request, responseType).whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                Throwable cause = AsyncFutures.unwrap(throwable);
+                callback.onException(cause instanceof ApiException
+                        ? (ApiException) cause : new ApiException("Async execution failed", cause));
+            } else if (response.hasError()) {
+                callback.onError(response);
+            } else {
+                callback.onSuccess(response);
+            }
+        });
+    }
+
+    @Override
+    public <T> CompletionStage<ApiResponse<T>> executeAsync(ApiRequest request, Class<T> responseType) {
+        long startTime = System.currentTimeMillis();
+        if (request.getDeadline() != null && request.getDeadline().isExpired()) {
+            ApiResponse<T> response = errorResponse("DEADLINE_EXCEEDED", "Deadline exceeded before the call was sent",
+                    startTime);
+            return CompletableFuture.completedFuture(response);
+        }
+        TransportRequest transportRequest;
+        try {
+            transportRequest = toTransportRequest(request);
+        } catch (Exception e) {
+            logger.error("Failed to serialize request body: {}", e.getMessage(), e);
+            ApiResponse<T> response = errorResponse("UNEXPECTED_ERROR", e.getMessage(), startTime);
+            return CompletableFuture.completedFuture(response);
+        }
+
+        CompletableFuture<TransportResponse> exchange = transport.send(transportRequest);
+        CompletableFuture<ApiResponse<T>> response = exchange.handle(
+                (result, throwable) -> toApiResponse(request, result, throwable, responseType, startTime));
+        return AsyncFutures.linkCancellation(response, exchange);
+    }
+
+    @Override
+    public <R> ApiResponse<R> executeStreaming(ApiRequest request, ResponseStreamHandler<R> handler) {
+        long startTime = System.currentTimeMillis();
+        Deadline deadline = request.getDeadline();
+        if (deadline != null && deadline.isExpired()) {
+            return errorResponse("DEADLINE_EXCEEDED", "Deadline exceeded before the call was sent", startTime);
+        }
+        TransportRequest transportRequest;
+        try {
+            transportRequest = toTransportRequest(request);
+        } catch (Exception e) {
+            logger.error("Failed to serialize request body: {}", e.getMessage(), e);
+            return errorResponse("UNEXPECTED_ERROR", e.getMessage(), startTime);
+        }
+
+        CompletableFuture<TransportResponse> exchange = transport.sendStreaming(transportRequest);
+        TransportResponse result;
+        try {
+            result = deadline == null ? exchange.get()
+                    : exchange.get(deadline.remainingMillis() + 50, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            abandon(exchange);
+            return errorResponse("DEADLINE_EXCEEDED", "Deadline exceeded while waiting for the response", startTime);
+        } catch (InterruptedException e) {
+            abandon(exchange);
+            Thread.currentThread().interrupt();
+            return errorResponse("INTERRUPTED", "Interrupted while waiting for the response", startTime);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ApiException) {
+                ApiException apiException = (ApiException) cause;
+                return errorResponse(apiException.getErrorCode(), apiException.getMessage(), startTime);
+            }
+            return failureResponse(request, cause, startTime);
+        }
+
+        ApiResponse<R> response = new ApiResponse<>();
+        copyStatus(result, response);
+        // The body holds the connection until it is closed, whatever the handler does
+        try (InputStream body = result.getBodyStream()) {
+            if (result.getStatusCode() >= 400) {
+                response.setRawResponse(new String(readAll(body), charsetOf(result)));
+                response.markAsError("REST_ERROR", errorMessage(result));
+            } else {
+                response.setBody(handler.handle(new StreamingResponse(response.getStatusCode(),
+                        response.getStatusMessage(), response.getHeaders(), body)));
+                response.setSuccess(true);
+            }
+        } catch (Exception e) {
+            logger.error("REST API streaming call failed: {} {} - {}", request.getMethod(), request.getUrl(),
+                    e.toString());
+            response.markAsError("STREAM_ERROR", e.getMessage());
+        } finally {
+            response.setResponseTimeMs(System.currentTimeMillis() - startTime);
+        }
+        return response;
+    }
+
+    @Override
+    public boolean supportsProtocol(String protocol) {
+        return PROTOCOL_TYPE.equalsIgnoreCase(protocol);
+    }
+
+    @Override
+    public String getProtocolType() {
+        return PROTOCOL_TYPE;
+    }
+
+    /**
+     * @return Transport this client sends requests through
+     */
+    public HttpTransport getTransport() {
+        return transport;
+    }
+
+    private TransportRequest toTransportRequest(ApiRequest request) throws Exception {
+        Map<String, String> headers = new LinkedHashMap<>();
+        if (request.getHeaders() != null) {
+            headers.putAll(request.getHeaders());
+        }
+
+        byte[] body = null;
+        Object requestBody = request.getBody();
+        Supplier<InputStream> bodyStream = streamOf(requestBody);
+        if (bodyStream != null) {
+            if (headers.keySet().stream().noneMatch(HttpHeaders.CONTENT_TYPE::equalsIgnoreCase)) {
+                headers.put(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            }
+            return new TransportRequest(request.getMethod().toUpperCase(), request.getUrl(), headers, bodyStream,
+                    request.getDeadline());
+        }
+        if (requestBody instanceof RequestBodyWriter) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ((RequestBodyWriter) requestBody).writeTo(buffer);
+            body = buffer.toByteArray();
+            if (headers.keySet().stream().noneMatch(HttpHeaders.CONTENT_TYPE::equalsIgnoreCase)) {
+                headers.put(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            }
+        } else if (requestBody instanceof byte[]) {
+            body = (byte[]) requestBody;
+        } else if (requestBody instanceof String) {
+            body = ((String) requestBody).getBytes(StandardCharsets.UTF_8);
+        } else if (requestBody != null) {
+            body = codecs.writeAsBytes(requestBody);
+        }
+
+        if (body != null && headers.keySet().stream().noneMatch(HttpHeaders.CONTENT_TYPE::equalsIgnoreCase)) {
+            headers.put(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+        }
+        return new TransportRequest(request.getMethod().toUpperCase(), request.getUrl(), headers, body,
+                request.getDeadline());
+    }
+
+    private static Supplier<InputStream> streamOf(Object body) {
+        if (body instanceof InputStream) {
+            InputStream in = (InputStream) body;
+            return () -> in;
+        }
+        Path path = body instanceof Path ? (Path) body
+                : body instanceof File ? ((File) body).toPath() : null;
+        if (path == null) {
+            return null;
+        }
+        return () -> {
+            try {
+                return Files.newInputStream(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    private <T> ApiResponse<T> toApiResponse(ApiRequest request, TransportResponse result, Throwable throwable,
+                                            Class<T> responseType, long startTime) {
+        if (throwable != null) {
+            Throwable cause = AsyncFutures.unwrap(throwable);
+            if (cause instanceof ApiException || cause instanceof CancellationException) {
+                // Rejections and cancellations complete the stage exceptionally
+                throw new CompletionException(cause);
+            }
+            return failureResponse(request, cause, startTime);
+        }
+
+        ApiResponse<T> response = new ApiResponse<>();
+        copyStatus(result, response);
+
+        try {
+            if (result.getStatusCode() >= 400) {
+                response.setRawResponse(new String(result.getBody(), charsetOf(result)));
+                response.markAsError("REST_ERROR", errorMessage(result));
+            } else {
+                response.setBody(readBody(result, responseType));
+                response.setSuccess(true);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to read REST API response: {}", e.getMessage(), e);
+            response.markAsError("REST_ERROR", e.getMessage());
+        } finally {
+            response.setResponseTimeMs(System.currentTimeMillis() - startTime);
+        }
+        return response;
+    }
+
+    private static <T> ApiResponse<T> failureResponse(ApiRequest request, Throwable cause, long startTime) {
+        String message = cause.getMessage() != null ? cause.getMessage() : cause.toString();
+        if (request.getDeadline() != null && request.getDeadline().isExpired()) {
+            logger.warn("REST API call exceeded its deadline: {} {} - {}", request.getMethod(), request.getUrl(),
+                    cause.toString());
+            return errorResponse("DEADLINE_EXCEEDED", message, startTime);
+        }
+        logger.error("REST API call failed: {} {} - {}", request.getMethod(), request.getUrl(), cause.toString());
+        return errorResponse("REST_ERROR", message, startTime);
+    }
+
+    private static void copyStatus(TransportResponse result, ApiResponse<?> response) {
+        response.setStatusCode(result.getStatusCode());
+        HttpStatus status = HttpStatus.resolve(result.getStatusCode());
+        response.setStatusMessage(status != null ? status.getReasonPhrase() : null);
+        result.getHeaders().forEach((name, values) -> {
+            if (!values.isEmpty()) {
+                response.getHeaders().put(name, values.get(0));
+            }
+        });
+    }
+
+    private static String errorMessage(TransportResponse result) {
+        HttpStatus status = HttpStatus.resolve(result.getStatusCode());
+        return result.getStatusCode() + " " + (status != null ? status.getReasonPhrase() : "");
+    }
+
+    /**
+     * Cancel an exchange nobody waits for; a response that arrived anyway is closed
+     * so its connection is not leaked.
+     */
+    private static void abandon(CompletableFuture<TransportResponse> exchange) {
+        exchange.cancel(true);
+        exchange.thenAccept(result -> {
+            try {
+                result.getBodyStream().close();
+            } catch (IOException e) {
+                logger.debug("Failed to close abandoned response body: {}", e.getMessage());
+            }
+        });
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T readBody(TransportResponse result, Class<T> responseType) throws Exception {
+        byte[] body = result.getBody();
+        if (responseType == byte[].class) {
+            return (T) body;
+        }
+        if (responseType == String.class) {
+            return (T) new String(body, charsetOf(result));
+        }
+        if (body.length == 0 || responseType == Void.class) {
+            return null;
+        }
+        return codecs.read(body, responseType);
+    }
+
+    private static Charset charsetOf(TransportResponse result) {
+        String contentType = result.getFirstHeader(HttpHeaders.CONTENT_TYPE);
+        if (contentType != null) {
+            try {
+                Charset charset = MediaType.parseMediaType(contentType).getCharset();
+                if (charset != null) {
+                    return charset;
+                }
+            } catch (RuntimeException e) {
+                // Malformed Content-Type: fall back to UTF-8
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private static <T> ApiResponse<T> errorResponse(String errorCode, String message, long startTime) {
+        ApiResponse<T> response = new ApiResponse<>();
+        response.markAsError(errorCode, message);
+        if (startTime > 0) {
+            response.setResponseTimeMs(System.currentTimeMillis() - startTime);
+        }
+        return response;
+    }
+}
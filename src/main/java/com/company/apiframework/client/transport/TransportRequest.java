@@ -0,0 +1,107 @@
+package com.company.apiframework.client.transport;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.company.apiframework.model.Deadline;
+
+/**
+ * Serialized HTTP request handed to an {@link HttpTransport}.
+ *
+ * <p>The body is either a byte array or, for uploads, a stream the transport reads
+ * while sending.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class TransportRequest {
+
+    private final String method;
+    private final String url;
+    private final Map<String, String> headers;
+    private final byte[] body;
+    private final Supplier<InputStream> bodyStream;
+    private final Deadline deadline;
+
+    /**
+     * @param method HTTP method (upper case)
+     * @param url Absolute request URL
+     * @param headers Request headers (copied)
+     * @param body Request body, or null for none
+     */
+    public TransportRequest(String method, String url, Map<String, String> headers, byte[] body) {
+        this(method, url, headers, body, null);
+    }
+
+    /**
+     * @param method HTTP method (upper case)
+     * @param url Absolute request URL
+     * @param headers Request headers (copied)
+     * @param body Request body, or null for none
+     * @param deadline Deadline the exchange must finish by, or null to use the profile's timeouts only
+     */
+    public TransportRequest(String method, String url, Map<String, String> headers, byte[] body, Deadline deadline) {
+        this(method, url, headers, body, null, deadline);
+    }
+
+    /**
+     * @param method HTTP method (upper case)
+     * @param url Absolute request URL
+     * @param headers Request headers (copied)
+     * @param bodyStream Opens the streamed request body; the transport closes the stream
+     * @param deadline Deadline the exchange must finish by, or null to use the profile's timeouts only
+     */
+    public TransportRequest(String method, String url, Map<String, String> headers,
+                            Supplier<InputStream> bodyStream, Deadline deadline) {
+        this(method, url, headers, null, bodyStream, deadline);
+    }
+
+    private TransportRequest(String method, String url, Map<String, String> headers, byte[] body,
+                             Supplier<InputStream> bodyStream, Deadline deadline) {
+        this.method = method;
+        this.url = url;
+        this.headers = headers != null
+                ? Collections.unmodifiableMap(new LinkedHashMap<>(headers))
+                : Collections.<String, String>emptyMap();
+        this.body = body;
+        this.bodyStream = bodyStream;
+        this.deadline = deadline;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * @return Opens the streamed request body, or null if the body is a byte array or absent
+     */
+    public Supplier<InputStream> getBodyStream() {
+        return bodyStream;
+    }
+
+    public Deadline getDeadline() {
+        return deadline;
+    }
+
+    @Override
+    public String toString() {
+        String bodyDescription = bodyStream != null ? "streamed" : String.valueOf(body != null ? body.length : 0);
+        return "TransportRequest{" + method + " " + url + ", bodyBytes=" + bodyDescription + "}";
+    }
+}
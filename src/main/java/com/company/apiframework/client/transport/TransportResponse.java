@@ -0,0 +1,101 @@
+package com.company.apiframework.client.transport;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Raw HTTP response returned by an {@link HttpTransport}.
+ *
+ * <p>Responses from {@link HttpTransport#send} carry the whole body. Responses from
+ * {@link HttpTransport#sendStreaming} leave it on the connection: read it from
+ * {@link #getBodyStream()} and close the stream to release the connection.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class TransportResponse {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final int statusCode;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+    private final InputStream bodyStream;
+
+    /**
+     * @param statusCode HTTP status code
+     * @param headers Response headers (header names are matched case-insensitively)
+     * @param body Response body, or null for none
+     */
+    public TransportResponse(int statusCode, Map<String, List<String>> headers, byte[] body) {
+        this(statusCode, headers, body, null);
+    }
+
+    /**
+     * @param statusCode HTTP status code
+     * @param headers Response headers (header names are matched case-insensitively)
+     * @param bodyStream Unread response body; the receiver must close it
+     */
+    public TransportResponse(int statusCode, Map<String, List<String>> headers, InputStream bodyStream) {
+        this(statusCode, headers, null, bodyStream);
+    }
+
+    private TransportResponse(int statusCode, Map<String, List<String>> headers, byte[] body,
+                              InputStream bodyStream) {
+        this.statusCode = statusCode;
+        Map<String, List<String>> copy = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if (headers != null) {
+            headers.forEach((name, values) -> {
+                if (name != null && values != null) {
+                    copy.put(name, values);
+                }
+            });
+        }
+        this.headers = Collections.unmodifiableMap(copy);
+        this.body = body != null ? body : EMPTY;
+        this.bodyStream = bodyStream;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @param name Header name (case-insensitive)
+     * @return First value of the header, or null if absent
+     */
+    public String getFirstHeader(String name) {
+        List<String> values = headers.get(name);
+        return values != null && !values.isEmpty() ? values.get(0) : null;
+    }
+
+    /**
+     * @return Response body, empty if the response had none or is streamed
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * @return Body left on the connection for streamed responses, otherwise a stream over {@link #getBody()}
+     */
+    public InputStream getBodyStream() {
+        return bodyStream != null ? bodyStream : new ByteArrayInputStream(body);
+    }
+
+    /**
+     * @return true if the body has not been read from the connection yet
+     */
+    public boolean isStreamed() {
+        return bodyStream != null;
+    }
+}
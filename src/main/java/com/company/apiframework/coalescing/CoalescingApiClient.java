@@ -0,0 +1,103 @@
+package com.company.apiframework.coalescing;
+
+import java.util.concurrent.CompletionStage;
+
+import com.company.apiframework.async.AsyncFutures;
+import com.company.apiframework.client.ApiCallback;
+import com.company.apiframework.client.ApiClient;
+import com.company.apiframework.client.ResponseStreamHandler;
+import com.company.apiframework.exception.ApiException;
+import com.company.apiframework.model.ApiRequest;
+import com.company.apiframework.model.ApiResponse;
+
+/**
+ * {@link ApiClient} decorator that lets concurrent identical requests share one call.
+ *
+ * <p>Requests that {@link RequestCoalescer#keyOf(ApiRequest, Class)} accepts go
+ * through the profile's coalescer; all others go straight to the wrapped client.
+ * Blocking calls are sent on the leader's thread and followers block until it
+ * completes; async calls share the leader's future.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see RequestCoalescer
+ */
+public class CoalescingApiClient implements ApiClient {
+
+    private final ApiClient delegate;
+    private final RequestCoalescer coalescer;
+
+    /**
+     * @param delegate Client that sends the shared calls
+     * @param coalescer Coalescer of the client's profile
+     */
+    public CoalescingApiClient(ApiClient delegate, RequestCoalescer coalescer) {
+        this.delegate = delegate;
+        this.coalescer = coalescer;
+    }
+
+    @Override
+    public <T> ApiResponse<T> execute(ApiRequest request, Class<T> responseType) {
+        String key = coalescer.keyOf(request, responseType);
+        if (key == null) {
+            return delegate.execute(request, responseType);
+        }
+        return coalescer.execute(key, () -> delegate.execute(request, responseType));
+    }
+
+    @Override
+    public ApiResponse<String> execute(ApiRequest request) {
+        String key = coalescer.keyOf(request, String.class);
+        if (key == null) {
+            return delegate.execute(request);
+        }
+        return coalescer.execute(key, () -> delegate.execute(request));
+    }
+
+    @Override
+    public <R> ApiResponse<R> executeStreaming(ApiRequest request, ResponseStreamHandler<R> handler) {
+        // A stream is consumed once by its caller and cannot be shared with followers
+        return delegate.executeStreaming(request, handler);
+    }
+
+    @Override
+    public <T> void executeAsync(ApiRequest request, Class<T> responseType, ApiCallback<T> callback) {
+        String key = coalescer.keyOf(request, responseType);
+        if (key == null) {
+            delegate.executeAsync(request, responseType, callback);
+            return;
+        }
+        coalescer.<T>executeAsync(key, () -> delegate.executeAsync(request, responseType))
+                .whenComplete((response, throwable) -> {
+                    if (throwable != null) {
+                        Throwable cause = AsyncFutures.unwrap(throwable);
+                        callback.onException(cause instanceof Exception
+                                ? (Exception) cause : new ApiException("Coalesced call failed", cause));
+                    } else if (response.hasError()) {
+                        callback.onError(response);
+                    } else {
+                        callback.onSuccess(response);
+                    }
+                });
+    }
+
+    @Override
+    public <T> CompletionStage<ApiResponse<T>> executeAsync(ApiRequest request, Class<T> responseType) {
+        String key = coalescer.keyOf(request, responseType);
+        if (key == null) {
+            return delegate.executeAsync(request, responseType);
+        }
+        return coalescer.executeAsync(key, () -> delegate.executeAsync(request, responseType));
+    }
+
+    @Override
+    public boolean supportsProtocol(String protocol) {
+        return delegate.supportsProtocol(protocol);
+    }
+
+    @Override
+    public String getProtocolType() {
+        return delegate.getProtocolType();
+    }
+}
@@ -0,0 +1,70 @@
+package com.company.apiframework.coalescing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.company.apiframework.client.ApiClient;
+import com.company.apiframework.config.ApiProperties;
+import com.company.apiframework.config.CoalescingProperties;
+
+/**
+ * Request coalescers per RestTemplate profile.
+ *
+ * <p>Coalescers are created from {@link ApiProperties#resolveCoalescing(String)} the
+ * first time a profile's client is built. All clients of a profile share its
+ * coalescer, so identical requests made through different RestTemplates of the same
+ * profile are coalesced too. Clients of profiles with coalescing disabled are
+ * returned unchanged.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see CoalescingApiClient
+ */
+public class CoalescingRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoalescingRegistry.class);
+
+    private final ApiProperties apiProperties;
+    private final ConcurrentMap<String, RequestCoalescer> coalescers = new ConcurrentHashMap<>();
+
+    public CoalescingRegistry(ApiProperties apiProperties) {
+        this.apiProperties = apiProperties;
+    }
+
+    /**
+     * Wrap a client with request coalescing if its profile enables it.
+     *
+     * @param client Client to wrap
+     * @param profileName RestTemplate profile of the client
+     * @return Coalescing client, or {@code client} itself if coalescing is disabled
+     */
+    public ApiClient wrap(ApiClient client, String profileName) {
+        CoalescingProperties properties = apiProperties.resolveCoalescing(profileName);
+        if (properties == null || !properties.isEnabled()) {
+            return client;
+        }
+        RequestCoalescer coalescer = coalescers.computeIfAbsent(profileName, name -> {
+            logger.info("Enabling request coalescing for profile '{}' (methods={}, keyHeaders={})",
+                    name, properties.getMethods(), properties.getKeyHeaders());
+            return new RequestCoalescer(name, properties);
+        });
+        return new CoalescingApiClient(client, coalescer);
+    }
+
+    /**
+     * Get metrics of all coalescing profiles.
+     *
+     * @return Map of profile name to coalescing counters
+     */
+    public Map<String, Map<String, Object>> getMetrics() {
+        Map<String, Map<String, Object>> metrics = new LinkedHashMap<>();
+        coalescers.forEach((profile, coalescer) -> metrics.put(profile, coalescer.getMetrics()));
+        return metrics;
+    }
+}
@@ -0,0 +1,311 @@
+package com.company.apiframework.coalescing;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.company.apiframework.async.AsyncFutures;
+import com.company.apiframework.config.CoalescingProperties;
+import com.company.apiframework.exception.ApiException;
+import com.company.apiframework.model.ApiRequest;
+import com.company.apiframework.model.ApiResponse;
+
+/**
+ * Shares one upstream call between concurrent identical requests of a profile.
+ *
+ * <p>The first request for a key becomes the leader and sends the call; requests
+ * for the same key that arrive while it is in flight wait for its outcome instead
+ * of sending their own. The key is removed as soon as the call completes, so
+ * responses are never reused for later requests.</p>
+ *
+ * <p>Followers receive a copy of the leader's response that shares the body object,
+ * which callers must therefore treat as read-only. Failures are shared as well. A
+ * caller that cancels only detaches itself; the upstream call is cancelled once
+ * every async caller waiting for it has cancelled.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see CoalescingProperties
+ */
+public class RequestCoalescer {
+
+    private final String profileName;
+    private final Set<String> methods;
+    private final List<String> keyHeaders;
+    private final ConcurrentMap<String, Flight> flights = new ConcurrentHashMap<>();
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong upstreamCalls = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong abandoned = new AtomicLong();
+
+    public RequestCoalescer(String profileName, CoalescingProperties properties) {
+        this.profileName = profileName;
+        this.methods = properties.getMethods().stream()
+                .map(method -> method.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        this.keyHeaders = properties.getKeyHeaders().stream()
+                .map(header -> header.toLowerCase(Locale.ROOT))
+                .sorted()
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Build the coalescing key of a request.
+     *
+     * @param request Request about to be sent
+     * @param responseType Expected response type class
+     * @return Key identifying identical requests, or null if the request must not be coalesced
+     */
+    public String keyOf(ApiRequest request, Class<?> responseType) {
+        String method = request.getMethod() != null ? request.getMethod().toUpperCase(Locale.ROOT) : null;
+        if (method == null || !methods.contains(method) || request.getBody() != null
+                || request.getDeadline() != null || request.getUrl() == null) {
+            return null;
+        }
+
+        StringBuilder key = new StringBuilder(128)
+                .append(method).append(' ').append(request.getUrl())
+                .append('|').append(responseType.getName());
+        if (request.getParameters() != null && !request.getParameters().isEmpty()) {
+            key.append('|').append(new TreeMap<>(request.getParameters()));
+        }
+        if (!keyHeaders.isEmpty() && request.getHeaders() != null && !request.getHeaders().isEmpty()) {
+            Map<String, String> headers = new HashMap<>();
+            request.getHeaders().forEach((name, value) -> headers.put(name.toLowerCase(Locale.ROOT), value));
+            for (String header : keyHeaders) {
+                String value = headers.get(header);
+                if (value != null) {
+                    key.append('|').append(header).append('=').append(value);
+                }
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * Run a blocking call, or wait for the identical call already in flight.
+     *
+     * @param <T> Response type
+     * @param key Key from {@link #keyOf(ApiRequest, Class)}
+     * @param call Sends the request upstream on the calling thread
+     * @return The call's response, or a copy of the shared response
+     */
+    public <T> ApiResponse<T> execute(String key, Supplier<ApiResponse<T>> call) {
+        calls.incrementAndGet();
+        Flight flight = new Flight();
+        while (true) {
+            Flight existing = flights.putIfAbsent(key, flight);
+            if (existing == null) {
+                break;
+            }
+            if (existing.subscribe()) {
+                coalesced.incrementAndGet();
+                return await(existing);
+            }
+            flights.remove(key, existing);
+        }
+
+        upstreamCalls.incrementAndGet();
+        try {
+            ApiResponse<T> response = call.get();
+            flights.remove(key, flight);
+            flight.result.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Start a non-blocking call, or join the identical call already in flight.
+     *
+     * @param <T> Response type
+     * @param key Key from {@link #keyOf(ApiRequest, Class)}
+     * @param call Sends the request upstream without blocking
+     * @return Future of this caller's response; cancelling it detaches the caller
+     */
+    public <T> CompletableFuture<ApiResponse<T>> executeAsync(String key,
+                                                              Supplier<CompletionStage<ApiResponse<T>>> call) {
+        calls.incrementAndGet();
+        Flight flight = new Flight();
+        while (true) {
+            Flight existing = flights.putIfAbsent(key, flight);
+            if (existing == null) {
+                break;
+            }
+            if (existing.subscribe()) {
+                coalesced.incrementAndGet();
+                return subscriber(key, existing, true);
+            }
+            flights.remove(key, existing);
+        }
+
+        upstreamCalls.incrementAndGet();
+        CompletableFuture<ApiResponse<T>> upstream;
+        try {
+            upstream = call.get().toCompletableFuture();
+        } catch (RuntimeException e) {
+            upstream = new CompletableFuture<>();
+            upstream.completeExceptionally(e);
+        }
+        // Subscribe the leader before the upstream can complete the flight
+        CompletableFuture<ApiResponse<T>> leader = subscriber(key, flight, false);
+        flight.start(upstream);
+        upstream.whenComplete((response, throwable) -> {
+            flights.remove(key, flight);
+            if (throwable != null) {
+                flight.result.completeExceptionally(AsyncFutures.unwrap(throwable));
+            } else {
+                flight.result.complete(response);
+            }
+        });
+        return leader;
+    }
+
+    public String getProfileName() {
+        return profileName;
+    }
+
+    /**
+     * @return Coalescable requests, upstream calls, coalesced requests and calls in flight
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("calls", calls.get());
+        metrics.put("upstreamCalls", upstreamCalls.get());
+        metrics.put("coalesced", coalesced.get());
+        metrics.put("abandoned", abandoned.get());
+        metrics.put("inFlight", flights.size());
+        return metrics;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ApiResponse<T> await(Flight flight) {
+        try {
+            return copyOf((ApiResponse<T>) flight.result.get());
+        } catch (InterruptedException e) {
+            flight.unsubscribe();
+            Thread.currentThread().interrupt();
+            throw new ApiException("INTERRUPTED", "Interrupted while waiting for a coalesced call", e);
+        } catch (ExecutionException e) {
+            Throwable cause = AsyncFutures.unwrap(e.getCause());
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ApiException("Coalesced call failed", cause);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<ApiResponse<T>> subscriber(String key, Flight flight, boolean follower) {
+        CompletableFuture<ApiResponse<T>> future = new CompletableFuture<ApiResponse<T>>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                boolean cancelled = super.cancel(mayInterruptIfRunning);
+                if (cancelled && flight.unsubscribe()) {
+                    flights.remove(key, flight);
+                    abandoned.incrementAndGet();
+                }
+                return cancelled;
+            }
+        };
+        flight.result.whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+            } else {
+                ApiResponse<T> typed = (ApiResponse<T>) response;
+                future.complete(follower ? copyOf(typed) : typed);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Copy the response envelope so that callers can't see each other's changes to it.
+     */
+    static <T> ApiResponse<T> copyOf(ApiResponse<T> response) {
+        if (response == null) {
+            return null;
+        }
+        ApiResponse<T> copy = new ApiResponse<>();
+        copy.setStatusCode(response.getStatusCode());
+        copy.setStatusMessage(response.getStatusMessage());
+        if (response.getHeaders() != null) {
+            copy.getHeaders().putAll(response.getHeaders());
+        }
+        copy.setBody(response.getBody());
+        copy.setSuccess(response.isSuccess());
+        copy.setErrorMessage(response.getErrorMessage());
+        copy.setErrorCode(response.getErrorCode());
+        copy.setResponseTimeMs(response.getResponseTimeMs());
+        copy.setRawResponse(response.getRawResponse());
+        return copy;
+    }
+
+    /**
+     * One shared upstream call and the callers waiting for it.
+     */
+    private static final class Flight {
+
+        private final CompletableFuture<ApiResponse<?>> result = new CompletableFuture<>();
+        private Future<?> upstream;
+        // The leader counts as a subscriber; a blocking leader never unsubscribes
+        private int subscribers = 1;
+        private boolean abandoned;
+
+        private synchronized boolean subscribe() {
+            if (abandoned) {
+                return false;
+            }
+            subscribers++;
+            return true;
+        }
+
+        /**
+         * @return true if this was the last subscriber and the call was abandoned
+         */
+        private boolean unsubscribe() {
+            Future<?> toCancel;
+            synchronized (this) {
+                if (--subscribers > 0 || result.isDone() || abandoned) {
+                    return false;
+                }
+                abandoned = true;
+                toCancel = upstream;
+            }
+            if (toCancel != null) {
+                toCancel.cancel(true);
+            }
+            return true;
+        }
+
+        private void start(Future<?> call) {
+            boolean cancel;
+            synchronized (this) {
+                upstream = call;
+                cancel = abandoned;
+            }
+            if (cancel) {
+                call.cancel(true);
+            }
+        }
+    }
+}
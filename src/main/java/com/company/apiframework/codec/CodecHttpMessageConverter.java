@@ -0,0 +1,117 @@
+package com.company.apiframework.codec;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+
+/**
+ * JSON message converter that reads and writes with a {@link CodecRegistry}.
+ *
+ * <p>Replaces RestTemplate's {@link MappingJackson2HttpMessageConverter}, which builds
+ * a new reader or writer and resolves the target type on every message. Generic
+ * response types ({@code ParameterizedTypeReference}) are resolved once and cached
+ * like plain classes.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class CodecHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private final CodecRegistry codecs;
+
+    /**
+     * @param codecs Registry of a JSON mapper
+     */
+    public CodecHttpMessageConverter(CodecRegistry codecs) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        setDefaultCharset(StandardCharsets.UTF_8);
+        this.codecs = codecs;
+    }
+
+    /**
+     * Replace the RestTemplate's Jackson JSON converter, keeping its position.
+     *
+     * <p>The new converter reads and writes with the replaced converter's mapper, so
+     * JSON handling (modules, lenient unknown properties) does not change.</p>
+     *
+     * @param restTemplate RestTemplate to update
+     */
+    public static void install(RestTemplate restTemplate) {
+        restTemplate.getMessageConverters().replaceAll((HttpMessageConverter<?> converter) ->
+                converter instanceof MappingJackson2HttpMessageConverter
+                        ? new CodecHttpMessageConverter(new CodecRegistry(
+                                ((MappingJackson2HttpMessageConverter) converter).getObjectMapper()))
+                        : converter);
+    }
+
+    /**
+     * @return Registry the converter reads and writes with
+     */
+    public CodecRegistry getCodecs() {
+        return codecs;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return true;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        Type resolved = contextClass != null ? GenericTypeResolver.resolveType(type, contextClass) : type;
+        try {
+            MediaType contentType = inputMessage.getHeaders().getContentType();
+            Charset charset = contentType != null ? contentType.getCharset() : null;
+            if (charset != null && !charset.name().startsWith("UTF-")) {
+                // Jackson detects only Unicode encodings from the bytes
+                try (Reader reader = new InputStreamReader(inputMessage.getBody(), charset)) {
+                    return codecs.readerFor(resolved).readValue(reader);
+                }
+            }
+            return codecs.readerFor(resolved).readValue(inputMessage.getBody());
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + e.getOriginalMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        // The declared type only matters for containers, whose element types the runtime class erases;
+        // for other values it could hide properties of a subclass
+        JavaType declared = type != null ? codecs.javaType(type) : null;
+        if (declared != null && !declared.isContainerType()) {
+            declared = null;
+        }
+        try {
+            codecs.write(outputMessage.getBody(), value, declared);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotWritableException("Could not write JSON: " + e.getOriginalMessage(), e);
+        }
+    }
+}
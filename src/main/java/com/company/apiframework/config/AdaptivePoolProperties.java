@@ -0,0 +1,130 @@
+package com.company.apiframework.config;
+
+/**
+ * Adaptive connection pool sizing settings for one RestTemplate profile.
+ *
+ * <p>When enabled, the profile's per-route connection limit is recomputed every
+ * {@code interval-ms} from the observed traffic instead of staying at the value the
+ * profile was created with. By Little's law the connections a route needs equal its
+ * lease rate times the time each lease holds a connection (upstream latency plus
+ * reading the response); the limit follows that estimate, or the current in-flight
+ * and waiting count if higher, times {@code headroom}. Lease waits above
+ * {@code lease-wait-threshold-ms}, callers queued for a connection or lease timeouts
+ * grow the limit by at least a quarter. Shrinking closes half the gap per interval.
+ * The limit always stays between {@code min-per-route} and {@code max-per-route}.
+ * Settings are bound from {@code api.framework.adaptive-pool} (defaults) and
+ * {@code api.framework.profiles.<profile>.adaptive-pool} (per-profile override).</p>
+ *
+ * <p><strong>Example Configuration (application.yml):</strong></p>
+ * <pre>
+ * api:
+ *   framework:
+ *     profiles:
+ *       payment-api:
+ *         adaptive-pool:
+ *           enabled: true
+ *           min-per-route: 4
+ *           max-per-route: 40
+ * </pre>
+ *
+ * <p><strong>Note:</strong> The profile's total connection limit still applies; a
+ * {@code max-per-route} above it has no effect on a single-route pool. Shared pools
+ * ({@code pool.shared-pool}) are not resized.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see ApiProperties#resolveAdaptivePool(String)
+ */
+public class AdaptivePoolProperties {
+
+    /**
+     * Whether the profile's per-route limit is adjusted at runtime.
+     *
+     * <p><strong>Default:</strong> false</p>
+     */
+    private boolean enabled = false;
+
+    /**
+     * Lowest per-route limit the controller sets.
+     *
+     * <p><strong>Default:</strong> 1</p>
+     */
+    private int minPerRoute = 1;
+
+    /**
+     * Highest per-route limit the controller sets.
+     *
+     * <p><strong>Default:</strong> 50</p>
+     */
+    private int maxPerRoute = 50;
+
+    /**
+     * Time between two adjustments; each one uses the traffic of the interval before it.
+     *
+     * <p><strong>Default:</strong> 5000</p>
+     */
+    private long intervalMs = 5000;
+
+    /**
+     * Factor applied to the estimated concurrency to absorb bursts within an interval.
+     *
+     * <p><strong>Default:</strong> 1.25</p>
+     */
+    private double headroom = 1.25;
+
+    /**
+     * Mean lease wait above which the route counts as starved and its limit grows.
+     *
+     * <p><strong>Default:</strong> 5</p>
+     */
+    private long leaseWaitThresholdMs = 5;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMinPerRoute() {
+        return minPerRoute;
+    }
+
+    public void setMinPerRoute(int minPerRoute) {
+        this.minPerRoute = minPerRoute;
+    }
+
+    public int getMaxPerRoute() {
+        return maxPerRoute;
+    }
+
+    public void setMaxPerRoute(int maxPerRoute) {
+        this.maxPerRoute = maxPerRoute;
+    }
+
+    public long getIntervalMs() {
+        return intervalMs;
+    }
+
+    public void setIntervalMs(long intervalMs) {
+        this.intervalMs = intervalMs;
+    }
+
+    public double getHeadroom() {
+        return headroom;
+    }
+
+    public void setHeadroom(double headroom) {
+        this.headroom = headroom;
+    }
+
+    public long getLeaseWaitThresholdMs() {
+        return leaseWaitThresholdMs;
+    }
+
+    public void setLeaseWaitThresholdMs(long leaseWaitThresholdMs) {
+        this.leaseWaitThresholdMs = leaseWaitThresholdMs;
+    }
+}
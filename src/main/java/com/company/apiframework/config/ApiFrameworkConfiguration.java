@@ -1,18 +1,33 @@
 package com.company.apiframework.config;
 
 import org.apache.http.client.HttpClient;
-import org.apache.http.impl.client.HttpClientBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
-import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.client.RestTemplate;
 
+import com.company.apiframework.async.AsyncExecutorRegistry;
+import com.company.apiframework.cache.ResponseCacheRegistry;
+import com.company.apiframework.client.ApiClientRegistry;
+import com.company.apiframework.client.rest.DeadlineAwareRequestFactory;
 import com.company.apiframework.client.rest.RestClientFactory;
 import com.company.apiframework.client.soap.SoapClientFactory;
+import com.company.apiframework.client.transport.HttpTransportRegistry;
+import com.company.apiframework.coalescing.CoalescingRegistry;
+import com.company.apiframework.codec.CodecHttpMessageConverter;
+import com.company.apiframework.codec.CodecRegistry;
+import com.company.apiframework.hedging.HedgingRegistry;
 import com.company.apiframework.interceptor.LoggingInterceptor;
+import com.company.apiframework.pool.AdaptivePoolController;
+import com.company.apiframework.pool.ConnectionPoolEndpoint;
+import com.company.apiframework.pool.ConnectionPoolMeterBinder;
+import com.company.apiframework.pool.ConnectionPoolRegistry;
+import com.company.apiframework.pool.ConnectionPoolWarmer;
+import com.company.apiframework.pool.PoolWarmupRunner;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 
@@ -26,12 +41,11 @@ import com.fasterxml.jackson.dataformat.xml.XmlMapper;
  *   <li>RestTemplate with custom timeouts and interceptors</li>
  *   <li>JSON and XML mappers for data serialization</li>
  *   <li>Client factories for REST and SOAP protocols</li>
- *   <li>Retry mechanism and AOP support</li>
+ *   <li>AOP support</li>
  * </ul>
  * 
  * <p><strong>Key Features Enabled:</strong></p>
  * <ul>
- *   <li>{@code @EnableRetry} - Enables Spring Retry for fault tolerance</li>
  *   <li>{@code @EnableAspectJAutoProxy} - Enables AOP for cross-cutting concerns</li>
  *   <li>{@code @EnableConfigurationProperties} - Binds configuration properties</li>
  * </ul>
@@ -43,7 +57,6 @@ import com.fasterxml.jackson.dataformat.xml.XmlMapper;
  */
 @Configuration
 @EnableConfigurationProperties({ApiProperties.class})
-@EnableRetry
 @EnableAspectJAutoProxy
 public class ApiFrameworkConfiguration {
 
@@ -51,14 +64,16 @@ public class ApiFrameworkConfiguration {
      * Creates a Jackson ObjectMapper for JSON serialization/deserialization.
      * 
      * <p>This mapper is used for converting Java objects to/from JSON format
-     * in REST API calls. It uses default Jackson configuration which handles
-     * most common serialization scenarios.</p>
+     * in REST API calls. It is configured like the mapper of RestTemplate's JSON
+     * converter (unknown properties are ignored, Java 8 date/time and Optional
+     * modules are registered when on the classpath), so REST calls read bodies the
+     * same way whichever transport engine sends them.</p>
      * 
      * @return Configured ObjectMapper instance
      */
     @Bean
     public ObjectMapper objectMapper() {
-        return new ObjectMapper();
+        return Jackson2ObjectMapperBuilder.json().build();
     }
 
     /**
@@ -66,13 +81,40 @@ public class ApiFrameworkConfiguration {
      * 
      * <p>This mapper is specifically used for SOAP API calls and any REST APIs
      * that work with XML format. It extends ObjectMapper with XML-specific
-     * serialization capabilities.</p>
+     * serialization capabilities. Unknown elements are ignored; collections keep
+     * their wrapper element as with a default XmlMapper.</p>
      * 
      * @return Configured XmlMapper instance
      */
     @Bean
     public XmlMapper xmlMapper() {
-        return new XmlMapper();
+        return Jackson2ObjectMapperBuilder.xml().defaultUseWrapper(true).build();
+    }
+
+    /**
+     * Creates the codec registry of the JSON ObjectMapper.
+     * 
+     * <p>Caches a reader and writer per type, including generic types, for the
+     * transport clients, the response cache and the mock services.</p>
+     * 
+     * @param objectMapper The JSON ObjectMapper
+     * @return CodecRegistry instance
+     * @see CodecRegistry
+     */
+    @Bean
+    public CodecRegistry jsonCodecRegistry(@Qualifier("objectMapper") ObjectMapper objectMapper) {
+        return new CodecRegistry(objectMapper);
+    }
+
+    /**
+     * Creates the codec registry of the XmlMapper used for SOAP bodies.
+     * 
+     * @param xmlMapper The XML mapper
+     * @return CodecRegistry instance
+     */
+    @Bean
+    public CodecRegistry xmlCodecRegistry(XmlMapper xmlMapper) {
+        return new CodecRegistry(xmlMapper);
     }
 
     /**
@@ -80,25 +122,110 @@ public class ApiFrameworkConfiguration {
      * 
      * <p>This HttpClient is configured with:</p>
      * <ul>
-     *   <li>Connection timeout from properties</li>
      *   <li>Maximum total connections pool size</li>
      *   <li>Maximum connections per route</li>
-     *   <li>Connection time-to-live management</li>
+     *   <li>Connection time-to-live, keep-alive and idle eviction from the
+     *       "default" profile's pool settings</li>
+     *   <li>Validation of connections idle for a while before reuse</li>
      * </ul>
      * 
      * <p>The connection pooling helps improve performance by reusing connections
      * and managing resource utilization efficiently.</p>
      * 
-     * @param apiProperties Configuration properties for timeouts and connection limits
+     * @param apiProperties Configuration properties for connection limits and pool settings
+     * @param connectionPoolRegistry Creates the pool and evicts its idle connections
      * @return Configured HttpClient instance
      */
     @Bean
-    public HttpClient httpClient(ApiProperties apiProperties) {
-        return HttpClientBuilder.create()
-                .setConnectionTimeToLive(apiProperties.getConnectionTimeoutMs(), java.util.concurrent.TimeUnit.MILLISECONDS)
-                .setMaxConnTotal(apiProperties.getMaxConnections())
-                .setMaxConnPerRoute(apiProperties.getMaxConnectionsPerRoute())
-                .build();
+    public HttpClient httpClient(ApiProperties apiProperties, ConnectionPoolRegistry connectionPoolRegistry) {
+        return connectionPoolRegistry.httpClientBuilder("httpClient", apiProperties.resolvePool("default"),
+                apiProperties.getMaxConnections(), apiProperties.getMaxConnectionsPerRoute()).build();
+    }
+
+    /**
+     * Creates the registry of Apache HttpClient connection pools.
+     * 
+     * <p>Every RestTemplate profile gets its own pool; a single background thread
+     * closes expired and idle connections of all pools.</p>
+     * 
+     * @return ConnectionPoolRegistry instance
+     * @see com.company.apiframework.config.PoolProperties
+     */
+    @Bean
+    public ConnectionPoolRegistry connectionPoolRegistry() {
+        return new ConnectionPoolRegistry();
+    }
+
+    /**
+     * Creates the controller that resizes per-route connection limits from observed traffic.
+     * 
+     * <p>The controller only tracks and resizes pools of profiles with
+     * {@code adaptive-pool.enabled}; other pools keep their configured limits.</p>
+     * 
+     * @param connectionPoolRegistry Pools to resize
+     * @param apiProperties Framework configuration properties with per-profile adaptive pool settings
+     * @return AdaptivePoolController instance
+     * @see com.company.apiframework.config.AdaptivePoolProperties
+     */
+    @Bean
+    public AdaptivePoolController adaptivePoolController(ConnectionPoolRegistry connectionPoolRegistry,
+                                                         ApiProperties apiProperties) {
+        AdaptivePoolController controller =
+                new AdaptivePoolController(connectionPoolRegistry, apiProperties::resolveAdaptivePool);
+        connectionPoolRegistry.addLeaseListener(controller);
+        return controller;
+    }
+
+    /**
+     * Creates the actuator endpoint with live connection pool statistics.
+     * 
+     * @param connectionPoolRegistry Pools to report
+     * @return ConnectionPoolEndpoint instance
+     */
+    @Bean
+    public ConnectionPoolEndpoint connectionPoolEndpoint(ConnectionPoolRegistry connectionPoolRegistry) {
+        return new ConnectionPoolEndpoint(connectionPoolRegistry);
+    }
+
+    /**
+     * Creates the binder that publishes connection pool gauges and lease wait timers to the meter registry.
+     * 
+     * @param connectionPoolRegistry Pools to publish
+     * @return ConnectionPoolMeterBinder instance
+     */
+    @Bean
+    public ConnectionPoolMeterBinder connectionPoolMeterBinder(ConnectionPoolRegistry connectionPoolRegistry) {
+        return new ConnectionPoolMeterBinder(connectionPoolRegistry);
+    }
+
+    /**
+     * Creates the warmer that opens pool connections ahead of traffic.
+     * 
+     * @param connectionPoolRegistry Pools to warm up
+     * @param apiProperties Framework configuration properties with per-profile warm-up settings
+     * @return ConnectionPoolWarmer instance
+     * @see com.company.apiframework.config.WarmupProperties
+     */
+    @Bean
+    public ConnectionPoolWarmer connectionPoolWarmer(ConnectionPoolRegistry connectionPoolRegistry,
+                                                     ApiProperties apiProperties) {
+        return new ConnectionPoolWarmer(connectionPoolRegistry, apiProperties::resolveWarmup);
+    }
+
+    /**
+     * Creates the startup runner that warms up the pools before the application reports ready.
+     * 
+     * <p>Pools without warm-up enabled are skipped, so the runner returns at once
+     * unless a profile configures {@code warmup}.</p>
+     * 
+     * @param connectionPoolWarmer Warms up the pools
+     * @param eventPublisher Publishes the readiness change
+     * @return PoolWarmupRunner instance
+     */
+    @Bean
+    public PoolWarmupRunner poolWarmupRunner(ConnectionPoolWarmer connectionPoolWarmer,
+                                             ApplicationEventPublisher eventPublisher) {
+        return new PoolWarmupRunner(connectionPoolWarmer, eventPublisher);
     }
 
     /**
@@ -108,7 +235,10 @@ public class ApiFrameworkConfiguration {
      * <ul>
      *   <li>Custom HttpClient for connection pooling</li>
      *   <li>Connection and read timeouts from properties</li>
+     *   <li>Pool lease timeout from the pool settings (the connection timeout by default)</li>
+     *   <li>Per-request deadlines capping all of these timeouts</li>
      *   <li>Logging interceptor for request/response monitoring</li>
+     *   <li>JSON converter with cached per-type readers and writers</li>
      * </ul>
      * 
      * <p><strong>Note:</strong> This is the default RestTemplate. Individual API calls
@@ -121,13 +251,16 @@ public class ApiFrameworkConfiguration {
      */
     @Bean
     public RestTemplate restTemplate(HttpClient httpClient, ApiProperties apiProperties) {
-        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory();
+        DeadlineAwareRequestFactory requestFactory = new DeadlineAwareRequestFactory();
         requestFactory.setHttpClient(httpClient);
         requestFactory.setConnectTimeout(apiProperties.getConnectionTimeoutMs());
         requestFactory.setReadTimeout(apiProperties.getReadTimeoutMs());
+        requestFactory.setConnectionRequestTimeout(apiProperties.resolvePool("default")
+                .resolveConnectionRequestTimeout(apiProperties.getConnectionTimeoutMs()));
         
         RestTemplate restTemplate = new RestTemplate(requestFactory);
         restTemplate.getInterceptors().add(new LoggingInterceptor());
+        CodecHttpMessageConverter.install(restTemplate);
         return restTemplate;
     }
 
@@ -136,15 +269,24 @@ public class ApiFrameworkConfiguration {
      * 
      * <p>This factory is responsible for creating ApiClient instances that handle
      * REST protocol communications. It uses the configured RestTemplate and
-     * ObjectMapper for JSON processing.</p>
+     * ObjectMapper for JSON processing. Streamed uploads use the non-buffering
+     * request factory of the client's RestTemplate profile, and async calls run on
+     * the profile's bounded executor.</p>
      * 
      * @param restTemplate The configured RestTemplate
-     * @param objectMapper The JSON ObjectMapper
+     * @param jsonCodecRegistry Codec registry of the JSON ObjectMapper
+     * @param restTemplateBeanConfiguration Provides the upload request factory and profile of each RestTemplate
+     * @param asyncExecutorRegistry Per-profile async executors
      * @return RestClientFactory instance
      */
     @Bean
-    public RestClientFactory restClientFactory(RestTemplate restTemplate, ObjectMapper objectMapper) {
-        return new RestClientFactory(restTemplate, objectMapper);
+    public RestClientFactory restClientFactory(RestTemplate restTemplate,
+                                               @Qualifier("jsonCodecRegistry") CodecRegistry jsonCodecRegistry,
+                                               RestTemplateBeanConfiguration restTemplateBeanConfiguration,
+                                               AsyncExecutorRegistry asyncExecutorRegistry) {
+        return new RestClientFactory(restTemplate, jsonCodecRegistry,
+                restTemplateBeanConfiguration::getUploadRequestFactory,
+                template -> asyncExecutorRegistry.forProfile(restTemplateBeanConfiguration.getProfileName(template)));
     }
 
     /**
@@ -152,14 +294,130 @@ public class ApiFrameworkConfiguration {
      * 
      * <p>This factory is responsible for creating ApiClient instances that handle
      * SOAP protocol communications. It uses the XmlMapper for XML processing
-     * required by SOAP messages.</p>
+     * required by SOAP messages. Async calls run on the bounded executor of the
+     * client's RestTemplate profile.</p>
      * 
-     * @param xmlMapper The XML mapper for SOAP message processing
+     * @param xmlCodecRegistry Codec registry of the XML mapper for SOAP message processing
+     * @param restTemplateBeanConfiguration Provides the profile of each RestTemplate
+     * @param asyncExecutorRegistry Per-profile async executors
      * @return SoapClientFactory instance
      */
     @Bean
-    public SoapClientFactory soapClientFactory(XmlMapper xmlMapper) {
-        return new SoapClientFactory(xmlMapper);
+    public SoapClientFactory soapClientFactory(@Qualifier("xmlCodecRegistry") CodecRegistry xmlCodecRegistry,
+                                               RestTemplateBeanConfiguration restTemplateBeanConfiguration,
+                                               AsyncExecutorRegistry asyncExecutorRegistry) {
+        return new SoapClientFactory(xmlCodecRegistry,
+                template -> asyncExecutorRegistry.forProfile(restTemplateBeanConfiguration.getProfileName(template)));
+    }
+
+    /**
+     * Creates the registry of per-profile async executors.
+     * 
+     * <p>Each RestTemplate profile gets its own bounded thread pool, sized from
+     * {@code api.framework.async} and {@code api.framework.profiles.<profile>.async}.
+     * Pools are created on first use and shut down when the application context closes.</p>
+     * 
+     * @param apiProperties Framework configuration properties
+     * @return AsyncExecutorRegistry instance
+     */
+    @Bean
+    public AsyncExecutorRegistry asyncExecutorRegistry(ApiProperties apiProperties) {
+        return new AsyncExecutorRegistry(apiProperties);
+    }
+
+    /**
+     * Creates the registry of per-profile HTTP transport engines.
+     * 
+     * <p>Profiles default to their blocking RestTemplate; profiles configured with
+     * {@code transport.engine: jdk-http-client} get a non-blocking transport that is
+     * closed when the application context closes.</p>
+     * 
+     * @param restTemplateBeanConfiguration Provides each RestTemplate's profile and engine
+     * @param asyncExecutorRegistry Executors for blocking transports
+     * @return HttpTransportRegistry instance
+     */
+    @Bean
+    public HttpTransportRegistry httpTransportRegistry(RestTemplateBeanConfiguration restTemplateBeanConfiguration,
+                                                       AsyncExecutorRegistry asyncExecutorRegistry) {
+        return new HttpTransportRegistry(restTemplateBeanConfiguration, asyncExecutorRegistry);
+    }
+
+    /**
+     * Creates the registry of per-profile request hedging policies.
+     * 
+     * <p>Hedging is opt-in per profile ({@code api.framework.profiles.<profile>.hedging});
+     * clients of other profiles are not wrapped. The hedge timer is stopped when the
+     * application context closes.</p>
+     * 
+     * @param apiProperties Framework configuration properties
+     * @return HedgingRegistry instance
+     */
+    @Bean
+    public HedgingRegistry hedgingRegistry(ApiProperties apiProperties) {
+        return new HedgingRegistry(apiProperties);
+    }
+
+    /**
+     * Creates the registry of per-profile request coalescers.
+     * 
+     * <p>Coalescing is opt-in per profile ({@code api.framework.profiles.<profile>.coalescing});
+     * clients of other profiles are not wrapped.</p>
+     * 
+     * @param apiProperties Framework configuration properties
+     * @return CoalescingRegistry instance
+     */
+    @Bean
+    public CoalescingRegistry coalescingRegistry(ApiProperties apiProperties) {
+        return new CoalescingRegistry(apiProperties);
+    }
+
+    /**
+     * Creates the registry of per-profile HTTP response caches.
+     * 
+     * <p>Caching is opt-in per profile ({@code api.framework.profiles.<profile>.cache});
+     * clients of other profiles are not wrapped.</p>
+     * 
+     * @param apiProperties Framework configuration properties
+     * @param jsonCodecRegistry Reads typed bodies from cached responses
+     * @return ResponseCacheRegistry instance
+     */
+    @Bean
+    public ResponseCacheRegistry responseCacheRegistry(
+            ApiProperties apiProperties, @Qualifier("jsonCodecRegistry") CodecRegistry jsonCodecRegistry) {
+        return new ResponseCacheRegistry(apiProperties, jsonCodecRegistry);
+    }
+
+    /**
+     * Creates the registry of shared API clients.
+     * 
+     * <p>The registry builds one REST and one SOAP client per profile or registered
+     * RestTemplate and reuses them for every call, so services never create clients or
+     * thread pools on the request path. Each client runs its async calls on the executor of its
+     * RestTemplate's profile, and REST clients use the profile's transport engine,
+     * hedging policy, request coalescer and response cache.</p>
+     * 
+     * @param restClientFactory Factory used to build REST clients
+     * @param soapClientFactory Factory used to build SOAP clients
+     * @param asyncExecutorRegistry Per-profile async executors
+     * @param httpTransportRegistry Per-profile transport engines
+     * @param hedgingRegistry Per-profile hedging policies
+     * @param coalescingRegistry Per-profile request coalescers
+     * @param responseCacheRegistry Per-profile response caches
+     * @param restTemplateBeanConfiguration Resolves the profile of a RestTemplate
+     * @return ApiClientRegistry instance
+     */
+    @Bean
+    public ApiClientRegistry apiClientRegistry(RestClientFactory restClientFactory, SoapClientFactory soapClientFactory,
+                                               AsyncExecutorRegistry asyncExecutorRegistry,
+                                               HttpTransportRegistry httpTransportRegistry,
+                                               HedgingRegistry hedgingRegistry,
+                                               CoalescingRegistry coalescingRegistry,
+                                               ResponseCacheRegistry responseCacheRegistry,
+                                               RestTemplateBeanConfiguration restTemplateBeanConfiguration) {
+        return new ApiClientRegistry(restClientFactory, soapClientFactory, asyncExecutorRegistry,
+                httpTransportRegistry, hedgingRegistry, coalescingRegistry, responseCacheRegistry,
+                restTemplateBeanConfiguration::getProfileName,
+                restTemplate -> restTemplateBeanConfiguration.getProfile(restTemplate) != null);
     }
 
     /**
@@ -1,5 +1,8 @@
 package com.company.apiframework.config;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -22,6 +25,18 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *     enable-logging: true
  *     enable-mocking: false
  *     mock-server-url: "http://localhost:8089"
+ *     route-cache-size: 1024
+ *     route-cache-key-segments: 1
+ *     async:
+ *       max-pool-size: 32
+ *       queue-capacity: 500
+ *     profiles:
+ *       batch-api:
+ *         async:
+ *           rejection-policy: fail-fast
+ *       high-volume-api:
+ *         transport:
+ *           engine: jdk-http-client
  * </pre>
  * 
  * <p><strong>Property Categories:</strong></p>
@@ -159,6 +174,118 @@ public class ApiProperties {
      * <p><strong>Note:</strong> Only used when enableMocking is true and external mocking is configured</p>
      */
     private String mockServerUrl = "http://localhost:8089";
+    
+    /**
+     * Maximum number of cached URL routing decisions.
+     * 
+     * <p>ApiService caches which RestTemplate serves each route prefix (normalized
+     * scheme + host + the first {@code route-cache-key-segments} path segments), so
+     * repeated calls below the same prefix skip pattern matching. The cache is
+     * invalidated whenever a custom RestTemplate registration changes. Set to 0 to
+     * disable the cache.</p>
+     * 
+     * <p><strong>Default:</strong> 1024</p>
+     * <p><strong>Recommended Range:</strong> 256-10000 (number of distinct route prefixes)</p>
+     */
+    private int routeCacheSize = 1024;
+    
+    /**
+     * Number of leading path segments in a route cache key.
+     * 
+     * <p>Deeper segments, typically resource IDs such as {@code /users/123}, are left
+     * out of the key so that they do not multiply the cached entries. Routing stays
+     * exact: patterns that look beyond the key are still checked per URL.</p>
+     * 
+     * <p><strong>Default:</strong> 1</p>
+     */
+    private int routeCacheKeySegments = 1;
+    
+    /**
+     * Default maximum number of requests of one bulk call in flight at once.
+     * 
+     * <p>Bulk calls ({@code ApiService.executeAll}) are additionally limited per
+     * profile and per route to the profile's connection pool size, shared by all bulk
+     * calls, so this mainly bounds a single call that spans several pools.</p>
+     * 
+     * <p><strong>Default:</strong> 64</p>
+     */
+    private int bulkMaxConcurrency = 64;
+    
+    /**
+     * Default async execution settings for all RestTemplate profiles.
+     * 
+     * <p>Async calls run on a bounded thread pool per profile. These settings apply
+     * to every profile that has no {@code profiles.<name>.async} section.</p>
+     * 
+     * @see AsyncProperties
+     */
+    private AsyncProperties async = new AsyncProperties();
+    
+    /**
+     * Default HTTP transport engine settings for all RestTemplate profiles.
+     * 
+     * @see TransportProperties
+     */
+    private TransportProperties transport = new TransportProperties();
+    
+    /**
+     * Default hedged request settings for all RestTemplate profiles (disabled).
+     * 
+     * @see HedgingProperties
+     */
+    private HedgingProperties hedging = new HedgingProperties();
+    
+    /**
+     * Default in-flight request coalescing settings for all RestTemplate profiles (disabled).
+     * 
+     * @see CoalescingProperties
+     */
+    private CoalescingProperties coalescing = new CoalescingProperties();
+    
+    /**
+     * Default HTTP response cache settings for all RestTemplate profiles (disabled).
+     * 
+     * @see CacheProperties
+     */
+    private CacheProperties cache = new CacheProperties();
+    
+    /**
+     * Default HTTP compression settings for all RestTemplate profiles (disabled).
+     * 
+     * @see CompressionProperties
+     */
+    private CompressionProperties compression = new CompressionProperties();
+    
+    /**
+     * Default connection pool lifecycle settings for all RestTemplate profiles.
+     * 
+     * @see PoolProperties
+     */
+    private PoolProperties pool = new PoolProperties();
+    
+    /**
+     * Default connection pool warm-up settings for all RestTemplate profiles (disabled).
+     * 
+     * @see WarmupProperties
+     */
+    private WarmupProperties warmup = new WarmupProperties();
+    
+    /**
+     * Default adaptive connection pool sizing settings for all RestTemplate profiles (disabled).
+     * 
+     * @see AdaptivePoolProperties
+     */
+    private AdaptivePoolProperties adaptivePool = new AdaptivePoolProperties();
+    
+    /**
+     * Per-profile overrides, keyed by RestTemplate profile name.
+     * 
+     * <p>Profile names are those used by RestTemplateBeanConfiguration:
+     * "default", "payment-api", "batch-api", "external-api" and "high-volume-api".</p>
+     * 
+     * @see ProfileProperties
+     */
+    private Map<String, ProfileProperties> profiles = new LinkedHashMap<>();
 
     // Getters and Setters with additional documentation
     
@@ -305,4 +432,329 @@ public class ApiProperties {
     public void setMockServerUrl(String mockServerUrl) {
         this.mockServerUrl = mockServerUrl;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Gets the maximum number of cached routing decisions.
+     * @return Route cache size (0 means disabled)
+     */
+    public int getRouteCacheSize() {
+        return routeCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of cached routing decisions.
+     * @param routeCacheSize Route cache size (0 disables the cache)
+     */
+    public void setRouteCacheSize(int routeCacheSize) {
+        this.routeCacheSize = routeCacheSize;
+    }
+
+    /**
+     * Gets the number of leading path segments in a route cache key.
+     * @return Path segments per key
+     */
+    public int getRouteCacheKeySegments() {
+        return routeCacheKeySegments;
+    }
+
+    /**
+     * Sets the number of leading path segments in a route cache key.
+     * @param routeCacheKeySegments Path segments per key (0 keys on scheme and host only)
+     */
+    public void setRouteCacheKeySegments(int routeCacheKeySegments) {
+        this.routeCacheKeySegments = routeCacheKeySegments;
+    }
+
+    /**
+     * Gets the default in-flight limit of a bulk call.
+     * @return Maximum concurrent requests per bulk call
+     */
+    public int getBulkMaxConcurrency() {
+        return bulkMaxConcurrency;
+    }
+
+    /**
+     * Sets the default in-flight limit of a bulk call.
+     * @param bulkMaxConcurrency Maximum concurrent requests per bulk call (at least 1)
+     */
+    public void setBulkMaxConcurrency(int bulkMaxConcurrency) {
+        this.bulkMaxConcurrency = bulkMaxConcurrency;
+    }
+
+    /**
+     * Gets the default async execution settings.
+     * @return Default async settings
+     */
+    public AsyncProperties getAsync() {
+        return async;
+    }
+
+    /**
+     * Sets the default async execution settings.
+     * @param async Default async settings
+     */
+    public void setAsync(AsyncProperties async) {
+        this.async = async;
+    }
+
+    /**
+     * Gets the default transport engine settings.
+     * @return Default transport settings
+     */
+    public TransportProperties getTransport() {
+        return transport;
+    }
+
+    /**
+     * Sets the default transport engine settings.
+     * @param transport Default transport settings
+     */
+    public void setTransport(TransportProperties transport) {
+        this.transport = transport;
+    }
+
+    /**
+     * Gets the default hedged request settings.
+     * @return Default hedging settings
+     */
+    public HedgingProperties getHedging() {
+        return hedging;
+    }
+
+    /**
+     * Sets the default hedged request settings.
+     * @param hedging Default hedging settings
+     */
+    public void setHedging(HedgingProperties hedging) {
+        this.hedging = hedging;
+    }
+
+    /**
+     * Gets the default request coalescing settings.
+     * @return Default coalescing settings
+     */
+    public CoalescingProperties getCoalescing() {
+        return coalescing;
+    }
+
+    /**
+     * Sets the default request coalescing settings.
+     * @param coalescing Default coalescing settings
+     */
+    public void setCoalescing(CoalescingProperties coalescing) {
+        this.coalescing = coalescing;
+    }
+
+    /**
+     * Gets the default HTTP response cache settings.
+     * @return Default cache settings
+     */
+    public CacheProperties getCache() {
+        return cache;
+    }
+
+    /**
+     * Sets the default HTTP response cache settings.
+     * @param cache Default cache settings
+     */
+    public void setCache(CacheProperties cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Gets the default HTTP compression settings.
+     * @return Default compression settings
+     */
+    public CompressionProperties getCompression() {
+        return compression;
+    }
+
+    /**
+     * Sets the default HTTP compression settings.
+     * @param compression Default compression settings
+     */
+    public void setCompression(CompressionProperties compression) {
+        this.compression = compression;
+    }
+
+    /**
+     * Gets the default connection pool lifecycle settings.
+     * @return Default pool settings
+     */
+    public PoolProperties getPool() {
+        return pool;
+    }
+
+    /**
+     * Sets the default connection pool lifecycle settings.
+     * @param pool Default pool settings
+     */
+    public void setPool(PoolProperties pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Gets the default connection pool warm-up settings.
+     * @return Default warm-up settings
+     */
+    public WarmupProperties getWarmup() {
+        return warmup;
+    }
+
+    /**
+     * Sets the default connection pool warm-up settings.
+     * @param warmup Default warm-up settings
+     */
+    public void setWarmup(WarmupProperties warmup) {
+        this.warmup = warmup;
+    }
+
+    /**
+     * Gets the default adaptive connection pool sizing settings.
+     * @return Default adaptive pool settings
+     */
+    public AdaptivePoolProperties getAdaptivePool() {
+        return adaptivePool;
+    }
+
+    /**
+     * Sets the default adaptive connection pool sizing settings.
+     * @param adaptivePool Default adaptive pool settings
+     */
+    public void setAdaptivePool(AdaptivePoolProperties adaptivePool) {
+        this.adaptivePool = adaptivePool;
+    }
+
+    /**
+     * Gets the per-profile overrides.
+     * @return Mutable map of profile name to overrides
+     */
+    public Map<String, ProfileProperties> getProfiles() {
+        return profiles;
+    }
+
+    /**
+     * Sets the per-profile overrides.
+     * @param profiles Map of profile name to overrides
+     */
+    public void setProfiles(Map<String, ProfileProperties> profiles) {
+        this.profiles = profiles;
+    }
+
+    /**
+     * Resolves the effective async settings for a profile.
+     * @param profileName RestTemplate profile name
+     * @return Profile-specific settings if configured, otherwise the defaults
+     */
+    public AsyncProperties resolveAsync(String profileName) {
+        ProfileProperties profile = profiles.get(profileName);
+        if (profile != null && profile.getAsync() != null) {
+            return profile.getAsync();
+        }
+        return async;
+    }
+
+    /**
+     * Resolves the effective transport settings for a profile.
+     * @param profileName RestTemplate profile name
+     * @return Profile-specific settings if configured, otherwise the defaults
+     */
+    public TransportProperties resolveTransport(String profileName) {
+        ProfileProperties profile = profiles.get(profileName);
+        if (profile != null && profile.getTransport() != null) {
+            return profile.getTransport();
+        }
+        return transport;
+    }
+
+    /**
+     * Resolves the effective hedged request settings for a profile.
+     * @param profileName RestTemplate profile name
+     * @return Profile-specific settings if configured, otherwise the defaults
+     */
+    public HedgingProperties resolveHedging(String profileName) {
+        ProfileProperties profile = profiles.get(profileName);
+        if (profile != null && profile.getHedging() != null) {
+            return profile.getHedging();
+        }
+        return hedging;
+    }
+
+    /**
+     * Resolves the effective request coalescing settings for a profile.
+     * @param profileName RestTemplate profile name
+     * @return Profile-specific settings if configured, otherwise the defaults
+     */
+    public CoalescingProperties resolveCoalescing(String profileName) {
+        ProfileProperties profile = profiles.get(profileName);
+        if (profile != null && profile.getCoalescing() != null) {
+            return profile.getCoalescing();
+        }
+        return coalescing;
+    }
+
+    /**
+     * Resolves the effective HTTP response cache settings for a profile.
+     * @param profileName RestTemplate profile name
+     * @return Profile-specific settings if configured, otherwise the defaults
+     */
+    public CacheProperties resolveCache(String profileName) {
+        ProfileProperties profile = profiles.get(profileName);
+        if (profile != null && profile.getCache() != null) {
+            return profile.getCache();
+        }
+        return cache;
+    }
+
+    /**
+     * Resolves the effective HTTP compression settings for a profile.
+     * @param profileName RestTemplate profile name
+     * @return Profile-specific settings if configured, otherwise the defaults
+     */
+    public CompressionProperties resolveCompression(String profileName) {
+        ProfileProperties profile = profiles.get(profileName);
+        if (profile != null && profile.getCompression() != null) {
+            return profile.getCompression();
+        }
+        return compression;
+    }
+
+    /**
+     * Resolves the effective connection pool lifecycle settings for a profile.
+     * @param profileName RestTemplate profile name
+     * @return Profile-specific settings if configured, otherwise the defaults
+     */
+    public PoolProperties resolvePool(String profileName) {
+        ProfileProperties profile = profiles.get(profileName);
+        if (profile != null && profile.getPool() != null) {
+            return profile.getPool();
+        }
+        return pool;
+    }
+
+    /**
+     * Resolves the effective connection pool warm-up settings for a profile.
+     * @param profileName RestTemplate profile name
+     * @return Profile-specific settings if configured, otherwise the defaults
+     */
+    public WarmupProperties resolveWarmup(String profileName) {
+        ProfileProperties profile = profiles.get(profileName);
+        if (profile != null && profile.getWarmup() != null) {
+            return profile.getWarmup();
+        }
+        return warmup;
+    }
+
+    /**
+     * Resolves the effective adaptive connection pool sizing settings for a profile.
+     * @param profileName RestTemplate profile name
+     * @return Profile-specific settings if configured, otherwise the defaults
+     */
+    public AdaptivePoolProperties resolveAdaptivePool(String profileName) {
+        ProfileProperties profile = profiles.get(profileName);
+        if (profile != null && profile.getAdaptivePool() != null) {
+            return profile.getAdaptivePool();
+        }
+        return adaptivePool;
+    }
+}
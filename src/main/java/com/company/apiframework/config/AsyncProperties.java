@@ -0,0 +1,172 @@
+package com.company.apiframework.config;
+
+/**
+ * Asynchronous execution settings for one RestTemplate profile.
+ *
+ * <p>Each profile gets its own bounded thread pool so that a burst of async calls
+ * against one partner cannot exhaust threads for the others. Settings are bound
+ * from {@code api.framework.async} (defaults for all profiles) and
+ * {@code api.framework.profiles.<profile>.async} (per-profile override).</p>
+ *
+ * <p><strong>Example Configuration (application.yml):</strong></p>
+ * <pre>
+ * api:
+ *   framework:
+ *     async:
+ *       core-pool-size: 8
+ *       max-pool-size: 32
+ *       queue-capacity: 500
+ *       rejection-policy: caller-runs
+ *     profiles:
+ *       batch-api:
+ *         async:
+ *           max-pool-size: 4
+ *           queue-capacity: 50
+ *           rejection-policy: fail-fast
+ * </pre>
+ *
+ * <p><strong>Virtual threads:</strong> with {@code mode: virtual} (Java 21+) every
+ * call runs on its own virtual thread and the pool sizes are ignored; concurrency is
+ * limited by {@code max-concurrency} permits instead, and {@code queue-capacity}
+ * bounds the number of calls waiting for a permit. On older JVMs the profile falls
+ * back to the platform thread pool.</p>
+ *
+ * <p><strong>Note:</strong> A per-profile {@code async} section replaces the defaults
+ * as a whole; unset values fall back to the built-in defaults below.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see ApiProperties
+ */
+public class AsyncProperties {
+
+    /**
+     * Kind of threads async calls run on.
+     */
+    public enum Mode {
+        /** Bounded pool of platform (OS) threads. */
+        PLATFORM,
+        /** One virtual thread per call, limited by a semaphore (requires Java 21). */
+        VIRTUAL
+    }
+
+    /**
+     * What to do with an async call when all threads are busy and the queue is full.
+     */
+    public enum RejectionPolicy {
+        /** Run the call on the submitting thread (natural back-pressure). */
+        CALLER_RUNS,
+        /** Fail the new call immediately with error code ASYNC_REJECTED. */
+        FAIL_FAST,
+        /** Drop the oldest queued call (failed with ASYNC_SHED) to make room for the new one. */
+        SHED
+    }
+
+    /**
+     * Thread mode for async calls.
+     *
+     * <p><strong>Default:</strong> PLATFORM</p>
+     */
+    private Mode mode = Mode.PLATFORM;
+
+    /**
+     * Maximum number of calls running at once in virtual mode (ignored in platform mode).
+     *
+     * <p><strong>Default:</strong> 1000</p>
+     * <p><strong>Recommended Range:</strong> 100-50000, bounded in practice by the
+     * partner's capacity and the profile's connection pool</p>
+     */
+    private int maxConcurrency = 1000;
+
+    /**
+     * Number of threads kept alive even when idle.
+     *
+     * <p><strong>Default:</strong> 8</p>
+     */
+    private int corePoolSize = 8;
+
+    /**
+     * Maximum number of threads; extra threads are only started once the queue is full.
+     *
+     * <p><strong>Default:</strong> 32</p>
+     */
+    private int maxPoolSize = 32;
+
+    /**
+     * Maximum number of calls waiting for a thread (or, in virtual mode, for a permit).
+     *
+     * <p><strong>Default:</strong> 500</p>
+     */
+    private int queueCapacity = 500;
+
+    /**
+     * Idle time in milliseconds after which threads above the core size are stopped.
+     *
+     * <p><strong>Default:</strong> 60000ms (1 minute)</p>
+     */
+    private long keepAliveMs = 60000;
+
+    /**
+     * Policy applied when the pool and queue are saturated.
+     *
+     * <p><strong>Default:</strong> CALLER_RUNS</p>
+     */
+    private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public int getCorePoolSize() {
+        return corePoolSize;
+    }
+
+    public void setCorePoolSize(int corePoolSize) {
+        this.corePoolSize = corePoolSize;
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public void setMaxPoolSize(int maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public long getKeepAliveMs() {
+        return keepAliveMs;
+    }
+
+    public void setKeepAliveMs(long keepAliveMs) {
+        this.keepAliveMs = keepAliveMs;
+    }
+
+    public RejectionPolicy getRejectionPolicy() {
+        return rejectionPolicy;
+    }
+
+    public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+        this.rejectionPolicy = rejectionPolicy;
+    }
+}
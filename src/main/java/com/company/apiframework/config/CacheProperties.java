@@ -0,0 +1,225 @@
+package com.company.apiframework.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HTTP response cache settings for one RestTemplate profile.
+ *
+ * <p>When enabled, successful GET responses that HTTP allows a shared cache to
+ * store ({@code Cache-Control}, {@code Expires}) are kept in memory and served
+ * while fresh. Stale entries with an {@code ETag} or {@code Last-Modified}
+ * validator are revalidated with a conditional request; a {@code 304 Not Modified}
+ * answer refreshes the entry and counts as a hit. Responses without explicit
+ * freshness or a validator are never stored. Settings are bound from
+ * {@code api.framework.cache} (defaults) and
+ * {@code api.framework.profiles.<profile>.cache} (per-profile override).</p>
+ *
+ * <p>Entries live in one of two tiers. The {@link Tier#HEAP heap} tier keeps
+ * responses as objects. The {@link Tier#OFF_HEAP off-heap} tier keeps them
+ * serialized in direct memory, or in a memory-mapped file when
+ * {@code off-heap-directory} is set, so large payloads add nothing to the GC's
+ * work; only the index stays on the heap and bodies are decoded when served.
+ * {@code tier} selects the tier of the profile's routes and
+ * {@code off-heap-routes} sends selected routes off-heap regardless.</p>
+ *
+ * <p><strong>Example Configuration (application.yml):</strong></p>
+ * <pre>
+ * api:
+ *   framework:
+ *     profiles:
+ *       external-api:
+ *         cache:
+ *           enabled: true
+ *           routes:
+ *             - https://api.external.com/catalog/*
+ *           max-size-bytes: 33554432
+ *           off-heap-routes:
+ *             - https://api.external.com/reports/*
+ *           off-heap-max-size-bytes: 536870912
+ * </pre>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see ApiProperties#resolveCache(String)
+ */
+public class CacheProperties {
+
+    /**
+     * Where cached responses are kept.
+     */
+    public enum Tier {
+        /** Response objects on the Java heap */
+        HEAP,
+        /** Serialized responses outside the heap (direct memory or a memory-mapped file) */
+        OFF_HEAP,
+        /** Not cached */
+        NONE
+    }
+
+    /**
+     * Whether responses of the profile are cached.
+     *
+     * <p><strong>Default:</strong> false</p>
+     */
+    private boolean enabled = false;
+
+    /**
+     * URL patterns ({@code *} wildcards) whose responses are cached; empty caches every route of the profile.
+     *
+     * <p><strong>Default:</strong> empty</p>
+     */
+    private List<String> routes = new ArrayList<>();
+
+    /**
+     * Tier of the routes above.
+     *
+     * <p><strong>Default:</strong> HEAP</p>
+     */
+    private Tier tier = Tier.HEAP;
+
+    /**
+     * URL patterns whose responses are cached in the off-heap tier, whatever {@code tier} says.
+     *
+     * <p><strong>Default:</strong> empty</p>
+     */
+    private List<String> offHeapRoutes = new ArrayList<>();
+
+    /**
+     * Maximum number of cached responses.
+     *
+     * <p><strong>Default:</strong> 1000</p>
+     */
+    private int maxEntries = 1000;
+
+    /**
+     * Maximum total size of the cached responses (bodies and headers) in bytes.
+     *
+     * <p><strong>Default:</strong> 10485760 (10 MB)</p>
+     */
+    private long maxSizeBytes = 10L * 1024 * 1024;
+
+    /**
+     * Largest single response that is cached, in bytes.
+     *
+     * <p><strong>Default:</strong> 524288 (512 KB)</p>
+     */
+    private long maxEntrySizeBytes = 512L * 1024;
+
+    /**
+     * Maximum total size of the off-heap tier in bytes; this memory is reserved up front.
+     *
+     * <p><strong>Default:</strong> 67108864 (64 MB)</p>
+     */
+    private long offHeapMaxSizeBytes = 64L * 1024 * 1024;
+
+    /**
+     * Largest single response that is cached off-heap, in bytes.
+     *
+     * <p><strong>Default:</strong> 8388608 (8 MB)</p>
+     */
+    private long offHeapMaxEntrySizeBytes = 8L * 1024 * 1024;
+
+    /**
+     * Allocation unit of the off-heap tier; each response occupies whole blocks.
+     *
+     * <p><strong>Default:</strong> 4096</p>
+     */
+    private int offHeapBlockSizeBytes = 4096;
+
+    /**
+     * Directory of the memory-mapped file backing the off-heap tier; unset uses direct memory.
+     *
+     * <p><strong>Default:</strong> unset</p>
+     */
+    private String offHeapDirectory;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(List<String> routes) {
+        this.routes = routes;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public long getMaxSizeBytes() {
+        return maxSizeBytes;
+    }
+
+    public void setMaxSizeBytes(long maxSizeBytes) {
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    public long getMaxEntrySizeBytes() {
+        return maxEntrySizeBytes;
+    }
+
+    public void setMaxEntrySizeBytes(long maxEntrySizeBytes) {
+        this.maxEntrySizeBytes = maxEntrySizeBytes;
+    }
+
+    public Tier getTier() {
+        return tier;
+    }
+
+    public void setTier(Tier tier) {
+        this.tier = tier;
+    }
+
+    public List<String> getOffHeapRoutes() {
+        return offHeapRoutes;
+    }
+
+    public void setOffHeapRoutes(List<String> offHeapRoutes) {
+        this.offHeapRoutes = offHeapRoutes;
+    }
+
+    public long getOffHeapMaxSizeBytes() {
+        return offHeapMaxSizeBytes;
+    }
+
+    public void setOffHeapMaxSizeBytes(long offHeapMaxSizeBytes) {
+        this.offHeapMaxSizeBytes = offHeapMaxSizeBytes;
+    }
+
+    public long getOffHeapMaxEntrySizeBytes() {
+        return offHeapMaxEntrySizeBytes;
+    }
+
+    public void setOffHeapMaxEntrySizeBytes(long offHeapMaxEntrySizeBytes) {
+        this.offHeapMaxEntrySizeBytes = offHeapMaxEntrySizeBytes;
+    }
+
+    public int getOffHeapBlockSizeBytes() {
+        return offHeapBlockSizeBytes;
+    }
+
+    public void setOffHeapBlockSizeBytes(int offHeapBlockSizeBytes) {
+        this.offHeapBlockSizeBytes = offHeapBlockSizeBytes;
+    }
+
+    public String getOffHeapDirectory() {
+        return offHeapDirectory;
+    }
+
+    public void setOffHeapDirectory(String offHeapDirectory) {
+        this.offHeapDirectory = offHeapDirectory;
+    }
+}
@@ -0,0 +1,87 @@
+package com.company.apiframework.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * In-flight request coalescing settings for one RestTemplate profile.
+ *
+ * <p>When enabled, concurrent identical requests share one upstream call: the first
+ * caller sends it and every caller that asks for the same thing while it is in
+ * flight receives the same outcome. Nothing is cached; once the call completes, the
+ * next request goes upstream again. Settings are bound from
+ * {@code api.framework.coalescing} (defaults) and
+ * {@code api.framework.profiles.<profile>.coalescing} (per-profile override).</p>
+ *
+ * <p>Requests are identical when method, URL, parameters, response type and the
+ * values of the {@code key-headers} match. Headers not listed there are ignored,
+ * so list every header that changes the upstream's answer.</p>
+ *
+ * <p><strong>Example Configuration (application.yml):</strong></p>
+ * <pre>
+ * api:
+ *   framework:
+ *     profiles:
+ *       default:
+ *         coalescing:
+ *           enabled: true
+ *           key-headers: Authorization,Accept,X-Tenant-Id
+ * </pre>
+ *
+ * <p><strong>Note:</strong> Only requests without a body or deadline and with a
+ * method listed in {@code methods} are coalesced.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see ApiProperties#resolveCoalescing(String)
+ */
+public class CoalescingProperties {
+
+    /**
+     * Whether identical in-flight requests of the profile share one call.
+     *
+     * <p><strong>Default:</strong> false</p>
+     */
+    private boolean enabled = false;
+
+    /**
+     * HTTP methods that may be coalesced.
+     *
+     * <p><strong>Default:</strong> GET, HEAD</p>
+     */
+    private List<String> methods = new ArrayList<>(Arrays.asList("GET", "HEAD"));
+
+    /**
+     * Request headers that are part of the coalescing key (case-insensitive).
+     *
+     * <p><strong>Default:</strong> Authorization, Cookie, Accept, Accept-Language</p>
+     */
+    private List<String> keyHeaders = new ArrayList<>(Arrays.asList("Authorization", "Cookie", "Accept",
+            "Accept-Language"));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getMethods() {
+        return methods;
+    }
+
+    public void setMethods(List<String> methods) {
+        this.methods = methods;
+    }
+
+    public List<String> getKeyHeaders() {
+        return keyHeaders;
+    }
+
+    public void setKeyHeaders(List<String> keyHeaders) {
+        this.keyHeaders = keyHeaders;
+    }
+}
@@ -0,0 +1,156 @@
+package com.company.apiframework.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * HTTP compression settings for one RestTemplate profile.
+ *
+ * <p>When enabled, requests advertise {@code accept-encodings} and compressed
+ * responses are decompressed as the body is read, never buffered. Request bodies of
+ * at least {@code request-threshold-bytes} are compressed with
+ * {@code request-encoding} if {@code compress-requests} is set; only turn that on for
+ * upstreams known to accept compressed requests. Settings are bound from
+ * {@code api.framework.compression} (defaults) and
+ * {@code api.framework.profiles.<profile>.compression} (per-profile override).</p>
+ *
+ * <p><strong>Example Configuration (application.yml):</strong></p>
+ * <pre>
+ * api:
+ *   framework:
+ *     profiles:
+ *       batch-api:
+ *         compression:
+ *           enabled: true
+ *           compress-requests: true
+ *           request-threshold-bytes: 16384
+ *           routes: https://batch.processor.com/*
+ * </pre>
+ *
+ * <p><strong>Note:</strong> Profiles with compression disabled keep the HTTP
+ * client's built-in gzip/deflate response handling. Streamed uploads are never
+ * compressed.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see ApiProperties#resolveCompression(String)
+ */
+public class CompressionProperties {
+
+    /**
+     * Content coding of compressed request bodies.
+     */
+    public enum Encoding {
+        /** gzip (RFC 1952); accepted by most servers that accept compressed requests. */
+        GZIP,
+        /** zlib-wrapped deflate (RFC 1950). */
+        DEFLATE
+    }
+
+    /**
+     * Whether the profile negotiates compression itself and records compression metrics.
+     *
+     * <p><strong>Default:</strong> false</p>
+     */
+    private boolean enabled = false;
+
+    /**
+     * URL patterns ({@code *} wildcards) compression applies to; empty applies it to every route of the profile.
+     *
+     * <p><strong>Default:</strong> empty</p>
+     */
+    private List<String> routes = new ArrayList<>();
+
+    /**
+     * Content codings sent in {@code Accept-Encoding} (gzip, deflate).
+     *
+     * <p><strong>Default:</strong> gzip, deflate</p>
+     */
+    private List<String> acceptEncodings = new ArrayList<>(Arrays.asList("gzip", "deflate"));
+
+    /**
+     * Whether request bodies are compressed.
+     *
+     * <p><strong>Default:</strong> false</p>
+     */
+    private boolean compressRequests = false;
+
+    /**
+     * Smallest request body that is compressed; smaller bodies are not worth the CPU.
+     *
+     * <p><strong>Default:</strong> 8192</p>
+     */
+    private int requestThresholdBytes = 8192;
+
+    /**
+     * Coding of compressed request bodies.
+     *
+     * <p><strong>Default:</strong> GZIP</p>
+     */
+    private Encoding requestEncoding = Encoding.GZIP;
+
+    /**
+     * Deflater level for request bodies, 1 (fastest) to 9 (smallest).
+     *
+     * <p><strong>Default:</strong> 6</p>
+     */
+    private int level = 6;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(List<String> routes) {
+        this.routes = routes;
+    }
+
+    public List<String> getAcceptEncodings() {
+        return acceptEncodings;
+    }
+
+    public void setAcceptEncodings(List<String> acceptEncodings) {
+        this.acceptEncodings = acceptEncodings;
+    }
+
+    public boolean isCompressRequests() {
+        return compressRequests;
+    }
+
+    public void setCompressRequests(boolean compressRequests) {
+        this.compressRequests = compressRequests;
+    }
+
+    public int getRequestThresholdBytes() {
+        return requestThresholdBytes;
+    }
+
+    public void setRequestThresholdBytes(int requestThresholdBytes) {
+        this.requestThresholdBytes = requestThresholdBytes;
+    }
+
+    public Encoding getRequestEncoding() {
+        return requestEncoding;
+    }
+
+    public void setRequestEncoding(Encoding requestEncoding) {
+        this.requestEncoding = requestEncoding;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public void setLevel(int level) {
+        this.level = level;
+    }
+}
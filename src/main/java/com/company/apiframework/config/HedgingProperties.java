@@ -0,0 +1,147 @@
+package com.company.apiframework.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Hedged request settings for one RestTemplate profile.
+ *
+ * <p>When enabled, an idempotent call that has not answered after the hedge delay
+ * is sent a second time; the first successful response wins and the other attempt
+ * is cancelled. This trims the latency tail caused by a slow connection or server
+ * instance at the cost of some duplicate load, which the hedge budget caps. Settings
+ * are bound from {@code api.framework.hedging} (defaults) and
+ * {@code api.framework.profiles.<profile>.hedging} (per-profile override).</p>
+ *
+ * <p>The delay is either fixed ({@code delay-ms}) or adaptive: the configured
+ * percentile of recent latencies of the request's route (scheme, host and port).
+ * Until a route has {@code min-samples} latencies, its calls are not hedged.</p>
+ *
+ * <p><strong>Example Configuration (application.yml):</strong></p>
+ * <pre>
+ * api:
+ *   framework:
+ *     profiles:
+ *       external-api:
+ *         hedging:
+ *           enabled: true
+ *           percentile: 95
+ *           budget-percent: 10
+ * </pre>
+ *
+ * <p><strong>Note:</strong> Only methods listed in {@code methods} are hedged; keep
+ * the list to methods the upstream treats as idempotent.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see ApiProperties#resolveHedging(String)
+ */
+public class HedgingProperties {
+
+    /**
+     * Whether calls of the profile are hedged.
+     *
+     * <p><strong>Default:</strong> false</p>
+     */
+    private boolean enabled = false;
+
+    /**
+     * Fixed hedge delay in milliseconds; 0 selects the adaptive percentile delay.
+     *
+     * <p><strong>Default:</strong> 0</p>
+     */
+    private long delayMs = 0;
+
+    /**
+     * Latency percentile of the route used as the adaptive hedge delay.
+     *
+     * <p><strong>Default:</strong> 95</p>
+     */
+    private double percentile = 95.0;
+
+    /**
+     * Lower bound of the adaptive hedge delay in milliseconds.
+     *
+     * <p><strong>Default:</strong> 5</p>
+     */
+    private long minDelayMs = 5;
+
+    /**
+     * Number of recent latencies a route needs before its calls are hedged adaptively.
+     *
+     * <p><strong>Default:</strong> 20</p>
+     */
+    private int minSamples = 20;
+
+    /**
+     * Extra load allowed for hedges, as a percentage of hedgeable calls.
+     *
+     * <p><strong>Default:</strong> 10 (at most one hedge per ten calls, averaged over time)</p>
+     */
+    private double budgetPercent = 10.0;
+
+    /**
+     * HTTP methods that may be hedged.
+     *
+     * <p><strong>Default:</strong> GET, HEAD, OPTIONS</p>
+     */
+    private List<String> methods = new ArrayList<>(Arrays.asList("GET", "HEAD", "OPTIONS"));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getDelayMs() {
+        return delayMs;
+    }
+
+    public void setDelayMs(long delayMs) {
+        this.delayMs = delayMs;
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public void setPercentile(double percentile) {
+        this.percentile = percentile;
+    }
+
+    public long getMinDelayMs() {
+        return minDelayMs;
+    }
+
+    public void setMinDelayMs(long minDelayMs) {
+        this.minDelayMs = minDelayMs;
+    }
+
+    public int getMinSamples() {
+        return minSamples;
+    }
+
+    public void setMinSamples(int minSamples) {
+        this.minSamples = minSamples;
+    }
+
+    public double getBudgetPercent() {
+        return budgetPercent;
+    }
+
+    public void setBudgetPercent(double budgetPercent) {
+        this.budgetPercent = budgetPercent;
+    }
+
+    public List<String> getMethods() {
+        return methods;
+    }
+
+    public void setMethods(List<String> methods) {
+        this.methods = methods;
+    }
+}
@@ -0,0 +1,160 @@
+package com.company.apiframework.config;
+
+/**
+ * Connection pool lifecycle settings for one RestTemplate profile.
+ *
+ * <p>Pool sizes stay on the profile itself; these settings decide how long pooled
+ * connections live and how long callers wait for one. Idle and expired connections
+ * are closed by a background evictor shared by all pools, so a connection the server
+ * has already dropped is rarely handed out. Connections idle for longer than
+ * {@code validate-after-inactivity-ms} are checked before reuse as a second line of
+ * defence. Settings are bound from {@code api.framework.pool} (defaults) and
+ * {@code api.framework.profiles.<profile>.pool} (per-profile override).</p>
+ *
+ * <p><strong>Example Configuration (application.yml):</strong></p>
+ * <pre>
+ * api:
+ *   framework:
+ *     profiles:
+ *       external-api:
+ *         pool:
+ *           idle-timeout-ms: 10000
+ *           keep-alive-ms: 15000
+ *           connection-request-timeout-ms: 500
+ * </pre>
+ *
+ * <p><strong>Note:</strong> Keep {@code idle-timeout-ms} and {@code keep-alive-ms}
+ * below the upstream's own keep-alive timeout (often 60s for load balancers, 5s for
+ * some application servers); a connection the server closes first is what surfaces
+ * as {@code NoHttpResponseException}.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see ApiProperties#resolvePool(String)
+ */
+public class PoolProperties {
+
+    /**
+     * Connections idle for longer than this are closed by the evictor (0 disables idle eviction).
+     *
+     * <p><strong>Default:</strong> 30000</p>
+     */
+    private long idleTimeoutMs = 30000;
+
+    /**
+     * Maximum lifetime of a connection regardless of use (0 = unlimited).
+     *
+     * <p>A finite lifetime lets DNS and load balancer changes take effect on busy pools.</p>
+     *
+     * <p><strong>Default:</strong> 300000</p>
+     */
+    private long timeToLiveMs = 300000;
+
+    /**
+     * How long an idle connection may be kept for reuse; a shorter {@code Keep-Alive: timeout}
+     * sent by the server takes precedence.
+     *
+     * <p><strong>Default:</strong> 30000</p>
+     */
+    private long keepAliveMs = 30000;
+
+    /**
+     * Connections idle for longer than this are checked for staleness before reuse (0 disables the check).
+     *
+     * <p><strong>Default:</strong> 2000</p>
+     */
+    private int validateAfterInactivityMs = 2000;
+
+    /**
+     * Maximum wait for a pooled connection when the pool is exhausted (-1 uses the profile's connection timeout).
+     *
+     * <p><strong>Default:</strong> -1</p>
+     */
+    private int connectionRequestTimeoutMs = -1;
+
+    /**
+     * How often the evictor closes expired and idle connections of the pool.
+     *
+     * <p><strong>Default:</strong> 5000</p>
+     */
+    private long evictionIntervalMs = 5000;
+
+    /**
+     * Name of a connection pool shared with other profiles (empty = the profile gets its own pool).
+     *
+     * <p>Profiles naming the same shared pool lease from one connection manager, so calls
+     * to the same host reuse sockets and TLS sessions across profiles. Each profile keeps
+     * its pool sizes as a quota on connections it may hold at once, and its own timeouts.
+     * The lifecycle settings of the first profile that joins apply to the shared pool.</p>
+     *
+     * <p><strong>Default:</strong> empty</p>
+     */
+    private String sharedPool;
+
+    /**
+     * Resolve the pool lease timeout of a profile.
+     *
+     * @param connectionTimeoutMs Connection timeout of the profile
+     * @return Lease timeout in milliseconds
+     */
+    public int resolveConnectionRequestTimeout(int connectionTimeoutMs) {
+        return connectionRequestTimeoutMs >= 0 ? connectionRequestTimeoutMs : connectionTimeoutMs;
+    }
+
+    public long getIdleTimeoutMs() {
+        return idleTimeoutMs;
+    }
+
+    public void setIdleTimeoutMs(long idleTimeoutMs) {
+        this.idleTimeoutMs = idleTimeoutMs;
+    }
+
+    public long getTimeToLiveMs() {
+        return timeToLiveMs;
+    }
+
+    public void setTimeToLiveMs(long timeToLiveMs) {
+        this.timeToLiveMs = timeToLiveMs;
+    }
+
+    public long getKeepAliveMs() {
+        return keepAliveMs;
+    }
+
+    public void setKeepAliveMs(long keepAliveMs) {
+        this.keepAliveMs = keepAliveMs;
+    }
+
+    public int getValidateAfterInactivityMs() {
+        return validateAfterInactivityMs;
+    }
+
+    public void setValidateAfterInactivityMs(int validateAfterInactivityMs) {
+        this.validateAfterInactivityMs = validateAfterInactivityMs;
+    }
+
+    public int getConnectionRequestTimeoutMs() {
+        return connectionRequestTimeoutMs;
+    }
+
+    public void setConnectionRequestTimeoutMs(int connectionRequestTimeoutMs) {
+        this.connectionRequestTimeoutMs = connectionRequestTimeoutMs;
+    }
+
+    public long getEvictionIntervalMs() {
+        return evictionIntervalMs;
+    }
+
+    public void setEvictionIntervalMs(long evictionIntervalMs) {
+        this.evictionIntervalMs = evictionIntervalMs;
+    }
+
+    public String getSharedPool() {
+        return sharedPool;
+    }
+
+    public void setSharedPool(String sharedPool) {
+        this.sharedPool = sharedPool;
+    }
+}
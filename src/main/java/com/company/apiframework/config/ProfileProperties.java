@@ -0,0 +1,152 @@
+package com.company.apiframework.config;
+
+/**
+ * Per-profile overrides for a RestTemplate profile.
+ *
+ * <p>Profiles are the named RestTemplate configurations created by
+ * {@link RestTemplateBeanConfiguration} ("default", "payment-api", "batch-api",
+ * "external-api", "high-volume-api"). Settings are bound from
+ * {@code api.framework.profiles.<profile>}; any section left unset inherits the
+ * framework-wide setting from {@link ApiProperties}.</p>
+ *
+ * <p><strong>Example Configuration (application.yml):</strong></p>
+ * <pre>
+ * api:
+ *   framework:
+ *     profiles:
+ *       payment-api:
+ *         async:
+ *           queue-capacity: 100
+ *           rejection-policy: fail-fast
+ *       high-volume-api:
+ *         transport:
+ *           engine: jdk-http-client
+ *       external-api:
+ *         hedging:
+ *           enabled: true
+ * </pre>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see ApiProperties#getProfiles()
+ */
+public class ProfileProperties {
+
+    /**
+     * Async execution settings for this profile (null inherits {@code api.framework.async}).
+     */
+    private AsyncProperties async;
+
+    /**
+     * Transport engine settings for this profile (null inherits {@code api.framework.transport}).
+     */
+    private TransportProperties transport;
+
+    /**
+     * Hedged request settings for this profile (null inherits {@code api.framework.hedging}).
+     */
+    private HedgingProperties hedging;
+
+    /**
+     * Request coalescing settings for this profile (null inherits {@code api.framework.coalescing}).
+     */
+    private CoalescingProperties coalescing;
+
+    /**
+     * HTTP response cache settings for this profile (null inherits {@code api.framework.cache}).
+     */
+    private CacheProperties cache;
+
+    /**
+     * HTTP compression settings for this profile (null inherits {@code api.framework.compression}).
+     */
+    private CompressionProperties compression;
+
+    /**
+     * Connection pool lifecycle settings for this profile (null inherits {@code api.framework.pool}).
+     */
+    private PoolProperties pool;
+
+    /**
+     * Connection pool warm-up settings for this profile (null inherits {@code api.framework.warmup}).
+     */
+    private WarmupProperties warmup;
+
+    /**
+     * Adaptive connection pool sizing settings for this profile (null inherits {@code api.framework.adaptive-pool}).
+     */
+    private AdaptivePoolProperties adaptivePool;
+
+    public AsyncProperties getAsync() {
+        return async;
+    }
+
+    public void setAsync(AsyncProperties async) {
+        this.async = async;
+    }
+
+    public TransportProperties getTransport() {
+        return transport;
+    }
+
+    public void setTransport(TransportProperties transport) {
+        this.transport = transport;
+    }
+
+    public HedgingProperties getHedging() {
+        return hedging;
+    }
+
+    public void setHedging(HedgingProperties hedging) {
+        this.hedging = hedging;
+    }
+
+    public CoalescingProperties getCoalescing() {
+        return coalescing;
+    }
+
+    public void setCoalescing(CoalescingProperties coalescing) {
+        this.coalescing = coalescing;
+    }
+
+    public CacheProperties getCache() {
+        return cache;
+    }
+
+    public void setCache(CacheProperties cache) {
+        this.cache = cache;
+    }
+
+    public CompressionProperties getCompression() {
+        return compression;
+    }
+
+    public void setCompression(CompressionProperties compression) {
+        this.compression = compression;
+    }
+
+    public PoolProperties getPool() {
+        return pool;
+    }
+
+    public void setPool(PoolProperties pool) {
+        this.pool = pool;
+    }
+
+    public WarmupProperties getWarmup() {
+        return warmup;
+    }
+
+    public void setWarmup(WarmupProperties warmup) {
+        this.warmup = warmup;
+    }
+
+    public AdaptivePoolProperties getAdaptivePool() {
+        return adaptivePool;
+    }
+
+    public void setAdaptivePool(AdaptivePoolProperties adaptivePool) {
+        this.adaptivePool = adaptivePool;
+    }
+}
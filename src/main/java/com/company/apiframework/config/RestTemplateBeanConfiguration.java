@@ -1,8 +1,10 @@
 package com.company.apiframework.config;
 
-import java.util.Arrays;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.PostConstruct;
 
@@ -12,11 +14,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import com.company.apiframework.client.rest.DeadlineAwareRequestFactory;
+import com.company.apiframework.codec.CodecHttpMessageConverter;
+import com.company.apiframework.interceptor.CompressionInterceptor;
 import com.company.apiframework.interceptor.LoggingInterceptor;
+import com.company.apiframework.pool.ConnectionPoolRegistry;
 
 /**
  * Spring Bean-based RestTemplate Configuration
@@ -64,10 +70,28 @@ public class RestTemplateBeanConfiguration {
     @Autowired
     private LoggingInterceptor loggingInterceptor;
     
+    @Autowired
+    private ConnectionPoolRegistry connectionPoolRegistry;
+    
+    /**
+     * Registry of RestTemplate beans for URL pattern matching (registration order is preserved)
+     */
+    private final Map<String, String> urlPatternToBeanMapping = new LinkedHashMap<>();
+    
+    /**
+     * Profile of every RestTemplate created here (RestTemplate does not override equals, so keys are identities)
+     */
+    private final Map<RestTemplate, RestTemplateProfile> profilesByTemplate = new ConcurrentHashMap<>();
+    
+    /**
+     * Non-buffering request factory of every RestTemplate created here, used for streamed uploads
+     */
+    private final Map<RestTemplate, ClientHttpRequestFactory> uploadFactoriesByTemplate = new ConcurrentHashMap<>();
+    
     /**
-     * Registry of RestTemplate beans for URL pattern matching
+     * Compression interceptor of every profile with compression enabled, keyed by profile name
      */
-    private final Map<String, String> urlPatternToBeanMapping = new HashMap<>();
+    private final Map<String, CompressionInterceptor> compressionByProfile = new ConcurrentHashMap<>();
     
     /**
      * Default RestTemplate bean (Primary)
@@ -187,10 +211,75 @@ public class RestTemplateBeanConfiguration {
     /**
      * Get URL pattern to bean name mappings
      * 
+     * <p>Returns a copy in registration order. Request routing does not call this
+     * method; it uses the compiled route table in RestTemplateRouter.</p>
+     * 
      * @return map of URL patterns to RestTemplate bean names
      */
     public Map<String, String> getUrlPatternMappings() {
-        return new HashMap<>(urlPatternToBeanMapping);
+        return new LinkedHashMap<>(urlPatternToBeanMapping);
+    }
+    
+    /**
+     * Get the profile a RestTemplate was created with
+     * 
+     * @param restTemplate RestTemplate instance
+     * @return profile settings, or null if the RestTemplate was not created by this configuration
+     */
+    public RestTemplateProfile getProfile(RestTemplate restTemplate) {
+        return restTemplate != null ? profilesByTemplate.get(restTemplate) : null;
+    }
+    
+    /**
+     * Get the request factory for streamed uploads through a RestTemplate
+     * 
+     * <p>The factory shares the RestTemplate's connection pool and timeouts but does
+     * not buffer request bodies and bypasses its interceptors, so a body is written
+     * to the connection as it is produced (chunked when its length is unknown).</p>
+     * 
+     * @param restTemplate RestTemplate instance
+     * @return upload request factory, or null if the RestTemplate was not created by this configuration
+     */
+    public ClientHttpRequestFactory getUploadRequestFactory(RestTemplate restTemplate) {
+        return restTemplate != null ? uploadFactoriesByTemplate.get(restTemplate) : null;
+    }
+    
+    /**
+     * Get the compression settings and metrics of a profile
+     * 
+     * <p>Non-blocking transports of the profile apply the same compression as its
+     * RestTemplate and count into the same metrics.</p>
+     * 
+     * @param profileName profile name
+     * @return compression interceptor, or null if the profile does not enable compression
+     */
+    public CompressionInterceptor getCompression(String profileName) {
+        return profileName != null ? compressionByProfile.get(profileName) : null;
+    }
+    
+    /**
+     * Get compression metrics of the profiles with compression enabled
+     * 
+     * @return map of profile name to bytes saved and compression CPU time
+     */
+    public Map<String, Map<String, Object>> getCompressionMetrics() {
+        Map<String, Map<String, Object>> metrics = new LinkedHashMap<>();
+        compressionByProfile.forEach((profile, interceptor) -> metrics.put(profile, interceptor.getMetrics()));
+        return metrics;
+    }
+    
+    /**
+     * Get the profile name of a RestTemplate
+     * 
+     * <p>RestTemplates not created by this configuration (e.g. registered at runtime
+     * through ApiService) belong to the "default" profile.</p>
+     * 
+     * @param restTemplate RestTemplate instance
+     * @return profile name, never null
+     */
+    public String getProfileName(RestTemplate restTemplate) {
+        RestTemplateProfile profile = getProfile(restTemplate);
+        return profile != null ? profile.getName() : "default";
     }
     
     /**
@@ -200,7 +289,7 @@ public class RestTemplateBeanConfiguration {
      * @param connectionTimeout connection timeout in milliseconds
      * @param readTimeout read timeout in milliseconds  
      * @param maxConnections maximum total connections
-     * @param maxConnectionsPerRoute maximum connections per route
+     * @param maxConnectionsPerRoute maximum connections per route (initial value with adaptive-pool enabled)
      * @param enableLogging whether to enable request/response logging
      * @return configured RestTemplate instance
      */
@@ -211,33 +300,73 @@ public class RestTemplateBeanConfiguration {
                                           int maxConnectionsPerRoute,
                                           boolean enableLogging) {
         
-        // Create HTTP client with specified settings
-        HttpClient httpClient = HttpClientBuilder.create()
-                .setMaxConnTotal(maxConnections)
-                .setMaxConnPerRoute(maxConnectionsPerRoute)
-                .build();
+        // Create HTTP client on a pool with the profile's lifecycle settings; a compression-enabled
+        // profile negotiates and decodes compression itself so that it can be measured
+        PoolProperties pool = apiProperties.resolvePool(name);
+        CompressionProperties compression = apiProperties.resolveCompression(name);
+        HttpClientBuilder httpClientBuilder = connectionPoolRegistry.httpClientBuilder(name, pool,
+                maxConnections, maxConnectionsPerRoute);
+        if (compression.isEnabled()) {
+            httpClientBuilder.disableContentCompression();
+        }
+        HttpClient httpClient = httpClientBuilder.build();
         
-        // Create request factory with timeouts
-        HttpComponentsClientHttpRequestFactory factory = 
-            new HttpComponentsClientHttpRequestFactory();
-        factory.setHttpClient(httpClient);
-        factory.setConnectTimeout(connectionTimeout);
-        factory.setReadTimeout(readTimeout);
+        // Create request factory with timeouts; a request's deadline caps all three.
+        // Pool leases wait at most the profile's lease timeout instead of indefinitely.
+        int connectionRequestTimeout = pool.resolveConnectionRequestTimeout(connectionTimeout);
+        DeadlineAwareRequestFactory factory = createRequestFactory(httpClient, connectionTimeout, readTimeout,
+                connectionRequestTimeout);
         
-        // Create RestTemplate
+        // Create RestTemplate; JSON bodies use cached per-type readers and writers
         RestTemplate restTemplate = new RestTemplate(factory);
+        CodecHttpMessageConverter.install(restTemplate);
         
-        // Add interceptors conditionally
+        // Streamed uploads share the pool but write bodies straight to the connection
+        DeadlineAwareRequestFactory uploadFactory = createRequestFactory(httpClient, connectionTimeout, readTimeout,
+                connectionRequestTimeout);
+        uploadFactory.setBufferRequestBody(false);
+        uploadFactoriesByTemplate.put(restTemplate, uploadFactory);
+        
+        // Add interceptors conditionally; logging runs first so it sees uncompressed bodies
+        List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
         if (enableLogging) {
-            restTemplate.setInterceptors(Arrays.<ClientHttpRequestInterceptor>asList(loggingInterceptor));
+            interceptors.add(loggingInterceptor);
+        }
+        if (compression.isEnabled()) {
+            CompressionInterceptor compressionInterceptor = new CompressionInterceptor(compression);
+            compressionByProfile.put(name, compressionInterceptor);
+            interceptors.add(compressionInterceptor);
+        }
+        if (!interceptors.isEmpty()) {
+            restTemplate.setInterceptors(interceptors);
         }
         
+        // The profile's transport engine decides whether REST calls go through this
+        // RestTemplate or through a non-blocking client with the same timeouts
+        TransportProperties transport = apiProperties.resolveTransport(name);
+        profilesByTemplate.put(restTemplate, new RestTemplateProfile(name, connectionTimeout, readTimeout,
+                maxConnections, maxConnectionsPerRoute, enableLogging, transport));
+        
         System.out.println("Created RestTemplate bean: " + name + 
                           " (connectionTimeout=" + connectionTimeout + 
                           "ms, readTimeout=" + readTimeout + 
                           "ms, maxConnections=" + maxConnections + 
-                          ", logging=" + enableLogging + ")");
+                          ", logging=" + enableLogging + 
+                          ", compression=" + compression.isEnabled() + 
+                          ", engine=" + transport.getEngine() + ")");
         
         return restTemplate;
     }
-} 
\ No newline at end of file
+    
+    private static DeadlineAwareRequestFactory createRequestFactory(HttpClient httpClient,
+                                                                    int connectionTimeout,
+                                                                    int readTimeout,
+                                                                    int connectionRequestTimeout) {
+        DeadlineAwareRequestFactory factory = new DeadlineAwareRequestFactory();
+        factory.setHttpClient(httpClient);
+        factory.setConnectTimeout(connectionTimeout);
+        factory.setReadTimeout(readTimeout);
+        factory.setConnectionRequestTimeout(connectionRequestTimeout);
+        return factory;
+    }
+}
@@ -0,0 +1,75 @@
+package com.company.apiframework.config;
+
+/**
+ * Settings a RestTemplate profile was created with.
+ *
+ * <p>Recorded by {@link RestTemplateBeanConfiguration} for every RestTemplate it builds,
+ * so that framework components (async executors, transports, metrics) can find out
+ * which profile a RestTemplate instance belongs to and how it is configured.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see RestTemplateBeanConfiguration#getProfile(org.springframework.web.client.RestTemplate)
+ */
+public class RestTemplateProfile {
+
+    private final String name;
+    private final int connectionTimeoutMs;
+    private final int readTimeoutMs;
+    private final int maxConnections;
+    private final int maxConnectionsPerRoute;
+    private final boolean loggingEnabled;
+    private final TransportProperties transport;
+
+    public RestTemplateProfile(String name, int connectionTimeoutMs, int readTimeoutMs,
+                               int maxConnections, int maxConnectionsPerRoute, boolean loggingEnabled,
+                               TransportProperties transport) {
+        this.name = name;
+        this.connectionTimeoutMs = connectionTimeoutMs;
+        this.readTimeoutMs = readTimeoutMs;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        this.loggingEnabled = loggingEnabled;
+        this.transport = transport;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getConnectionTimeoutMs() {
+        return connectionTimeoutMs;
+    }
+
+    public int getReadTimeoutMs() {
+        return readTimeoutMs;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public boolean isLoggingEnabled() {
+        return loggingEnabled;
+    }
+
+    /**
+     * @return Transport engine settings chosen for this profile
+     */
+    public TransportProperties getTransport() {
+        return transport;
+    }
+
+    @Override
+    public String toString() {
+        return "RestTemplateProfile{name='" + name + "', connectionTimeoutMs=" + connectionTimeoutMs +
+               ", readTimeoutMs=" + readTimeoutMs + ", maxConnections=" + maxConnections +
+               ", maxConnectionsPerRoute=" + maxConnectionsPerRoute + ", loggingEnabled=" + loggingEnabled +
+               ", engine=" + transport.getEngine() + "}";
+    }
+}
@@ -0,0 +1,129 @@
+package com.company.apiframework.config;
+
+/**
+ * HTTP transport engine settings for one RestTemplate profile.
+ *
+ * <p>By default every call goes through the profile's blocking RestTemplate, which
+ * holds one thread per in-flight request. Profiles that need thousands of concurrent
+ * calls can switch to the non-blocking JDK {@code HttpClient} engine, where a small
+ * number of I/O threads serve all in-flight requests. Settings are bound from
+ * {@code api.framework.transport} (defaults) and
+ * {@code api.framework.profiles.<profile>.transport} (per-profile override).</p>
+ *
+ * <p><strong>Example Configuration (application.yml):</strong></p>
+ * <pre>
+ * api:
+ *   framework:
+ *     profiles:
+ *       high-volume-api:
+ *         transport:
+ *           engine: jdk-http-client
+ *           io-threads: 2
+ *           http-version: http-2
+ *           max-concurrent-streams: 100
+ * </pre>
+ *
+ * <p><strong>HTTP/2:</strong> with {@code http-version: http-2} the JDK engine
+ * negotiates HTTP/2 (ALPN over TLS, h2c upgrade over plain HTTP) and multiplexes
+ * concurrent requests as streams over one connection per origin, falling back to
+ * HTTP/1.1 for upstreams that do not support it. Stream and connection flow-control
+ * windows are managed by the JDK client (system properties
+ * {@code jdk.httpclient.windowsize} and {@code jdk.httpclient.connectionWindowSize}).
+ * {@code max-concurrent-streams} caps in-flight requests per origin; excess requests
+ * wait without holding a thread.</p>
+ *
+ * <p><strong>Note:</strong> The non-blocking engine applies to REST calls of the
+ * profiles created by {@link RestTemplateBeanConfiguration}. SOAP calls and
+ * RestTemplates registered at runtime always use their RestTemplate. RestTemplate
+ * interceptors (e.g. request logging) are not applied by the non-blocking engine.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see ApiProperties#resolveTransport(String)
+ */
+public class TransportProperties {
+
+    /**
+     * Transport engine implementations.
+     */
+    public enum Engine {
+        /** Blocking calls through the profile's RestTemplate (Apache HttpClient 4). */
+        REST_TEMPLATE,
+        /** Non-blocking calls through the JDK {@code java.net.http.HttpClient} (Java 11+). */
+        JDK_HTTP_CLIENT
+    }
+
+    /**
+     * HTTP protocol versions the non-blocking engine may use.
+     */
+    public enum HttpVersion {
+        /** One request at a time per connection. */
+        HTTP_1_1,
+        /** Multiplexed streams over shared connections, HTTP/1.1 fallback. */
+        HTTP_2
+    }
+
+    /**
+     * Engine used for REST calls of the profile.
+     *
+     * <p><strong>Default:</strong> REST_TEMPLATE</p>
+     */
+    private Engine engine = Engine.REST_TEMPLATE;
+
+    /**
+     * Number of threads completing responses of the non-blocking engine
+     * (the JDK client adds one selector thread per profile).
+     *
+     * <p><strong>Default:</strong> 2</p>
+     * <p><strong>Recommended Range:</strong> 1-number of CPU cores</p>
+     */
+    private int ioThreads = 2;
+
+    /**
+     * Preferred HTTP version of the non-blocking engine (ignored by the RestTemplate engine).
+     *
+     * <p><strong>Default:</strong> HTTP_1_1</p>
+     */
+    private HttpVersion httpVersion = HttpVersion.HTTP_1_1;
+
+    /**
+     * Maximum concurrent in-flight requests (HTTP/2 streams) per origin for the
+     * non-blocking engine; 0 means no client-side limit.
+     *
+     * <p><strong>Default:</strong> 100 (the common server SETTINGS_MAX_CONCURRENT_STREAMS)</p>
+     */
+    private int maxConcurrentStreams = 100;
+
+    public Engine getEngine() {
+        return engine;
+    }
+
+    public void setEngine(Engine engine) {
+        this.engine = engine;
+    }
+
+    public int getIoThreads() {
+        return ioThreads;
+    }
+
+    public void setIoThreads(int ioThreads) {
+        this.ioThreads = ioThreads;
+    }
+
+    public HttpVersion getHttpVersion() {
+        return httpVersion;
+    }
+
+    public void setHttpVersion(HttpVersion httpVersion) {
+        this.httpVersion = httpVersion;
+    }
+
+    public int getMaxConcurrentStreams() {
+        return maxConcurrentStreams;
+    }
+
+    public void setMaxConcurrentStreams(int maxConcurrentStreams) {
+        this.maxConcurrentStreams = maxConcurrentStreams;
+    }
+}
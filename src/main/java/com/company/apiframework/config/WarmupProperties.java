@@ -0,0 +1,98 @@
+package com.company.apiframework.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Connection pool warm-up settings for one RestTemplate profile.
+ *
+ * <p>When enabled, the profile's pool opens {@code connections-per-target}
+ * connections to each target at startup, including the TLS handshake for https
+ * targets, and keeps them for reuse. No HTTP request is sent. The application
+ * reports ready only after all warm-ups have finished or timed out. Settings are
+ * bound from {@code api.framework.warmup} (defaults, applied to every pool) and
+ * {@code api.framework.profiles.<profile>.warmup} (per-profile override).</p>
+ *
+ * <p><strong>Example Configuration (application.yml):</strong></p>
+ * <pre>
+ * api:
+ *   framework:
+ *     profiles:
+ *       payment-api:
+ *         warmup:
+ *           enabled: true
+ *           targets: https://payment.gateway.com
+ *           connections-per-target: 8
+ * </pre>
+ *
+ * <p><strong>Note:</strong> Warm connections are closed like any other idle
+ * connection after {@code pool.idle-timeout-ms}, so keep that above the time
+ * between startup and the first traffic.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see ApiProperties#resolveWarmup(String)
+ */
+public class WarmupProperties {
+
+    /**
+     * Whether the profile's pool is warmed up at startup.
+     *
+     * <p><strong>Default:</strong> false</p>
+     */
+    private boolean enabled = false;
+
+    /**
+     * Upstream base URLs to open connections to (scheme, host and optional port; paths are ignored).
+     *
+     * <p><strong>Default:</strong> empty</p>
+     */
+    private List<String> targets = new ArrayList<>();
+
+    /**
+     * Connections opened per target, capped at the pool's per-route maximum.
+     *
+     * <p><strong>Default:</strong> 4</p>
+     */
+    private int connectionsPerTarget = 4;
+
+    /**
+     * Longest the warm-up of this profile may delay readiness; unfinished connections are abandoned.
+     *
+     * <p><strong>Default:</strong> 10000</p>
+     */
+    private long timeoutMs = 10000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getTargets() {
+        return targets;
+    }
+
+    public void setTargets(List<String> targets) {
+        this.targets = targets;
+    }
+
+    public int getConnectionsPerTarget() {
+        return connectionsPerTarget;
+    }
+
+    public void setConnectionsPerTarget(int connectionsPerTarget) {
+        this.connectionsPerTarget = connectionsPerTarget;
+    }
+
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    public void setTimeoutMs(long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+    }
+}
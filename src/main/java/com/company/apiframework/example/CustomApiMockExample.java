@@ -3,14 +3,15 @@ package com.company.apiframework.example;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import com.company.apiframework.codec.CodecRegistry;
 import com.company.apiframework.mock.MockApiService;
 import com.company.apiframework.mock.impl.PaymentApiMock;
 import com.company.apiframework.mock.impl.UserServiceMock;
 import com.company.apiframework.model.ApiRequest;
 import com.company.apiframework.model.ApiResponse;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Examples showing how to use custom API mocks for different external services
@@ -22,18 +23,19 @@ public class CustomApiMockExample {
     private MockApiService mockApiService;
     
     @Autowired
-    private ObjectMapper objectMapper;
+    @Qualifier("jsonCodecRegistry")
+    private CodecRegistry codecs;
     
     /**
      * Example 1: Setting up custom mocks for different APIs
      */
     public void setupCustomApiMocks() {
         // Setup Payment API mock
-        PaymentApiMock paymentMock = new PaymentApiMock(objectMapper);
+        PaymentApiMock paymentMock = new PaymentApiMock(codecs);
         mockApiService.registerApiMock("payment-api", paymentMock);
         
         // Setup User Service mock
-        UserServiceMock userServiceMock = new UserServiceMock(objectMapper);
+        UserServiceMock userServiceMock = new UserServiceMock(codecs);
         mockApiService.registerApiMock("user-service", userServiceMock);
         
         System.out.println("Custom API mocks registered successfully!");
@@ -0,0 +1,68 @@
+package com.company.apiframework.hedging;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket that caps hedges to a share of the calls.
+ *
+ * <p>Every hedgeable call deposits {@code budgetPercent / 100} of a token and every
+ * hedge spends one, so over time at most that share of calls is duplicated. The
+ * bucket holds at most {@value #MAX_TOKENS} tokens, which bounds the burst of
+ * hedges after a quiet period; it starts full. When an upstream slows down as a
+ * whole, the bucket drains and hedging stops instead of doubling its load.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class HedgeBudget {
+
+    static final int MAX_TOKENS = 10;
+
+    private static final long TOKEN = 1000;
+    private static final long CAPACITY = MAX_TOKENS * TOKEN;
+
+    // Milli-tokens, so that fractional deposits need no floating point
+    private final AtomicLong balance = new AtomicLong(CAPACITY);
+    private final long deposit;
+
+    /**
+     * @param budgetPercent Hedges allowed per 100 calls
+     */
+    public HedgeBudget(double budgetPercent) {
+        this.deposit = Math.max(0, Math.round(budgetPercent * TOKEN / 100.0));
+    }
+
+    /**
+     * Credit the budget for one hedgeable call.
+     */
+    public void onCall() {
+        if (deposit > 0) {
+            balance.accumulateAndGet(deposit, (current, amount) -> Math.min(CAPACITY, current + amount));
+        }
+    }
+
+    /**
+     * Spend one token for a hedge.
+     *
+     * @return true if the hedge may be sent
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            long current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return Whole tokens currently available
+     */
+    public long getAvailable() {
+        return balance.get() / TOKEN;
+    }
+}
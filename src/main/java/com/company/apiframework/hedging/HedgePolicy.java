@@ -0,0 +1,142 @@
+package com.company.apiframework.hedging;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import com.company.apiframework.config.HedgingProperties;
+import com.company.apiframework.model.ApiRequest;
+
+/**
+ * Hedging decisions and statistics for one RestTemplate profile.
+ *
+ * <p>Decides which requests may be hedged, how long to wait before the hedge and
+ * whether the budget allows it. Latencies are tracked per route (scheme, host and
+ * port), because a profile often talks to upstreams with very different response
+ * times.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see HedgingProperties
+ */
+public class HedgePolicy {
+
+    private final String profileName;
+    private final HedgingProperties properties;
+    private final Set<String> methods;
+    private final HedgeBudget budget;
+    private final ConcurrentMap<String, LatencyTracker> routes = new ConcurrentHashMap<>();
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong hedges = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+    private final AtomicLong budgetExhausted = new AtomicLong();
+
+    public HedgePolicy(String profileName, HedgingProperties properties) {
+        this.profileName = profileName;
+        this.properties = properties;
+        this.methods = properties.getMethods().stream()
+                .map(method -> method.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        this.budget = new HedgeBudget(properties.getBudgetPercent());
+    }
+
+    /**
+     * @param request Request about to be sent
+     * @return true if hedging is enabled and the request's method may be hedged
+     */
+    public boolean isHedgeable(ApiRequest request) {
+        return properties.isEnabled() && request.getMethod() != null
+                && methods.contains(request.getMethod().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Count a hedgeable call and credit the budget for it.
+     */
+    public void onCall() {
+        calls.incrementAndGet();
+        budget.onCall();
+    }
+
+    /**
+     * @param route Route of the request
+     * @return Delay before the hedge in nanoseconds, or -1 if the call should not be hedged yet
+     */
+    public long hedgeDelayNanos(String route) {
+        if (properties.getDelayMs() > 0) {
+            return TimeUnit.MILLISECONDS.toNanos(properties.getDelayMs());
+        }
+        LatencyTracker tracker = routes.get(route);
+        if (tracker == null || tracker.getSampleCount() < properties.getMinSamples()) {
+            return -1;
+        }
+        return Math.max(TimeUnit.MILLISECONDS.toNanos(properties.getMinDelayMs()), tracker.percentileNanos());
+    }
+
+    /**
+     * Take a token for a hedge.
+     *
+     * @return true if the budget allows the hedge
+     */
+    public boolean tryHedge() {
+        if (budget.tryAcquire()) {
+            hedges.incrementAndGet();
+            return true;
+        }
+        budgetExhausted.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Count a call answered by its hedge rather than the primary attempt.
+     */
+    public void onHedgeWin() {
+        hedgeWins.incrementAndGet();
+    }
+
+    /**
+     * @param route Route of the request
+     * @param latencyNanos Latency of one attempt
+     */
+    public void recordLatency(String route, long latencyNanos) {
+        LatencyTracker tracker = routes.get(route);
+        if (tracker == null) {
+            tracker = routes.computeIfAbsent(route, key -> new LatencyTracker(properties.getPercentile()));
+        }
+        tracker.record(latencyNanos);
+    }
+
+    public String getProfileName() {
+        return profileName;
+    }
+
+    /**
+     * @return Call, hedge and budget counters plus the current delay per route
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("enabled", properties.isEnabled());
+        metrics.put("calls", calls.get());
+        metrics.put("hedges", hedges.get());
+        metrics.put("hedgeWins", hedgeWins.get());
+        metrics.put("budgetExhausted", budgetExhausted.get());
+        metrics.put("budgetAvailable", budget.getAvailable());
+        Map<String, Object> routeMetrics = new LinkedHashMap<>();
+        routes.forEach((route, tracker) -> {
+            Map<String, Object> described = new LinkedHashMap<>();
+            described.put("samples", tracker.getSampleCount());
+            long delay = hedgeDelayNanos(route);
+            described.put("hedgeDelayMs", delay < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(delay));
+            routeMetrics.put(route, described);
+        });
+        metrics.put("routes", routeMetrics);
+        return metrics;
+    }
+}
@@ -0,0 +1,270 @@
+package com.company.apiframework.hedging;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.company.apiframework.async.AsyncFutures;
+import com.company.apiframework.bulk.BulkRoute;
+import com.company.apiframework.client.ApiCallback;
+import com.company.apiframework.client.ApiClient;
+import com.company.apiframework.client.ResponseStreamHandler;
+import com.company.apiframework.exception.ApiException;
+import com.company.apiframework.model.ApiRequest;
+import com.company.apiframework.model.ApiResponse;
+
+/**
+ * {@link ApiClient} decorator that hedges slow idempotent calls.
+ *
+ * <p>A hedgeable request is sent through the wrapped client's async API. If it has
+ * not answered after the route's hedge delay and the budget allows, the same
+ * request is sent again. The first successful response completes the call and the
+ * other attempt is cancelled, which interrupts a blocking exchange and aborts a
+ * non-blocking one. If an attempt fails while the other is still running, the call
+ * waits for the other; otherwise the failure is returned as usual.</p>
+ *
+ * <p>Synchronous calls of hedgeable requests also run on the profile's async
+ * executor, with the caller waiting for the outcome. Requests that are not
+ * hedgeable go straight to the wrapped client.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see HedgePolicy
+ */
+public class HedgingApiClient implements ApiClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(HedgingApiClient.class);
+
+    private final ApiClient delegate;
+    private final HedgePolicy policy;
+    private final ScheduledExecutorService timer;
+
+    /**
+     * @param delegate Client that sends the attempts
+     * @param policy Hedging decisions of the client's profile
+     * @param timer Scheduler for the hedge delays
+     */
+    public HedgingApiClient(ApiClient delegate, HedgePolicy policy, ScheduledExecutorService timer) {
+        this.delegate = delegate;
+        this.policy = policy;
+        this.timer = timer;
+    }
+
+    @Override
+    public <T> ApiResponse<T> execute(ApiRequest request, Class<T> responseType) {
+        if (!policy.isHedgeable(request)) {
+            return delegate.execute(request, responseType);
+        }
+        CompletableFuture<ApiResponse<T>> call = executeAsync(request, responseType).toCompletableFuture();
+        try {
+            return call.get();
+        } catch (InterruptedException e) {
+            call.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ApiException("INTERRUPTED", "Hedged call was interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = AsyncFutures.unwrap(e.getCause());
+            if (cause instanceof ApiException) {
+                throw (ApiException) cause;
+            }
+            throw new ApiException("Hedged call failed", cause);
+        }
+    }
+
+    @Override
+    public ApiResponse<String> execute(ApiRequest request) {
+        if (!policy.isHedgeable(request)) {
+            return delegate.execute(request);
+        }
+        return execute(request, String.class);
+    }
+
+    @Override
+    public <R> ApiResponse<R> executeStreaming(ApiRequest request, ResponseStreamHandler<R> handler) {
+        // A stream is consumed once by the caller, so it cannot be raced against a hedge
+        return delegate.executeStreaming(request, handler);
+    }
+
+    @Override
+    public <T> void executeAsync(ApiRequest request, Class<T> responseType, ApiCallback<T> callback) {
+        if (!policy.isHedgeable(request)) {
+            delegate.executeAsync(request, responseType, callback);
+            return;
+        }
+        executeAsync(request, responseType).whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                Throwable cause = AsyncFutures.unwrap(throwable);
+                callback.onException(cause instanceof Exception
+                        ? (Exception) cause : new ApiException("Hedged call failed", cause));
+            } else if (response.hasError()) {
+                callback.onError(response);
+            } else {
+                callback.onSuccess(response);
+            }
+        });
+    }
+
+    @Override
+    public <T> CompletionStage<ApiResponse<T>> executeAsync(ApiRequest request, Class<T> responseType) {
+        if (!policy.isHedgeable(request)) {
+            return delegate.executeAsync(request, responseType);
+        }
+        policy.onCall();
+        HedgedCall<T> call = new HedgedCall<>(request, responseType, BulkRoute.originOf(request.getUrl()));
+        call.start();
+        return call.result;
+    }
+
+    @Override
+    public boolean supportsProtocol(String protocol) {
+        return delegate.supportsProtocol(protocol);
+    }
+
+    @Override
+    public String getProtocolType() {
+        return delegate.getProtocolType();
+    }
+
+    /**
+     * One hedged call: the primary attempt, the pending hedge timer and the hedge.
+     * State changes happen under the call's lock; the result is completed outside it.
+     */
+    private final class HedgedCall<T> {
+
+        private final ApiRequest request;
+        private final Class<T> responseType;
+        private final String route;
+        private final CompletableFuture<ApiResponse<T>> result = new CompletableFuture<ApiResponse<T>>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                boolean cancelled = super.cancel(mayInterruptIfRunning);
+                cancelAll();
+                return cancelled;
+            }
+        };
+
+        private CompletableFuture<ApiResponse<T>> primary;
+        private CompletableFuture<ApiResponse<T>> hedge;
+        private Future<?> hedgeTimer;
+        private int running;
+
+        private HedgedCall(ApiRequest request, Class<T> responseType, String route) {
+            this.request = request;
+            this.responseType = responseType;
+            this.route = route;
+        }
+
+        private void start() {
+            long delay = policy.hedgeDelayNanos(route);
+            synchronized (this) {
+                running++;
+            }
+            CompletableFuture<ApiResponse<T>> attempt = launch(false);
+            synchronized (this) {
+                primary = attempt;
+                if (delay >= 0 && !result.isDone()) {
+                    hedgeTimer = timer.schedule(this::hedge, delay, TimeUnit.NANOSECONDS);
+                }
+            }
+            if (result.isCancelled()) {
+                cancel(attempt);
+            }
+        }
+
+        private void hedge() {
+            synchronized (this) {
+                if (result.isDone() || !policy.tryHedge()) {
+                    return;
+                }
+                running++;
+            }
+            logger.debug("Hedging {} {} after {} ms", request.getMethod(), request.getUrl(),
+                    TimeUnit.NANOSECONDS.toMillis(policy.hedgeDelayNanos(route)));
+            CompletableFuture<ApiResponse<T>> attempt = launch(true);
+            synchronized (this) {
+                hedge = attempt;
+            }
+            // The primary may have answered while the hedge was being sent
+            if (result.isDone()) {
+                cancel(attempt);
+            }
+        }
+
+        private CompletableFuture<ApiResponse<T>> launch(boolean isHedge) {
+            long startNanos = System.nanoTime();
+            CompletableFuture<ApiResponse<T>> attempt;
+            try {
+                attempt = delegate.executeAsync(request, responseType).toCompletableFuture();
+            } catch (RuntimeException e) {
+                attempt = new CompletableFuture<>();
+                attempt.completeExceptionally(e);
+            }
+            CompletableFuture<ApiResponse<T>> launched = attempt;
+            launched.whenComplete((response, throwable) ->
+                    onAttemptComplete(launched, isHedge, System.nanoTime() - startNanos, response, throwable));
+            return launched;
+        }
+
+        private void onAttemptComplete(CompletableFuture<ApiResponse<T>> attempt, boolean isHedge, long latencyNanos,
+                                       ApiResponse<T> response, Throwable throwable) {
+            // A cancelled loser took at least this long, so it still counts toward the tail
+            if (!result.isCancelled() && (throwable == null || attempt.isCancelled())) {
+                policy.recordLatency(route, latencyNanos);
+            }
+
+            boolean won = throwable == null && !response.hasError();
+            CompletableFuture<ApiResponse<T>> loser;
+            synchronized (this) {
+                running--;
+                if (result.isDone() || (!won && running > 0)) {
+                    return;
+                }
+                loser = isHedge ? primary : hedge;
+                if (hedgeTimer != null) {
+                    hedgeTimer.cancel(false);
+                }
+            }
+
+            if (won && isHedge) {
+                policy.onHedgeWin();
+            }
+            if (throwable != null) {
+                result.completeExceptionally(AsyncFutures.unwrap(throwable));
+            } else {
+                result.complete(response);
+            }
+            if (loser != null && loser != attempt) {
+                loser.cancel(true);
+            }
+        }
+
+        private void cancelAll() {
+            Future<?> pendingTimer;
+            CompletableFuture<ApiResponse<T>> first;
+            CompletableFuture<ApiResponse<T>> second;
+            synchronized (this) {
+                pendingTimer = hedgeTimer;
+                first = primary;
+                second = hedge;
+            }
+            if (pendingTimer != null) {
+                pendingTimer.cancel(false);
+            }
+            cancel(first);
+            cancel(second);
+        }
+
+        private void cancel(CompletableFuture<ApiResponse<T>> attempt) {
+            if (attempt != null && !attempt.isDone()) {
+                attempt.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.company.apiframework.hedging;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import com.company.apiframework.async.NamedThreadFactory;
+import com.company.apiframework.client.ApiClient;
+import com.company.apiframework.config.ApiProperties;
+import com.company.apiframework.config.HedgingProperties;
+
+/**
+ * Hedging policies per RestTemplate profile and the timer that fires hedges.
+ *
+ * <p>Policies are created from {@link ApiProperties#resolveHedging(String)} the first
+ * time a profile's client is built, so latency statistics and the hedge budget are
+ * shared by all clients of a profile. Clients of profiles with hedging disabled are
+ * returned unchanged.</p>
+ *
+ * <p>The timer threads only send hedges through the profile's async API; they never
+ * wait for a response.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see HedgingApiClient
+ */
+public class HedgingRegistry implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(HedgingRegistry.class);
+
+    private static final int TIMER_THREADS = 2;
+
+    private final ApiProperties apiProperties;
+    private final ConcurrentMap<String, HedgePolicy> policies = new ConcurrentHashMap<>();
+    private final ScheduledThreadPoolExecutor timer;
+
+    public HedgingRegistry(ApiProperties apiProperties) {
+        this.apiProperties = apiProperties;
+        this.timer = new ScheduledThreadPoolExecutor(TIMER_THREADS, new NamedThreadFactory("api-hedge-timer-"));
+        // Most hedge timers are cancelled because the primary answered in time
+        this.timer.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Wrap a client with hedging if its profile enables it.
+     *
+     * @param client Client to wrap
+     * @param profileName RestTemplate profile of the client
+     * @return Hedging client, or {@code client} itself if hedging is disabled
+     */
+    public ApiClient wrap(ApiClient client, String profileName) {
+        HedgingProperties properties = apiProperties.resolveHedging(profileName);
+        if (properties == null || !properties.isEnabled()) {
+            return client;
+        }
+        HedgePolicy policy = policies.computeIfAbsent(profileName, name -> {
+            logger.info("Enabling request hedging for profile '{}' (delay={}, percentile={}, budget={}%, methods={})",
+                    name, properties.getDelayMs() > 0 ? properties.getDelayMs() + "ms" : "adaptive",
+                    properties.getPercentile(), properties.getBudgetPercent(), properties.getMethods());
+            return new HedgePolicy(name, properties);
+        });
+        return new HedgingApiClient(client, policy, timer);
+    }
+
+    /**
+     * Get metrics of all hedging profiles.
+     *
+     * @return Map of profile name to hedging metrics
+     */
+    public Map<String, Map<String, Object>> getMetrics() {
+        Map<String, Map<String, Object>> metrics = new LinkedHashMap<>();
+        policies.forEach((profile, policy) -> metrics.put(profile, policy.getMetrics()));
+        return metrics;
+    }
+
+    /**
+     * Stop the hedge timer; pending hedges are dropped and their primaries complete normally.
+     */
+    @Override
+    public void destroy() {
+        timer.shutdownNow();
+        logger.info("Hedging timer shut down");
+    }
+}
@@ -0,0 +1,77 @@
+package com.company.apiframework.hedging;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Recent call latencies of one route, with a cached percentile.
+ *
+ * <p>Keeps the last {@value #WINDOW} samples in a lock-free ring. Percentiles are
+ * recomputed from a sorted copy of the window at most every {@value #REFRESH_EVERY}
+ * samples, so reading the hedge delay on the hot path costs a volatile read.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class LatencyTracker {
+
+    static final int WINDOW = 512;
+    static final int REFRESH_EVERY = 16;
+
+    private final AtomicLongArray samples = new AtomicLongArray(WINDOW);
+    private final AtomicLong count = new AtomicLong();
+    private final double percentile;
+
+    private volatile long cachedNanos = -1;
+    private volatile long cachedAtCount = -REFRESH_EVERY;
+
+    /**
+     * @param percentile Percentile reported by {@link #percentileNanos()}, 0-100
+     */
+    public LatencyTracker(double percentile) {
+        this.percentile = Math.max(0.0, Math.min(100.0, percentile));
+    }
+
+    /**
+     * @param latencyNanos Observed latency of one call
+     */
+    public void record(long latencyNanos) {
+        long index = count.getAndIncrement();
+        samples.set((int) (index % WINDOW), Math.max(0, latencyNanos));
+    }
+
+    /**
+     * @return Number of samples in the window
+     */
+    public int getSampleCount() {
+        return (int) Math.min(count.get(), WINDOW);
+    }
+
+    /**
+     * @return Configured percentile of the window in nanoseconds, or -1 without samples
+     */
+    public long percentileNanos() {
+        long current = count.get();
+        if (current - cachedAtCount >= REFRESH_EVERY) {
+            cachedNanos = compute(current);
+            cachedAtCount = current;
+        }
+        return cachedNanos;
+    }
+
+    private long compute(long current) {
+        int size = (int) Math.min(current, WINDOW);
+        if (size == 0) {
+            return -1;
+        }
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        return sorted[Math.max(0, Math.min(size - 1, rank))];
+    }
+}
@@ -0,0 +1,415 @@
+package com.company.apiframework.interceptor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.company.apiframework.config.CompressionProperties;
+import com.company.apiframework.routing.UrlPattern;
+
+/**
+ * Negotiates HTTP compression for one RestTemplate profile and measures what it saves.
+ *
+ * <p>Requests to the profile's compression routes advertise the configured
+ * {@code Accept-Encoding}. A gzip or deflate response is decoded while the caller
+ * reads it, so even streamed downloads are never buffered, and is handed on without
+ * its {@code Content-Encoding} and {@code Content-Length} headers. Request bodies at
+ * or above the threshold are compressed when the profile enables it and the result
+ * is smaller than the original.</p>
+ *
+ * <p>Metrics count the bytes saved in both directions and the CPU time spent
+ * compressing and decompressing (thread CPU time where the JVM supports it, wall
+ * time otherwise). Decompression time includes reading the compressed bytes from the
+ * socket.</p>
+ *
+ * <p>The profile's HTTP client must not decompress on its own
+ * ({@code HttpClientBuilder.disableContentCompression()}); register this interceptor
+ * after the LoggingInterceptor so that logs show decoded bodies. Profiles on the
+ * non-blocking transport engine apply the same negotiation through
+ * {@code CompressingTransport}, which shares this instance's settings and metrics.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see CompressionProperties
+ */
+public class CompressionInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final CompressionProperties properties;
+    private final List<UrlPattern> routes;
+    private final String acceptEncoding;
+    private final String requestCoding;
+    private final boolean cpuTimeMeasured;
+
+    private final LongAdder requestsCompressed = new LongAdder();
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder requestBytesSent = new LongAdder();
+    private final LongAdder responsesDecompressed = new LongAdder();
+    private final LongAdder responseBytesReceived = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private final LongAdder compressionNanos = new LongAdder();
+    private final LongAdder decompressionNanos = new LongAdder();
+
+    /**
+     * @param properties Compression settings of the profile
+     */
+    public CompressionInterceptor(CompressionProperties properties) {
+        this.properties = properties;
+        this.routes = properties.getRoutes().stream().map(UrlPattern::compile).collect(Collectors.toList());
+        this.acceptEncoding = properties.getAcceptEncodings().stream()
+                .map(encoding -> encoding.trim().toLowerCase(Locale.ROOT))
+                .filter(encoding -> !encoding.isEmpty())
+                .collect(Collectors.joining(", "));
+        this.requestCoding = properties.getRequestEncoding() == CompressionProperties.Encoding.DEFLATE
+                ? "deflate" : "gzip";
+        this.cpuTimeMeasured = THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled();
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!appliesTo(request.getURI().toString())) {
+            return execution.execute(request, body);
+        }
+        HttpHeaders headers = request.getHeaders();
+        if (!acceptEncoding.isEmpty() && !headers.containsKey(HttpHeaders.ACCEPT_ENCODING)) {
+            headers.set(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+
+        byte[] sent = body;
+        if (!headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            byte[] compressed = compressRequestBody(body);
+            if (compressed != null) {
+                headers.set(HttpHeaders.CONTENT_ENCODING, requestCoding);
+                sent = compressed;
+            }
+        }
+
+        ClientHttpResponse response = execution.execute(request, sent);
+        String coding = response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+        if (!isDecodable(coding)) {
+            return response;
+        }
+        responsesDecompressed.increment();
+        return new DecompressingResponse(response, coding.trim().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Check whether compression is negotiated for a URL.
+     *
+     * @param url Request URL
+     * @return true if the URL matches one of the profile's compression routes, or no routes are configured
+     */
+    public boolean appliesTo(String url) {
+        if (routes.isEmpty()) {
+            return true;
+        }
+        for (UrlPattern route : routes) {
+            if (route.matches(url)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Value advertised in {@code Accept-Encoding}, empty to advertise nothing
+     */
+    public String getAcceptEncoding() {
+        return acceptEncoding;
+    }
+
+    /**
+     * @return {@code Content-Encoding} of compressed request bodies
+     */
+    public String getRequestEncoding() {
+        return requestCoding;
+    }
+
+    /**
+     * Compress a request body if the profile compresses requests and it pays off.
+     *
+     * @param body Request body
+     * @return Compressed body, or null if the body is to be sent as it is
+     * @throws IOException If compression fails
+     */
+    public byte[] compressRequestBody(byte[] body) throws IOException {
+        if (!properties.isCompressRequests() || body == null || body.length == 0
+                || body.length < properties.getRequestThresholdBytes()) {
+            return null;
+        }
+        long start = now();
+        byte[] compressed = compress(body);
+        compressionNanos.add(now() - start);
+        if (compressed.length >= body.length) {
+            return null;
+        }
+        requestsCompressed.increment();
+        requestBytes.add(body.length);
+        requestBytesSent.add(compressed.length);
+        return compressed;
+    }
+
+    /**
+     * @param coding {@code Content-Encoding} of a response, may be null
+     * @return true if this interceptor can decode the coding
+     */
+    public static boolean isDecodable(String coding) {
+        if (coding == null) {
+            return false;
+        }
+        String normalized = coding.trim().toLowerCase(Locale.ROOT);
+        return normalized.equals("gzip") || normalized.equals("x-gzip") || normalized.equals("deflate");
+    }
+
+    /**
+     * Decode a compressed response body as it is read, counting it in the metrics.
+     *
+     * @param coding Decodable {@code Content-Encoding} of the response
+     * @param raw Body as received
+     * @return Decoded body; closing it closes {@code raw}
+     * @throws IOException If the body header cannot be read
+     */
+    public InputStream decodeResponseBody(String coding, InputStream raw) throws IOException {
+        responsesDecompressed.increment();
+        return decode(coding.trim().toLowerCase(Locale.ROOT), new CountingInputStream(raw, responseBytesReceived));
+    }
+
+    /**
+     * Get compression metrics of the profile.
+     *
+     * @return Map with bytes saved, per-direction byte counts and compression CPU time
+     */
+    public Map<String, Object> getMetrics() {
+        long requestSaved = requestBytes.sum() - requestBytesSent.sum();
+        long responseSaved = responseBytes.sum() - responseBytesReceived.sum();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("bytesSaved", requestSaved + responseSaved);
+        metrics.put("requestsCompressed", requestsCompressed.sum());
+        metrics.put("requestBytes", requestBytes.sum());
+        metrics.put("requestBytesSent", requestBytesSent.sum());
+        metrics.put("responsesDecompressed", responsesDecompressed.sum());
+        metrics.put("responseBytesReceived", responseBytesReceived.sum());
+        metrics.put("responseBytes", responseBytes.sum());
+        metrics.put("compressionCpuMillis", compressionNanos.sum() / 1_000_000);
+        metrics.put("decompressionCpuMillis", decompressionNanos.sum() / 1_000_000);
+        metrics.put("cpuTimeMeasured", cpuTimeMeasured);
+        return metrics;
+    }
+
+    private byte[] compress(byte[] body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        int level = Math.max(Deflater.BEST_SPEED, Math.min(Deflater.BEST_COMPRESSION, properties.getLevel()));
+        if (properties.getRequestEncoding() == CompressionProperties.Encoding.DEFLATE) {
+            Deflater deflater = new Deflater(level);
+            try (OutputStream out = new DeflaterOutputStream(buffer, deflater)) {
+                out.write(body);
+            } finally {
+                deflater.end();
+            }
+        } else {
+            try (OutputStream out = new GZIPOutputStream(buffer) {
+                {
+                    def.setLevel(level);
+                }
+            }) {
+                out.write(body);
+            }
+        }
+        return buffer.toByteArray();
+    }
+
+    private InputStream decode(String coding, InputStream raw) throws IOException {
+        PushbackInputStream in = new PushbackInputStream(raw, 2);
+        byte[] head = new byte[2];
+        int read = 0;
+        while (read < 2) {
+            int n = in.read(head, read, 2 - read);
+            if (n == -1) {
+                break;
+            }
+            read += n;
+        }
+        if (read == 0) {
+            // Empty body (HEAD, 204, 304) despite the coding
+            return in;
+        }
+        in.unread(head, 0, read);
+
+        long start = now();
+        InputStream decoded;
+        if (coding.equals("deflate")) {
+            // "deflate" is zlib-wrapped per RFC 9110 but some servers send raw deflate
+            boolean zlib = read == 2 && (head[0] & 0x0F) == 8
+                    && (((head[0] & 0xFF) << 8) | (head[1] & 0xFF)) % 31 == 0;
+            Inflater inflater = new Inflater(!zlib);
+            decoded = new InflaterInputStream(in, inflater) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        inflater.end();
+                    }
+                }
+            };
+        } else {
+            decoded = new GZIPInputStream(in);
+        }
+        decompressionNanos.add(now() - start);
+        return new MeteredInputStream(decoded);
+    }
+
+    private long now() {
+        return cpuTimeMeasured ? THREADS.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    /**
+     * Response whose body is decoded as it is read.
+     */
+    private final class DecompressingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final String coding;
+        private final HttpHeaders headers;
+        private InputStream body;
+
+        private DecompressingResponse(ClientHttpResponse delegate, String coding) {
+            this.delegate = delegate;
+            this.coding = coding;
+            this.headers = new HttpHeaders();
+            this.headers.putAll(delegate.getHeaders());
+            this.headers.remove(HttpHeaders.CONTENT_ENCODING);
+            this.headers.remove(HttpHeaders.CONTENT_LENGTH);
+        }
+
+        @Override
+        public HttpStatus getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public int getRawStatusCode() throws IOException {
+            return delegate.getRawStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = decode(coding, new CountingInputStream(delegate.getBody(), responseBytesReceived));
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            try {
+                if (body != null) {
+                    body.close();
+                }
+            } catch (IOException e) {
+                // The delegate closes the connection below
+            }
+            delegate.close();
+        }
+    }
+
+    /**
+     * Counts decoded bytes and the time spent producing them.
+     */
+    private final class MeteredInputStream extends FilterInputStream {
+
+        private MeteredInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            long start = now();
+            int b = super.read();
+            decompressionNanos.add(now() - start);
+            if (b != -1) {
+                responseBytes.increment();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            long start = now();
+            int n = super.read(buffer, offset, length);
+            decompressionNanos.add(now() - start);
+            if (n > 0) {
+                responseBytes.add(n);
+            }
+            return n;
+        }
+    }
+
+    /**
+     * Counts bytes received on the wire.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final LongAdder counter;
+
+        private CountingInputStream(InputStream in, LongAdder counter) {
+            super(in);
+            this.counter = counter;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                counter.increment();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                counter.add(n);
+            }
+            return n;
+        }
+    }
+}
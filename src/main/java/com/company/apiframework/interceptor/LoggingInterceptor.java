@@ -1,17 +1,23 @@
 package com.company.apiframework.interceptor;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.util.StreamUtils;
 
+import com.company.apiframework.client.ApiCallContext;
+
 /**
  * HTTP request/response logging interceptor for the API Integration Framework.
  * 
@@ -55,6 +61,10 @@ import org.springframework.util.StreamUtils;
  * bodies are logged in full. Ensure sensitive data (passwords, tokens, PII) is not
  * logged in production environments.</p>
  * 
+ * <p><strong>Streaming:</strong> A logged response body is buffered and replayed to
+ * the caller. Bodies of streaming calls (see {@link ApiCallContext#isStreaming()})
+ * are never read, so large downloads stay in constant memory at any log level.</p>
+ * 
  * @author API Framework Team
  * @version 1.0
  * @since 1.0
@@ -97,9 +107,7 @@ public class LoggingInterceptor implements ClientHttpRequestInterceptor {
             ClientHttpResponse response = execution.execute(request, body);
             
             // Log the received response with timing information
-            logResponse(response, System.currentTimeMillis() - startTime);
-            
-            return response;
+            return logResponse(response, System.currentTimeMillis() - startTime);
         } catch (Exception e) {
             // Log any exceptions that occur during request execution
             logger.error("Request failed: {} {}, Error: {}", 
@@ -150,30 +158,38 @@ public class LoggingInterceptor implements ClientHttpRequestInterceptor {
      * 
      * <p><strong>Note:</strong> Reading the response body for logging purposes
      * may impact performance, especially for large responses. This only occurs
-     * when DEBUG logging is enabled.</p>
+     * when DEBUG logging is enabled, and never for streaming calls.</p>
      * 
      * @param response The HTTP response to log
      * @param duration The request duration in milliseconds
+     * @return The response to hand on: {@code response} itself, or a replay of its logged body
      * @throws IOException If an error occurs reading the response body
      */
-    private void logResponse(ClientHttpResponse response, long duration) throws IOException {
+    private ClientHttpResponse logResponse(ClientHttpResponse response, long duration) throws IOException {
+        ClientHttpResponse result = response;
         if (logger.isDebugEnabled()) {
             logger.debug("=== HTTP RESPONSE ===");
             logger.debug("Status: {} {}", response.getStatusCode(), response.getStatusText());
             logger.debug("Headers: {}", response.getHeaders());
             logger.debug("Duration: {}ms", duration);
             
-            // Read and log response body (may impact performance)
-            byte[] bodyBytes = StreamUtils.copyToByteArray(response.getBody());
-            if (bodyBytes.length > 0) {
-                String bodyStr = new String(bodyBytes, determineCharset(response));
-                logger.debug("Body: {}", bodyStr);
+            if (ApiCallContext.isStreaming()) {
+                logger.debug("Body: <streamed to caller, not logged>");
+            } else {
+                // Read and log response body (may impact performance), then replay it
+                byte[] bodyBytes = StreamUtils.copyToByteArray(response.getBody());
+                if (bodyBytes.length > 0) {
+                    String bodyStr = new String(bodyBytes, determineCharset(response));
+                    logger.debug("Body: {}", bodyStr);
+                }
+                result = new BufferedResponse(response, bodyBytes);
             }
             logger.debug("===================");
         } else if (logger.isInfoEnabled()) {
             // Provide summary logging at INFO level
             logger.info("HTTP Response: {} in {}ms", response.getStatusCode(), duration);
         }
+        return result;
     }
     
     /**
@@ -214,4 +230,48 @@ public class LoggingInterceptor implements ClientHttpRequestInterceptor {
         // Default to UTF-8 if charset cannot be determined
         return StandardCharsets.UTF_8;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Response whose body was read for logging and is replayed from memory.
+     */
+    private static final class BufferedResponse implements ClientHttpResponse {
+        
+        private final ClientHttpResponse delegate;
+        private final byte[] body;
+        
+        private BufferedResponse(ClientHttpResponse delegate, byte[] body) {
+            this.delegate = delegate;
+            this.body = body;
+        }
+        
+        @Override
+        public HttpStatus getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+        
+        @Override
+        public int getRawStatusCode() throws IOException {
+            return delegate.getRawStatusCode();
+        }
+        
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+        
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+        
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+        
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
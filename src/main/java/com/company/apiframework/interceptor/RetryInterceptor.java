@@ -1,29 +1,41 @@
 package com.company.apiframework.interceptor;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestClientException;
 
 import com.company.apiframework.config.ApiProperties;
+import com.company.apiframework.exception.ApiException;
+import com.company.apiframework.model.ApiRequest;
+import com.company.apiframework.model.ApiResponse;
+import com.company.apiframework.model.Deadline;
 
 /**
- * Aspect-based retry interceptor for API calls with configurable retry strategies.
+ * Retry interceptor for API calls with configurable retry strategies.
  * 
- * <p>This component provides automatic retry functionality for failed API calls using
- * Spring Retry framework. It implements exponential backoff strategy to avoid
- * overwhelming target services while providing resilience against transient failures.</p>
+ * <p>This component provides automatic retry functionality for failed API calls. It
+ * implements exponential backoff strategy to avoid overwhelming target services while
+ * providing resilience against transient failures.</p>
  * 
  * <p><strong>Retry Triggers:</strong></p>
  * <ul>
- *   <li>Network connectivity issues (RestClientException)</li>
- *   <li>Timeout exceptions</li>
- *   <li>Server errors (5xx HTTP status codes)</li>
- *   <li>Other runtime exceptions during API calls</li>
+ *   <li>Runtime exceptions thrown by the call (e.g. RestClientException)</li>
+ *   <li>{@link ApiResponse} errors with code {@code REST_ERROR} or {@code SOAP_ERROR}
+ *       caused by I/O failures (no status code) or server errors (5xx), only through
+ *       {@link #retryRequest(ApiRequest, RetryableApiCall)} and only for idempotent
+ *       methods; the clients report these as responses instead of throwing</li>
  * </ul>
+ * <p>An I/O failure or 5xx response may come after the server acted on the request,
+ * so a POST that returned one is never sent again. Client errors (4xx) and
+ * {@code DEADLINE_EXCEEDED} responses are never retried. When every attempt fails
+ * with an error response, the last one is returned.</p>
  * 
  * <p><strong>Retry Strategies:</strong></p>
  * <ul>
@@ -50,8 +62,21 @@ import com.company.apiframework.config.ApiProperties;
  * ApiResponse&lt;User&gt; response = retryInterceptor.retryApiCallWithConfig(() -&gt; {
  *     return apiService.executeRest(userRequest, User.class);
  * });
+ * 
+ * // Also retrying error responses, within the request's deadline
+ * ApiResponse&lt;User&gt; response = retryInterceptor.retryRequest(userRequest,
+ *     () -&gt; apiService.executeRest(userRequest, User.class));
  * </pre>
  * 
+ * <p><strong>Deadlines:</strong></p>
+ * <p>{@link #retryApiCall} and {@link #retryApiCallWithConfig} retry regardless of
+ * how long the caller can wait. {@link #retryWithinDeadline(Deadline, RetryableApiCall)}
+ * and {@link #retryRequest(ApiRequest, RetryableApiCall)} take the deadline explicitly,
+ * the latter from {@link ApiRequest#getDeadline()}; attempts and backoff sleeps then
+ * draw from one budget. No attempt or backoff is started that could not finish before
+ * the deadline; the retry gives up with the last error response, or with error code
+ * {@code DEADLINE_EXCEEDED} when the last attempt threw.</p>
+ * 
  * <p><strong>Configuration:</strong></p>
  * <p>Retry behavior can be configured via ApiProperties:</p>
  * <pre>
@@ -63,7 +88,6 @@ import com.company.apiframework.config.ApiProperties;
  * @version 1.0
  * @since 1.0
  * @see ApiProperties
- * @see org.springframework.retry.annotation.Retryable
  */
 @Component
 public class RetryInterceptor {
@@ -73,6 +97,12 @@ public class RetryInterceptor {
      */
     private static final Logger logger = LoggerFactory.getLogger(RetryInterceptor.class);
     
+    /**
+     * Methods a server must handle the same whether it receives them once or several times.
+     */
+    private static final Set<String> IDEMPOTENT_METHODS = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList("GET", "HEAD", "OPTIONS", "TRACE", "PUT", "DELETE")));
+    
     /**
      * Configuration properties for retry behavior.
      */
@@ -89,23 +119,18 @@ public class RetryInterceptor {
      *   <li>Backoff multiplier: 2</li>
      * </ul>
      * 
-     * <p>The method will retry on RestClientException and RuntimeException,
-     * which covers most transient API failures including network issues,
-     * timeouts, and server errors.</p>
+     * <p>The method will retry on RuntimeException, which covers network issues
+     * and timeouts raised by the call. Error responses are returned as they are; use
+     * {@link #retryRequest(ApiRequest, RetryableApiCall)} to retry those.</p>
      * 
      * @param <T> The return type of the API call
      * @param apiCall The API call to execute with retry logic
      * @return The result of the successful API call
      * @throws Exception If all retry attempts fail
      */
-    @Retryable(
-            value = {RestClientException.class, RuntimeException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2)
-    )
     public <T> T retryApiCall(RetryableApiCall<T> apiCall) throws Exception {
         logger.debug("Executing API call with retry mechanism");
-        return apiCall.execute();
+        return retry(3, 1000, null, false, apiCall);
     }
     
     /**
@@ -120,21 +145,160 @@ public class RetryInterceptor {
      * 
      * <p>This approach allows runtime configuration changes without code
      * modifications, making it suitable for different environments with
-     * varying retry requirements.</p>
+     * varying retry requirements. Like {@link #retryApiCall}, it retries on
+     * RuntimeException only.</p>
      * 
      * @param <T> The return type of the API call
      * @param apiCall The API call to execute with retry logic
      * @return The result of the successful API call
      * @throws Exception If all retry attempts fail
      */
-    @Retryable(
-            value = {RestClientException.class, RuntimeException.class},
-            maxAttemptsExpression = "#{@apiProperties.maxRetryAttempts}",
-            backoff = @Backoff(delayExpression = "#{@apiProperties.retryDelayMs}", multiplier = 2)
-    )
     public <T> T retryApiCallWithConfig(RetryableApiCall<T> apiCall) throws Exception {
         logger.debug("Executing API call with configured retry mechanism");
-        return apiCall.execute();
+        return retry(apiProperties.getMaxRetryAttempts(), apiProperties.getRetryDelayMs(), null, false, apiCall);
+    }
+    
+    /**
+     * Executes API calls with the configured retry settings, bounded by a deadline.
+     * 
+     * <p>Uses {@code apiProperties.maxRetryAttempts} and exponential backoff from
+     * {@code apiProperties.retryDelayMs} like {@link #retryApiCallWithConfig}, but
+     * with an explicit deadline; backoff sleeps draw from the same budget as the
+     * attempts themselves:</p>
+     * <ul>
+     *   <li>No attempt is started once the deadline has passed</li>
+     *   <li>No backoff is started that would end after the deadline</li>
+     * </ul>
+     * 
+     * <p><strong>Usage Example:</strong></p>
+     * <pre>
+     * ApiRequest request = ApiRequest.builder().url(url).method("GET").timeout(3000).build();
+     * ApiResponse&lt;String&gt; response = retryInterceptor.retryWithinDeadline(request.getDeadline(),
+     *     () -&gt; apiService.executeRest(request, String.class));
+     * </pre>
+     * 
+     * @param <T> The return type of the API call
+     * @param deadline Deadline of the call (null retries like {@link #retryApiCallWithConfig})
+     * @param apiCall The API call to execute with retry logic
+     * @return The result of the successful API call
+     * @throws ApiException With error code DEADLINE_EXCEEDED when the budget runs out first
+     * @throws Exception If all retry attempts fail
+     */
+    public <T> T retryWithinDeadline(Deadline deadline, RetryableApiCall<T> apiCall) throws Exception {
+        return retry(apiProperties.getMaxRetryAttempts(), apiProperties.getRetryDelayMs(), deadline, false, apiCall);
+    }
+    
+    /**
+     * Executes a request with the configured retry settings, bounded by its deadline.
+     * 
+     * <p>Retries like {@link #retryWithinDeadline(Deadline, RetryableApiCall)} with the
+     * request's own deadline. For idempotent methods (GET, HEAD, OPTIONS, TRACE, PUT,
+     * DELETE) it also retries the error responses the clients return for I/O failures
+     * and server errors, see {@link #isRetryableResponse(Object)}. Other methods only
+     * retry exceptions, since the server may already have processed the request.</p>
+     * 
+     * <p><strong>Usage Example:</strong></p>
+     * <pre>
+     * ApiRequest request = ApiRequest.builder().url(url).method("GET").timeout(3000).build();
+     * ApiResponse&lt;String&gt; response = retryInterceptor.retryRequest(request,
+     *     () -&gt; apiService.executeRest(request, String.class));
+     * </pre>
+     * 
+     * @param <T> The return type of the API call
+     * @param request Request the call executes; supplies the method and deadline
+     * @param apiCall The API call to execute with retry logic
+     * @return The result of the successful API call, or the last error response
+     * @throws ApiException With error code DEADLINE_EXCEEDED when the budget runs out first
+     * @throws Exception If all retry attempts fail
+     */
+    public <T> T retryRequest(ApiRequest request, RetryableApiCall<T> apiCall) throws Exception {
+        return retry(apiProperties.getMaxRetryAttempts(), apiProperties.getRetryDelayMs(), request.getDeadline(),
+                isIdempotent(request.getMethod()), apiCall);
+    }
+    
+    /**
+     * Check whether an HTTP method may be sent again after an ambiguous failure.
+     * 
+     * @param method HTTP method (case-insensitive)
+     * @return true for GET, HEAD, OPTIONS, TRACE, PUT and DELETE
+     */
+    public static boolean isIdempotent(String method) {
+        return method != null && IDEMPOTENT_METHODS.contains(method.toUpperCase(Locale.ROOT));
+    }
+    
+    /**
+     * Check whether a call result is an error response worth retrying.
+     * 
+     * <p>This does not consider the request method; callers must only repeat
+     * idempotent requests on such a response.</p>
+     * 
+     * @param result Result of an attempt
+     * @return true for REST/SOAP errors without a status code (I/O failures) or with a 5xx status
+     */
+    public static boolean isRetryableResponse(Object result) {
+        if (!(result instanceof ApiResponse)) {
+            return false;
+        }
+        ApiResponse<?> response = (ApiResponse<?>) result;
+        if (response.isSuccess() || "DEADLINE_EXCEEDED".equals(response.getErrorCode())) {
+            return false;
+        }
+        if (response.getStatusCode() >= 500) {
+            return true;
+        }
+        return response.getStatusCode() == 0
+                && ("REST_ERROR".equals(response.getErrorCode()) || "SOAP_ERROR".equals(response.getErrorCode()));
+    }
+    
+    private <T> T retry(int maxAttempts, long delayMs, Deadline deadline, boolean retryResponses,
+                        RetryableApiCall<T> apiCall) throws Exception {
+        int attempts = Math.max(1, maxAttempts);
+        for (int attempt = 1; ; attempt++) {
+            if (deadline != null && deadline.isExpired()) {
+                throw new ApiException("DEADLINE_EXCEEDED",
+                        "Deadline of " + deadline.getTimeoutMs() + "ms exceeded after " + (attempt - 1) + " attempt(s)");
+            }
+            T result;
+            try {
+                result = apiCall.execute();
+            } catch (RuntimeException e) {
+                if (e instanceof ApiException && "DEADLINE_EXCEEDED".equals(((ApiException) e).getErrorCode())) {
+                    throw e;
+                }
+                logRetryAttempt(e, attempt, attempts);
+                if (attempt >= attempts) {
+                    throw e;
+                }
+                if (!fitsBudget(deadline, delayMs)) {
+                    throw new ApiException("DEADLINE_EXCEEDED", "Deadline of " + deadline.getTimeoutMs() +
+                            "ms would be exceeded by retry attempt " + (attempt + 1), e);
+                }
+                Thread.sleep(delayMs);
+                delayMs *= 2;
+                continue;
+            }
+            if (!retryResponses || !isRetryableResponse(result)) {
+                return result;
+            }
+            ApiResponse<?> response = (ApiResponse<?>) result;
+            logger.warn("API call returned {} ({}) on attempt {}", response.getErrorCode(),
+                    response.getErrorMessage(), attempt);
+            if (attempt >= attempts || !fitsBudget(deadline, delayMs)) {
+                logger.error("API call failed after {} attempts, giving up", attempt);
+                return result;
+            }
+            Thread.sleep(delayMs);
+            delayMs *= 2;
+        }
+    }
+    
+    private boolean fitsBudget(Deadline deadline, long delayMs) {
+        if (deadline != null && deadline.remainingMillis() <= delayMs) {
+            logger.warn("Not retrying: {}ms backoff exceeds the remaining budget of {}ms",
+                    delayMs, deadline.remainingMillis());
+            return false;
+        }
+        return true;
     }
     
     /**
@@ -154,8 +318,12 @@ public class RetryInterceptor {
      * @param attempt The current attempt number (1-based)
      */
     public void logRetryAttempt(Exception ex, int attempt) {
+        logRetryAttempt(ex, attempt, apiProperties.getMaxRetryAttempts());
+    }
+    
+    private void logRetryAttempt(Exception ex, int attempt, int maxAttempts) {
         logger.warn("API call failed on attempt {}: {}", attempt, ex.getMessage());
-        if (attempt >= apiProperties.getMaxRetryAttempts()) {
+        if (attempt >= maxAttempts) {
             logger.error("API call failed after {} attempts, giving up", attempt);
         }
     }
@@ -6,11 +6,12 @@ import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import com.company.apiframework.codec.CodecRegistry;
 import com.company.apiframework.model.ApiRequest;
 import com.company.apiframework.model.ApiResponse;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Enhanced Mock API service for testing and development
@@ -22,7 +23,8 @@ public class MockApiService {
     private static final Logger logger = LoggerFactory.getLogger(MockApiService.class);
     
     @Autowired
-    private ObjectMapper objectMapper;
+    @Qualifier("jsonCodecRegistry")
+    private CodecRegistry codecs;
     
     @Autowired
     private ApiMockRegistry apiMockRegistry;
@@ -80,8 +82,7 @@ public class MockApiService {
                 if (responseType == String.class) {
                     apiResponse.setBody(responseType.cast(mockResponse.getResponseBody().toString()));
                 } else {
-                    String json = objectMapper.writeValueAsString(mockResponse.getResponseBody());
-                    T convertedBody = objectMapper.readValue(json, responseType);
+                    T convertedBody = codecs.convert(mockResponse.getResponseBody(), responseType);
                     apiResponse.setBody(convertedBody);
                 }
             }
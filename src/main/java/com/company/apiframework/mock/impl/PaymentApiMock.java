@@ -7,6 +7,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.company.apiframework.codec.CodecRegistry;
 import com.company.apiframework.mock.ApiMockRegistry.CustomApiMock;
 import com.company.apiframework.model.ApiRequest;
 import com.company.apiframework.model.ApiResponse;
@@ -22,12 +23,16 @@ public class PaymentApiMock implements CustomApiMock {
     private static final String API_IDENTIFIER = "payment-api";
     private static final String BASE_URL_PATTERN = "https://payment.gateway.com";
     
-    private final ObjectMapper objectMapper;
+    private final CodecRegistry codecs;
     private final AtomicInteger transactionCounter = new AtomicInteger(1000);
     private final Map<String, PaymentScenario> scenarios = new HashMap<>();
     
     public PaymentApiMock(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+        this(new CodecRegistry(objectMapper));
+    }
+    
+    public PaymentApiMock(CodecRegistry codecs) {
+        this.codecs = codecs;
         setupScenarios();
     }
     
@@ -64,8 +69,7 @@ public class PaymentApiMock implements CustomApiMock {
             if (responseType == String.class) {
                 response.setBody(responseType.cast(responseBody.toString()));
             } else {
-                String json = objectMapper.writeValueAsString(responseBody);
-                T convertedBody = objectMapper.readValue(json, responseType);
+                T convertedBody = codecs.convert(responseBody, responseType);
                 response.setBody(convertedBody);
             }
         } catch (Exception e) {
@@ -7,6 +7,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.company.apiframework.codec.CodecRegistry;
 import com.company.apiframework.mock.ApiMockRegistry.CustomApiMock;
 import com.company.apiframework.model.ApiRequest;
 import com.company.apiframework.model.ApiResponse;
@@ -22,12 +23,16 @@ public class UserServiceMock implements CustomApiMock {
     private static final String API_IDENTIFIER = "user-service";
     private static final String BASE_URL_PATTERN = "https://user-service.example.com";
     
-    private final ObjectMapper objectMapper;
+    private final CodecRegistry codecs;
     private final Map<String, MockUser> users = new ConcurrentHashMap<>();
     private final Map<String, UserScenario> scenarios = new HashMap<>();
     
     public UserServiceMock(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+        this(new CodecRegistry(objectMapper));
+    }
+    
+    public UserServiceMock(CodecRegistry codecs) {
+        this.codecs = codecs;
         setupScenarios();
         setupInitialData();
     }
@@ -62,10 +67,9 @@ public class UserServiceMock implements CustomApiMock {
             // Convert response body
             if (responseBody != null) {
                 if (responseType == String.class) {
-                    response.setBody(responseType.cast(objectMapper.writeValueAsString(responseBody)));
+                    response.setBody(responseType.cast(codecs.writeAsString(responseBody)));
                 } else {
-                    String json = objectMapper.writeValueAsString(responseBody);
-                    T convertedBody = objectMapper.readValue(json, responseType);
+                    T convertedBody = codecs.convert(responseBody, responseType);
                     response.setBody(convertedBody);
                 }
             }
@@ -293,7 +297,7 @@ public class UserServiceMock implements CustomApiMock {
     @SuppressWarnings("unchecked")
     private Map<String, Object> parseUserFromRequest(ApiRequest request) throws Exception {
         if (request.getBody() instanceof String) {
-            return objectMapper.readValue((String) request.getBody(), Map.class);
+            return codecs.read((String) request.getBody(), Map.class);
         } else if (request.getBody() instanceof Map) {
             return (Map<String, Object>) request.getBody();
         } else {
@@ -17,6 +17,7 @@ import java.util.Map;
  *   <li>Fluent builder pattern for easy request construction</li>
  *   <li>Support for headers, parameters, and request body</li>
  *   <li>SOAP-specific fields (soapAction) when needed</li>
+ *   <li>Optional overall deadline shared by queueing, I/O and retries</li>
  * </ul>
  * 
  * <p><strong>Usage Examples:</strong></p>
@@ -66,6 +67,7 @@ public class ApiRequest {
      * Request body content.
      * Can be a String, JSON object, XML string, or any serializable object.
      * For REST APIs, this is typically JSON. For SOAP, this is the SOAP envelope.
+     * REST uploads can stream an InputStream, Path, File or {@link RequestBodyWriter}.
      */
     private Object body;
     
@@ -83,6 +85,13 @@ public class ApiRequest {
      */
     private String soapAction;
     
+    /**
+     * Overall deadline for the call, or null for none.
+     * Queueing, pool leases, connect/read timeouts and retry backoff all draw from
+     * this single budget; once it is spent the call fails with DEADLINE_EXCEEDED.
+     */
+    private Deadline deadline;
+    
     /**
      * Default constructor that initializes empty collections.
      */
@@ -224,6 +233,22 @@ public class ApiRequest {
     public void setSoapAction(String soapAction) {
         this.soapAction = soapAction;
     }
+    
+    /**
+     * Gets the overall deadline for the call.
+     * @return Deadline, or null if the call is only bounded by the profile's timeouts
+     */
+    public Deadline getDeadline() {
+        return deadline;
+    }
+    
+    /**
+     * Sets the overall deadline for the call.
+     * @param deadline Deadline shared by all attempts of the call (null for none)
+     */
+    public void setDeadline(Deadline deadline) {
+        this.deadline = deadline;
+    }
 
     /**
      * Creates a new builder instance for fluent API request construction.
@@ -337,6 +362,28 @@ public class ApiRequest {
             return this;
         }
         
+        /**
+         * Sets the overall deadline for the call.
+         * 
+         * @param deadline Deadline shared by all attempts of the call
+         * @return This builder instance for method chaining
+         */
+        public Builder deadline(Deadline deadline) {
+            request.setDeadline(deadline);
+            return this;
+        }
+        
+        /**
+         * Sets a deadline the given number of milliseconds from now.
+         * 
+         * @param timeoutMs Budget for the whole call, including retries
+         * @return This builder instance for method chaining
+         */
+        public Builder timeout(long timeoutMs) {
+            request.setDeadline(Deadline.after(timeoutMs));
+            return this;
+        }
+        
         /**
          * Builds and returns the configured ApiRequest instance.
          * 
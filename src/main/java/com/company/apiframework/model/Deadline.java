@@ -0,0 +1,101 @@
+package com.company.apiframework.model;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point in time by which an API call must complete.
+ *
+ * <p>A deadline is an overall budget for one logical call: time spent queued on an
+ * async executor, waiting for a pooled connection, connecting, reading and backing
+ * off between retries all draw from the same budget. Once it is spent the framework
+ * stops the call and reports error code {@code DEADLINE_EXCEEDED}.</p>
+ *
+ * <p>Deadlines are measured with {@link System#nanoTime()}, so they are not affected
+ * by wall-clock adjustments. Instances are immutable and can be shared between the
+ * attempts of a retried call.</p>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>
+ * ApiRequest request = ApiRequest.builder()
+ *     .url("https://api.example.com/payments")
+ *     .method("POST")
+ *     .timeout(2000)      // whole call, including retries, must finish within 2s
+ *     .build();
+ * </pre>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class Deadline {
+
+    private final long timeoutMs;
+    private final long deadlineNanos;
+
+    private Deadline(long timeoutMs) {
+        this.timeoutMs = Math.max(0, timeoutMs);
+        this.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.timeoutMs);
+    }
+
+    /**
+     * Create a deadline that expires the given number of milliseconds from now.
+     *
+     * @param timeoutMs Budget in milliseconds (negative values are treated as 0)
+     * @return New deadline
+     */
+    public static Deadline after(long timeoutMs) {
+        return new Deadline(timeoutMs);
+    }
+
+    /**
+     * Create a deadline that expires after the given duration from now.
+     *
+     * @param timeout Budget
+     * @return New deadline
+     */
+    public static Deadline after(Duration timeout) {
+        return new Deadline(timeout.toMillis());
+    }
+
+    /**
+     * @return Milliseconds left before the deadline, rounded up, or 0 if it has passed.
+     *         Rounding up means a timeout set to this value fires at or after the deadline.
+     */
+    public long remainingMillis() {
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        return remainingNanos > 0 ? (remainingNanos + 999_999L) / 1_000_000L : 0;
+    }
+
+    /**
+     * @return true once the deadline has passed
+     */
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Cap a configured timeout at the remaining budget.
+     *
+     * @param configuredTimeoutMs Timeout configured for the profile; 0 or negative means none
+     * @return The smaller of the configured timeout and the remaining budget, at least 1ms
+     *         so that an exhausted budget never turns into an infinite timeout
+     */
+    public int capTimeout(int configuredTimeoutMs) {
+        long remaining = Math.max(1, remainingMillis());
+        long capped = configuredTimeoutMs > 0 ? Math.min(configuredTimeoutMs, remaining) : remaining;
+        return (int) Math.min(Integer.MAX_VALUE, capped);
+    }
+
+    /**
+     * @return Budget the deadline was created with, in milliseconds
+     */
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline{timeoutMs=" + timeoutMs + ", remainingMs=" + remainingMillis() + "}";
+    }
+}
@@ -0,0 +1,79 @@
+package com.company.apiframework.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Request body that is written to the connection as it is sent.
+ *
+ * <p>Use as {@link ApiRequest#getBody() request body} for uploads too large to hold
+ * in memory. REST clients send streaming bodies with chunked transfer encoding
+ * (unless the request sets {@code Content-Length}) and default their
+ * {@code Content-Type} to {@code application/octet-stream}. Besides writer
+ * callbacks, {@link InputStream}, {@link Path} and {@link File} bodies are streamed
+ * too; see {@link #from(Object)}.</p>
+ *
+ * <p>An InputStream body can be sent only once and is closed after sending; Path,
+ * File and writer bodies can be resent by retries.</p>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>
+ * ApiRequest upload = ApiRequest.builder()
+ *     .url("https://batch.processor.com/imports")
+ *     .method("POST")
+ *     .body((RequestBodyWriter) out -&gt; exporter.writeCsv(out))
+ *     .build();
+ * </pre>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+@FunctionalInterface
+public interface RequestBodyWriter {
+
+    /**
+     * Write the body. The stream is owned by the framework and must not be closed.
+     *
+     * @param out Stream to the connection
+     * @throws IOException If the body cannot be produced or sent
+     */
+    void writeTo(OutputStream out) throws IOException;
+
+    /**
+     * Get the writer of a streaming request body.
+     *
+     * @param body Request body of any type
+     * @return Writer for RequestBodyWriter, InputStream, Path and File bodies; null for other bodies
+     */
+    static RequestBodyWriter from(Object body) {
+        if (body instanceof RequestBodyWriter) {
+            return (RequestBodyWriter) body;
+        }
+        if (body instanceof InputStream) {
+            InputStream in = (InputStream) body;
+            return out -> {
+                try (InputStream source = in) {
+                    byte[] buffer = new byte[8192];
+                    int read;
+                    while ((read = source.read(buffer)) != -1) {
+                        out.write(buffer, 0, read);
+                    }
+                }
+            };
+        }
+        if (body instanceof Path) {
+            Path path = (Path) body;
+            return out -> Files.copy(path, out);
+        }
+        if (body instanceof File) {
+            Path path = ((File) body).toPath();
+            return out -> Files.copy(path, out);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,287 @@
+package com.company.apiframework.pool;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import com.company.apiframework.async.NamedThreadFactory;
+import com.company.apiframework.config.AdaptivePoolProperties;
+
+/**
+ * Resizes the per-route connection limits of registered pools from observed traffic.
+ *
+ * <p>The controller listens to every lease and release of a {@link ConnectionPoolRegistry}
+ * pool whose {@link AdaptivePoolProperties} are enabled. At each interval it computes,
+ * per route, the lease rate, the mean time a connection is held (upstream latency plus
+ * reading the response) and the mean lease wait, and sets the route's limit with
+ * {@link PoolingHttpClientConnectionManager#setMaxPerRoute(HttpRoute, int)}. The change
+ * applies to the next lease, so RestTemplates keep working unchanged; after a shrink,
+ * surplus idle connections are closed as the pool hands out connections.</p>
+ *
+ * <p>The limit follows Little's law, {@code connections = lease rate x hold time},
+ * or the connections in use plus waiting callers if higher, times the headroom. See
+ * {@link AdaptivePoolProperties} for the growth and shrink rules.</p>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>
+ * AdaptivePoolController controller =
+ *         new AdaptivePoolController(connectionPoolRegistry, apiProperties::resolveAdaptivePool);
+ * connectionPoolRegistry.addLeaseListener(controller);
+ * </pre>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class AdaptivePoolController implements ConnectionLeaseListener, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptivePoolController.class);
+
+    private final ConnectionPoolRegistry connectionPoolRegistry;
+    private final Function<String, AdaptivePoolProperties> adaptiveSettings;
+    private final ConcurrentMap<String, PoolLoad> pools = new ConcurrentHashMap<>();
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    /**
+     * @param connectionPoolRegistry Pools to resize
+     * @param adaptiveSettings Adaptive settings per pool name, e.g. {@code ApiProperties::resolveAdaptivePool}
+     */
+    public AdaptivePoolController(ConnectionPoolRegistry connectionPoolRegistry,
+                                  Function<String, AdaptivePoolProperties> adaptiveSettings) {
+        this.connectionPoolRegistry = connectionPoolRegistry;
+        this.adaptiveSettings = adaptiveSettings;
+        this.scheduler = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("api-pool-sizer-"));
+    }
+
+    @Override
+    public void leaseCompleted(String pool, HttpRoute route, long waitNanos, boolean timedOut) {
+        RouteLoad load = routeLoad(pool, route);
+        if (load != null) {
+            load.leases.increment();
+            load.waitNanos.add(waitNanos);
+            if (timedOut) {
+                load.timeouts.increment();
+            }
+        }
+    }
+
+    @Override
+    public void connectionReleased(String pool, HttpRoute route, long heldNanos) {
+        RouteLoad load = routeLoad(pool, route);
+        if (load != null) {
+            load.releases.increment();
+            load.heldNanos.add(heldNanos);
+        }
+    }
+
+    /**
+     * Recompute the per-route limits of one pool from the traffic since the last adjustment.
+     *
+     * <p>Runs on the controller's own thread at each pool's interval; exposed for tests
+     * and manual tuning.</p>
+     *
+     * @param name Pool name
+     */
+    public void adjust(String name) {
+        PoolLoad pool = pools.get(name);
+        PoolingHttpClientConnectionManager connectionManager = connectionPoolRegistry.getConnectionManager(name);
+        if (pool == null || pool.properties == null || connectionManager == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        double elapsedSeconds = Math.max(1, now - pool.lastAdjustNanos) / 1_000_000_000.0;
+        pool.lastAdjustNanos = now;
+        pool.routes.forEach((route, load) -> load.adjust(name, route, connectionManager, pool.properties,
+                elapsedSeconds));
+    }
+
+    /**
+     * Get the sizing state of every adaptive pool.
+     *
+     * @return Map of pool name to route key to maxPerRoute, leaseRatePerSec, meanHeldMs,
+     *         meanLeaseWaitMs, estimatedConnections and resizes
+     */
+    public Map<String, Map<String, Map<String, Object>>> getMetrics() {
+        Map<String, Map<String, Map<String, Object>>> metrics = new LinkedHashMap<>();
+        pools.forEach((name, pool) -> {
+            PoolingHttpClientConnectionManager connectionManager = connectionPoolRegistry.getConnectionManager(name);
+            if (pool.properties != null && connectionManager != null) {
+                Map<String, Map<String, Object>> routes = new LinkedHashMap<>();
+                pool.routes.forEach((route, load) -> routes.put(ConnectionPoolRegistry.routeKey(route),
+                        load.getMetrics(connectionManager.getMaxPerRoute(route))));
+                metrics.put(name, routes);
+            }
+        });
+        return metrics;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Compute the next per-route limit.
+     *
+     * @param current Current limit
+     * @param leaseRatePerSec Leases per second over the last interval
+     * @param meanHeldMs Mean time a connection was held
+     * @param busy Connections leased plus callers waiting right now
+     * @param starved Whether callers waited too long, are waiting or timed out
+     * @param properties Bounds and tuning
+     * @return New limit within the bounds
+     */
+    static int targetPerRoute(int current, double leaseRatePerSec, double meanHeldMs, int busy, boolean starved,
+                              AdaptivePoolProperties properties) {
+        double concurrency = Math.max(leaseRatePerSec * meanHeldMs / 1000.0, busy);
+        int target = (int) Math.ceil(concurrency * Math.max(1.0, properties.getHeadroom()));
+        if (starved) {
+            target = Math.max(target, current + Math.max(1, current / 4));
+        } else if (target < current) {
+            target = current - Math.max(1, (current - target) / 2);
+        }
+        int min = Math.max(1, properties.getMinPerRoute());
+        int max = Math.max(min, properties.getMaxPerRoute());
+        return Math.max(min, Math.min(max, target));
+    }
+
+    private RouteLoad routeLoad(String name, HttpRoute route) {
+        // Plain get first: computeIfAbsent may lock even when the key is present
+        PoolLoad pool = pools.get(name);
+        if (pool == null) {
+            pool = pools.computeIfAbsent(name, this::createPoolLoad);
+        }
+        if (pool.properties == null) {
+            return null;
+        }
+        RouteLoad load = pool.routes.get(route);
+        return load != null ? load : pool.routes.computeIfAbsent(route, key -> new RouteLoad());
+    }
+
+    private PoolLoad createPoolLoad(String name) {
+        AdaptivePoolProperties properties = adaptiveSettings.apply(name);
+        if (properties == null || !properties.isEnabled() || properties.getIntervalMs() <= 0) {
+            return new PoolLoad(null);
+        }
+        if (connectionPoolRegistry.isSharedPool(name)) {
+            // Shrinking a shared pool would break the guarantee that each profile reaches its quota
+            logger.warn("Adaptive sizing is not applied to shared connection pool '{}'", name);
+            return new PoolLoad(null);
+        }
+        PoolLoad pool = new PoolLoad(properties);
+        scheduler.scheduleWithFixedDelay(() -> {
+            // An exception would silently cancel the schedule
+            try {
+                adjust(name);
+            } catch (RuntimeException e) {
+                logger.warn("Adaptive sizing failed for pool '{}': {}", name, e.getMessage(), e);
+            }
+        }, properties.getIntervalMs(), properties.getIntervalMs(), TimeUnit.MILLISECONDS);
+        logger.info("Adaptive sizing enabled for connection pool '{}' ({}-{} connections per route, every {}ms)",
+                name, properties.getMinPerRoute(), properties.getMaxPerRoute(), properties.getIntervalMs());
+        return pool;
+    }
+
+    /**
+     * Adaptive settings and per-route load of one pool; settings are null when sizing is disabled.
+     */
+    private static final class PoolLoad {
+
+        private final AdaptivePoolProperties properties;
+        private final ConcurrentMap<HttpRoute, RouteLoad> routes = new ConcurrentHashMap<>();
+        private volatile long lastAdjustNanos = System.nanoTime();
+
+        private PoolLoad(AdaptivePoolProperties properties) {
+            this.properties = properties;
+        }
+    }
+
+    /**
+     * Traffic counters of one route and the result of its last adjustment.
+     */
+    private static final class RouteLoad {
+
+        private final LongAdder leases = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder releases = new LongAdder();
+        private final LongAdder heldNanos = new LongAdder();
+
+        // Totals at the previous adjustment, only touched by the adjusting thread
+        private long lastLeases;
+        private long lastWaitNanos;
+        private long lastTimeouts;
+        private long lastReleases;
+        private long lastHeldNanos;
+
+        private volatile double leaseRatePerSec;
+        private volatile double meanHeldMs;
+        private volatile double meanLeaseWaitMs;
+        private volatile double estimatedConnections;
+        private volatile long resizes;
+
+        private synchronized void adjust(String pool, HttpRoute route,
+                                         PoolingHttpClientConnectionManager connectionManager,
+                                         AdaptivePoolProperties properties, double elapsedSeconds) {
+            long leaseTotal = leases.sum();
+            long waitTotal = waitNanos.sum();
+            long timeoutTotal = timeouts.sum();
+            long releaseTotal = releases.sum();
+            long heldTotal = heldNanos.sum();
+            long leaseCount = leaseTotal - lastLeases;
+            long releaseCount = releaseTotal - lastReleases;
+            boolean timedOut = timeoutTotal > lastTimeouts;
+
+            leaseRatePerSec = leaseCount / elapsedSeconds;
+            meanLeaseWaitMs = leaseCount > 0 ? (waitTotal - lastWaitNanos) / (double) leaseCount / 1_000_000.0 : 0.0;
+            if (releaseCount > 0) {
+                // Without releases in the interval the previous hold time still holds
+                meanHeldMs = (heldTotal - lastHeldNanos) / (double) releaseCount / 1_000_000.0;
+            }
+            lastLeases = leaseTotal;
+            lastWaitNanos = waitTotal;
+            lastTimeouts = timeoutTotal;
+            lastReleases = releaseTotal;
+            lastHeldNanos = heldTotal;
+
+            PoolStats stats = connectionManager.getStats(route);
+            int busy = stats.getLeased() + stats.getPending();
+            boolean starved = timedOut || stats.getPending() > 0
+                    || meanLeaseWaitMs > properties.getLeaseWaitThresholdMs();
+            estimatedConnections = leaseRatePerSec * meanHeldMs / 1000.0;
+            int current = connectionManager.getMaxPerRoute(route);
+            int target = targetPerRoute(current, leaseRatePerSec, meanHeldMs, busy, starved, properties);
+            if (target != current) {
+                connectionManager.setMaxPerRoute(route, target);
+                resizes++;
+                logger.info("Resized route {} of pool '{}' from {} to {} connections (lease rate {}/s, held {}ms, "
+                        + "lease wait {}ms, busy {})", ConnectionPoolRegistry.routeKey(route), pool, current, target,
+                        String.format("%.1f", leaseRatePerSec), String.format("%.1f", meanHeldMs),
+                        String.format("%.1f", meanLeaseWaitMs), busy);
+            }
+        }
+
+        private Map<String, Object> getMetrics(int maxPerRoute) {
+            Map<String, Object> metrics = new LinkedHashMap<>();
+            metrics.put("maxPerRoute", maxPerRoute);
+            metrics.put("leaseRatePerSec", leaseRatePerSec);
+            metrics.put("meanHeldMs", meanHeldMs);
+            metrics.put("meanLeaseWaitMs", meanLeaseWaitMs);
+            metrics.put("estimatedConnections", estimatedConnections);
+            metrics.put("resizes", resizes);
+            return metrics;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.company.apiframework.pool;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * Keep-alive strategy that never keeps a connection longer than a configured limit.
+ *
+ * <p>HttpClient's default strategy keeps a connection indefinitely unless the server
+ * sends {@code Keep-Alive: timeout=n}, which most servers do not. This strategy uses
+ * the server's timeout when it is shorter than the limit and the limit otherwise, so
+ * the evictor closes connections before a typical upstream drops them.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class CappedKeepAliveStrategy implements ConnectionKeepAliveStrategy {
+
+    private final long maxKeepAliveMs;
+
+    /**
+     * @param maxKeepAliveMs Longest keep-alive in milliseconds; 0 or less keeps the default (server-driven) behavior
+     */
+    public CappedKeepAliveStrategy(long maxKeepAliveMs) {
+        this.maxKeepAliveMs = maxKeepAliveMs;
+    }
+
+    @Override
+    public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+        long advertised = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+        if (maxKeepAliveMs <= 0) {
+            return advertised;
+        }
+        return advertised > 0 ? Math.min(advertised, maxKeepAliveMs) : maxKeepAliveMs;
+    }
+}
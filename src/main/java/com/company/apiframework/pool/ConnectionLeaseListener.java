@@ -0,0 +1,36 @@
+package com.company.apiframework.pool;
+
+import org.apache.http.conn.routing.HttpRoute;
+
+/**
+ * Callback for every connection lease and release of a {@link ConnectionPoolRegistry} pool.
+ *
+ * <p>Called on the leasing or releasing thread, so implementations must be fast.
+ * Exceptions are logged and do not fail the lease or release.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see ConnectionPoolRegistry#addLeaseListener(ConnectionLeaseListener)
+ */
+@FunctionalInterface
+public interface ConnectionLeaseListener {
+
+    /**
+     * @param pool Pool name
+     * @param route Route the connection was leased for
+     * @param waitNanos Time spent waiting for the connection
+     * @param timedOut Whether the lease failed with a connection request timeout
+     */
+    void leaseCompleted(String pool, HttpRoute route, long waitNanos, boolean timedOut);
+
+    /**
+     * Called when a leased connection is returned to the pool, reusable or not.
+     *
+     * @param pool Pool name
+     * @param route Route the connection was leased for
+     * @param heldNanos Time between lease and release: the call's latency plus reading the response
+     */
+    default void connectionReleased(String pool, HttpRoute route, long heldNanos) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.company.apiframework.pool;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+/**
+ * Actuator endpoint with live statistics of the connection pools.
+ *
+ * <p>{@code GET /actuator/connectionpools} returns every pool and
+ * {@code GET /actuator/connectionpools/{pool}} a single one (404 if unknown). Each pool
+ * reports leased, available, pending and max connections in total and per route, the
+ * lease wait histogram and the eviction counters; see
+ * {@link ConnectionPoolRegistry#getMetrics(String)}.</p>
+ *
+ * <p>The endpoint must be exposed like any other, e.g.
+ * {@code management.endpoints.web.exposure.include: health,info,metrics,connectionpools}.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see ConnectionPoolMeterBinder
+ */
+@Endpoint(id = "connectionpools")
+public class ConnectionPoolEndpoint {
+
+    private final ConnectionPoolRegistry connectionPoolRegistry;
+
+    /**
+     * @param connectionPoolRegistry Pools to report
+     */
+    public ConnectionPoolEndpoint(ConnectionPoolRegistry connectionPoolRegistry) {
+        this.connectionPoolRegistry = connectionPoolRegistry;
+    }
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> pools() {
+        return connectionPoolRegistry.getMetrics();
+    }
+
+    @ReadOperation
+    public Map<String, Object> pool(@Selector String pool) {
+        return connectionPoolRegistry.getMetrics(pool);
+    }
+}
@@ -0,0 +1,129 @@
+package com.company.apiframework.pool;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes the connection pools of a {@link ConnectionPoolRegistry} to Micrometer.
+ *
+ * <p>Meters, all tagged with {@code pool}:</p>
+ * <ul>
+ *   <li>{@code api.pool.connections} - connections by {@code state} (leased, available)</li>
+ *   <li>{@code api.pool.pending} - callers waiting for a connection</li>
+ *   <li>{@code api.pool.max} - maximum connections of the pool</li>
+ *   <li>{@code api.pool.route.connections}, {@code api.pool.route.pending} and
+ *       {@code api.pool.route.max} - the same per route, tagged with {@code route}</li>
+ *   <li>{@code api.pool.lease.wait} - timer with a percentile histogram of lease waits,
+ *       tagged with {@code outcome} (acquired, timeout)</li>
+ * </ul>
+ *
+ * <p>Pool meters are registered at bind time and for pools created later on their first
+ * lease; route meters on the first lease of the route. An alert on
+ * {@code api.pool.pending > 0} or on {@code api.pool.lease.wait{outcome=timeout}}
+ * catches pool exhaustion before requests fail in bulk.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see ConnectionPoolEndpoint
+ */
+public class ConnectionPoolMeterBinder implements MeterBinder {
+
+    private final ConnectionPoolRegistry connectionPoolRegistry;
+
+    /**
+     * @param connectionPoolRegistry Pools to publish
+     */
+    public ConnectionPoolMeterBinder(ConnectionPoolRegistry connectionPoolRegistry) {
+        this.connectionPoolRegistry = connectionPoolRegistry;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Set<String> boundPools = ConcurrentHashMap.newKeySet();
+        Set<String> boundRoutes = ConcurrentHashMap.newKeySet();
+        Map<String, Timer> timers = new ConcurrentHashMap<>();
+        for (String name : connectionPoolRegistry.getPoolNames()) {
+            if (boundPools.add(name)) {
+                bindPool(registry, name);
+            }
+        }
+        connectionPoolRegistry.addLeaseListener((pool, route, waitNanos, timedOut) -> {
+            if (boundPools.add(pool)) {
+                bindPool(registry, pool);
+            }
+            String routeKey = ConnectionPoolRegistry.routeKey(route);
+            if (boundRoutes.add(pool + ' ' + routeKey)) {
+                bindRoute(registry, pool, route, routeKey);
+            }
+            String outcome = timedOut ? "timeout" : "acquired";
+            timers.computeIfAbsent(pool + ' ' + outcome, key -> Timer.builder("api.pool.lease.wait")
+                    .description("Time spent waiting to lease a connection")
+                    .tags("pool", pool, "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry))
+                    .record(waitNanos, TimeUnit.NANOSECONDS);
+        });
+    }
+
+    private void bindPool(MeterRegistry registry, String pool) {
+        Gauge.builder("api.pool.connections", () -> totalStat(pool, PoolStats::getLeased))
+                .description("Connections of the pool by state")
+                .tags("pool", pool, "state", "leased")
+                .register(registry);
+        Gauge.builder("api.pool.connections", () -> totalStat(pool, PoolStats::getAvailable))
+                .description("Connections of the pool by state")
+                .tags("pool", pool, "state", "available")
+                .register(registry);
+        Gauge.builder("api.pool.pending", () -> totalStat(pool, PoolStats::getPending))
+                .description("Callers waiting for a connection")
+                .tags("pool", pool)
+                .register(registry);
+        Gauge.builder("api.pool.max", () -> totalStat(pool, PoolStats::getMax))
+                .description("Maximum connections of the pool")
+                .tags("pool", pool)
+                .register(registry);
+    }
+
+    private void bindRoute(MeterRegistry registry, String pool, HttpRoute route, String routeKey) {
+        Gauge.builder("api.pool.route.connections", () -> routeStat(pool, route, PoolStats::getLeased))
+                .description("Connections of the route by state")
+                .tags("pool", pool, "route", routeKey, "state", "leased")
+                .register(registry);
+        Gauge.builder("api.pool.route.connections", () -> routeStat(pool, route, PoolStats::getAvailable))
+                .description("Connections of the route by state")
+                .tags("pool", pool, "route", routeKey, "state", "available")
+                .register(registry);
+        Gauge.builder("api.pool.route.pending", () -> routeStat(pool, route, PoolStats::getPending))
+                .description("Callers waiting for a connection to the route")
+                .tags("pool", pool, "route", routeKey)
+                .register(registry);
+        Gauge.builder("api.pool.route.max", () -> routeStat(pool, route, PoolStats::getMax))
+                .description("Maximum connections of the route")
+                .tags("pool", pool, "route", routeKey)
+                .register(registry);
+    }
+
+    // Looked up on every read so a pool registered again under the same name is still reported
+    private Number totalStat(String pool, ToIntFunction<PoolStats> stat) {
+        PoolingHttpClientConnectionManager connectionManager = connectionPoolRegistry.getConnectionManager(pool);
+        return connectionManager != null ? stat.applyAsInt(connectionManager.getTotalStats()) : Double.NaN;
+    }
+
+    private Number routeStat(String pool, HttpRoute route, ToIntFunction<PoolStats> stat) {
+        PoolingHttpClientConnectionManager connectionManager = connectionPoolRegistry.getConnectionManager(pool);
+        return connectionManager != null ? stat.applyAsInt(connectionManager.getStats(route)) : Double.NaN;
+    }
+}
@@ -0,0 +1,535 @@
+package com.company.apiframework.pool;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.StringUtils;
+
+import com.company.apiframework.async.NamedThreadFactory;
+import com.company.apiframework.config.PoolProperties;
+
+/**
+ * Apache HttpClient connection pools per RestTemplate profile and the evictor that
+ * keeps them clean.
+ *
+ * <p>Every pool is created with the profile's {@link PoolProperties}: a connection
+ * time-to-live, validation of connections idle for a while, and a keep-alive
+ * strategy capped at {@code keep-alive-ms}. One daemon thread shared by all pools
+ * closes expired connections (past their keep-alive or time-to-live) and connections
+ * idle for longer than {@code idle-timeout-ms}, at each pool's eviction interval.
+ * Pools are shut down when the application context closes.</p>
+ *
+ * <p>Every lease is timed: the wait is recorded in the pool's {@link LeaseWaitHistogram}
+ * and passed to the registered {@link ConnectionLeaseListener}s. Together with the
+ * per-route leased, available and pending counts of {@link #getMetrics()}, this shows
+ * how close each pool is to exhaustion.</p>
+ *
+ * <p>Profiles whose {@link PoolProperties#getSharedPool() shared-pool} names the same
+ * pool lease from one connection manager, registered under the shared pool's name. Each
+ * profile's pool sizes become its quota through a {@link ProfileQuotaConnectionManager};
+ * the shared pool is sized to the sum of the quotas, so every profile can always reach
+ * its own.</p>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>
+ * HttpClient httpClient = connectionPoolRegistry
+ *         .httpClientBuilder("payment-api", apiProperties.resolvePool("payment-api"), 50, 10)
+ *         .build();
+ * </pre>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see CappedKeepAliveStrategy
+ */
+public class ConnectionPoolRegistry implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPoolRegistry.class);
+
+    private final ConcurrentMap<String, ManagedPool> pools = new ConcurrentHashMap<>();
+    private final List<ConnectionLeaseListener> leaseListeners = new CopyOnWriteArrayList<>();
+    private final ScheduledThreadPoolExecutor evictor;
+
+    public ConnectionPoolRegistry() {
+        this.evictor = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("api-pool-evictor-"));
+        this.evictor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Create an HttpClient builder backed by a new pool of the given profile, or by the
+     * shared pool its settings name.
+     *
+     * <p>The builder has its connection manager and keep-alive strategy set; pool sizes
+     * set on the builder afterwards are ignored. On a shared pool, {@code maxTotal} and
+     * {@code maxPerRoute} are the profile's quota.</p>
+     *
+     * @param name Pool name, normally the RestTemplate profile name
+     * @param properties Lifecycle settings of the pool
+     * @param maxTotal Maximum connections of the pool
+     * @param maxPerRoute Maximum connections per route
+     * @return HttpClient builder using the pool
+     */
+    public HttpClientBuilder httpClientBuilder(String name, PoolProperties properties, int maxTotal, int maxPerRoute) {
+        if (StringUtils.hasText(properties.getSharedPool())) {
+            // The client must not shut the shared pool down when it is closed
+            return HttpClientBuilder.create()
+                    .setConnectionManager(joinSharedPool(properties.getSharedPool(), name, properties,
+                            maxTotal, maxPerRoute))
+                    .setConnectionManagerShared(true)
+                    .setKeepAliveStrategy(new CappedKeepAliveStrategy(properties.getKeepAliveMs()));
+        }
+        return HttpClientBuilder.create()
+                .setConnectionManager(createConnectionManager(name, properties, maxTotal, maxPerRoute))
+                .setKeepAliveStrategy(new CappedKeepAliveStrategy(properties.getKeepAliveMs()));
+    }
+
+    /**
+     * Create and register a pool; its idle and expired connections are evicted in the background.
+     *
+     * <p>Registering a name again replaces the earlier pool and shuts it down, so that
+     * its connections are not left open.</p>
+     *
+     * @param name Pool name, normally the RestTemplate profile name
+     * @param properties Lifecycle settings of the pool
+     * @param maxTotal Maximum connections of the pool
+     * @param maxPerRoute Maximum connections per route
+     * @return Connection manager of the new pool
+     */
+    public PoolingHttpClientConnectionManager createConnectionManager(String name, PoolProperties properties,
+                                                                      int maxTotal, int maxPerRoute) {
+        long timeToLive = properties.getTimeToLiveMs() > 0 ? properties.getTimeToLiveMs() : -1;
+        LeaseWaitHistogram leaseWait = new LeaseWaitHistogram();
+        PoolingHttpClientConnectionManager connectionManager =
+                new TimedConnectionManager(name, timeToLive, leaseWait, leaseListeners);
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        // A non-positive value disables the stale check
+        connectionManager.setValidateAfterInactivity(properties.getValidateAfterInactivityMs());
+
+        ManagedPool pool = new ManagedPool(name, connectionManager, properties, leaseWait);
+        if (properties.getEvictionIntervalMs() > 0) {
+            pool.eviction = evictor.scheduleWithFixedDelay(pool::evict, properties.getEvictionIntervalMs(),
+                    properties.getEvictionIntervalMs(), TimeUnit.MILLISECONDS);
+        }
+        ManagedPool previous = pools.put(name, pool);
+        if (previous != null) {
+            logger.warn("Connection pool '{}' registered twice; shutting down the earlier pool", name);
+            previous.cancelEviction();
+            previous.connectionManager.shutdown();
+        }
+        logger.info("Created connection pool '{}' (maxTotal={}, maxPerRoute={}, idleTimeout={}ms, timeToLive={}, "
+                + "keepAlive={}ms, validateAfterInactivity={}ms)", name, maxTotal, maxPerRoute,
+                properties.getIdleTimeoutMs(), timeToLive > 0 ? timeToLive + "ms" : "unlimited",
+                properties.getKeepAliveMs(), properties.getValidateAfterInactivityMs());
+        return connectionManager;
+    }
+
+    /**
+     * Add a profile to a shared pool, creating the pool on the first call.
+     *
+     * <p>The shared pool grows by the profile's sizes; the returned view holds the profile
+     * to them. The first profile's lifecycle settings apply to the shared pool.</p>
+     *
+     * @param sharedPool Shared pool name
+     * @param profile Profile name
+     * @param properties Lifecycle settings of the profile
+     * @param maxTotal Connections the profile may hold at once
+     * @param maxPerRoute Connections the profile may hold at once per route
+     * @return Quota-limited view of the shared pool for the profile
+     * @throws IllegalArgumentException if a dedicated pool already has the shared pool's name
+     */
+    public synchronized ProfileQuotaConnectionManager joinSharedPool(String sharedPool, String profile,
+                                                                     PoolProperties properties,
+                                                                     int maxTotal, int maxPerRoute) {
+        ManagedPool pool = pools.get(sharedPool);
+        if (pool == null) {
+            createConnectionManager(sharedPool, properties, maxTotal, maxPerRoute);
+            pool = pools.get(sharedPool);
+            pool.shared = true;
+        } else if (!pool.shared) {
+            throw new IllegalArgumentException("Shared pool name '" + sharedPool
+                    + "' is already used by a dedicated connection pool");
+        } else {
+            pool.connectionManager.setMaxTotal(pool.connectionManager.getMaxTotal() + maxTotal);
+            pool.connectionManager.setDefaultMaxPerRoute(pool.connectionManager.getDefaultMaxPerRoute() + maxPerRoute);
+        }
+        ProfileQuotaConnectionManager quota =
+                new ProfileQuotaConnectionManager(profile, pool.connectionManager, maxTotal, maxPerRoute);
+        pool.members.put(profile, quota);
+        logger.info("Profile '{}' joined shared connection pool '{}' (quota maxTotal={}, maxPerRoute={}; "
+                + "pool maxTotal={})", profile, sharedPool, maxTotal, maxPerRoute,
+                pool.connectionManager.getMaxTotal());
+        return quota;
+    }
+
+    /**
+     * @param name Pool name
+     * @return Connection manager of the pool, or null if no pool has that name
+     */
+    public PoolingHttpClientConnectionManager getConnectionManager(String name) {
+        ManagedPool pool = pools.get(name);
+        return pool != null ? pool.connectionManager : null;
+    }
+
+    /**
+     * Get the connections a profile may hold at once, as currently configured.
+     *
+     * <p>For a dedicated pool this is the pool's live size; for a profile of a shared
+     * pool, its quota capped by the shared pool's size.</p>
+     *
+     * @param profile Profile name
+     * @return Connection limit, or -1 if no pool serves the profile
+     */
+    public int getMaxTotal(String profile) {
+        ManagedPool pool = pools.get(profile);
+        if (pool != null && !pool.shared) {
+            return pool.connectionManager.getMaxTotal();
+        }
+        pool = sharedPoolOf(profile);
+        if (pool == null) {
+            return -1;
+        }
+        return Math.min(pool.members.get(profile).getMaxTotal(), pool.connectionManager.getMaxTotal());
+    }
+
+    /**
+     * Get the connections a profile may hold at once to the route of a URL, as currently
+     * configured.
+     *
+     * <p>Reads the live per-route limit, so limits changed at runtime (e.g. by the
+     * {@link AdaptivePoolController}) are reflected; for a profile of a shared pool, its
+     * per-route quota capped by the shared pool's limit.</p>
+     *
+     * @param profile Profile name
+     * @param url URL of a request, or its {@code scheme://host:port}
+     * @return Per-route connection limit, or -1 if no pool serves the profile or the URL has no host
+     */
+    public int getMaxPerRoute(String profile, String url) {
+        ManagedPool pool = pools.get(profile);
+        boolean dedicated = pool != null && !pool.shared;
+        if (!dedicated) {
+            pool = sharedPoolOf(profile);
+        }
+        HttpRoute route = pool != null ? routeOf(url) : null;
+        if (route == null) {
+            return -1;
+        }
+        int maxPerRoute = pool.connectionManager.getMaxPerRoute(route);
+        return dedicated ? maxPerRoute : Math.min(pool.members.get(profile).getMaxPerRoute(), maxPerRoute);
+    }
+
+    /**
+     * @param name Pool name
+     * @return Lifecycle settings of the pool, or null if no pool has that name
+     */
+    public PoolProperties getPoolProperties(String name) {
+        ManagedPool pool = pools.get(name);
+        return pool != null ? pool.properties : null;
+    }
+
+    /**
+     * @param name Pool name
+     * @return Whether the pool is shared by several profiles
+     */
+    public boolean isSharedPool(String name) {
+        ManagedPool pool = pools.get(name);
+        return pool != null && pool.shared;
+    }
+
+    /**
+     * @return Names of all registered pools, in no particular order
+     */
+    public Set<String> getPoolNames() {
+        return new LinkedHashSet<>(pools.keySet());
+    }
+
+    /**
+     * @param name Pool name
+     * @return Lease wait histogram of the pool, or null if no pool has that name
+     */
+    public LeaseWaitHistogram getLeaseWaitHistogram(String name) {
+        ManagedPool pool = pools.get(name);
+        return pool != null ? pool.leaseWait : null;
+    }
+
+    /**
+     * Register a listener called after every lease of every pool, including pools created later.
+     *
+     * @param listener Listener to add
+     */
+    public void addLeaseListener(ConnectionLeaseListener listener) {
+        leaseListeners.add(listener);
+    }
+
+    /**
+     * Get occupancy, lease wait and eviction metrics of all pools.
+     *
+     * <p>{@code connectionsEvicted} is derived from the number of available connections
+     * before and after each eviction run, so it is approximate while the pool is busy.</p>
+     *
+     * @return Map of pool name to pool metrics
+     * @see #getMetrics(String)
+     */
+    public Map<String, Map<String, Object>> getMetrics() {
+        Map<String, Map<String, Object>> metrics = new LinkedHashMap<>();
+        pools.forEach((name, pool) -> metrics.put(name, pool.getMetrics()));
+        return metrics;
+    }
+
+    /**
+     * Get the metrics of one pool.
+     *
+     * <p>Besides the pool totals (maxTotal, leased, available, pending), the map holds
+     * {@code routes}, the same counts per route keyed by target such as
+     * {@code https://payment.gateway.com:443}, and {@code leaseWait}, the
+     * {@link LeaseWaitHistogram#snapshot() lease wait histogram}.</p>
+     *
+     * @param name Pool name
+     * @return Pool metrics, or null if no pool has that name
+     */
+    public Map<String, Object> getMetrics(String name) {
+        ManagedPool pool = pools.get(name);
+        return pool != null ? pool.getMetrics() : null;
+    }
+
+    @Override
+    public void destroy() {
+        evictor.shutdownNow();
+        pools.values().forEach(pool -> pool.connectionManager.shutdown());
+    }
+
+    /**
+     * A registered pool and its eviction counters.
+     */
+    private static final class ManagedPool {
+
+        private final String name;
+        private final PoolingHttpClientConnectionManager connectionManager;
+        private final PoolProperties properties;
+        private final LeaseWaitHistogram leaseWait;
+        private final LongAdder evictionRuns = new LongAdder();
+        private final LongAdder connectionsEvicted = new LongAdder();
+        private final Map<String, ProfileQuotaConnectionManager> members = new ConcurrentHashMap<>();
+        private volatile ScheduledFuture<?> eviction;
+        private volatile boolean shared;
+
+        private ManagedPool(String name, PoolingHttpClientConnectionManager connectionManager,
+                            PoolProperties properties, LeaseWaitHistogram leaseWait) {
+            this.name = name;
+            this.connectionManager = connectionManager;
+            this.properties = properties;
+            this.leaseWait = leaseWait;
+        }
+
+        private void evict() {
+            // An exception would silently cancel the schedule
+            try {
+                int availableBefore = connectionManager.getTotalStats().getAvailable();
+                connectionManager.closeExpiredConnections();
+                if (properties.getIdleTimeoutMs() > 0) {
+                    connectionManager.closeIdleConnections(properties.getIdleTimeoutMs(), TimeUnit.MILLISECONDS);
+                }
+                int closed = availableBefore - connectionManager.getTotalStats().getAvailable();
+                evictionRuns.increment();
+                if (closed > 0) {
+                    connectionsEvicted.add(closed);
+                    logger.debug("Evicted {} connection(s) from pool '{}'", closed, name);
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Connection eviction failed for pool '{}': {}", name, e.getMessage(), e);
+            }
+        }
+
+        private void cancelEviction() {
+            ScheduledFuture<?> scheduled = eviction;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
+
+        private Map<String, Object> getMetrics() {
+            PoolStats stats = connectionManager.getTotalStats();
+            Map<String, Object> metrics = new LinkedHashMap<>();
+            metrics.put("maxTotal", stats.getMax());
+            metrics.put("defaultMaxPerRoute", connectionManager.getDefaultMaxPerRoute());
+            metrics.put("leased", stats.getLeased());
+            metrics.put("available", stats.getAvailable());
+            metrics.put("pending", stats.getPending());
+            metrics.put("evictionRuns", evictionRuns.sum());
+            metrics.put("connectionsEvicted", connectionsEvicted.sum());
+            metrics.put("idleTimeoutMs", properties.getIdleTimeoutMs());
+            metrics.put("timeToLiveMs", properties.getTimeToLiveMs());
+            metrics.put("keepAliveMs", properties.getKeepAliveMs());
+            Map<String, Map<String, Object>> routes = new LinkedHashMap<>();
+            for (HttpRoute route : connectionManager.getRoutes()) {
+                PoolStats routeStats = connectionManager.getStats(route);
+                Map<String, Object> routeMetrics = new LinkedHashMap<>();
+                routeMetrics.put("max", routeStats.getMax());
+                routeMetrics.put("leased", routeStats.getLeased());
+                routeMetrics.put("available", routeStats.getAvailable());
+                routeMetrics.put("pending", routeStats.getPending());
+                routes.put(routeKey(route), routeMetrics);
+            }
+            metrics.put("routes", routes);
+            metrics.put("leaseWait", leaseWait.snapshot());
+            if (shared) {
+                Map<String, Map<String, Object>> profiles = new LinkedHashMap<>();
+                members.forEach((profile, quota) -> profiles.put(profile, quota.getMetrics()));
+                metrics.put("profiles", profiles);
+            }
+            return metrics;
+        }
+    }
+
+    private ManagedPool sharedPoolOf(String profile) {
+        for (ManagedPool pool : pools.values()) {
+            if (pool.shared && pool.members.containsKey(profile)) {
+                return pool;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Direct route to the target of a URL, with the default port filled in like
+     * HttpClient's route planner does.
+     */
+    private static HttpRoute routeOf(String url) {
+        URI uri;
+        try {
+            uri = URI.create(url);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (uri.getScheme() == null || uri.getHost() == null) {
+            return null;
+        }
+        String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        boolean secure = "https".equals(scheme);
+        int port = uri.getPort() != -1 ? uri.getPort() : (secure ? 443 : 80);
+        return new HttpRoute(new HttpHost(uri.getHost(), port, scheme), null, secure);
+    }
+
+    /**
+     * Key of a route in metrics: the target as scheme://host:port.
+     *
+     * @param route Route of a pool
+     * @return Route key
+     */
+    public static String routeKey(HttpRoute route) {
+        return route.getTargetHost().toURI();
+    }
+
+    /**
+     * Connection manager that times each lease and how long each leased connection is held.
+     */
+    private static final class TimedConnectionManager extends PoolingHttpClientConnectionManager {
+
+        private final String name;
+        private final LeaseWaitHistogram leaseWait;
+        private final List<ConnectionLeaseListener> listeners;
+        // Connection proxies use identity equality; an entry lives from lease to release
+        private final ConcurrentMap<HttpClientConnection, Lease> leases = new ConcurrentHashMap<>();
+
+        private TimedConnectionManager(String name, long timeToLive, LeaseWaitHistogram leaseWait,
+                                       List<ConnectionLeaseListener> listeners) {
+            super(timeToLive, TimeUnit.MILLISECONDS);
+            this.name = name;
+            this.leaseWait = leaseWait;
+            this.listeners = listeners;
+        }
+
+        @Override
+        public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+            ConnectionRequest request = super.requestConnection(route, state);
+            return new ConnectionRequest() {
+                @Override
+                public HttpClientConnection get(long timeout, TimeUnit timeUnit)
+                        throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+                    long start = System.nanoTime();
+                    boolean timedOut = false;
+                    try {
+                        HttpClientConnection connection = request.get(timeout, timeUnit);
+                        leases.put(connection, new Lease(route, System.nanoTime()));
+                        return connection;
+                    } catch (ConnectionPoolTimeoutException e) {
+                        timedOut = true;
+                        throw e;
+                    } finally {
+                        recordLease(route, System.nanoTime() - start, timedOut);
+                    }
+                }
+
+                @Override
+                public boolean cancel() {
+                    return request.cancel();
+                }
+            };
+        }
+
+        @Override
+        public void releaseConnection(HttpClientConnection managedConn, Object state, long keepAlive,
+                                      TimeUnit timeUnit) {
+            Lease lease = leases.remove(managedConn);
+            super.releaseConnection(managedConn, state, keepAlive, timeUnit);
+            if (lease != null) {
+                long heldNanos = System.nanoTime() - lease.startNanos;
+                notifyListeners(listener -> listener.connectionReleased(name, lease.route, heldNanos));
+            }
+        }
+
+        private void recordLease(HttpRoute route, long waitNanos, boolean timedOut) {
+            leaseWait.record(waitNanos, timedOut);
+            notifyListeners(listener -> listener.leaseCompleted(name, route, waitNanos, timedOut));
+        }
+
+        private void notifyListeners(Consumer<ConnectionLeaseListener> event) {
+            for (ConnectionLeaseListener listener : listeners) {
+                try {
+                    event.accept(listener);
+                } catch (RuntimeException e) {
+                    logger.warn("Connection lease listener failed for pool '{}': {}", name, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Route and start time of a leased connection.
+     */
+    private static final class Lease {
+
+        private final HttpRoute route;
+        private final long startNanos;
+
+        private Lease(HttpRoute route, long startNanos) {
+            this.route = route;
+            this.startNanos = startNanos;
+        }
+    }
+}
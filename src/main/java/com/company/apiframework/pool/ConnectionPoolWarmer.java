@@ -0,0 +1,241 @@
+package com.company.apiframework.pool;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.client.utils.URIUtils;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.UnsupportedSchemeException;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.company.apiframework.async.NamedThreadFactory;
+import com.company.apiframework.config.PoolProperties;
+import com.company.apiframework.config.WarmupProperties;
+
+/**
+ * Opens connections of registered pools ahead of traffic.
+ *
+ * <p>For every target of a pool's {@link WarmupProperties}, the warmer leases
+ * {@code connections-per-target} connections at once (so each is a new one), connects
+ * them in parallel, which includes the TLS handshake for https targets, and returns
+ * the open ones to the pool for reuse. No HTTP request is sent. A pool's warm-up
+ * stops at its timeout; connections still connecting are abandoned and counted as
+ * failed.</p>
+ *
+ * <p>Routes are built the way HttpClient plans them for requests without a proxy,
+ * so requests to the same scheme, host and port reuse the warm connections.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see PoolWarmupRunner
+ */
+public class ConnectionPoolWarmer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPoolWarmer.class);
+
+    private static final int MAX_CONNECT_THREADS = 16;
+
+    private final ConnectionPoolRegistry connectionPoolRegistry;
+    private final Function<String, WarmupProperties> warmupSettings;
+    private final ConcurrentMap<String, Map<String, Object>> reports = new ConcurrentHashMap<>();
+
+    /**
+     * @param connectionPoolRegistry Pools to warm up
+     * @param warmupSettings Warm-up settings per pool name, e.g. {@code ApiProperties::resolveWarmup}
+     */
+    public ConnectionPoolWarmer(ConnectionPoolRegistry connectionPoolRegistry,
+                                Function<String, WarmupProperties> warmupSettings) {
+        this.connectionPoolRegistry = connectionPoolRegistry;
+        this.warmupSettings = warmupSettings;
+    }
+
+    /**
+     * Warm up every registered pool whose warm-up is enabled, one pool after another.
+     *
+     * @return Map of pool name to warm-up report
+     */
+    public Map<String, Map<String, Object>> warmUpAll() {
+        Map<String, Map<String, Object>> results = new LinkedHashMap<>();
+        for (String name : connectionPoolRegistry.getPoolNames()) {
+            WarmupProperties properties = warmupSettings.apply(name);
+            if (properties != null && properties.isEnabled() && !properties.getTargets().isEmpty()) {
+                results.put(name, warmUp(name, properties));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Warm up one pool.
+     *
+     * @param name Pool name
+     * @param properties Warm-up settings
+     * @return Report with durationMs, connectionsOpened, connectionsFailed and targets
+     */
+    public Map<String, Object> warmUp(String name, WarmupProperties properties) {
+        PoolingHttpClientConnectionManager connectionManager = connectionPoolRegistry.getConnectionManager(name);
+        if (connectionManager == null) {
+            throw new IllegalArgumentException("No connection pool named '" + name + "'");
+        }
+        PoolProperties poolProperties = connectionPoolRegistry.getPoolProperties(name);
+        long keepAliveMs = poolProperties.getKeepAliveMs() > 0 ? poolProperties.getKeepAliveMs() : -1;
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(properties.getTimeoutMs());
+
+        List<HttpRoute> routes = new ArrayList<>();
+        for (String target : properties.getTargets()) {
+            routes.add(routeOf(target));
+        }
+        int opened = 0;
+        int failed = 0;
+        List<HttpClientConnection> leased = new ArrayList<>();
+        List<HttpRoute> leasedRoutes = new ArrayList<>();
+        List<Boolean> healthy = new ArrayList<>();
+        ExecutorService connectors = null;
+        try {
+            // Hold every connection until all are connected, or the pool would hand back the first one
+            for (HttpRoute route : routes) {
+                int count = Math.min(properties.getConnectionsPerTarget(), connectionManager.getMaxPerRoute(route));
+                for (int i = 0; i < count; i++) {
+                    try {
+                        ConnectionRequest request = connectionManager.requestConnection(route, null);
+                        // A zero lease timeout would wait forever
+                        leased.add(request.get(Math.max(1, remainingMillis(deadline)), TimeUnit.MILLISECONDS));
+                        leasedRoutes.add(route);
+                        healthy.add(Boolean.FALSE);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while warming up pool '" + name + "'", e);
+                    } catch (ExecutionException | ConnectionPoolTimeoutException e) {
+                        logger.warn("Could not lease a connection to {} while warming up pool '{}': {}",
+                                route.getTargetHost(), name, e.getMessage());
+                        failed++;
+                    }
+                }
+            }
+
+            connectors = Executors.newFixedThreadPool(Math.max(1, Math.min(leased.size(), MAX_CONNECT_THREADS)),
+                    new NamedThreadFactory("api-pool-warmup-"));
+            List<Future<Boolean>> connects = new ArrayList<>();
+            for (int i = 0; i < leased.size(); i++) {
+                HttpClientConnection connection = leased.get(i);
+                HttpRoute route = leasedRoutes.get(i);
+                connects.add(connectors.submit(() -> connect(connectionManager, connection, route, deadline)));
+            }
+            for (int i = 0; i < connects.size(); i++) {
+                try {
+                    healthy.set(i, connects.get(i).get(remainingMillis(deadline), TimeUnit.MILLISECONDS));
+                } catch (ExecutionException e) {
+                    logger.warn("Could not open a connection to {} while warming up pool '{}': {}",
+                            leasedRoutes.get(i).getTargetHost(), name, e.getCause().getMessage());
+                } catch (TimeoutException e) {
+                    connects.get(i).cancel(true);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        } finally {
+            if (connectors != null) {
+                connectors.shutdownNow();
+            }
+            for (int i = 0; i < leased.size(); i++) {
+                HttpClientConnection connection = leased.get(i);
+                if (healthy.get(i)) {
+                    opened++;
+                    connectionManager.releaseConnection(connection, null, keepAliveMs, TimeUnit.MILLISECONDS);
+                } else {
+                    failed++;
+                    closeQuietly(connection);
+                    connectionManager.releaseConnection(connection, null, 0, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("durationMs", durationMs);
+        report.put("connectionsOpened", opened);
+        report.put("connectionsFailed", failed);
+        report.put("targets", new ArrayList<>(properties.getTargets()));
+        reports.put(name, report);
+        logger.info("Warmed up connection pool '{}' in {}ms ({} connection(s) opened, {} failed)",
+                name, durationMs, opened, failed);
+        return report;
+    }
+
+    /**
+     * Get the reports of all warm-ups run so far.
+     *
+     * @return Map of pool name to warm-up report
+     */
+    public Map<String, Map<String, Object>> getReports() {
+        return new LinkedHashMap<>(reports);
+    }
+
+    private static boolean connect(PoolingHttpClientConnectionManager connectionManager,
+                                   HttpClientConnection connection, HttpRoute route, long deadline)
+            throws IOException {
+        if (!connection.isOpen()) {
+            HttpClientContext context = HttpClientContext.create();
+            int connectTimeout = (int) Math.min(Integer.MAX_VALUE, Math.max(1, remainingMillis(deadline)));
+            connectionManager.connect(connection, route, connectTimeout, context);
+            connectionManager.routeComplete(connection, route, context);
+        }
+        // isStale() cannot be used here: the socket streams are bound on the first request
+        return connection.isOpen();
+    }
+
+    /**
+     * Build the route HttpClient plans for a target without a proxy.
+     */
+    static HttpRoute routeOf(String target) {
+        HttpHost host = URIUtils.extractHost(URI.create(target.trim()));
+        if (host == null) {
+            throw new IllegalArgumentException("Warm-up target is not an absolute URL: " + target);
+        }
+        if (host.getPort() <= 0) {
+            try {
+                host = new HttpHost(host.getHostName(), DefaultSchemePortResolver.INSTANCE.resolve(host),
+                        host.getSchemeName());
+            } catch (UnsupportedSchemeException e) {
+                throw new IllegalArgumentException("Unsupported warm-up target scheme: " + target, e);
+            }
+        }
+        return new HttpRoute(host, null, "https".equalsIgnoreCase(host.getSchemeName()));
+    }
+
+    private static long remainingMillis(long deadline) {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+    }
+
+    private static void closeQuietly(HttpClientConnection connection) {
+        try {
+            connection.shutdown();
+        } catch (IOException e) {
+            // The connection is discarded either way
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.company.apiframework.pool;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Distribution of the time callers waited to lease a connection from one pool.
+ *
+ * <p>Waits are counted in fixed buckets from 1ms to 10s plus an overflow bucket.
+ * Counters are striped, so recording on the request path does not contend between
+ * threads. Leases that hit the connection request timeout are recorded as waits and
+ * also counted as timeouts.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class LeaseWaitHistogram {
+
+    /**
+     * Upper bounds of the buckets in milliseconds; waits above the last bound go to the overflow bucket.
+     */
+    private static final long[] BOUNDS_MS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_MS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public LeaseWaitHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @param waitNanos Time spent waiting for the connection
+     * @param timedOut Whether the lease failed with a connection request timeout
+     */
+    public void record(long waitNanos, boolean timedOut) {
+        long nanos = Math.max(0, waitNanos);
+        buckets[bucketOf(nanos)].increment();
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+        if (timedOut) {
+            timeouts.increment();
+        }
+    }
+
+    /**
+     * @return Number of recorded leases, including timed out ones
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return Number of leases that hit the connection request timeout
+     */
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    /**
+     * Get a snapshot of the histogram.
+     *
+     * <p>Bucket keys are upper bounds such as {@code "<=5ms"}; each bucket counts the
+     * waits above the previous bound, so buckets are not cumulative.</p>
+     *
+     * @return Map with count, timeouts, meanMs, maxMs and buckets
+     */
+    public Map<String, Object> snapshot() {
+        long total = count.sum();
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int i = 0; i < BOUNDS_MS.length; i++) {
+            counts.put("<=" + BOUNDS_MS[i] + "ms", buckets[i].sum());
+        }
+        counts.put(">" + BOUNDS_MS[BOUNDS_MS.length - 1] + "ms", buckets[BOUNDS_MS.length].sum());
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("count", total);
+        snapshot.put("timeouts", timeouts.sum());
+        snapshot.put("meanMs", total > 0 ? totalNanos.sum() / (double) total / 1_000_000.0 : 0.0);
+        snapshot.put("maxMs", maxNanos.get() / 1_000_000.0);
+        snapshot.put("buckets", counts);
+        return snapshot;
+    }
+
+    private static int bucketOf(long nanos) {
+        for (int i = 0; i < BOUNDS_MS.length; i++) {
+            if (nanos <= TimeUnit.MILLISECONDS.toNanos(BOUNDS_MS[i])) {
+                return i;
+            }
+        }
+        return BOUNDS_MS.length;
+    }
+}
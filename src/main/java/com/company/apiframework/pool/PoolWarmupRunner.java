@@ -0,0 +1,81 @@
+package com.company.apiframework.pool;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Readiness gate that warms up the connection pools before the application accepts traffic.
+ *
+ * <p>Spring Boot reports the application ready ({@link ReadinessState#ACCEPTING_TRAFFIC})
+ * only after all application runners have returned. This runner marks the application
+ * as refusing traffic, warms up every pool with warm-up enabled and returns when all
+ * warm-ups have finished or reached their timeouts. Failed connections are logged and
+ * do not fail the startup; an invalid target URL does.</p>
+ *
+ * <p>The total duration and the per-pool reports are available from {@link #getReport()}.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see ConnectionPoolWarmer
+ */
+public class PoolWarmupRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PoolWarmupRunner.class);
+
+    private final ConnectionPoolWarmer warmer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile boolean ready;
+    private volatile long durationMs = -1;
+
+    /**
+     * @param warmer Warms up the pools
+     * @param eventPublisher Publishes the readiness change
+     */
+    public PoolWarmupRunner(ConnectionPoolWarmer warmer, ApplicationEventPublisher eventPublisher) {
+        this.warmer = warmer;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        long start = System.nanoTime();
+        Map<String, Map<String, Object>> reports = warmer.warmUpAll();
+        durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        ready = true;
+        if (!reports.isEmpty()) {
+            logger.info("Connection pool warm-up finished in {}ms for {} pool(s)", durationMs, reports.size());
+        }
+    }
+
+    /**
+     * @return Whether the warm-up phase has finished
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Get the warm-up report.
+     *
+     * @return Map with ready, durationMs (-1 until finished) and the report of each warmed-up pool
+     */
+    public Map<String, Object> getReport() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("ready", ready);
+        report.put("durationMs", durationMs);
+        report.put("pools", warmer.getReports());
+        return report;
+    }
+}
@@ -0,0 +1,203 @@
+package com.company.apiframework.pool;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * One profile's view of a shared connection pool, limited to the profile's quota.
+ *
+ * <p>Leases go to the shared {@link HttpClientConnectionManager} after the profile has
+ * a permit for its total quota and one for the route's quota, so a busy profile cannot
+ * take the connections of the others. Waiting for a permit counts against the lease
+ * timeout of the request. Shutting the view down does not shut down the shared pool;
+ * {@link ConnectionPoolRegistry} owns it.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see ConnectionPoolRegistry#httpClientBuilder(String, com.company.apiframework.config.PoolProperties, int, int)
+ */
+public class ProfileQuotaConnectionManager implements HttpClientConnectionManager {
+
+    private final String profile;
+    private final HttpClientConnectionManager sharedManager;
+    private final int maxTotal;
+    private final int maxPerRoute;
+    private final Semaphore totalPermits;
+    private final ConcurrentMap<HttpRoute, Semaphore> routePermits = new ConcurrentHashMap<>();
+    // Connection proxies use identity equality; an entry lives from lease to release
+    private final ConcurrentMap<HttpClientConnection, HttpRoute> leased = new ConcurrentHashMap<>();
+    private final LongAdder quotaTimeouts = new LongAdder();
+
+    /**
+     * @param profile Profile name
+     * @param sharedManager Connection manager of the shared pool
+     * @param maxTotal Connections the profile may hold at once
+     * @param maxPerRoute Connections the profile may hold at once per route
+     */
+    public ProfileQuotaConnectionManager(String profile, HttpClientConnectionManager sharedManager,
+                                         int maxTotal, int maxPerRoute) {
+        this.profile = profile;
+        this.sharedManager = sharedManager;
+        this.maxTotal = maxTotal;
+        this.maxPerRoute = maxPerRoute;
+        this.totalPermits = new Semaphore(maxTotal);
+    }
+
+    @Override
+    public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+        Semaphore routeQuota = routePermits.computeIfAbsent(route, key -> new Semaphore(maxPerRoute));
+        return new ConnectionRequest() {
+
+            private volatile boolean cancelled;
+            private volatile ConnectionRequest request;
+
+            @Override
+            public HttpClientConnection get(long timeout, TimeUnit timeUnit)
+                    throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+                // As in HttpClient, a non-positive timeout waits without limit
+                boolean unlimited = timeout <= 0;
+                long deadline = System.nanoTime() + (unlimited ? 0 : timeUnit.toNanos(timeout));
+                acquire(totalPermits, unlimited, deadline);
+                boolean leasedConnection = false;
+                try {
+                    acquire(routeQuota, unlimited, deadline);
+                    try {
+                        if (cancelled) {
+                            throw new ExecutionException(new IllegalStateException("Connection request cancelled"));
+                        }
+                        request = sharedManager.requestConnection(route, state);
+                        long remaining = unlimited
+                                ? 0 : Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+                        HttpClientConnection connection = request.get(remaining, TimeUnit.MILLISECONDS);
+                        leased.put(connection, route);
+                        leasedConnection = true;
+                        return connection;
+                    } finally {
+                        if (!leasedConnection) {
+                            routeQuota.release();
+                        }
+                    }
+                } finally {
+                    if (!leasedConnection) {
+                        totalPermits.release();
+                    }
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                cancelled = true;
+                ConnectionRequest current = request;
+                return current == null || current.cancel();
+            }
+        };
+    }
+
+    @Override
+    public void releaseConnection(HttpClientConnection conn, Object newState, long validDuration,
+                                  TimeUnit timeUnit) {
+        HttpRoute route = leased.remove(conn);
+        try {
+            sharedManager.releaseConnection(conn, newState, validDuration, timeUnit);
+        } finally {
+            if (route != null) {
+                routePermits.get(route).release();
+                totalPermits.release();
+            }
+        }
+    }
+
+    @Override
+    public void connect(HttpClientConnection conn, HttpRoute route, int connectTimeout, HttpContext context)
+            throws IOException {
+        sharedManager.connect(conn, route, connectTimeout, context);
+    }
+
+    @Override
+    public void upgrade(HttpClientConnection conn, HttpRoute route, HttpContext context) throws IOException {
+        sharedManager.upgrade(conn, route, context);
+    }
+
+    @Override
+    public void routeComplete(HttpClientConnection conn, HttpRoute route, HttpContext context) throws IOException {
+        sharedManager.routeComplete(conn, route, context);
+    }
+
+    @Override
+    public void closeIdleConnections(long idletime, TimeUnit timeUnit) {
+        sharedManager.closeIdleConnections(idletime, timeUnit);
+    }
+
+    @Override
+    public void closeExpiredConnections() {
+        sharedManager.closeExpiredConnections();
+    }
+
+    /**
+     * Does nothing: the shared pool outlives the clients of each profile.
+     */
+    @Override
+    public void shutdown() {
+    }
+
+    /**
+     * @return Profile name
+     */
+    public String getProfile() {
+        return profile;
+    }
+
+    /**
+     * @return Connections the profile may hold at once
+     */
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    /**
+     * @return Connections the profile may hold at once per route
+     */
+    public int getMaxPerRoute() {
+        return maxPerRoute;
+    }
+
+    /**
+     * Get the quota usage of the profile.
+     *
+     * @return Map with maxTotal, maxPerRoute, leased and quotaTimeouts
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("maxTotal", maxTotal);
+        metrics.put("maxPerRoute", maxPerRoute);
+        metrics.put("leased", maxTotal - totalPermits.availablePermits());
+        metrics.put("quotaTimeouts", quotaTimeouts.sum());
+        return metrics;
+    }
+
+    private void acquire(Semaphore permits, boolean unlimited, long deadline)
+            throws InterruptedException, ConnectionPoolTimeoutException {
+        if (unlimited) {
+            permits.acquire();
+        } else if (!permits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+            quotaTimeouts.increment();
+            throw new ConnectionPoolTimeoutException("Timeout waiting for a connection within the quota of profile '"
+                    + profile + "'");
+        }
+    }
+}
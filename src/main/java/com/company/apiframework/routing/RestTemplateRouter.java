@@ -0,0 +1,123 @@
+package com.company.apiframework.routing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.company.apiframework.config.RestTemplateBeanConfiguration;
+
+/**
+ * Routes request URLs to the RestTemplate beans declared in {@link RestTemplateBeanConfiguration}.
+ *
+ * <p>The URL pattern to bean name mappings are compiled once at startup into a
+ * {@link RouteTable} whose targets are the resolved RestTemplate instances. Request
+ * routing therefore never copies the mapping table, compiles a regular expression
+ * or looks beans up in the application context.</p>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see RouteTable
+ */
+@Component
+public class RestTemplateRouter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RestTemplateRouter.class);
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private RestTemplateBeanConfiguration restTemplateBeanConfiguration;
+
+    private volatile RouteTable<BeanRoute> beanRoutes = RouteTable.empty();
+
+    /**
+     * Compile the URL pattern mappings into the route table.
+     */
+    @PostConstruct
+    public void compileRoutes() {
+        Map<String, BeanRoute> resolved = new LinkedHashMap<>();
+        restTemplateBeanConfiguration.getUrlPatternMappings().forEach((pattern, beanName) -> {
+            try {
+                RestTemplate restTemplate = applicationContext.getBean(beanName, RestTemplate.class);
+                resolved.put(pattern, new BeanRoute(beanName, restTemplate));
+            } catch (Exception e) {
+                logger.warn("Skipping URL pattern '{}': RestTemplate bean '{}' is not available: {}",
+                        pattern, beanName, e.getMessage());
+            }
+        });
+        beanRoutes = RouteTable.of(resolved);
+        logger.info("Compiled {} RestTemplate URL routes", beanRoutes.size());
+    }
+
+    /**
+     * Resolve the RestTemplate bean route for a URL.
+     *
+     * <p>Patterns are matched against the normalized route key (see
+     * {@link RouteDecisionCache#normalize(String)}), the same key ApiService routes on.</p>
+     *
+     * @param url Request URL
+     * @return Matching bean route, or null if no pattern matches
+     */
+    public BeanRoute route(String url) {
+        return url != null ? beanRoutes.match(RouteDecisionCache.normalize(url)) : null;
+    }
+
+    /**
+     * Resolve the RestTemplate bean for a URL.
+     *
+     * @param url Request URL
+     * @return Matching RestTemplate, or null if no pattern matches
+     */
+    public RestTemplate select(String url) {
+        BeanRoute route = route(url);
+        return route != null ? route.getRestTemplate() : null;
+    }
+
+    /**
+     * Reduce the bean routes to the patterns that can match URLs below a route prefix.
+     *
+     * @param routePrefix Normalized route prefix (see {@link RouteDecisionCache#routePrefix(String, int)})
+     * @return Candidate bean routes for the prefix
+     */
+    public RouteTable.PrefixMatch<BeanRoute> narrow(String routePrefix) {
+        return beanRoutes.narrow(routePrefix);
+    }
+
+    /**
+     * @return Number of compiled bean routes
+     */
+    public int getRouteCount() {
+        return beanRoutes.size();
+    }
+
+    /**
+     * Resolved route target: the RestTemplate bean and its name.
+     */
+    public static final class BeanRoute {
+        private final String beanName;
+        private final RestTemplate restTemplate;
+
+        BeanRoute(String beanName, RestTemplate restTemplate) {
+            this.beanName = beanName;
+            this.restTemplate = restTemplate;
+        }
+
+        public String getBeanName() {
+            return beanName;
+        }
+
+        public RestTemplate getRestTemplate() {
+            return restTemplate;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.company.apiframework.routing;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Bounded, concurrent cache of resolved routing decisions.
+ *
+ * <p>Keys are route prefixes (see {@link #routePrefix(String, int)}): the normalized
+ * scheme, host and leading path segments, so IDs deeper in the path do not multiply
+ * the keys. Values are the resolved decisions. Reads are lock-free; when the cache
+ * grows past its maximum size an entry that was not used since the eviction hand last
+ * passed it is evicted (CLOCK, an O(1) amortized approximation of LRU). A hit only
+ * writes its entry's reference bit when it is not already set, so hot keys do not
+ * turn every hit into a shared write.</p>
+ *
+ * <p><strong>Invalidation:</strong> {@link #invalidateAll()} bumps a generation
+ * counter. Entries from older generations are treated as misses, and decisions
+ * computed while an invalidation happened are not stored, so a route change can
+ * never be hidden by a stale entry.</p>
+ *
+ * @param <V> Cached decision type
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class RouteDecisionCache<V> {
+
+    private final int maximumSize;
+    private final ConcurrentHashMap<String, Entry<V>> entries;
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    // Eviction hand, only used under the eviction lock; weakly consistent, so it survives concurrent updates
+    private Iterator<Map.Entry<String, Entry<V>>> hand;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maximumSize Maximum number of cached decisions; 0 disables caching
+     */
+    public RouteDecisionCache(int maximumSize) {
+        this.maximumSize = Math.max(0, maximumSize);
+        this.entries = new ConcurrentHashMap<>(Math.max(16, this.maximumSize * 4 / 3 + 1));
+    }
+
+    /**
+     * Get the cached decision for a key, computing and caching it on a miss.
+     *
+     * @param key Route prefix
+     * @param resolver Computes the decision on a miss (must not return null)
+     * @return Cached or freshly computed decision
+     */
+    public V getOrCompute(String key, Function<String, V> resolver) {
+        long currentGeneration = generation.get();
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.generation == currentGeneration) {
+            hits.increment();
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            return entry.value;
+        }
+
+        misses.increment();
+        V value = resolver.apply(key);
+        if (maximumSize > 0 && value != null && generation.get() == currentGeneration) {
+            entries.put(key, new Entry<>(value, currentGeneration));
+            if (entries.size() > maximumSize) {
+                evict();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Drop all cached decisions. Must be called whenever the underlying routes change.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * @return Number of cached decisions
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return Fraction of lookups served from the cache (0.0 when there were no lookups)
+     */
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * Get cache statistics.
+     *
+     * @return Map with hits, misses, hitRatio, evictions, size and maximumSize
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("hitRatio", getHitRatio());
+        stats.put("evictions", evictions.sum());
+        stats.put("size", entries.size());
+        stats.put("maximumSize", maximumSize);
+        return stats;
+    }
+
+    /**
+     * Normalize a URL into a route key: scheme and authority are lower-cased, and the
+     * query string and fragment are dropped. Already-normalized URLs are returned as-is.
+     *
+     * @param url Request URL
+     * @return Normalized route key
+     */
+    public static String normalize(String url) {
+        int schemeEnd = url.indexOf("://");
+        int authorityStart = schemeEnd < 0 ? 0 : schemeEnd + 3;
+
+        int end = url.length();
+        int authorityEnd = -1;
+        for (int i = authorityStart; i < url.length(); i++) {
+            char c = url.charAt(i);
+            if (c == '?' || c == '#') {
+                end = i;
+                break;
+            }
+            if (c == '/' && authorityEnd < 0) {
+                authorityEnd = i;
+            }
+        }
+        if (authorityEnd < 0) {
+            authorityEnd = end;
+        }
+
+        boolean lowerCase = true;
+        for (int i = 0; i < authorityEnd; i++) {
+            if (Character.isUpperCase(url.charAt(i))) {
+                lowerCase = false;
+                break;
+            }
+        }
+        if (lowerCase && end == url.length()) {
+            return url;
+        }
+
+        StringBuilder key = new StringBuilder(end);
+        for (int i = 0; i < authorityEnd; i++) {
+            key.append(Character.toLowerCase(url.charAt(i)));
+        }
+        key.append(url, authorityEnd, end);
+        return key.toString();
+    }
+
+    /**
+     * Cut a normalized route key down to its route prefix: scheme, host and the first
+     * {@code pathSegments} path segments including the slash that follows them. Keys
+     * with no more segments are returned whole.
+     *
+     * <p>For example, with one segment {@code https://api.example.com/users/123} and
+     * {@code https://api.example.com/users/456} share the prefix
+     * {@code https://api.example.com/users/}.</p>
+     *
+     * @param routeKey Normalized route key (see {@link #normalize(String)})
+     * @param pathSegments Leading path segments to keep
+     * @return Route prefix
+     */
+    public static String routePrefix(String routeKey, int pathSegments) {
+        int schemeEnd = routeKey.indexOf("://");
+        int slash = routeKey.indexOf('/', schemeEnd < 0 ? 0 : schemeEnd + 3);
+        for (int i = 0; slash >= 0 && i < pathSegments; i++) {
+            slash = routeKey.indexOf('/', slash + 1);
+        }
+        return slash < 0 || slash == routeKey.length() - 1 ? routeKey : routeKey.substring(0, slash + 1);
+    }
+
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return; // another thread is already evicting
+        }
+        try {
+            // Each pass clears reference bits, so two laps over the map always find a victim
+            int budget = 2 * entries.size() + 1;
+            while (entries.size() > maximumSize && budget-- > 0) {
+                if (hand == null || !hand.hasNext()) {
+                    hand = entries.entrySet().iterator();
+                    if (!hand.hasNext()) {
+                        return;
+                    }
+                }
+                Map.Entry<String, Entry<V>> candidate = hand.next();
+                Entry<V> entry = candidate.getValue();
+                if (entry.referenced) {
+                    entry.referenced = false;
+                } else if (entries.remove(candidate.getKey(), entry)) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long generation;
+        private volatile boolean referenced;
+
+        private Entry(V value, long generation) {
+            this.value = value;
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package com.company.apiframework.routing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, precompiled table that resolves URLs to route targets.
+ *
+ * <p>Exact patterns are kept in a hash index. Wildcard patterns are compiled into
+ * {@link UrlPattern}s and indexed in a character trie keyed by their literal prefix
+ * (the text before the first {@code *}), so a lookup only walks the URL once and
+ * only verifies patterns whose prefix actually matches. Lookups do not allocate.</p>
+ *
+ * <p>{@link #narrow(String)} reduces the table to the patterns that can still decide
+ * URLs sharing a prefix, so a decision computed once per prefix can be reused for
+ * every URL below it.</p>
+ *
+ * <p><strong>Precedence Rules (deterministic):</strong></p>
+ * <ol>
+ *   <li>An exact pattern always wins over wildcard patterns</li>
+ *   <li>More literal characters win (more specific pattern)</li>
+ *   <li>Fewer wildcards win</li>
+ *   <li>Earlier registration wins</li>
+ * </ol>
+ *
+ * <p><strong>Usage Examples:</strong></p>
+ * <pre>
+ * RouteTable&lt;RestTemplate&gt; table = RouteTable.&lt;RestTemplate&gt;builder()
+ *     .add("https://payment.gateway.com/*", paymentTemplate)
+ *     .add("https://*.external.com/*", externalTemplate)
+ *     .build();
+ * RestTemplate selected = table.match("https://payment.gateway.com/process");
+ * </pre>
+ *
+ * @param <T> Route target type
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see UrlPattern
+ */
+public final class RouteTable<T> {
+
+    private static final RouteTable<?> EMPTY = new Builder<Object>().build();
+
+    private final Map<String, Route> exactRoutes;
+    private final Route[] wildcardRoutes;
+    private final Node root;
+    private final Map<String, T> targets;
+
+    private RouteTable(Map<String, Route> exactRoutes, Route[] wildcardRoutes, Node root, Map<String, T> targets) {
+        this.exactRoutes = exactRoutes;
+        this.wildcardRoutes = wildcardRoutes;
+        this.root = root;
+        this.targets = targets;
+    }
+
+    /**
+     * @param <T> Route target type
+     * @return Shared empty table
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RouteTable<T> empty() {
+        return (RouteTable<T>) EMPTY;
+    }
+
+    /**
+     * @param <T> Route target type
+     * @return New builder
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Build a table from pattern mappings, using the map's iteration order as registration order.
+     *
+     * @param <T> Route target type
+     * @param mappings Pattern to target mappings
+     * @return Compiled table
+     */
+    public static <T> RouteTable<T> of(Map<String, T> mappings) {
+        Builder<T> builder = new Builder<>();
+        mappings.forEach(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * Resolve the best matching target for a URL.
+     *
+     * @param url URL to route
+     * @return Target of the highest-precedence matching pattern, or null if none matches
+     */
+    @SuppressWarnings("unchecked")
+    public T match(String url) {
+        if (url == null) {
+            return null;
+        }
+
+        Route exact = exactRoutes.get(url);
+        if (exact != null) {
+            return (T) exact.target;
+        }
+
+        Route best = null;
+        Node node = root;
+        int index = 0;
+        while (true) {
+            best = bestMatch(node.routes, url, best);
+            if (index >= url.length()) {
+                break;
+            }
+            Node next = node.child(url.charAt(index));
+            if (next == null) {
+                break;
+            }
+            node = next;
+            index++;
+        }
+        return best != null ? (T) best.target : null;
+    }
+
+    /**
+     * Reduce the table to the patterns that can match URLs starting with a prefix.
+     *
+     * <p>Patterns that match no such URL are dropped, and so is every pattern ranked
+     * below one that matches all of them. The result resolves any URL with the prefix
+     * exactly like {@link #match(String)}.</p>
+     *
+     * @param prefix URL prefix
+     * @return Candidate patterns for the prefix
+     */
+    public PrefixMatch<T> narrow(String prefix) {
+        List<Route> exact = new ArrayList<>();
+        exactRoutes.values().forEach(route -> {
+            if (route.pattern.matchPrefix(prefix) != UrlPattern.PrefixOutcome.NEVER) {
+                exact.add(route);
+            }
+        });
+        List<Route> candidates = new ArrayList<>();
+        boolean unconditional = false;
+        for (Route route : wildcardRoutes) {
+            UrlPattern.PrefixOutcome outcome = route.pattern.matchPrefix(prefix);
+            if (outcome != UrlPattern.PrefixOutcome.NEVER) {
+                candidates.add(route);
+                if (outcome == UrlPattern.PrefixOutcome.ALWAYS) {
+                    unconditional = true;
+                    break;
+                }
+            }
+        }
+        return new PrefixMatch<>(exact.toArray(new Route[0]), candidates.toArray(new Route[0]), unconditional);
+    }
+
+    /**
+     * @return Number of patterns in the table
+     */
+    public int size() {
+        return targets.size();
+    }
+
+    /**
+     * @return true if the table has no patterns
+     */
+    public boolean isEmpty() {
+        return targets.isEmpty();
+    }
+
+    /**
+     * @return Unmodifiable view of the pattern to target mappings, in registration order
+     */
+    public Map<String, T> getMappings() {
+        return targets;
+    }
+
+    private static Route bestMatch(Route[] candidates, String url, Route best) {
+        // Candidates are sorted by rank, so the first match in a node is the node's best
+        for (Route candidate : candidates) {
+            if (best != null && candidate.rank >= best.rank) {
+                break;
+            }
+            if (candidate.pattern.matches(url)) {
+                return candidate;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Patterns of a table that can match the URLs sharing a prefix.
+     *
+     * @param <T> Route target type
+     * @see RouteTable#narrow(String)
+     */
+    public static final class PrefixMatch<T> {
+
+        private final Route[] exactRoutes;
+        private final Route[] candidates;
+        private final boolean lastUnconditional;
+
+        private PrefixMatch(Route[] exactRoutes, Route[] candidates, boolean lastUnconditional) {
+            this.exactRoutes = exactRoutes;
+            this.candidates = candidates;
+            this.lastUnconditional = lastUnconditional;
+        }
+
+        /**
+         * @return true if every URL with the prefix resolves to the same target (possibly none)
+         */
+        public boolean isFixed() {
+            return exactRoutes.length == 0 && (candidates.length == 0 || (candidates.length == 1 && lastUnconditional));
+        }
+
+        /**
+         * Resolve a URL that starts with the prefix.
+         *
+         * @param url URL to route
+         * @return Target of the highest-precedence matching pattern, or null if none matches
+         */
+        @SuppressWarnings("unchecked")
+        public T match(String url) {
+            for (Route route : exactRoutes) {
+                if (route.pattern.matches(url)) {
+                    return (T) route.target;
+                }
+            }
+            int last = candidates.length - 1;
+            for (int i = 0; i <= last; i++) {
+                if ((i == last && lastUnconditional) || candidates[i].pattern.matches(url)) {
+                    return (T) candidates[i].target;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Compiled route entry.
+     */
+    private static final class Route {
+        private final UrlPattern pattern;
+        private final Object target;
+        private final int order;
+        private int rank;
+
+        private Route(UrlPattern pattern, Object target, int order) {
+            this.pattern = pattern;
+            this.target = target;
+            this.order = order;
+        }
+    }
+
+    /**
+     * Trie node over the literal prefixes of wildcard patterns.
+     */
+    private static final class Node {
+        private static final Route[] NO_ROUTES = new Route[0];
+
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private Route[] routes = NO_ROUTES;
+
+        private Node child(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node getOrCreateChild(char key) {
+            Node existing = child(key);
+            if (existing != null) {
+                return existing;
+            }
+            Node created = new Node();
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            keys[keys.length - 1] = key;
+            children[children.length - 1] = created;
+            return created;
+        }
+
+        private void addRoute(Route route) {
+            routes = Arrays.copyOf(routes, routes.length + 1);
+            routes[routes.length - 1] = route;
+        }
+
+        private void sortRoutes() {
+            Arrays.sort(routes, Comparator.comparingInt(route -> route.rank));
+            for (Node child : children) {
+                child.sortRoutes();
+            }
+        }
+    }
+
+    /**
+     * Builder that compiles patterns into an immutable {@link RouteTable}.
+     *
+     * @param <T> Route target type
+     */
+    public static final class Builder<T> {
+
+        private final Map<String, T> mappings = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Add a pattern. Re-adding a pattern replaces its target but keeps its original position.
+         *
+         * @param pattern URL pattern (supports {@code *} wildcards)
+         * @param target Route target
+         * @return This builder
+         */
+        public Builder<T> add(String pattern, T target) {
+            if (pattern == null || target == null) {
+                throw new IllegalArgumentException("Route pattern and target must not be null");
+            }
+            mappings.put(pattern, target);
+            return this;
+        }
+
+        /**
+         * @return Compiled, immutable route table
+         */
+        public RouteTable<T> build() {
+            Map<String, Route> exactRoutes = new HashMap<>();
+            List<Route> wildcardRoutes = new ArrayList<>();
+
+            int order = 0;
+            for (Map.Entry<String, T> entry : mappings.entrySet()) {
+                Route route = new Route(UrlPattern.compile(entry.getKey()), entry.getValue(), order++);
+                if (route.pattern.isExact()) {
+                    exactRoutes.put(entry.getKey(), route);
+                } else {
+                    wildcardRoutes.add(route);
+                }
+            }
+
+            wildcardRoutes.sort(Comparator
+                    .comparingInt((Route route) -> -route.pattern.getLiteralLength())
+                    .thenComparingInt(route -> route.pattern.getWildcardCount())
+                    .thenComparingInt(route -> route.order));
+
+            Node root = new Node();
+            for (int rank = 0; rank < wildcardRoutes.size(); rank++) {
+                Route route = wildcardRoutes.get(rank);
+                route.rank = rank;
+                Node node = root;
+                String prefix = route.pattern.getLiteralPrefix();
+                for (int i = 0; i < prefix.length(); i++) {
+                    node = node.getOrCreateChild(prefix.charAt(i));
+                }
+                node.addRoute(route);
+            }
+            root.sortRoutes();
+
+            return new RouteTable<>(exactRoutes, wildcardRoutes.toArray(new Route[0]), root,
+                    Collections.unmodifiableMap(new LinkedHashMap<>(mappings)));
+        }
+    }
+}
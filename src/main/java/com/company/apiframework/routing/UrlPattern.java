@@ -0,0 +1,184 @@
+package com.company.apiframework.routing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled URL wildcard pattern.
+ *
+ * <p>A pattern is split once into the literal segments between its {@code *}
+ * wildcards. Matching then uses plain {@code startsWith}/{@code indexOf}/{@code endsWith}
+ * checks on the URL, so no regular expression is compiled and nothing is allocated
+ * per call. Every character other than {@code *} is matched literally.</p>
+ *
+ * <p><strong>Examples:</strong></p>
+ * <ul>
+ *   <li>{@code https://payment.gateway.com/*} - any URL on the payment gateway host</li>
+ *   <li>{@code https://*}{@code /payment/*} - any HTTPS host with a /payment/ path segment</li>
+ *   <li>{@code https://api.example.com/exact} - only that exact URL</li>
+ * </ul>
+ *
+ * @author API Framework Team
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see RouteTable
+ */
+public final class UrlPattern {
+
+    private static final char WILDCARD = '*';
+
+    /**
+     * How a pattern matches the URLs that share a prefix.
+     */
+    public enum PrefixOutcome {
+        /** No URL with the prefix matches */
+        NEVER,
+        /** Some URLs with the prefix match, depending on the rest of the URL */
+        SOMETIMES,
+        /** Every URL with the prefix matches */
+        ALWAYS
+    }
+
+    private final String pattern;
+    private final String[] segments;
+    private final int literalLength;
+
+    private UrlPattern(String pattern, String[] segments) {
+        this.pattern = pattern;
+        this.segments = segments;
+        int length = 0;
+        for (String segment : segments) {
+            length += segment.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compile a wildcard pattern.
+     *
+     * @param pattern Pattern with optional {@code *} wildcards
+     * @return Compiled pattern
+     */
+    public static UrlPattern compile(String pattern) {
+        if (pattern == null) {
+            throw new IllegalArgumentException("URL pattern must not be null");
+        }
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            if (pattern.charAt(i) == WILDCARD) {
+                parts.add(pattern.substring(start, i));
+                start = i + 1;
+            }
+        }
+        parts.add(pattern.substring(start));
+        return new UrlPattern(pattern, parts.toArray(new String[0]));
+    }
+
+    /**
+     * Check whether a URL matches this pattern.
+     *
+     * @param url URL to check
+     * @return true if the URL matches
+     */
+    public boolean matches(String url) {
+        if (url == null) {
+            return false;
+        }
+        if (isExact()) {
+            return pattern.equals(url);
+        }
+        if (url.length() < literalLength) {
+            return false;
+        }
+
+        String first = segments[0];
+        String last = segments[segments.length - 1];
+        if (!url.startsWith(first) || !url.endsWith(last)) {
+            return false;
+        }
+
+        // Middle segments must appear in order between the prefix and the suffix
+        int position = first.length();
+        int limit = url.length() - last.length();
+        for (int i = 1; i < segments.length - 1; i++) {
+            String segment = segments[i];
+            if (segment.isEmpty()) {
+                continue;
+            }
+            int found = url.indexOf(segment, position);
+            if (found < 0 || found + segment.length() > limit) {
+                return false;
+            }
+            position = found + segment.length();
+        }
+        return position <= limit;
+    }
+
+    /**
+     * Check how this pattern matches the URLs that start with a prefix (including the
+     * prefix itself).
+     *
+     * <p>A wildcard pattern matches every such URL once the prefix contains its leading
+     * and middle literals in order and the pattern ends with a wildcard; it matches none
+     * when the prefix and the leading literal disagree.</p>
+     *
+     * @param prefix URL prefix
+     * @return Outcome shared by all URLs with the prefix
+     */
+    public PrefixOutcome matchPrefix(String prefix) {
+        String first = segments[0];
+        if (isExact() || !prefix.startsWith(first)) {
+            return first.startsWith(prefix) ? PrefixOutcome.SOMETIMES : PrefixOutcome.NEVER;
+        }
+        int position = first.length();
+        for (int i = 1; i < segments.length - 1; i++) {
+            int found = prefix.indexOf(segments[i], position);
+            if (found < 0) {
+                return PrefixOutcome.SOMETIMES;
+            }
+            position = found + segments[i].length();
+        }
+        return segments[segments.length - 1].isEmpty() ? PrefixOutcome.ALWAYS : PrefixOutcome.SOMETIMES;
+    }
+
+    /**
+     * @return true if the pattern contains no wildcard
+     */
+    public boolean isExact() {
+        return segments.length == 1;
+    }
+
+    /**
+     * @return Literal text before the first wildcard (the whole pattern if exact)
+     */
+    public String getLiteralPrefix() {
+        return segments[0];
+    }
+
+    /**
+     * @return Number of literal (non-wildcard) characters; higher means more specific
+     */
+    public int getLiteralLength() {
+        return literalLength;
+    }
+
+    /**
+     * @return Number of wildcards in the pattern
+     */
+    public int getWildcardCount() {
+        return segments.length - 1;
+    }
+
+    /**
+     * @return The original pattern text
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
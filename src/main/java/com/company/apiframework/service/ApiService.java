@@ -1,25 +1,55 @@
 package com.company.apiframework.service;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import javax.annotation.PostConstruct;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
 
+import com.company.apiframework.async.AsyncExecutorRegistry;
+import com.company.apiframework.bulk.BulkDispatcher;
+import com.company.apiframework.bulk.BulkExecutor;
+import com.company.apiframework.bulk.BulkResult;
+import com.company.apiframework.bulk.BulkRoute;
+import com.company.apiframework.bulk.RouteConcurrencyLimiter;
+import com.company.apiframework.cache.ResponseCacheRegistry;
 import com.company.apiframework.client.ApiCallback;
 import com.company.apiframework.client.ApiClient;
-import com.company.apiframework.client.rest.RestClientFactory;
-import com.company.apiframework.client.soap.SoapClientFactory;
+import com.company.apiframework.client.ApiClientRegistry;
+import com.company.apiframework.client.JsonElementStream;
+import com.company.apiframework.client.ResponseStreamHandler;
+import com.company.apiframework.client.transport.HttpTransportRegistry;
+import com.company.apiframework.coalescing.CoalescingRegistry;
+import com.company.apiframework.codec.CodecRegistry;
 import com.company.apiframework.config.ApiProperties;
 import com.company.apiframework.config.RestTemplateBeanConfiguration;
+import com.company.apiframework.config.RestTemplateProfile;
+import com.company.apiframework.hedging.HedgingRegistry;
 import com.company.apiframework.model.ApiRequest;
 import com.company.apiframework.model.ApiResponse;
+import com.company.apiframework.pool.AdaptivePoolController;
+import com.company.apiframework.pool.ConnectionPoolRegistry;
+import com.company.apiframework.pool.PoolWarmupRunner;
+import com.company.apiframework.routing.RestTemplateRouter;
+import com.company.apiframework.routing.RouteDecisionCache;
+import com.company.apiframework.routing.RouteTable;
 
 /**
  * Main API Integration Service - Refactored for Spring Bean Approach
@@ -80,20 +110,45 @@ public class ApiService {
     private static final Logger logger = LoggerFactory.getLogger(ApiService.class);
     
     @Autowired
-    private RestClientFactory restClientFactory;
+    private ApiClientRegistry apiClientRegistry;
     
     @Autowired
-    private SoapClientFactory soapClientFactory;
+    private AsyncExecutorRegistry asyncExecutorRegistry;
     
     @Autowired
-    private ApiProperties apiProperties;
+    private HttpTransportRegistry httpTransportRegistry;
+    
+    @Autowired
+    private HedgingRegistry hedgingRegistry;
+    
+    @Autowired
+    private CoalescingRegistry coalescingRegistry;
+    
+    @Autowired
+    private ResponseCacheRegistry responseCacheRegistry;
+    
+    @Autowired
+    private ConnectionPoolRegistry connectionPoolRegistry;
+    
+    @Autowired
+    private PoolWarmupRunner poolWarmupRunner;
+    
+    @Autowired
+    private AdaptivePoolController adaptivePoolController;
     
     @Autowired
-    private ApplicationContext applicationContext;
+    private ApiProperties apiProperties;
     
     @Autowired
     private RestTemplateBeanConfiguration restTemplateBeanConfiguration;
     
+    @Autowired
+    private RestTemplateRouter restTemplateRouter;
+    
+    @Autowired
+    @Qualifier("jsonCodecRegistry")
+    private CodecRegistry jsonCodecRegistry;
+    
     // Inject Spring bean RestTemplates
     @Autowired
     @Qualifier("paymentApiRestTemplate")
@@ -114,8 +169,24 @@ public class ApiService {
     @Autowired
     private RestTemplate defaultRestTemplate; // Primary bean
     
-    // Legacy support: Registry for manually registered RestTemplates
-    private final Map<String, RestTemplate> legacyCustomRestTemplates = new HashMap<>();
+    // Legacy support: immutable, precompiled snapshot of manually registered RestTemplates.
+    // Readers use the current snapshot without locking; writers build a new one and swap it in.
+    private final AtomicReference<RouteTable<RestTemplate>> legacyRoutes =
+            new AtomicReference<>(RouteTable.<RestTemplate>empty());
+    
+    // Cache of routing decisions keyed by route prefix (normalized scheme + host + leading path segments)
+    private RouteDecisionCache<RouteDecision> routeCache;
+    
+    // Bulk calls share per-profile and per-route limits sized to the connection pools
+    private final BulkExecutor bulkExecutor = new BulkExecutor(new RoutingBulkDispatcher(), new RouteConcurrencyLimiter());
+    
+    /**
+     * Create the routing decision cache once configuration properties are bound.
+     */
+    @PostConstruct
+    public void initializeRouteCache() {
+        routeCache = new RouteDecisionCache<>(apiProperties.getRouteCacheSize());
+    }
     
     /**
      * Execute REST API call with automatic RestTemplate bean selection.
@@ -131,7 +202,7 @@ public class ApiService {
     public <T> ApiResponse<T> executeRest(ApiRequest request, Class<T> responseType) {
         logger.debug("Executing REST API call to: {}", request.getUrl());
         RestTemplate restTemplate = selectRestTemplateForUrl(request.getUrl());
-        ApiClient client = restClientFactory.createClient(restTemplate);
+        ApiClient client = apiClientRegistry.getRestClient(restTemplate);
         return client.execute(request, responseType);
     }
     
@@ -149,7 +220,7 @@ public class ApiService {
      */
     public <T> ApiResponse<T> executeRest(ApiRequest request, Class<T> responseType, RestTemplate customRestTemplate) {
         logger.debug("Executing REST API call to: {} with explicit RestTemplate", request.getUrl());
-        ApiClient client = restClientFactory.createClient(customRestTemplate);
+        ApiClient client = apiClientRegistry.getRestClient(customRestTemplate);
         return client.execute(request, responseType);
     }
     
@@ -185,7 +256,7 @@ public class ApiService {
     public <T> ApiResponse<T> executeSoap(ApiRequest request, Class<T> responseType) {
         logger.debug("Executing SOAP API call to: {}", request.getUrl());
         RestTemplate restTemplate = selectRestTemplateForUrl(request.getUrl());
-        ApiClient client = soapClientFactory.createClient(restTemplate);
+        ApiClient client = apiClientRegistry.getSoapClient(restTemplate);
         return client.execute(request, responseType);
     }
     
@@ -200,7 +271,7 @@ public class ApiService {
      */
     public <T> ApiResponse<T> executeSoap(ApiRequest request, Class<T> responseType, RestTemplate customRestTemplate) {
         logger.debug("Executing SOAP API call to: {} with explicit RestTemplate", request.getUrl());
-        ApiClient client = soapClientFactory.createClient(customRestTemplate);
+        ApiClient client = apiClientRegistry.getSoapClient(customRestTemplate);
         return client.execute(request, responseType);
     }
     
@@ -225,6 +296,85 @@ public class ApiService {
         return executeSoap(request, String.class, customRestTemplate);
     }
     
+    /**
+     * Execute REST API call and stream the response body to a handler.
+     * 
+     * <p>For payloads too large to hold in memory (e.g. batch exports): the body is
+     * read from the open connection by the handler, and the connection is released
+     * when the handler returns. Responses are not hedged, coalesced or cached.</p>
+     * 
+     * @param <R> Result type of the handler
+     * @param request API request configuration
+     * @param handler Consumer of the response body
+     * @return API response whose body is the handler's result
+     */
+    public <R> ApiResponse<R> executeRestStreaming(ApiRequest request, ResponseStreamHandler<R> handler) {
+        logger.debug("Executing streaming REST API call to: {}", request.getUrl());
+        RestTemplate restTemplate = selectRestTemplateForUrl(request.getUrl());
+        ApiClient client = apiClientRegistry.getRestClient(restTemplate);
+        return client.executeStreaming(request, handler);
+    }
+    
+    /**
+     * Execute REST API call and decode a JSON array or NDJSON response element by element.
+     * 
+     * <p>The function receives a lazily decoded stream: each element is parsed when the
+     * stream pulls it, while the connection is open, so memory stays flat however many
+     * elements the response holds. The stream is only valid inside the function.</p>
+     * 
+     * <pre>
+     * ApiResponse&lt;Long&gt; imported = apiService.executeRestElements(request, Order.class,
+     *     orders -&gt; orders.filter(Order::isOpen).map(repository::save).collect(Collectors.counting()));
+     * </pre>
+     * 
+     * @param <T> Element type
+     * @param <R> Result type of the function
+     * @param request API request configuration
+     * @param elementType Type each element is bound to
+     * @param function Consumer of the element stream
+     * @return API response whose body is the function's result
+     * @see JsonElementStream
+     */
+    public <T, R> ApiResponse<R> executeRestElements(ApiRequest request, Class<T> elementType,
+                                                     Function<? super Stream<T>, ? extends R> function) {
+        return executeRestStreaming(request,
+                JsonElementStream.handler(jsonCodecRegistry.readerFor(elementType), function));
+    }
+    
+    /**
+     * Execute REST API call and pass each element of a JSON array or NDJSON response to an action.
+     * 
+     * @param <T> Element type
+     * @param request API request configuration
+     * @param elementType Type each element is bound to
+     * @param action Called for every element as it is decoded
+     * @return API response whose body is the number of elements processed
+     * @see #executeRestElements(ApiRequest, Class, Function)
+     */
+    public <T> ApiResponse<Long> executeRestForEach(ApiRequest request, Class<T> elementType,
+                                                    Consumer<? super T> action) {
+        return executeRestElements(request, elementType, elements -> elements.mapToLong(element -> {
+            action.accept(element);
+            return 1;
+        }).sum());
+    }
+    
+    /**
+     * Execute SOAP API call and stream the response envelope to a handler.
+     * 
+     * @param <R> Result type of the handler
+     * @param request SOAP API request configuration
+     * @param handler Consumer of the response envelope
+     * @return API response whose body is the handler's result
+     * @see #executeRestStreaming(ApiRequest, ResponseStreamHandler)
+     */
+    public <R> ApiResponse<R> executeSoapStreaming(ApiRequest request, ResponseStreamHandler<R> handler) {
+        logger.debug("Executing streaming SOAP API call to: {}", request.getUrl());
+        RestTemplate restTemplate = selectRestTemplateForUrl(request.getUrl());
+        ApiClient client = apiClientRegistry.getSoapClient(restTemplate);
+        return client.executeStreaming(request, handler);
+    }
+    
     /**
      * Execute API call with automatic protocol detection and RestTemplate selection.
      * 
@@ -277,13 +427,7 @@ public class ApiService {
     public <T> void executeAsync(ApiRequest request, Class<T> responseType, ApiCallback<T> callback) {
         String protocol = detectProtocol(request);
         RestTemplate restTemplate = selectRestTemplateForUrl(request.getUrl());
-        ApiClient client;
-        
-        if ("SOAP".equalsIgnoreCase(protocol)) {
-            client = soapClientFactory.createClient(restTemplate);
-        } else {
-            client = restClientFactory.createClient(restTemplate);
-        }
+        ApiClient client = apiClientRegistry.getClient(protocol, restTemplate);
         
         client.executeAsync(request, responseType, callback);
     }
@@ -299,17 +443,130 @@ public class ApiService {
      */
     public <T> void executeAsync(ApiRequest request, Class<T> responseType, ApiCallback<T> callback, RestTemplate customRestTemplate) {
         String protocol = detectProtocol(request);
-        ApiClient client;
-        
-        if ("SOAP".equalsIgnoreCase(protocol)) {
-            client = soapClientFactory.createClient(customRestTemplate);
-        } else {
-            client = restClientFactory.createClient(customRestTemplate);
-        }
+        ApiClient client = apiClientRegistry.getClient(protocol, customRestTemplate);
         
         client.executeAsync(request, responseType, callback);
     }
     
+    /**
+     * Execute API call asynchronously and return a stage for composition.
+     * 
+     * <p>Protocol and RestTemplate are selected as for the callback variant. The stage
+     * completes with the response (including HTTP error responses) or exceptionally
+     * with an ApiException if the call could not run. Cancelling it with
+     * {@code toCompletableFuture().cancel(true)} skips or interrupts the call.</p>
+     * 
+     * <pre>
+     * CompletableFuture&lt;ApiResponse&lt;User&gt;&gt; user = apiService.executeAsync(userRequest, User.class).toCompletableFuture();
+     * CompletableFuture&lt;ApiResponse&lt;Order&gt;&gt; orders = apiService.executeAsync(orderRequest, Order.class).toCompletableFuture();
+     * CompletableFuture.allOf(user, orders).thenRun(() -&gt; render(user.join(), orders.join()));
+     * </pre>
+     * 
+     * @param <T> Response type
+     * @param request API request configuration
+     * @param responseType Expected response type class
+     * @return Stage completed with the API response
+     */
+    public <T> CompletionStage<ApiResponse<T>> executeAsync(ApiRequest request, Class<T> responseType) {
+        String protocol = detectProtocol(request);
+        RestTemplate restTemplate = selectRestTemplateForUrl(request.getUrl());
+        return apiClientRegistry.getClient(protocol, restTemplate).executeAsync(request, responseType);
+    }
+    
+    /**
+     * Execute API call asynchronously with explicit RestTemplate and return a stage for composition.
+     * 
+     * @param <T> Response type
+     * @param request API request configuration
+     * @param responseType Expected response type class
+     * @param customRestTemplate Specific RestTemplate to use
+     * @return Stage completed with the API response
+     */
+    public <T> CompletionStage<ApiResponse<T>> executeAsync(ApiRequest request, Class<T> responseType, RestTemplate customRestTemplate) {
+        String protocol = detectProtocol(request);
+        return apiClientRegistry.getClient(protocol, customRestTemplate).executeAsync(request, responseType);
+    }
+    
+    /**
+     * Execute API call asynchronously and complete the returned stage on the given executor.
+     * 
+     * <p>Use this when continuations are slow or blocking, so they run on the caller's
+     * executor rather than on the profile's async threads.</p>
+     * 
+     * @param <T> Response type
+     * @param request API request configuration
+     * @param responseType Expected response type class
+     * @param completionExecutor Executor that completes the returned stage
+     * @return Stage completed on {@code completionExecutor} with the API response
+     */
+    public <T> CompletionStage<ApiResponse<T>> executeAsyncOn(ApiRequest request, Class<T> responseType, Executor completionExecutor) {
+        String protocol = detectProtocol(request);
+        RestTemplate restTemplate = selectRestTemplateForUrl(request.getUrl());
+        return apiClientRegistry.getClient(protocol, restTemplate).executeAsyncOn(request, responseType, completionExecutor);
+    }
+    
+    /**
+     * Execute many independent API calls with bounded concurrency, results in input order.
+     * 
+     * <p>Each request is routed like {@link #executeAsync(ApiRequest, Class)}. At most
+     * {@code bulk-max-concurrency} requests of this call are in flight, and bulk traffic
+     * to each profile and route never exceeds the profile's pool size
+     * (max-connections / max-connections-per-route), so the pool is kept busy without
+     * requests queueing for connections.</p>
+     * 
+     * <p>Failures are per request: the future completes with one {@link BulkResult}
+     * per request, each holding either the response (possibly an error response) or
+     * the exception that prevented it.</p>
+     * 
+     * <pre>
+     * List&lt;ApiRequest&gt; lookups = ids.stream().map(id -&gt; apiService.restRequest().url(base + id).build())
+     *     .collect(Collectors.toList());
+     * List&lt;BulkResult&lt;User&gt;&gt; users = apiService.executeAll(lookups, User.class).join();
+     * </pre>
+     * 
+     * @param <T> Response type
+     * @param requests Requests to send
+     * @param responseType Expected response type class
+     * @return Future completed with one result per request, in input order
+     */
+    public <T> CompletableFuture<List<BulkResult<T>>> executeAll(Collection<ApiRequest> requests, Class<T> responseType) {
+        return bulkExecutor.executeAll(requests.iterator(), responseType, apiProperties.getBulkMaxConcurrency());
+    }
+    
+    /**
+     * Execute a stream of API calls with bounded concurrency, results in input order.
+     * 
+     * <p>The stream is consumed lazily: a request is only pulled once the call has
+     * room for it.</p>
+     * 
+     * @param <T> Response type
+     * @param requests Requests to send
+     * @param responseType Expected response type class
+     * @param maxConcurrency Maximum requests of this call in flight at once
+     * @return Future completed with one result per request, in input order
+     */
+    public <T> CompletableFuture<List<BulkResult<T>>> executeAll(Stream<ApiRequest> requests, Class<T> responseType, int maxConcurrency) {
+        return bulkExecutor.executeAll(requests.iterator(), responseType, maxConcurrency);
+    }
+    
+    /**
+     * Execute a stream of API calls with bounded concurrency, delivering results as they complete.
+     * 
+     * <p>{@code onResult} is called on the thread that completed each request, possibly
+     * concurrently, and should be thread-safe and quick.</p>
+     * 
+     * @param <T> Response type
+     * @param requests Requests to send
+     * @param responseType Expected response type class
+     * @param maxConcurrency Maximum requests of this call in flight at once
+     * @param onResult Receives every result in completion order
+     * @return Future completed once every result has been delivered
+     */
+    public <T> CompletableFuture<Void> executeAll(Stream<ApiRequest> requests, Class<T> responseType, int maxConcurrency,
+                                                  Consumer<BulkResult<T>> onResult) {
+        return bulkExecutor.executeAll(requests.iterator(), responseType, maxConcurrency, onResult);
+    }
+    
     /**
      * Register a custom RestTemplate for a specific URL pattern (Legacy Support).
      * 
@@ -321,7 +578,9 @@ public class ApiService {
      * @param restTemplate Custom RestTemplate to use for this pattern
      */
     public void registerCustomRestTemplate(String urlPattern, RestTemplate restTemplate) {
-        legacyCustomRestTemplates.put(urlPattern, restTemplate);
+        apiClientRegistry.register(restTemplate);
+        RouteTable<RestTemplate> previous = updateLegacyRoutes(mappings -> mappings.put(urlPattern, restTemplate));
+        evictUnreferencedClients(previous);
         logger.info("Registered legacy custom RestTemplate for URL pattern: {}", urlPattern);
     }
     
@@ -331,8 +590,9 @@ public class ApiService {
      * @param urlPattern URL pattern to remove
      */
     public void removeCustomRestTemplate(String urlPattern) {
-        RestTemplate removed = legacyCustomRestTemplates.remove(urlPattern);
-        if (removed != null) {
+        RouteTable<RestTemplate> previous = updateLegacyRoutes(mappings -> mappings.remove(urlPattern));
+        if (previous.getMappings().containsKey(urlPattern)) {
+            evictUnreferencedClients(previous);
             logger.info("Removed legacy custom RestTemplate for URL pattern: {}", urlPattern);
         }
     }
@@ -341,7 +601,8 @@ public class ApiService {
      * Clear all legacy custom RestTemplate registrations.
      */
     public void clearCustomRestTemplates() {
-        legacyCustomRestTemplates.clear();
+        RouteTable<RestTemplate> previous = updateLegacyRoutes(Map::clear);
+        evictUnreferencedClients(previous);
         logger.info("Cleared all legacy custom RestTemplate registrations");
     }
     
@@ -351,7 +612,7 @@ public class ApiService {
      * @return Map of URL patterns to RestTemplate instances
      */
     public Map<String, RestTemplate> getCustomRestTemplates() {
-        return new HashMap<>(legacyCustomRestTemplates);
+        return new LinkedHashMap<>(legacyRoutes.get().getMappings());
     }
     
     /**
@@ -374,12 +635,134 @@ public class ApiService {
         summary.put("springBeans", springBeans);
         summary.put("springBeanCount", springBeans.size());
         summary.put("urlPatternMappings", restTemplateBeanConfiguration.getUrlPatternMappings());
-        summary.put("legacyCustomTemplates", legacyCustomRestTemplates.size());
-        summary.put("totalConfiguredTemplates", springBeans.size() + legacyCustomRestTemplates.size());
+        int legacyCount = legacyRoutes.get().size();
+        summary.put("legacyCustomTemplates", legacyCount);
+        summary.put("totalConfiguredTemplates", springBeans.size() + legacyCount);
+        summary.put("cachedApiClients", apiClientRegistry.size());
+        summary.put("routeCache", routeCache.getStats());
+        summary.put("asyncExecutors", asyncExecutorRegistry.getMetrics());
+        summary.put("transports", httpTransportRegistry.getMetrics());
+        summary.put("bulk", bulkExecutor.getMetrics());
+        summary.put("hedging", hedgingRegistry.getMetrics());
+        summary.put("coalescing", coalescingRegistry.getMetrics());
+        summary.put("responseCache", responseCacheRegistry.getMetrics());
+        summary.put("compression", restTemplateBeanConfiguration.getCompressionMetrics());
+        summary.put("connectionPools", connectionPoolRegistry.getMetrics());
+        summary.put("poolWarmup", poolWarmupRunner.getReport());
+        summary.put("adaptivePools", adaptivePoolController.getMetrics());
         
         return summary;
     }
     
+    /**
+     * Get statistics of the URL routing decision cache.
+     * 
+     * <p>Use the hit ratio to confirm the cache is effective; a low ratio usually
+     * means the number of distinct endpoints exceeds {@code route-cache-size}.</p>
+     * 
+     * @return Map with hits, misses, hitRatio, evictions, size and maximumSize
+     */
+    public Map<String, Object> getRouteCacheStats() {
+        return routeCache.getStats();
+    }
+    
+    /**
+     * Get metrics of the per-profile async executors.
+     * 
+     * <p>A growing queue depth or non-zero rejected/shed counts mean a profile's
+     * async pool is saturated; size it with {@code api.framework.profiles.<profile>.async}.</p>
+     * 
+     * @return Map of profile name to queue depth, thread and rejection metrics
+     */
+    public Map<String, Map<String, Object>> getAsyncExecutorMetrics() {
+        return asyncExecutorRegistry.getMetrics();
+    }
+    
+    /**
+     * Get metrics of the profiles with request hedging enabled.
+     * 
+     * <p>{@code hedges / calls} is the extra load caused by hedging; {@code hedgeWins}
+     * counts calls whose hedge answered first, and a rising {@code budgetExhausted}
+     * means the upstream is slow as a whole rather than in its tail.</p>
+     * 
+     * @return Map of profile name to hedge counters and per-route hedge delays
+     */
+    public Map<String, Map<String, Object>> getHedgingMetrics() {
+        return hedgingRegistry.getMetrics();
+    }
+    
+    /**
+     * Get metrics of the profiles with request coalescing enabled.
+     * 
+     * <p>{@code coalesced} counts requests answered by another caller's call;
+     * {@code upstreamCalls} is what actually reached the upstream.</p>
+     * 
+     * @return Map of profile name to coalescing counters
+     */
+    public Map<String, Map<String, Object>> getCoalescingMetrics() {
+        return coalescingRegistry.getMetrics();
+    }
+    
+    /**
+     * Get metrics of the profiles with a response cache.
+     * 
+     * <p>{@code hitRatio} counts fresh hits and 304 revalidations as hits;
+     * {@code sizeBytes} is the memory held by cached bodies and headers.</p>
+     * 
+     * @return Map of profile name to cache counters and size
+     */
+    public Map<String, Map<String, Object>> getResponseCacheMetrics() {
+        return responseCacheRegistry.getMetrics();
+    }
+    
+    /**
+     * Get metrics of the profiles with HTTP compression enabled.
+     * 
+     * <p>{@code bytesSaved} is the egress and ingress avoided in both directions;
+     * weigh it against {@code compressionCpuMillis} and {@code decompressionCpuMillis}.</p>
+     * 
+     * @return Map of profile name to compression byte counts and CPU time
+     */
+    public Map<String, Map<String, Object>> getCompressionMetrics() {
+        return restTemplateBeanConfiguration.getCompressionMetrics();
+    }
+    
+    /**
+     * Get occupancy, lease wait and eviction metrics of the Apache HttpClient connection pools.
+     * 
+     * <p>A steadily growing {@code connectionsEvicted} with few leases usually means
+     * {@code idle-timeout-ms} is shorter than the gap between calls; a non-zero
+     * {@code pending} means callers are waiting for a connection. The same data is served
+     * by the {@code connectionpools} actuator endpoint and published as {@code api.pool.*}
+     * meters.</p>
+     * 
+     * @return Map of pool name to pool metrics, including per-route counts and the lease wait histogram
+     */
+    public Map<String, Map<String, Object>> getConnectionPoolMetrics() {
+        return connectionPoolRegistry.getMetrics();
+    }
+    
+    /**
+     * Get the connection pool warm-up report.
+     * 
+     * @return Map with ready, durationMs and the connections opened and failed per pool
+     */
+    public Map<String, Object> getPoolWarmupReport() {
+        return poolWarmupRunner.getReport();
+    }
+    
+    /**
+     * Get the sizing state of the connection pools with adaptive sizing enabled.
+     * 
+     * <p>Routes appear after their first lease; {@code maxPerRoute} is the limit in
+     * effect and {@code estimatedConnections} the Little's law estimate it was derived from.</p>
+     * 
+     * @return Map of pool name to route to current limit, lease rate, hold time, lease wait and resizes
+     */
+    public Map<String, Map<String, Map<String, Object>>> getAdaptivePoolMetrics() {
+        return adaptivePoolController.getMetrics();
+    }
+    
     /**
      * Create a new REST request builder.
      * 
@@ -436,6 +819,13 @@ public class ApiService {
      *   <li>Default RestTemplate bean</li>
      * </ol>
      * 
+     * <p>Patterns are matched against the normalized route key (lower-cased scheme
+     * and host, no query string or fragment). Decisions are cached per route prefix
+     * (scheme, host and the first {@code route-cache-key-segments} path segments):
+     * a cached decision holds only the patterns that can still tell URLs below the
+     * prefix apart, and is usually a single RestTemplate. See {@link RouteTable} for
+     * the precedence rules applied when several patterns match.</p>
+     * 
      * @param url Request URL
      * @return Best matching RestTemplate
      */
@@ -443,71 +833,90 @@ public class ApiService {
         if (!StringUtils.hasText(url)) {
             return defaultRestTemplate;
         }
-        
+        String routeKey = RouteDecisionCache.normalize(url);
+        if (apiProperties.getRouteCacheSize() <= 0) {
+            return resolveRestTemplate(routeKey);
+        }
+        String routePrefix = RouteDecisionCache.routePrefix(routeKey, apiProperties.getRouteCacheKeySegments());
+        return routeCache.getOrCompute(routePrefix, this::resolveRouteDecision).select(routeKey);
+    }
+    
+    /**
+     * Resolve the RestTemplate for a normalized route key without the cache.
+     * 
+     * @param routeKey Normalized scheme + host + path
+     * @return Best matching RestTemplate
+     */
+    private RestTemplate resolveRestTemplate(String routeKey) {
         // 1. Check legacy custom RestTemplates first (backward compatibility)
-        RestTemplate legacyTemplate = findLegacyRestTemplate(url);
+        RestTemplate legacyTemplate = legacyRoutes.get().match(routeKey);
         if (legacyTemplate != null) {
-            logger.debug("Using legacy custom RestTemplate for URL: {}", url);
+            logger.debug("Using legacy custom RestTemplate for route: {}", routeKey);
             return legacyTemplate;
         }
         
         // 2. Check Spring bean URL pattern mappings
-        Map<String, String> urlPatternMappings = restTemplateBeanConfiguration.getUrlPatternMappings();
-        for (Map.Entry<String, String> entry : urlPatternMappings.entrySet()) {
-            String pattern = entry.getKey();
-            String beanName = entry.getValue();
-            
-            if (matchesPattern(url, pattern)) {
-                try {
-                    RestTemplate springBean = applicationContext.getBean(beanName, RestTemplate.class);
-                    logger.debug("Using Spring bean RestTemplate '{}' for URL: {}", beanName, url);
-                    return springBean;
-                } catch (Exception e) {
-                    logger.warn("Failed to get Spring bean '{}', using default: {}", beanName, e.getMessage());
-                }
-            }
+        RestTemplateRouter.BeanRoute beanRoute = restTemplateRouter.route(routeKey);
+        if (beanRoute != null) {
+            logger.debug("Using Spring bean RestTemplate '{}' for route: {}", beanRoute.getBeanName(), routeKey);
+            return beanRoute.getRestTemplate();
         }
         
         // 3. Fallback to default RestTemplate
-        logger.debug("Using default RestTemplate for URL: {}", url);
+        logger.debug("Using default RestTemplate for route: {}", routeKey);
         return defaultRestTemplate;
     }
     
     /**
-     * Find legacy custom RestTemplate for URL (backward compatibility).
+     * Narrow the legacy and bean routes to a route prefix (cache miss path).
      * 
-     * @param url Request URL
-     * @return Matching RestTemplate or null if not found
+     * @param routePrefix Normalized scheme + host + leading path segments
+     * @return Routing decision for the URLs below the prefix
+     */
+    private RouteDecision resolveRouteDecision(String routePrefix) {
+        RouteDecision decision = new RouteDecision(legacyRoutes.get().narrow(routePrefix),
+                restTemplateRouter.narrow(routePrefix), defaultRestTemplate, routePrefix);
+        logger.debug("Resolved routing decision for prefix {} ({})", routePrefix,
+                decision.fixed != null ? "fixed" : "per URL");
+        return decision;
+    }
+    
+    /**
+     * Apply a change to the legacy registrations and publish the recompiled snapshot.
+     * 
+     * <p>The change is applied to a private copy of the current mappings, compiled into
+     * a new route table and published with compare-and-set; concurrent writers retry
+     * against the latest snapshot. Cached routing decisions are invalidated after the
+     * swap.</p>
+     * 
+     * @param change Mutation to apply to a copy of the current mappings
+     * @return The snapshot that was replaced
      */
-    private RestTemplate findLegacyRestTemplate(String url) {
-        for (Map.Entry<String, RestTemplate> entry : legacyCustomRestTemplates.entrySet()) {
-            String pattern = entry.getKey();
-            if (matchesPattern(url, pattern)) {
-                return entry.getValue();
+    private RouteTable<RestTemplate> updateLegacyRoutes(Consumer<Map<String, RestTemplate>> change) {
+        while (true) {
+            RouteTable<RestTemplate> current = legacyRoutes.get();
+            Map<String, RestTemplate> mappings = new LinkedHashMap<>(current.getMappings());
+            change.accept(mappings);
+            RouteTable<RestTemplate> updated = mappings.isEmpty() ? RouteTable.<RestTemplate>empty() : RouteTable.of(mappings);
+            if (legacyRoutes.compareAndSet(current, updated)) {
+                routeCache.invalidateAll();
+                return current;
             }
         }
-        return null;
     }
     
     /**
-     * Check if URL matches a wildcard pattern.
+     * Release cached clients of RestTemplates that are no longer registered.
      * 
-     * @param url URL to check
-     * @param pattern Pattern with wildcards (* supported)
-     * @return true if URL matches pattern
+     * @param previous Snapshot replaced by the last update
      */
-    private boolean matchesPattern(String url, String pattern) {
-        if (pattern.equals(url)) {
-            return true; // Exact match
-        }
-        
-        if (pattern.contains("*")) {
-            // Simple wildcard matching
-            String regex = pattern.replace("*", ".*");
-            return url.matches(regex);
+    private void evictUnreferencedClients(RouteTable<RestTemplate> previous) {
+        Collection<RestTemplate> active = legacyRoutes.get().getMappings().values();
+        for (RestTemplate restTemplate : previous.getMappings().values()) {
+            if (!active.contains(restTemplate)) {
+                apiClientRegistry.evict(restTemplate);
+            }
         }
-        
-        return false;
     }
     
     /**
@@ -538,4 +947,75 @@ public class ApiService {
         // Default to REST
         return "REST";
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Routes bulk requests like single calls and sizes their limits from the
+     * RestTemplate profile's connection pool, as it is sized right now: per-route
+     * limits resized at runtime and shared-pool quotas are read from the
+     * {@link ConnectionPoolRegistry}. Profiles without a pool there (non-blocking
+     * transports) use their configured sizes.
+     */
+    private final class RoutingBulkDispatcher implements BulkDispatcher {
+        
+        @Override
+        public BulkRoute route(ApiRequest request) {
+            RestTemplate restTemplate = selectRestTemplateForUrl(request.getUrl());
+            String origin = BulkRoute.originOf(request.getUrl());
+            RestTemplateProfile profile = restTemplateBeanConfiguration.getProfile(restTemplate);
+            if (profile != null) {
+                int maxConnections = connectionPoolRegistry.getMaxTotal(profile.getName());
+                int maxConnectionsPerRoute = connectionPoolRegistry.getMaxPerRoute(profile.getName(), origin);
+                return new BulkRoute(profile.getName(),
+                        maxConnections > 0 ? maxConnections : profile.getMaxConnections(), origin,
+                        maxConnectionsPerRoute > 0 ? maxConnectionsPerRoute : profile.getMaxConnectionsPerRoute());
+            }
+            // Legacy custom templates: assume the global pool settings
+            return new BulkRoute("custom@" + Integer.toHexString(System.identityHashCode(restTemplate)),
+                    apiProperties.getMaxConnections(), origin, apiProperties.getMaxConnectionsPerRoute());
+        }
+        
+        @Override
+        public <T> CompletionStage<ApiResponse<T>> dispatch(ApiRequest request, Class<T> responseType) {
+            return executeAsync(request, responseType);
+        }
+    }
+    
+    /**
+     * Routing decision for the URLs below one route prefix.
+     * 
+     * <p>Same priority as {@link #resolveRestTemplate(String)}: legacy custom
+     * RestTemplates, then URL pattern matched Spring beans, then the default RestTemplate.</p>
+     */
+    private static final class RouteDecision {
+        
+        private final RouteTable.PrefixMatch<RestTemplate> legacy;
+        private final RouteTable.PrefixMatch<RestTemplateRouter.BeanRoute> beans;
+        private final RestTemplate defaultTemplate;
+        // Set when the prefix alone decides the RestTemplate
+        private final RestTemplate fixed;
+        
+        private RouteDecision(RouteTable.PrefixMatch<RestTemplate> legacy,
+                              RouteTable.PrefixMatch<RestTemplateRouter.BeanRoute> beans,
+                              RestTemplate defaultTemplate, String routePrefix) {
+            this.legacy = legacy;
+            this.beans = beans;
+            this.defaultTemplate = defaultTemplate;
+            boolean fixedRoute = legacy.isFixed() && (beans.isFixed() || legacy.match(routePrefix) != null);
+            this.fixed = fixedRoute ? resolve(routePrefix) : null;
+        }
+        
+        private RestTemplate select(String routeKey) {
+            return fixed != null ? fixed : resolve(routeKey);
+        }
+        
+        private RestTemplate resolve(String routeKey) {
+            RestTemplate legacyTemplate = legacy.match(routeKey);
+            if (legacyTemplate != null) {
+                return legacyTemplate;
+            }
+            RestTemplateRouter.BeanRoute beanRoute = beans.match(routeKey);
+            return beanRoute != null ? beanRoute.getRestTemplate() : defaultTemplate;
+        }
+    }
+
+}
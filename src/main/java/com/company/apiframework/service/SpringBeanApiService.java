@@ -1,6 +1,9 @@
 package com.company.apiframework.service;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,11 +16,19 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import com.company.apiframework.async.AsyncExecutorRegistry;
+import com.company.apiframework.async.AsyncFutures;
+import com.company.apiframework.client.ApiCallContext;
+import com.company.apiframework.client.ApiClientRegistry;
 import com.company.apiframework.config.RestTemplateBeanConfiguration;
 import com.company.apiframework.model.ApiRequest;
 import com.company.apiframework.model.ApiResponse;
+import com.company.apiframework.model.Deadline;
+import com.company.apiframework.model.RequestBodyWriter;
+import com.company.apiframework.routing.RestTemplateRouter;
 
 /**
  * Spring Bean-based API Service
@@ -86,6 +97,15 @@ public class SpringBeanApiService {
     @Autowired
     private RestTemplateBeanConfiguration restTemplateBeanConfiguration;
     
+    @Autowired
+    private RestTemplateRouter restTemplateRouter;
+    
+    @Autowired
+    private AsyncExecutorRegistry asyncExecutorRegistry;
+    
+    @Autowired
+    private ApiClientRegistry apiClientRegistry;
+    
     /**
      * Execute API request with automatic RestTemplate bean selection based on URL pattern.
      * 
@@ -127,6 +147,36 @@ public class SpringBeanApiService {
         }
     }
     
+    /**
+     * Execute API request asynchronously with automatic RestTemplate bean selection.
+     * 
+     * <p>The call runs on the async executor of the selected bean's profile. The
+     * stage completes with the response, including error responses; cancelling it
+     * with {@code toCompletableFuture().cancel(true)} skips or interrupts the call.</p>
+     * 
+     * @param <T> Response type
+     * @param request API request configuration
+     * @param responseType Expected response type
+     * @return Stage completed with the API response
+     */
+    public <T> CompletionStage<ApiResponse<T>> executeAsync(ApiRequest request, Class<T> responseType) {
+        return submit(request, selectRestTemplateByUrl(request.getUrl()), responseType);
+    }
+    
+    /**
+     * Execute API request asynchronously and complete the returned stage on the given executor.
+     * 
+     * @param <T> Response type
+     * @param request API request configuration
+     * @param responseType Expected response type
+     * @param completionExecutor Executor that completes the returned stage
+     * @return Stage completed on {@code completionExecutor} with the API response
+     */
+    public <T> CompletionStage<ApiResponse<T>> executeAsyncOn(ApiRequest request, Class<T> responseType, Executor completionExecutor) {
+        return AsyncFutures.completeOn(submit(request, selectRestTemplateByUrl(request.getUrl()), responseType),
+                completionExecutor);
+    }
+    
     /**
      * Execute payment API request using the payment-optimized RestTemplate.
      * 
@@ -214,6 +264,9 @@ public class SpringBeanApiService {
     /**
      * Select appropriate RestTemplate bean based on URL pattern matching.
      * 
+     * <p>The router matches the normalized route key, like ApiService, so a URL
+     * resolves to the same bean in both services.</p>
+     * 
      * @param url Request URL
      * @return Best matching RestTemplate bean
      */
@@ -222,22 +275,10 @@ public class SpringBeanApiService {
             return defaultRestTemplate;
         }
         
-        Map<String, String> urlPatternMappings = restTemplateBeanConfiguration.getUrlPatternMappings();
-        
-        // Check for exact URL match first
-        for (Map.Entry<String, String> entry : urlPatternMappings.entrySet()) {
-            String pattern = entry.getKey();
-            String beanName = entry.getValue();
-            
-            if (matchesPattern(url, pattern)) {
-                try {
-                    RestTemplate restTemplate = applicationContext.getBean(beanName, RestTemplate.class);
-                    logger.debug("Selected RestTemplate bean '{}' for URL: {}", beanName, url);
-                    return restTemplate;
-                } catch (Exception e) {
-                    logger.warn("Failed to get RestTemplate bean '{}', using default: {}", beanName, e.getMessage());
-                }
-            }
+        RestTemplateRouter.BeanRoute route = restTemplateRouter.route(url);
+        if (route != null) {
+            logger.debug("Selected RestTemplate bean '{}' for URL: {}", route.getBeanName(), url);
+            return route.getRestTemplate();
         }
         
         logger.debug("No specific RestTemplate bean found for URL: {}, using default", url);
@@ -245,24 +286,12 @@ public class SpringBeanApiService {
     }
     
     /**
-     * Check if URL matches a wildcard pattern.
-     * 
-     * @param url URL to check
-     * @param pattern Pattern with wildcards (* supported)
-     * @return true if URL matches pattern
+     * Run a request on the async executor of the RestTemplate's profile.
      */
-    private boolean matchesPattern(String url, String pattern) {
-        if (pattern.equals(url)) {
-            return true; // Exact match
-        }
-        
-        if (pattern.contains("*")) {
-            // Simple wildcard matching
-            String regex = pattern.replace("*", ".*");
-            return url.matches(regex);
-        }
-        
-        return false;
+    private <T> CompletableFuture<ApiResponse<T>> submit(ApiRequest request, RestTemplate restTemplate, Class<T> responseType) {
+        String profileName = restTemplateBeanConfiguration.getProfileName(restTemplate);
+        return asyncExecutorRegistry.forProfile(profileName)
+                .submit(() -> executeWithRestTemplate(request, restTemplate, responseType));
     }
     
     /**
@@ -276,6 +305,17 @@ public class SpringBeanApiService {
      */
     private <T> ApiResponse<T> executeWithRestTemplate(ApiRequest request, RestTemplate restTemplate, Class<T> responseType) {
         ApiResponse<T> response = new ApiResponse<>();
+        Deadline deadline = request.getDeadline();
+        
+        if (deadline != null && deadline.isExpired()) {
+            response.markAsError("DEADLINE_EXCEEDED", "Deadline exceeded before the call was sent");
+            return response;
+        }
+        
+        // Streaming bodies cannot be sent as text; the profile's REST client writes them to the connection
+        if (RequestBodyWriter.from(request.getBody()) != null) {
+            return apiClientRegistry.getRestClient(restTemplate).execute(request, responseType);
+        }
         
         try {
             // Prepare headers
@@ -290,12 +330,12 @@ public class SpringBeanApiService {
             
             // Execute request
             HttpMethod method = HttpMethod.valueOf(request.getMethod().toUpperCase());
-            ResponseEntity<T> responseEntity = restTemplate.exchange(
+            ResponseEntity<T> responseEntity = ApiCallContext.withDeadline(deadline, () -> restTemplate.exchange(
                 request.getUrl(),
                 method,
                 entity,
                 responseType
-            );
+            ));
             
             // Build successful response
             response.setSuccess(true);
@@ -307,6 +347,13 @@ public class SpringBeanApiService {
                         request.getMethod(), request.getUrl(), response.getStatusCode());
             
         } catch (Exception e) {
+            if (e instanceof ResourceAccessException && deadline != null && deadline.isExpired()) {
+                response.markAsError("DEADLINE_EXCEEDED", e.getMessage());
+                logger.warn("API call exceeded its deadline: {} {} - Error: {}",
+                            request.getMethod(), request.getUrl(), e.getMessage());
+                return response;
+            }
+            
             // Build error response
             response.setSuccess(false);
             response.setErrorCode("REST_ERROR");
@@ -0,0 +1,157 @@
+package com.company.apiframework;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.apache.http.HttpHost;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.company.apiframework.config.AdaptivePoolProperties;
+import com.company.apiframework.config.PoolProperties;
+import com.company.apiframework.pool.AdaptivePoolController;
+import com.company.apiframework.pool.ConnectionPoolRegistry;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests for adaptive per-route connection pool sizing
+ */
+public class AdaptivePoolControllerTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ExecutorService callers;
+    private String baseUrl;
+    private HttpRoute route;
+    private ConnectionPoolRegistry registry;
+    private AdaptivePoolController controller;
+    private AdaptivePoolProperties adaptive;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newFixedThreadPool(16);
+        server.setExecutor(serverExecutor);
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        route = new HttpRoute(new HttpHost("127.0.0.1", server.getAddress().getPort(), "http"));
+        callers = Executors.newFixedThreadPool(8);
+
+        adaptive = new AdaptivePoolProperties();
+        adaptive.setEnabled(true);
+        adaptive.setMinPerRoute(2);
+        adaptive.setMaxPerRoute(6);
+        // Adjusted by the tests only
+        adaptive.setIntervalMs(600000);
+        registry = new ConnectionPoolRegistry();
+        controller = new AdaptivePoolController(registry, name -> "static-api".equals(name) ? null : adaptive);
+        registry.addLeaseListener(controller);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        controller.destroy();
+        registry.destroy();
+        callers.shutdownNow();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testStarvedRouteGrowsWithinBounds() throws Exception {
+        CloseableHttpClient client = registry.httpClientBuilder("payment-api", new PoolProperties(), 50, 2).build();
+
+        concurrentGets(client, 16);
+        controller.adjust("payment-api");
+
+        int grown = registry.getConnectionManager("payment-api").getMaxPerRoute(route);
+        assertTrue(grown > 2, "limit did not grow: " + grown);
+
+        for (int i = 0; i < 5; i++) {
+            concurrentGets(client, 16);
+            controller.adjust("payment-api");
+        }
+        assertEquals(6, registry.getConnectionManager("payment-api").getMaxPerRoute(route));
+
+        Map<String, Object> metrics = controller.getMetrics().get("payment-api").get(baseUrl);
+        assertEquals(6, metrics.get("maxPerRoute"));
+        assertTrue((Long) metrics.get("resizes") >= 2);
+        assertTrue((Double) metrics.get("meanHeldMs") >= 40);
+    }
+
+    @Test
+    public void testIdleRouteShrinksGraduallyToMinimum() throws Exception {
+        CloseableHttpClient client = registry.httpClientBuilder("batch-api", new PoolProperties(), 50, 10).build();
+        get(client);
+
+        controller.adjust("batch-api");
+        int first = registry.getConnectionManager("batch-api").getMaxPerRoute(route);
+        assertTrue(first < 10 && first > 2, "expected a partial shrink: " + first);
+
+        for (int i = 0; i < 5; i++) {
+            controller.adjust("batch-api");
+        }
+        assertEquals(2, registry.getConnectionManager("batch-api").getMaxPerRoute(route));
+
+        // The new limit applies without rebuilding the client
+        get(client);
+    }
+
+    @Test
+    public void testPoolsWithoutAdaptiveSizingKeepTheirLimits() throws Exception {
+        CloseableHttpClient client = registry.httpClientBuilder("static-api", new PoolProperties(), 50, 1).build();
+
+        concurrentGets(client, 8);
+        controller.adjust("static-api");
+
+        assertEquals(1, registry.getConnectionManager("static-api").getMaxPerRoute(route));
+        assertTrue(controller.getMetrics().isEmpty());
+    }
+
+    private void concurrentGets(CloseableHttpClient client, int count) throws Exception {
+        List<Future<?>> calls = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            calls.add(callers.submit(() -> {
+                get(client);
+                return null;
+            }));
+        }
+        for (Future<?> call : calls) {
+            call.get();
+        }
+    }
+
+    private void get(CloseableHttpClient client) throws IOException {
+        try (CloseableHttpResponse response = client.execute(new HttpGet(baseUrl + "/slow"))) {
+            assertEquals("ok", EntityUtils.toString(response.getEntity()));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.company.apiframework;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.client.RestTemplate;
+
+import com.company.apiframework.cache.CachingApiClient;
+import com.company.apiframework.client.ApiClient;
+import com.company.apiframework.client.ApiClientRegistry;
+import com.company.apiframework.coalescing.CoalescingApiClient;
+import com.company.apiframework.service.ApiService;
+
+/**
+ * Tests for the shared API client registry
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "api.framework.enableMocking=true",
+    "api.framework.cache.enabled=true",
+    "api.framework.coalescing.enabled=true"
+})
+public class ApiClientRegistryTest {
+
+    @Autowired
+    private ApiClientRegistry apiClientRegistry;
+
+    @Autowired
+    private ApiService apiService;
+
+    @Autowired
+    @Qualifier("paymentApiRestTemplate")
+    private RestTemplate paymentApiRestTemplate;
+
+    @AfterEach
+    void tearDown() {
+        apiService.clearCustomRestTemplates();
+    }
+
+    @Test
+    public void testProfileRestTemplateClientsAreShared() {
+        assertSame(apiClientRegistry.getRestClient(paymentApiRestTemplate),
+                apiClientRegistry.getRestClient(paymentApiRestTemplate));
+        assertSame(apiClientRegistry.getSoapClient(paymentApiRestTemplate),
+                apiClientRegistry.getSoapClient(paymentApiRestTemplate));
+    }
+
+    @Test
+    public void testPerCallRestTemplatesAreNotCached() {
+        int cached = apiClientRegistry.size();
+
+        for (int i = 0; i < 10; i++) {
+            RestTemplate perCall = new RestTemplate();
+            apiClientRegistry.getRestClient(perCall);
+            apiClientRegistry.getSoapClient(perCall);
+        }
+
+        assertEquals(cached, apiClientRegistry.size());
+        RestTemplate perCall = new RestTemplate();
+        assertNotSame(apiClientRegistry.getRestClient(perCall), apiClientRegistry.getRestClient(perCall));
+    }
+
+    @Test
+    public void testRegisteredRestTemplateIsCachedUntilRemoved() {
+        int cached = apiClientRegistry.size();
+        RestTemplate legacy = new RestTemplate();
+
+        apiService.registerCustomRestTemplate("https://legacy.example.com/*", legacy);
+        assertSame(apiClientRegistry.getRestClient(legacy), apiClientRegistry.getRestClient(legacy));
+        assertEquals(cached + 1, apiClientRegistry.size());
+
+        apiService.removeCustomRestTemplate("https://legacy.example.com/*");
+        assertEquals(cached, apiClientRegistry.size());
+        assertNotSame(apiClientRegistry.getRestClient(legacy), apiClientRegistry.getRestClient(legacy));
+    }
+
+    @Test
+    public void testCustomRestTemplatesDoNotShareProfileCacheOrCoalescing() {
+        RestTemplate legacy = new RestTemplate();
+        apiService.registerCustomRestTemplate("https://legacy.example.com/*", legacy);
+
+        assertTrue(apiClientRegistry.getRestClient(paymentApiRestTemplate) instanceof CachingApiClient);
+        for (ApiClient client : new ApiClient[] {apiClientRegistry.getRestClient(legacy),
+                apiClientRegistry.getRestClient(new RestTemplate())}) {
+            assertFalse(client instanceof CachingApiClient);
+            assertFalse(client instanceof CoalescingApiClient);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.company.apiframework;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.company.apiframework.async.AsyncExecutor;
+import com.company.apiframework.async.AsyncFutures;
+import com.company.apiframework.async.BoundedAsyncExecutor;
+import com.company.apiframework.async.DefaultAsyncExecutor;
+import com.company.apiframework.config.AsyncProperties;
+import com.company.apiframework.config.AsyncProperties.RejectionPolicy;
+import com.company.apiframework.exception.ApiException;
+
+/**
+ * Tests for the bounded per-profile async executor, its rejection policies and cancellation
+ */
+public class BoundedAsyncExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedAsyncExecutor executor;
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdown(1000);
+        }
+    }
+
+    @Test
+    public void testFailFastRejectsWhenSaturated() throws Exception {
+        executor = saturatedExecutor(RejectionPolicy.FAIL_FAST);
+
+        CompletableFuture<String> rejected = executor.submit(() -> "rejected");
+
+        assertEquals("ASYNC_REJECTED", failureCode(rejected));
+        assertEquals(1L, executor.getMetrics().get("rejectedTasks"));
+    }
+
+    @Test
+    public void testShedFailsOldestQueuedTask() throws Exception {
+        executor = newExecutor(RejectionPolicy.SHED);
+        CompletableFuture<String> running = executor.submit(this::awaitRelease);
+        CompletableFuture<String> oldest = executor.submit(() -> "oldest");
+
+        CompletableFuture<String> newest = executor.submit(() -> "newest");
+
+        assertEquals("ASYNC_SHED", failureCode(oldest));
+        release.countDown();
+        assertEquals("released", running.get(5, TimeUnit.SECONDS));
+        assertEquals("newest", newest.get(5, TimeUnit.SECONDS));
+        assertEquals(1L, executor.getMetrics().get("shedTasks"));
+    }
+
+    @Test
+    public void testCallerRunsOnSubmittingThread() throws Exception {
+        executor = saturatedExecutor(RejectionPolicy.CALLER_RUNS);
+        String caller = Thread.currentThread().getName();
+
+        CompletableFuture<String> future = executor.submit(() -> Thread.currentThread().getName());
+
+        assertEquals(caller, future.get(5, TimeUnit.SECONDS));
+        assertEquals(1L, executor.getMetrics().get("callerRunsTasks"));
+    }
+
+    @Test
+    public void testCancelInterruptsRunningTask() throws Exception {
+        executor = newExecutor(RejectionPolicy.FAIL_FAST);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        CompletableFuture<String> future = executor.submit(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(10000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "finished";
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertTrue(future.cancel(true));
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertTrue(future.isCancelled());
+    }
+
+    @Test
+    public void testCompleteOnRunsOnCompletionExecutor() throws Exception {
+        executor = newExecutor(RejectionPolicy.FAIL_FAST);
+        ExecutorService completion = Executors.newSingleThreadExecutor(r -> new Thread(r, "completion-thread"));
+        try {
+            CompletableFuture<String> thread = AsyncFutures.completeOn(executor.submit(this::awaitRelease), completion)
+                    .thenApply(value -> Thread.currentThread().getName());
+            release.countDown();
+
+            assertEquals("completion-thread", thread.get(5, TimeUnit.SECONDS));
+        } finally {
+            completion.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testDefaultExecutorIsSharedAndBounded() throws Exception {
+        AsyncExecutor shared = DefaultAsyncExecutor.get();
+
+        String thread = shared.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+
+        assertSame(shared, DefaultAsyncExecutor.get());
+        assertTrue(thread.startsWith("api-async-shared-"), thread);
+        assertEquals(new AsyncProperties().getMaxPoolSize(), shared.getMetrics().get("maxPoolSize"));
+    }
+
+    @Test
+    public void testMetricsReportQueueDepth() {
+        executor = saturatedExecutor(RejectionPolicy.FAIL_FAST);
+
+        Map<String, Object> metrics = executor.getMetrics();
+
+        assertEquals(1, metrics.get("queueDepth"));
+        assertEquals(1, metrics.get("poolSize"));
+        assertEquals("FAIL_FAST", metrics.get("rejectionPolicy"));
+    }
+
+    private BoundedAsyncExecutor saturatedExecutor(RejectionPolicy policy) {
+        BoundedAsyncExecutor bounded = newExecutor(policy);
+        bounded.submit(this::awaitRelease);
+        bounded.submit(() -> "queued");
+        return bounded;
+    }
+
+    private BoundedAsyncExecutor newExecutor(RejectionPolicy policy) {
+        AsyncProperties properties = new AsyncProperties();
+        properties.setCorePoolSize(1);
+        properties.setMaxPoolSize(1);
+        properties.setQueueCapacity(1);
+        properties.setRejectionPolicy(policy);
+        return new BoundedAsyncExecutor("test", properties);
+    }
+
+    private String awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "released";
+    }
+
+    private String failureCode(CompletableFuture<?> future) {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof ApiException);
+        return ((ApiException) e.getCause()).getErrorCode();
+    }
+}
@@ -0,0 +1,186 @@
+package com.company.apiframework;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.company.apiframework.bulk.BulkDispatcher;
+import com.company.apiframework.bulk.BulkExecutor;
+import com.company.apiframework.bulk.BulkResult;
+import com.company.apiframework.bulk.BulkRoute;
+import com.company.apiframework.bulk.RouteConcurrencyLimiter;
+import com.company.apiframework.exception.ApiException;
+import com.company.apiframework.model.ApiRequest;
+import com.company.apiframework.model.ApiResponse;
+
+/**
+ * Tests for bulk execution: ordering, partial failures and per-route concurrency limits
+ */
+public class BulkExecutorTest {
+
+    private final ScheduledExecutorService upstream = Executors.newScheduledThreadPool(8);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    @AfterEach
+    public void tearDown() {
+        upstream.shutdownNow();
+    }
+
+    @Test
+    public void testResultsInInputOrderWithPartialFailures() throws Exception {
+        BulkExecutor executor = new BulkExecutor(new StubDispatcher(10), new RouteConcurrencyLimiter());
+
+        List<BulkResult<String>> results = executor.executeAll(requests(20).iterator(), String.class, 8)
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals(20, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            BulkResult<String> result = results.get(i);
+            assertEquals(i, result.getIndex());
+            if (i % 5 == 0) {
+                assertFalse(result.isSuccess());
+                assertEquals("UPSTREAM_DOWN", result.getException().getErrorCode());
+                assertNull(result.getResponse());
+            } else {
+                assertTrue(result.isSuccess());
+                assertEquals("https://api.example.com/items/" + i, result.getResponse().getBody());
+            }
+        }
+    }
+
+    @Test
+    public void testRouteLimitCapsConcurrency() throws Exception {
+        BulkExecutor executor = new BulkExecutor(new StubDispatcher(3), new RouteConcurrencyLimiter());
+
+        List<BulkResult<String>> results = executor.executeAll(requests(30).iterator(), String.class, 100)
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals(30, results.size());
+        assertTrue(peakInFlight.get() <= 3, "peak in flight " + peakInFlight.get());
+    }
+
+    @Test
+    public void testRouteLimitIsSharedAcrossBulkCalls() throws Exception {
+        BulkExecutor executor = new BulkExecutor(new StubDispatcher(4), new RouteConcurrencyLimiter());
+
+        CompletableFuture<List<BulkResult<String>>> first = executor.executeAll(requests(20).iterator(), String.class, 4);
+        CompletableFuture<List<BulkResult<String>>> second = executor.executeAll(requests(20).iterator(), String.class, 4);
+        CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+
+        assertTrue(peakInFlight.get() <= 4, "peak in flight " + peakInFlight.get());
+    }
+
+    @Test
+    public void testSourceIsPulledLazily() throws Exception {
+        BulkExecutor executor = new BulkExecutor(new StubDispatcher(100), new RouteConcurrencyLimiter());
+        AtomicInteger pulled = new AtomicInteger();
+        Iterator<ApiRequest> source = requests(50).stream().peek(request -> pulled.incrementAndGet()).iterator();
+        List<Integer> completionOrder = Collections.synchronizedList(new ArrayList<>());
+
+        CompletableFuture<Void> done = executor.executeAll(source, String.class, 2,
+                result -> completionOrder.add(result.getIndex()));
+
+        assertTrue(pulled.get() <= 2, "pulled " + pulled.get());
+        done.get(10, TimeUnit.SECONDS);
+        assertEquals(50, completionOrder.size());
+        assertEquals(50, pulled.get());
+    }
+
+    @Test
+    public void testSaturatedRouteDoesNotStarvePoolOfOtherRoutes() {
+        RouteConcurrencyLimiter limiter = new RouteConcurrencyLimiter();
+        BulkRoute busy = new BulkRoute("test", 2, "https://busy.example.com:443", 1);
+        BulkRoute idle = new BulkRoute("test", 2, "https://idle.example.com:443", 1);
+
+        assertTrue(limiter.acquire(busy).isDone());
+        CompletableFuture<Void> queued = limiter.acquire(busy);
+        CompletableFuture<Void> other = limiter.acquire(idle);
+
+        assertFalse(queued.isDone());
+        // The queued request waits for its route without holding the pool's second permit
+        assertTrue(other.isDone());
+        limiter.release(busy);
+        assertTrue(queued.isDone());
+    }
+
+    @Test
+    public void testRouteLimitFollowsResizedPool() {
+        RouteConcurrencyLimiter limiter = new RouteConcurrencyLimiter();
+        String origin = "https://api.example.com:443";
+
+        assertTrue(limiter.acquire(new BulkRoute("test", 10, origin, 1)).isDone());
+        assertFalse(limiter.acquire(new BulkRoute("test", 10, origin, 1)).isDone());
+        // The pool's per-route limit grew since: the next request gets a permit at once
+        assertTrue(limiter.acquire(new BulkRoute("test", 10, origin, 3)).isDone());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testLimitsOfIdleRoutesAreNotKept() throws Exception {
+        RouteConcurrencyLimiter limiter = new RouteConcurrencyLimiter();
+        BulkExecutor executor = new BulkExecutor(new StubDispatcher(3), limiter);
+
+        executor.executeAll(requests(10).iterator(), String.class, 4).get(10, TimeUnit.SECONDS);
+
+        assertTrue(((Map<String, Object>) limiter.getMetrics().get("profiles")).isEmpty());
+        assertTrue(((Map<String, Object>) limiter.getMetrics().get("routes")).isEmpty());
+    }
+
+    private static List<ApiRequest> requests(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> ApiRequest.builder().url("https://api.example.com/items/" + i).method("GET").build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Answers after a short delay; every fifth item fails without a response.
+     */
+    private final class StubDispatcher implements BulkDispatcher {
+
+        private final int maxConnectionsPerRoute;
+
+        private StubDispatcher(int maxConnectionsPerRoute) {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        }
+
+        @Override
+        public BulkRoute route(ApiRequest request) {
+            return new BulkRoute("test", 100, BulkRoute.originOf(request.getUrl()), maxConnectionsPerRoute);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletionStage<ApiResponse<T>> dispatch(ApiRequest request, Class<T> responseType) {
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            CompletableFuture<ApiResponse<T>> response = new CompletableFuture<>();
+            upstream.schedule(() -> {
+                inFlight.decrementAndGet();
+                String url = request.getUrl();
+                if (Integer.parseInt(url.substring(url.lastIndexOf('/') + 1)) % 5 == 0) {
+                    response.completeExceptionally(new ApiException("UPSTREAM_DOWN", "Upstream unavailable"));
+                } else {
+                    response.complete(new ApiResponse<>(200, (T) url));
+                }
+            }, 5, TimeUnit.MILLISECONDS);
+            return response;
+        }
+    }
+}
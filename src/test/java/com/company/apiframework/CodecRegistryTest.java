@@ -0,0 +1,112 @@
+package com.company.apiframework;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.company.apiframework.codec.CodecRegistry;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests for cached per-type readers and writers
+ */
+public class CodecRegistryTest {
+
+    private final CodecRegistry codecs = new CodecRegistry(new ObjectMapper());
+
+    @Test
+    public void testReadersAndWritersAreBuiltOncePerType() {
+        assertSame(codecs.readerFor(Item.class), codecs.readerFor(Item.class));
+        assertSame(codecs.writerFor(Item.class), codecs.writerFor(Item.class));
+        assertSame(codecs.javaType(new TypeReference<List<Item>>() { }),
+                codecs.javaType(new TypeReference<List<Item>>() { }));
+
+        Map<String, Object> metrics = codecs.getMetrics();
+        assertEquals(2, metrics.get("types"));
+        assertEquals(1, metrics.get("readers"));
+        assertEquals(1, metrics.get("writers"));
+    }
+
+    @Test
+    public void testGenericTypeKeepsElementType() throws IOException {
+        List<Item> items = codecs.read("[{\"name\":\"a\",\"quantity\":1},{\"name\":\"b\",\"quantity\":2}]",
+                new TypeReference<List<Item>>() { });
+
+        assertEquals(2, items.size());
+        assertEquals("b", items.get(1).name);
+        assertEquals(2, items.get(1).quantity);
+    }
+
+    @Test
+    public void testConvertReturnsCopyOfTargetType() throws IOException {
+        Map<String, Object> source = new LinkedHashMap<>();
+        source.put("name", "widget");
+        source.put("quantity", 3);
+
+        Item item = codecs.convert(source, Item.class);
+        assertEquals("widget", item.name);
+        assertEquals(3, item.quantity);
+
+        Item copy = codecs.convert(item, Item.class);
+        assertNotSame(item, copy);
+        assertEquals("widget", copy.name);
+        assertNull(codecs.convert(null, Item.class));
+    }
+
+    @Test
+    public void testWriteMatchesMapperAndLeavesStreamOpen() throws IOException {
+        Item item = new Item();
+        item.name = "widget";
+        item.quantity = 3;
+        List<Item> items = new ArrayList<>(Arrays.asList(item));
+
+        assertEquals(new ObjectMapper().writeValueAsString(item), codecs.writeAsString(item));
+
+        TrackingOutputStream out = new TrackingOutputStream();
+        codecs.write(out, items, null);
+        assertFalse(out.closed);
+        out.write('\n');
+        assertTrue(out.toString().startsWith("[{\"name\":\"widget\""));
+        assertTrue(out.toString().endsWith("]\n"));
+    }
+
+    public static class Item {
+        public String name;
+        public int quantity;
+    }
+
+    private static final class TrackingOutputStream extends OutputStream {
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private boolean closed;
+
+        @Override
+        public void write(int b) {
+            buffer.write(b);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.company.apiframework;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import com.company.apiframework.client.transport.CompressingTransport;
+import com.company.apiframework.client.transport.HttpTransport;
+import com.company.apiframework.client.transport.JdkHttpClientTransport;
+import com.company.apiframework.client.transport.TransportApiClient;
+import com.company.apiframework.config.CompressionProperties;
+import com.company.apiframework.config.TransportProperties;
+import com.company.apiframework.interceptor.CompressionInterceptor;
+import com.company.apiframework.model.ApiRequest;
+import com.company.apiframework.model.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests for per-profile request and response compression
+ */
+public class CompressionInterceptorTest {
+
+    private static final String DOCUMENT = repeat("{\"id\":12345,\"status\":\"ACTIVE\",\"region\":\"eu-west\"},", 2000);
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private String baseUrl;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        // Echoes the decoded request body, compressed as the client accepts; reports the request coding
+        server.createContext("/echo", exchange -> {
+            String requestCoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+            InputStream in = "gzip".equals(requestCoding)
+                    ? new GZIPInputStream(exchange.getRequestBody()) : exchange.getRequestBody();
+            byte[] body = readAll(in);
+            String accepted = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            exchange.getResponseHeaders().add("X-Request-Encoding", String.valueOf(requestCoding));
+            exchange.getResponseHeaders().add("Content-Type", "text/plain");
+            if (accepted != null && accepted.contains("gzip")) {
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+                exchange.sendResponseHeaders(200, 0);
+                try (OutputStream out = new GZIPOutputStream(exchange.getResponseBody())) {
+                    out.write(body);
+                }
+            } else {
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        });
+        // Raw deflate without zlib header, as some servers send for "deflate"
+        server.createContext("/raw-deflate", exchange -> {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (OutputStream out = new DeflaterOutputStream(compressed, new Deflater(6, true))) {
+                out.write(DOCUMENT.getBytes(StandardCharsets.UTF_8));
+            }
+            exchange.getResponseHeaders().add("Content-Encoding", "deflate");
+            exchange.sendResponseHeaders(200, compressed.size());
+            try (OutputStream out = exchange.getResponseBody()) {
+                compressed.writeTo(out);
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testLargeRequestAndResponseAreCompressed() {
+        CompressionProperties properties = new CompressionProperties();
+        properties.setEnabled(true);
+        properties.setCompressRequests(true);
+        CompressionInterceptor interceptor = new CompressionInterceptor(properties);
+
+        ResponseEntity<String> response = post(newRestTemplate(interceptor), "/echo", DOCUMENT);
+
+        assertEquals(DOCUMENT, response.getBody());
+        assertEquals("gzip", response.getHeaders().getFirst("X-Request-Encoding"));
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        Map<String, Object> metrics = interceptor.getMetrics();
+        assertEquals(1L, metrics.get("requestsCompressed"));
+        assertEquals(1L, metrics.get("responsesDecompressed"));
+        assertEquals((long) DOCUMENT.length(), metrics.get("responseBytes"));
+        assertTrue((Long) metrics.get("bytesSaved") > DOCUMENT.length(), "saved " + metrics.get("bytesSaved"));
+    }
+
+    @Test
+    public void testSmallRequestIsSentUncompressed() {
+        CompressionProperties properties = new CompressionProperties();
+        properties.setEnabled(true);
+        properties.setCompressRequests(true);
+        CompressionInterceptor interceptor = new CompressionInterceptor(properties);
+
+        ResponseEntity<String> response = post(newRestTemplate(interceptor), "/echo", "{\"id\":1}");
+
+        assertEquals("{\"id\":1}", response.getBody());
+        assertEquals("null", response.getHeaders().getFirst("X-Request-Encoding"));
+        assertEquals(0L, interceptor.getMetrics().get("requestsCompressed"));
+    }
+
+    @Test
+    public void testRoutesOutsidePolicyAreLeftAlone() {
+        CompressionProperties properties = new CompressionProperties();
+        properties.setEnabled(true);
+        properties.setCompressRequests(true);
+        properties.setRoutes(Collections.singletonList("https://batch.processor.com/*"));
+        CompressionInterceptor interceptor = new CompressionInterceptor(properties);
+
+        ResponseEntity<String> response = post(newRestTemplate(interceptor), "/echo", DOCUMENT);
+
+        assertEquals(DOCUMENT, response.getBody());
+        assertEquals("null", response.getHeaders().getFirst("X-Request-Encoding"));
+        assertEquals(0L, interceptor.getMetrics().get("responsesDecompressed"));
+    }
+
+    @Test
+    public void testRawDeflateResponseIsDecoded() {
+        CompressionProperties properties = new CompressionProperties();
+        properties.setEnabled(true);
+        CompressionInterceptor interceptor = new CompressionInterceptor(properties);
+
+        ResponseEntity<String> response = newRestTemplate(interceptor).getForEntity(baseUrl + "/raw-deflate",
+                String.class);
+
+        assertEquals(DOCUMENT, response.getBody());
+    }
+
+    @Test
+    public void testNonBlockingTransportNegotiatesCompression() {
+        CompressionProperties properties = new CompressionProperties();
+        properties.setEnabled(true);
+        properties.setCompressRequests(true);
+        CompressionInterceptor interceptor = new CompressionInterceptor(properties);
+        HttpTransport transport = new CompressingTransport(
+                new JdkHttpClientTransport("test", 1000, 5000, new TransportProperties()), interceptor);
+        try {
+            TransportApiClient client = new TransportApiClient(transport, new ObjectMapper());
+            ApiRequest request = ApiRequest.builder().url(baseUrl + "/echo").method("POST")
+                    .header("Content-Type", "text/plain").body(DOCUMENT).build();
+
+            ApiResponse<String> response = client.execute(request);
+            ApiResponse<String> streamed = client.executeStreaming(request,
+                    body -> new String(readAll(body.getBody()), StandardCharsets.UTF_8));
+
+            assertEquals(DOCUMENT, response.getBody());
+            assertEquals("gzip", response.getHeaders().get("x-request-encoding"));
+            assertNull(response.getHeaders().get("content-encoding"));
+            assertEquals(DOCUMENT, streamed.getBody());
+            Map<String, Object> metrics = interceptor.getMetrics();
+            assertEquals(2L, metrics.get("requestsCompressed"));
+            assertEquals(2L, metrics.get("responsesDecompressed"));
+            assertEquals(2L * DOCUMENT.length(), metrics.get("responseBytes"));
+        } finally {
+            transport.close();
+        }
+    }
+
+    private ResponseEntity<String> post(RestTemplate restTemplate, String path, String body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CONTENT_TYPE, "text/plain");
+        return restTemplate.exchange(baseUrl + path, HttpMethod.POST, new HttpEntity<>(body, headers), String.class);
+    }
+
+    private static RestTemplate newRestTemplate(CompressionInterceptor interceptor) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(
+                HttpClientBuilder.create().disableContentCompression().build()));
+        restTemplate.setInterceptors(Arrays.<ClientHttpRequestInterceptor>asList(interceptor));
+        return restTemplate;
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private static String repeat(String value, int times) {
+        StringBuilder builder = new StringBuilder(value.length() * times);
+        for (int i = 0; i < times; i++) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,181 @@
+package com.company.apiframework;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.company.apiframework.config.PoolProperties;
+import com.company.apiframework.pool.CappedKeepAliveStrategy;
+import com.company.apiframework.pool.ConnectionPoolRegistry;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests for connection pool lifecycle management and background eviction
+ */
+public class ConnectionPoolRegistryTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private String baseUrl;
+    private ConnectionPoolRegistry registry;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.createContext("/ok", exchange -> {
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        registry = new ConnectionPoolRegistry();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        registry.destroy();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testIdleConnectionsAreEvicted() throws Exception {
+        PoolProperties properties = new PoolProperties();
+        properties.setIdleTimeoutMs(100);
+        properties.setEvictionIntervalMs(50);
+        CloseableHttpClient client = registry.httpClientBuilder("idle", properties, 10, 5).build();
+
+        get(client);
+        assertEquals(1, available("idle"));
+
+        assertTrue(await(() -> available("idle") == 0), "idle connection was not evicted");
+        // The counter is updated just after the connection is closed
+        assertTrue(await(() -> Long.valueOf(1).equals(registry.getMetrics().get("idle").get("connectionsEvicted"))));
+        Map<String, Object> metrics = registry.getMetrics().get("idle");
+        assertEquals(1L, metrics.get("connectionsEvicted"));
+        assertTrue((Long) metrics.get("evictionRuns") > 0);
+    }
+
+    @Test
+    public void testConnectionsPastTimeToLiveAreEvicted() throws Exception {
+        PoolProperties properties = new PoolProperties();
+        properties.setIdleTimeoutMs(0);
+        properties.setTimeToLiveMs(150);
+        properties.setEvictionIntervalMs(50);
+        CloseableHttpClient client = registry.httpClientBuilder("ttl", properties, 10, 5).build();
+
+        get(client);
+
+        assertTrue(await(() -> available("ttl") == 0), "expired connection was not evicted");
+    }
+
+    @Test
+    public void testConnectionsAreReusedWithinIdleTimeout() throws Exception {
+        PoolProperties properties = new PoolProperties();
+        CloseableHttpClient client = registry.httpClientBuilder("reuse", properties, 10, 5).build();
+
+        get(client);
+        get(client);
+        get(client);
+
+        assertEquals(1, available("reuse"));
+        assertEquals(0L, registry.getMetrics().get("reuse").get("connectionsEvicted"));
+    }
+
+    @Test
+    public void testRegisteringNameAgainShutsDownEarlierPool() throws Exception {
+        CloseableHttpClient first = registry.httpClientBuilder("twice", new PoolProperties(), 10, 5).build();
+        get(first);
+        CloseableHttpClient second = registry.httpClientBuilder("twice", new PoolProperties(), 10, 5).build();
+
+        assertThrows(IllegalStateException.class, () -> get(first));
+        get(second);
+        assertEquals(1, available("twice"));
+    }
+
+    @Test
+    public void testProfileLimitsFollowLivePoolSizes() throws Exception {
+        CloseableHttpClient client = registry.httpClientBuilder("live", new PoolProperties(), 20, 5).build();
+        get(client);
+        PoolingHttpClientConnectionManager manager = registry.getConnectionManager("live");
+        HttpRoute route = manager.getRoutes().iterator().next();
+
+        assertEquals(20, registry.getMaxTotal("live"));
+        assertEquals(5, registry.getMaxPerRoute("live", baseUrl + "/ok"));
+        manager.setMaxPerRoute(route, 8);
+        assertEquals(8, registry.getMaxPerRoute("live", baseUrl + "/ok"));
+        assertEquals(5, registry.getMaxPerRoute("live", "https://other.example.com/ok"));
+        assertEquals(-1, registry.getMaxTotal("unknown"));
+        assertEquals(-1, registry.getMaxPerRoute("unknown", baseUrl));
+    }
+
+    @Test
+    public void testKeepAliveIsCappedAndServerTimeoutWins() {
+        BasicHttpResponse withTimeout = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        withTimeout.setHeader("Keep-Alive", "timeout=5");
+        BasicHttpResponse withoutTimeout = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+
+        assertEquals(5000, new CappedKeepAliveStrategy(30000).getKeepAliveDuration(withTimeout, new BasicHttpContext()));
+        assertEquals(2000, new CappedKeepAliveStrategy(2000).getKeepAliveDuration(withTimeout, new BasicHttpContext()));
+        assertEquals(30000, new CappedKeepAliveStrategy(30000)
+                .getKeepAliveDuration(withoutTimeout, new BasicHttpContext()));
+        assertEquals(-1, new CappedKeepAliveStrategy(0)
+                .getKeepAliveDuration(withoutTimeout, new BasicHttpContext()));
+    }
+
+    @Test
+    public void testLeaseTimeoutFallsBackToConnectionTimeout() {
+        PoolProperties properties = new PoolProperties();
+        assertEquals(2000, properties.resolveConnectionRequestTimeout(2000));
+
+        properties.setConnectionRequestTimeoutMs(250);
+        assertEquals(250, properties.resolveConnectionRequestTimeout(2000));
+    }
+
+    private void get(CloseableHttpClient client) throws IOException {
+        try (CloseableHttpResponse response = client.execute(new HttpGet(baseUrl + "/ok"))) {
+            assertEquals("ok", EntityUtils.toString(response.getEntity()));
+        }
+    }
+
+    private int available(String pool) {
+        return (Integer) registry.getMetrics().get(pool).get("available");
+    }
+
+    private static boolean await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 3000;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(20);
+        }
+        return condition.getAsBoolean();
+    }
+}
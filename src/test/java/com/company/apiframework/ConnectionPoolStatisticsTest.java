@@ -0,0 +1,146 @@
+package com.company.apiframework;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.company.apiframework.config.PoolProperties;
+import com.company.apiframework.pool.ConnectionPoolMeterBinder;
+import com.company.apiframework.pool.ConnectionPoolRegistry;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for live connection pool statistics, lease wait histograms and pool meters
+ */
+public class ConnectionPoolStatisticsTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private String baseUrl;
+    private ConnectionPoolRegistry registry;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.createContext("/ok", exchange -> {
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        registry = new ConnectionPoolRegistry();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        registry.destroy();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRouteStatisticsAndLeaseWaits() throws IOException {
+        CloseableHttpClient client = registry.httpClientBuilder("payment-api", new PoolProperties(), 10, 5).build();
+
+        get(client);
+        get(client);
+
+        Map<String, Object> metrics = registry.getMetrics("payment-api");
+        Map<String, Map<String, Object>> routes = (Map<String, Map<String, Object>>) metrics.get("routes");
+        Map<String, Object> route = routes.get(baseUrl);
+        assertEquals(5, route.get("max"));
+        assertEquals(0, route.get("leased"));
+        assertEquals(1, route.get("available"));
+        assertEquals(0, route.get("pending"));
+
+        Map<String, Object> leaseWait = (Map<String, Object>) metrics.get("leaseWait");
+        assertEquals(2L, leaseWait.get("count"));
+        assertEquals(0L, leaseWait.get("timeouts"));
+        Map<String, Long> buckets = (Map<String, Long>) leaseWait.get("buckets");
+        assertEquals(2L, buckets.values().stream().mapToLong(Long::longValue).sum());
+        assertNull(registry.getMetrics("unknown"));
+    }
+
+    @Test
+    public void testExhaustedPoolRecordsTimeoutAndNotifiesListeners() throws Exception {
+        PoolingHttpClientConnectionManager connectionManager =
+                registry.createConnectionManager("batch-api", new PoolProperties(), 10, 1);
+        List<Boolean> outcomes = new ArrayList<>();
+        List<String> pools = new ArrayList<>();
+        registry.addLeaseListener((pool, leasedRoute, waitNanos, timedOut) -> {
+            pools.add(pool);
+            outcomes.add(timedOut);
+        });
+        HttpRoute route = new HttpRoute(new HttpHost("127.0.0.1", server.getAddress().getPort(), "http"));
+
+        HttpClientConnection held = connectionManager.requestConnection(route, null).get(1, TimeUnit.SECONDS);
+        assertThrows(ConnectionPoolTimeoutException.class,
+                () -> connectionManager.requestConnection(route, null).get(100, TimeUnit.MILLISECONDS));
+        connectionManager.releaseConnection(held, null, 0, TimeUnit.MILLISECONDS);
+
+        assertEquals(2, registry.getLeaseWaitHistogram("batch-api").getCount());
+        assertEquals(1, registry.getLeaseWaitHistogram("batch-api").getTimeouts());
+        assertTrue(((Number) registry.getLeaseWaitHistogram("batch-api").snapshot().get("maxMs")).doubleValue() >= 90);
+        assertEquals(2, pools.size());
+        assertEquals("batch-api", pools.get(1));
+        assertEquals(Boolean.FALSE, outcomes.get(0));
+        assertEquals(Boolean.TRUE, outcomes.get(1));
+    }
+
+    @Test
+    public void testMeterBinderPublishesPoolAndRouteMeters() throws IOException {
+        CloseableHttpClient client = registry.httpClientBuilder("payment-api", new PoolProperties(), 10, 5).build();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        new ConnectionPoolMeterBinder(registry).bindTo(meterRegistry);
+
+        assertEquals(10.0, meterRegistry.get("api.pool.max").tag("pool", "payment-api").gauge().value());
+
+        get(client);
+
+        assertEquals(1.0, meterRegistry.get("api.pool.connections")
+                .tags("pool", "payment-api", "state", "available").gauge().value());
+        assertEquals(0.0, meterRegistry.get("api.pool.pending").tag("pool", "payment-api").gauge().value());
+        assertEquals(5.0, meterRegistry.get("api.pool.route.max")
+                .tags("pool", "payment-api", "route", baseUrl).gauge().value());
+        assertEquals(1, meterRegistry.get("api.pool.lease.wait")
+                .tags("pool", "payment-api", "outcome", "acquired").timer().count());
+    }
+
+    private void get(CloseableHttpClient client) throws IOException {
+        try (CloseableHttpResponse response = client.execute(new HttpGet(baseUrl + "/ok"))) {
+            assertEquals("ok", EntityUtils.toString(response.getEntity()));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.company.apiframework;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.company.apiframework.config.PoolProperties;
+import com.company.apiframework.config.WarmupProperties;
+import com.company.apiframework.pool.ConnectionPoolRegistry;
+import com.company.apiframework.pool.ConnectionPoolWarmer;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests for connection pool warm-up at startup
+ */
+public class ConnectionPoolWarmerTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private String baseUrl;
+    private ConnectionPoolRegistry registry;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.createContext("/ok", exchange -> {
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        registry = new ConnectionPoolRegistry();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        registry.destroy();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testWarmUpOpensConnectionsThatRequestsReuse() throws IOException {
+        CloseableHttpClient client = registry.httpClientBuilder("payment-api", new PoolProperties(), 10, 5).build();
+        ConnectionPoolWarmer warmer = new ConnectionPoolWarmer(registry, name -> warmup(baseUrl + "/ignored", 3));
+
+        Map<String, Map<String, Object>> reports = warmer.warmUpAll();
+
+        Map<String, Object> report = reports.get("payment-api");
+        assertEquals(3, report.get("connectionsOpened"));
+        assertEquals(0, report.get("connectionsFailed"));
+        assertTrue((Long) report.get("durationMs") >= 0);
+        assertEquals(3, stats("payment-api").get("available"));
+
+        try (CloseableHttpResponse response = client.execute(new HttpGet(baseUrl + "/ok"))) {
+            assertEquals("ok", EntityUtils.toString(response.getEntity()));
+        }
+        // The request used a warm connection instead of opening a fourth one
+        assertEquals(3, stats("payment-api").get("available"));
+        assertEquals(report, warmer.getReports().get("payment-api"));
+    }
+
+    @Test
+    public void testConnectionsAreCappedAtRouteMaximum() {
+        registry.createConnectionManager("batch-api", new PoolProperties(), 10, 2);
+        ConnectionPoolWarmer warmer = new ConnectionPoolWarmer(registry, name -> warmup(baseUrl, 8));
+
+        Map<String, Object> report = warmer.warmUpAll().get("batch-api");
+
+        assertEquals(2, report.get("connectionsOpened"));
+        assertEquals(2, stats("batch-api").get("available"));
+    }
+
+    @Test
+    public void testUnreachableTargetIsReportedAsFailed() throws IOException {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        registry.createConnectionManager("external-api", new PoolProperties(), 10, 5);
+        ConnectionPoolWarmer warmer = new ConnectionPoolWarmer(registry,
+                name -> warmup("http://127.0.0.1:" + closedPort, 2));
+
+        Map<String, Object> report = warmer.warmUpAll().get("external-api");
+
+        assertEquals(0, report.get("connectionsOpened"));
+        assertEquals(2, report.get("connectionsFailed"));
+        assertEquals(0, stats("external-api").get("available"));
+        assertEquals(0, stats("external-api").get("leased"));
+    }
+
+    @Test
+    public void testPoolsWithoutWarmupAreSkipped() {
+        registry.createConnectionManager("default", new PoolProperties(), 10, 5);
+        ConnectionPoolWarmer warmer = new ConnectionPoolWarmer(registry, name -> new WarmupProperties());
+
+        assertTrue(warmer.warmUpAll().isEmpty());
+        assertEquals(0, stats("default").get("available"));
+    }
+
+    private Map<String, Object> stats(String pool) {
+        return registry.getMetrics().get(pool);
+    }
+
+    private static WarmupProperties warmup(String target, int connections) {
+        WarmupProperties properties = new WarmupProperties();
+        properties.setEnabled(true);
+        properties.setTargets(Collections.singletonList(target));
+        properties.setConnectionsPerTarget(connections);
+        properties.setTimeoutMs(5000);
+        return properties;
+    }
+}
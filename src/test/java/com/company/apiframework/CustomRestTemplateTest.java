@@ -304,6 +304,56 @@ public class CustomRestTemplateTest {
         assertEquals(7, summary.get("totalConfiguredTemplates"));
     }
     
+    @Test
+    public void testRouteCacheInvalidatedOnRegistrationChanges() {
+        RestTemplate hostTemplate = stubRestTemplate("host");
+        RestTemplate usersTemplate = stubRestTemplate("users");
+        ApiRequest request = ApiRequest.builder()
+                .url("https://routing-api.example.com/users/123")
+                .method("GET")
+                .build();
+        
+        apiService.registerCustomRestTemplate("https://routing-api.example.com/*", hostTemplate);
+        assertEquals("host", apiService.executeRest(request).getBody());
+        
+        // A more specific registration must not be hidden by the cached decision
+        apiService.registerCustomRestTemplate("https://routing-api.example.com/users/*", usersTemplate);
+        assertEquals(0, apiService.getRouteCacheStats().get("size"));
+        assertEquals("users", apiService.executeRest(request).getBody());
+        
+        apiService.removeCustomRestTemplate("https://routing-api.example.com/users/*");
+        assertEquals(0, apiService.getRouteCacheStats().get("size"));
+        assertEquals("host", apiService.executeRest(request).getBody());
+    }
+    
+    @Test
+    public void testRouteCacheHitRatio() {
+        apiService.registerCustomRestTemplate("https://ratio-api.example.com/*", stubRestTemplate("ratio"));
+        long hits = (Long) apiService.getRouteCacheStats().get("hits");
+        long misses = (Long) apiService.getRouteCacheStats().get("misses");
+        
+        for (int id = 0; id < 100; id++) {
+            ApiRequest request = ApiRequest.builder()
+                    .url("https://ratio-api.example.com/orders/" + id + "/items")
+                    .method("GET")
+                    .build();
+            assertEquals("ratio", apiService.executeRest(request).getBody());
+        }
+        
+        // ID-bearing paths share one route prefix, so only the first lookup misses
+        Map<String, Object> stats = apiService.getRouteCacheStats();
+        assertEquals(misses + 1, stats.get("misses"));
+        assertEquals(hits + 99, stats.get("hits"));
+        assertTrue((Double) stats.get("hitRatio") > 0.0);
+    }
+    
+    private static RestTemplate stubRestTemplate(String body) {
+        RestTemplate restTemplate = mock(RestTemplate.class);
+        when(restTemplate.exchange(any(String.class), any(HttpMethod.class), any(HttpEntity.class), eq(String.class)))
+                .thenReturn(new ResponseEntity<>(body, HttpStatus.OK));
+        return restTemplate;
+    }
+    
     /**
      * Test response class for testing
      */
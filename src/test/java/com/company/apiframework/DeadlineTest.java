@@ -0,0 +1,245 @@
+package com.company.apiframework;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import com.company.apiframework.client.rest.DeadlineAwareRequestFactory;
+import com.company.apiframework.client.rest.RestApiClient;
+import com.company.apiframework.client.transport.JdkHttpClientTransport;
+import com.company.apiframework.client.transport.TransportApiClient;
+import com.company.apiframework.config.ApiProperties;
+import com.company.apiframework.config.TransportProperties;
+import com.company.apiframework.exception.ApiException;
+import com.company.apiframework.interceptor.RetryInterceptor;
+import com.company.apiframework.model.ApiRequest;
+import com.company.apiframework.model.ApiResponse;
+import com.company.apiframework.model.Deadline;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests for per-request deadlines across the RestTemplate client, the JDK transport and retries
+ */
+public class DeadlineTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private String slowUrl;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] bytes = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        slowUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/slow";
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testExpiredDeadlineFailsWithoutSending() throws Exception {
+        RestApiClient client = new RestApiClient(newRestTemplate(), new ObjectMapper());
+        Deadline deadline = Deadline.after(0);
+
+        ApiResponse<String> response = client.execute(ApiRequest.builder().url(slowUrl).method("GET")
+                .deadline(deadline).build());
+
+        assertFalse(response.isSuccess());
+        assertEquals("DEADLINE_EXCEEDED", response.getErrorCode());
+        assertTrue(response.getResponseTimeMs() < 1000);
+    }
+
+    @Test
+    public void testDeadlineCapsReadTimeout() {
+        RestApiClient client = new RestApiClient(newRestTemplate(), new ObjectMapper());
+
+        long start = System.currentTimeMillis();
+        ApiResponse<String> response = client.execute(ApiRequest.builder().url(slowUrl).method("GET")
+                .timeout(300).build());
+
+        assertEquals("DEADLINE_EXCEEDED", response.getErrorCode());
+        assertTrue(System.currentTimeMillis() - start < 1500);
+    }
+
+    @Test
+    public void testRequestWithoutDeadlineUsesProfileTimeouts() {
+        RestApiClient client = new RestApiClient(newRestTemplate(), new ObjectMapper());
+
+        ApiResponse<String> response = client.execute(ApiRequest.builder().url(slowUrl).method("GET").build());
+
+        assertTrue(response.isSuccess());
+    }
+
+    @Test
+    public void testDeadlineBoundsNonBlockingTransport() {
+        JdkHttpClientTransport transport = new JdkHttpClientTransport("test", 1000, 10000, new TransportProperties());
+        try {
+            TransportApiClient client = new TransportApiClient(transport, new ObjectMapper());
+
+            long start = System.currentTimeMillis();
+            ApiResponse<String> response = client.execute(ApiRequest.builder().url(slowUrl).method("GET")
+                    .timeout(300).build());
+
+            assertEquals("DEADLINE_EXCEEDED", response.getErrorCode());
+            assertTrue(System.currentTimeMillis() - start < 1500);
+        } finally {
+            transport.close();
+        }
+    }
+
+    @Test
+    public void testRetryStopsWhenBackoffExceedsBudget() {
+        ApiProperties properties = new ApiProperties();
+        properties.setMaxRetryAttempts(5);
+        properties.setRetryDelayMs(1000);
+        RetryInterceptor retryInterceptor = new RetryInterceptor();
+        ReflectionTestUtils.setField(retryInterceptor, "apiProperties", properties);
+        AtomicInteger attempts = new AtomicInteger();
+
+        long start = System.currentTimeMillis();
+        ApiException e = assertThrows(ApiException.class, () -> retryInterceptor.retryWithinDeadline(
+                Deadline.after(500), () -> {
+                    attempts.incrementAndGet();
+                    throw new IllegalStateException("upstream unavailable");
+                }));
+
+        assertEquals("DEADLINE_EXCEEDED", e.getErrorCode());
+        assertEquals(1, attempts.get());
+        assertTrue(System.currentTimeMillis() - start < 500);
+    }
+
+    @Test
+    public void testRetryRepeatsServerErrorResponses() throws Exception {
+        RetryInterceptor retryInterceptor = newRetryInterceptor(3, 10);
+        AtomicInteger attempts = new AtomicInteger();
+
+        ApiResponse<String> response = retryInterceptor.retryRequest(get(), () -> {
+            if (attempts.incrementAndGet() < 3) {
+                return errorResponse(503, "REST_ERROR");
+            }
+            ApiResponse<String> result = new ApiResponse<>();
+            result.setStatusCode(200);
+            result.setSuccess(true);
+            return result;
+        });
+
+        assertTrue(response.isSuccess());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void testRetryReturnsClientErrorsAndDeadlineFailuresAtOnce() throws Exception {
+        RetryInterceptor retryInterceptor = newRetryInterceptor(3, 10);
+        AtomicInteger attempts = new AtomicInteger();
+
+        ApiResponse<String> notFound = retryInterceptor.retryRequest(get(), () -> {
+            attempts.incrementAndGet();
+            return errorResponse(404, "REST_ERROR");
+        });
+        ApiResponse<String> expired = retryInterceptor.retryRequest(get(), () -> {
+            attempts.incrementAndGet();
+            return errorResponse(0, "DEADLINE_EXCEEDED");
+        });
+
+        assertEquals(404, notFound.getStatusCode());
+        assertEquals("DEADLINE_EXCEEDED", expired.getErrorCode());
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void testRetryDoesNotRepeatNonIdempotentErrorResponses() throws Exception {
+        RetryInterceptor retryInterceptor = newRetryInterceptor(3, 10);
+        AtomicInteger attempts = new AtomicInteger();
+        ApiRequest payment = ApiRequest.builder().url("https://payments.example.com/charges").method("POST").build();
+
+        ApiResponse<String> failed = retryInterceptor.retryRequest(payment, () -> {
+            attempts.incrementAndGet();
+            return errorResponse(0, "REST_ERROR");
+        });
+        ApiResponse<String> unavailable = retryInterceptor.retryApiCallWithConfig(() -> {
+            attempts.incrementAndGet();
+            return errorResponse(503, "REST_ERROR");
+        });
+
+        assertEquals("REST_ERROR", failed.getErrorCode());
+        assertEquals(503, unavailable.getStatusCode());
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void testRetryUsesDeadlineOfRequest() throws Exception {
+        RetryInterceptor retryInterceptor = newRetryInterceptor(5, 1000);
+        AtomicInteger attempts = new AtomicInteger();
+        ApiRequest request = ApiRequest.builder().url(slowUrl).method("GET").timeout(500).build();
+
+        long start = System.currentTimeMillis();
+        ApiResponse<String> response = retryInterceptor.retryRequest(request, () -> {
+            attempts.incrementAndGet();
+            return errorResponse(503, "REST_ERROR");
+        });
+
+        assertEquals(503, response.getStatusCode());
+        assertEquals(1, attempts.get());
+        assertTrue(System.currentTimeMillis() - start < 500);
+    }
+
+    private static ApiRequest get() {
+        return ApiRequest.builder().url("https://api.example.com/users").method("GET").build();
+    }
+
+    private static ApiResponse<String> errorResponse(int statusCode, String errorCode) {
+        ApiResponse<String> result = new ApiResponse<>();
+        result.setStatusCode(statusCode);
+        result.markAsError(errorCode, "upstream failure");
+        return result;
+    }
+
+    private static RetryInterceptor newRetryInterceptor(int maxAttempts, long delayMs) {
+        ApiProperties properties = new ApiProperties();
+        properties.setMaxRetryAttempts(maxAttempts);
+        properties.setRetryDelayMs(delayMs);
+        RetryInterceptor retryInterceptor = new RetryInterceptor();
+        ReflectionTestUtils.setField(retryInterceptor, "apiProperties", properties);
+        return retryInterceptor;
+    }
+
+    private static RestTemplate newRestTemplate() {
+        DeadlineAwareRequestFactory factory = new DeadlineAwareRequestFactory();
+        factory.setConnectTimeout(1000);
+        factory.setReadTimeout(10000);
+        factory.setConnectionRequestTimeout(1000);
+        return new RestTemplate(factory);
+    }
+}
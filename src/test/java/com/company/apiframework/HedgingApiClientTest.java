@@ -0,0 +1,183 @@
+package com.company.apiframework;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.company.apiframework.client.ApiCallback;
+import com.company.apiframework.client.ApiClient;
+import com.company.apiframework.config.HedgingProperties;
+import com.company.apiframework.hedging.HedgePolicy;
+import com.company.apiframework.hedging.HedgingApiClient;
+import com.company.apiframework.model.ApiRequest;
+import com.company.apiframework.model.ApiResponse;
+
+/**
+ * Tests for request hedging: hedge timing, loser cancellation, method filter and budget
+ */
+public class HedgingApiClientTest {
+
+    private final ScheduledExecutorService timer = Executors.newScheduledThreadPool(2);
+    private final ScheduledExecutorService upstream = Executors.newScheduledThreadPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        timer.shutdownNow();
+        upstream.shutdownNow();
+    }
+
+    @Test
+    public void testSlowPrimaryIsHedgedAndCancelled() throws Exception {
+        StubClient stub = new StubClient(500, 10);
+        HedgePolicy policy = new HedgePolicy("external-api", properties(20));
+        HedgingApiClient client = new HedgingApiClient(stub, policy, timer);
+
+        long start = System.nanoTime();
+        ApiResponse<String> response = client.execute(get("/slow"));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals("attempt-2", response.getBody());
+        assertTrue(elapsedMs < 400, "took " + elapsedMs + " ms");
+        assertEquals(2, stub.attempts.get());
+        assertTrue(stub.futures.get(0).isCancelled(), "primary should be cancelled");
+        Map<String, Object> metrics = policy.getMetrics();
+        assertEquals(1L, metrics.get("hedges"));
+        assertEquals(1L, metrics.get("hedgeWins"));
+    }
+
+    @Test
+    public void testFastPrimaryIsNotHedged() throws Exception {
+        StubClient stub = new StubClient(5, 5);
+        HedgingApiClient client = new HedgingApiClient(stub, new HedgePolicy("external-api", properties(200)), timer);
+
+        ApiResponse<String> response = client.executeAsync(get("/fast"), String.class)
+                .toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertEquals("attempt-1", response.getBody());
+        Thread.sleep(250);
+        assertEquals(1, stub.attempts.get());
+    }
+
+    @Test
+    public void testNonIdempotentMethodIsNotHedged() throws Exception {
+        StubClient stub = new StubClient(150, 10);
+        HedgingApiClient client = new HedgingApiClient(stub, new HedgePolicy("external-api", properties(20)), timer);
+        ApiRequest post = ApiRequest.builder().url("https://api.example.com/orders").method("POST").body("{}").build();
+
+        ApiResponse<String> response = client.execute(post);
+
+        assertEquals("attempt-1", response.getBody());
+        assertEquals(1, stub.attempts.get());
+    }
+
+    @Test
+    public void testBudgetCapsHedges() throws Exception {
+        StubClient stub = new StubClient(60, 60);
+        HedgingProperties properties = properties(5);
+        properties.setBudgetPercent(0);
+        HedgePolicy policy = new HedgePolicy("external-api", properties);
+        HedgingApiClient client = new HedgingApiClient(stub, policy, timer);
+
+        List<CompletableFuture<ApiResponse<String>>> calls = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            calls.add(client.executeAsync(get("/item/" + i), String.class).toCompletableFuture());
+        }
+        CompletableFuture.allOf(calls.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+        Map<String, Object> metrics = policy.getMetrics();
+        assertEquals(10L, metrics.get("hedges"));
+        assertEquals(10L, metrics.get("budgetExhausted"));
+        assertEquals(30, stub.attempts.get());
+    }
+
+    @Test
+    public void testAdaptiveDelayWaitsForSamples() throws Exception {
+        StubClient stub = new StubClient(20, 20);
+        HedgingProperties properties = properties(0);
+        properties.setMinSamples(5);
+        HedgePolicy policy = new HedgePolicy("external-api", properties);
+        HedgingApiClient client = new HedgingApiClient(stub, policy, timer);
+
+        for (int i = 0; i < 5; i++) {
+            client.execute(get("/item"));
+        }
+        assertEquals(5, stub.attempts.get());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(policy.hedgeDelayNanos("https://api.example.com:443")) >= 15);
+    }
+
+    private static HedgingProperties properties(long delayMs) {
+        HedgingProperties properties = new HedgingProperties();
+        properties.setEnabled(true);
+        properties.setDelayMs(delayMs);
+        return properties;
+    }
+
+    private static ApiRequest get(String path) {
+        return ApiRequest.builder().url("https://api.example.com" + path).method("GET").build();
+    }
+
+    /**
+     * Answers the first attempt after {@code firstDelayMs} and later attempts after {@code laterDelayMs}.
+     */
+    private final class StubClient implements ApiClient {
+
+        private final long firstDelayMs;
+        private final long laterDelayMs;
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final List<CompletableFuture<?>> futures = Collections.synchronizedList(new ArrayList<>());
+
+        private StubClient(long firstDelayMs, long laterDelayMs) {
+            this.firstDelayMs = firstDelayMs;
+            this.laterDelayMs = laterDelayMs;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletionStage<ApiResponse<T>> executeAsync(ApiRequest request, Class<T> responseType) {
+            int attempt = attempts.incrementAndGet();
+            CompletableFuture<ApiResponse<T>> future = new CompletableFuture<>();
+            futures.add(future);
+            long delay = attempt == 1 ? firstDelayMs : laterDelayMs;
+            upstream.schedule(() -> future.complete(new ApiResponse<>(200, (T) ("attempt-" + attempt))),
+                    delay, TimeUnit.MILLISECONDS);
+            return future;
+        }
+
+        @Override
+        public <T> ApiResponse<T> execute(ApiRequest request, Class<T> responseType) {
+            return executeAsync(request, responseType).toCompletableFuture().join();
+        }
+
+        @Override
+        public ApiResponse<String> execute(ApiRequest request) {
+            return execute(request, String.class);
+        }
+
+        @Override
+        public <T> void executeAsync(ApiRequest request, Class<T> responseType, ApiCallback<T> callback) {
+            executeAsync(request, responseType).thenAccept(callback::onSuccess);
+        }
+
+        @Override
+        public boolean supportsProtocol(String protocol) {
+            return "REST".equalsIgnoreCase(protocol);
+        }
+
+        @Override
+        public String getProtocolType() {
+            return "REST";
+        }
+    }
+}
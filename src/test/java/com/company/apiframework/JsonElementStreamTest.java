@@ -0,0 +1,154 @@
+package com.company.apiframework;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.company.apiframework.client.JsonElementStream;
+import com.company.apiframework.client.ResponseStreamHandler;
+import com.company.apiframework.client.StreamingResponse;
+import com.company.apiframework.codec.CodecRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests for incremental decoding of JSON array and NDJSON bodies
+ */
+public class JsonElementStreamTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testJsonArrayElements() throws IOException {
+        List<Integer> ids = decode("[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"b\"}]",
+                items -> items.map(item -> item.id).collect(Collectors.toList()));
+
+        assertEquals(2, ids.size());
+        assertEquals(1, ids.get(0).intValue());
+        assertEquals(2, ids.get(1).intValue());
+    }
+
+    @Test
+    public void testNdjsonElements() throws IOException {
+        String body = "{\"id\":1,\"name\":\"a\"}\n{\"id\":2,\"name\":\"b\"}\n\n{\"id\":3,\"name\":\"c\"}\n";
+        List<String> names = decode(body,
+                items -> items.map(item -> item.name).collect(Collectors.toList()));
+
+        assertEquals(3, names.size());
+        assertEquals("c", names.get(2));
+    }
+
+    @Test
+    public void testElementsAreDecodedAsTheyArrive() throws IOException {
+        // 1,000,000 elements (~30 MB) generated on demand; never held as a whole
+        GeneratedArray body = new GeneratedArray(1_000_000);
+        ResponseStreamHandler<Long> handler = JsonElementStream.handler(objectMapper, Item.class, items -> {
+            Iterator<Item> iterator = items.iterator();
+            Item first = iterator.next();
+            assertEquals(0, first.id);
+            assertTrue(body.generated < 1_000, "first element decoded after " + body.generated + " elements");
+            long count = 1;
+            while (iterator.hasNext()) {
+                iterator.next();
+                count++;
+            }
+            return count;
+        });
+
+        long count = handler.handle(new StreamingResponse(200, "OK", Collections.<String, String>emptyMap(), body));
+
+        assertEquals(1_000_000L, count);
+        assertTrue(body.closed);
+    }
+
+    @Test
+    public void testMalformedElementFailsHandlerWithIOException() {
+        assertThrows(IOException.class, () -> decode("[{\"id\":1},{\"id\":", items -> items.count()));
+    }
+
+    @Test
+    public void testHandlerWithCachedReader() throws IOException {
+        CodecRegistry codecs = new CodecRegistry(objectMapper);
+        String body = "[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"b\"}]";
+
+        for (int i = 0; i < 3; i++) {
+            ResponseStreamHandler<Long> handler = JsonElementStream.handler(codecs.readerFor(Item.class),
+                    (Stream<Item> items) -> items.filter(item -> item.id > 1).count());
+            assertEquals(1L, handler.handle(new StreamingResponse(200, "OK", Collections.<String, String>emptyMap(),
+                    new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)))).longValue());
+        }
+
+        assertEquals(1, codecs.getMetrics().get("readers"));
+    }
+
+    @Test
+    public void testEmptyBody() throws IOException {
+        assertEquals(0L, decode("[]", items -> items.count()).longValue());
+        assertEquals(0L, decode("", items -> items.count()).longValue());
+    }
+
+    private <R> R decode(String body, Function<Stream<Item>, R> function) throws IOException {
+        ResponseStreamHandler<R> handler = JsonElementStream.handler(objectMapper, Item.class, function);
+        return handler.handle(new StreamingResponse(200, "OK", Collections.<String, String>emptyMap(),
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    public static class Item {
+        public int id;
+        public String name;
+    }
+
+    /**
+     * Produces a JSON array of items one element at a time and counts how many it produced
+     */
+    private static class GeneratedArray extends InputStream {
+
+        private final int elements;
+        private final List<Byte> pending = new ArrayList<>();
+        private int generated;
+        private boolean finished;
+        private boolean closed;
+
+        GeneratedArray(int elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public int read() {
+            if (pending.isEmpty()) {
+                if (finished) {
+                    return -1;
+                }
+                String next;
+                if (generated == elements) {
+                    next = "]";
+                    finished = true;
+                } else {
+                    next = (generated == 0 ? "[" : ",") + "{\"id\":" + generated + ",\"name\":\"item\"}";
+                    generated++;
+                }
+                for (byte b : next.getBytes(StandardCharsets.UTF_8)) {
+                    pending.add(b);
+                }
+            }
+            return pending.remove(0) & 0xFF;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
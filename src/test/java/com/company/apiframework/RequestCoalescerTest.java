@@ -0,0 +1,135 @@
+package com.company.apiframework;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.company.apiframework.coalescing.RequestCoalescer;
+import com.company.apiframework.config.CoalescingProperties;
+import com.company.apiframework.model.ApiRequest;
+import com.company.apiframework.model.ApiResponse;
+
+/**
+ * Tests for in-flight request coalescing: keys, shared calls and cancellation
+ */
+public class RequestCoalescerTest {
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(8);
+    private final RequestCoalescer coalescer = new RequestCoalescer("default", new CoalescingProperties());
+
+    @AfterEach
+    public void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    public void testKeySelectsHeadersAndSkipsUnsafeRequests() {
+        ApiRequest alice = get("/users/1").header("Authorization", "Bearer alice").header("X-Request-Id", "1").build();
+        ApiRequest aliceAgain = get("/users/1").header("authorization", "Bearer alice").header("X-Request-Id", "2").build();
+        ApiRequest bob = get("/users/1").header("Authorization", "Bearer bob").build();
+
+        assertEquals(coalescer.keyOf(alice, String.class), coalescer.keyOf(aliceAgain, String.class));
+        assertFalse(coalescer.keyOf(alice, String.class).equals(coalescer.keyOf(bob, String.class)));
+        assertFalse(coalescer.keyOf(alice, String.class).equals(coalescer.keyOf(alice, Object.class)));
+        assertNull(coalescer.keyOf(ApiRequest.builder().url("https://api.example.com/users").method("POST")
+                .body("{}").build(), String.class));
+        assertNull(coalescer.keyOf(get("/users/1").timeout(1000).build(), String.class));
+    }
+
+    @Test
+    public void testConcurrentBlockingCallsShareOneUpstreamCall() throws Exception {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        String key = coalescer.keyOf(get("/users/1").build(), String.class);
+
+        List<Future<ApiResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            responses.add(callers.submit(() -> coalescer.execute(key, () -> {
+                upstreamCalls.incrementAndGet();
+                await(release);
+                return new ApiResponse<>(200, "user-1");
+            })));
+        }
+        waitFor(() -> ((Number) coalescer.getMetrics().get("coalesced")).intValue() == 7);
+        release.countDown();
+
+        List<ApiResponse<String>> results = new ArrayList<>();
+        for (Future<ApiResponse<String>> response : responses) {
+            results.add(response.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, upstreamCalls.get());
+        results.forEach(response -> assertEquals("user-1", response.getBody()));
+        assertNotSame(results.get(0), results.get(1));
+        assertEquals(0, coalescer.getMetrics().get("inFlight"));
+
+        coalescer.execute(key, () -> {
+            upstreamCalls.incrementAndGet();
+            return new ApiResponse<>(200, "user-1");
+        });
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    public void testUpstreamIsCancelledOnlyWhenEveryCallerCancels() throws Exception {
+        CompletableFuture<ApiResponse<String>> upstream = new CompletableFuture<>();
+        String key = coalescer.keyOf(get("/users/2").build(), String.class);
+
+        CompletableFuture<ApiResponse<String>> first = coalescer.executeAsync(key, () -> upstream);
+        CompletableFuture<ApiResponse<String>> second = coalescer.executeAsync(key, CompletableFuture::new);
+
+        first.cancel(true);
+        assertFalse(upstream.isCancelled());
+        second.cancel(true);
+        assertTrue(upstream.isCancelled());
+        assertEquals(1L, coalescer.getMetrics().get("abandoned"));
+        assertEquals(0, coalescer.getMetrics().get("inFlight"));
+    }
+
+    @Test
+    public void testFailureIsSharedWithFollowers() throws Exception {
+        CompletableFuture<ApiResponse<String>> upstream = new CompletableFuture<>();
+        String key = coalescer.keyOf(get("/users/3").build(), String.class);
+
+        CompletableFuture<ApiResponse<String>> first = coalescer.executeAsync(key, () -> upstream);
+        CompletableFuture<ApiResponse<String>> second = coalescer.executeAsync(key, CompletableFuture::new);
+        upstream.completeExceptionally(new IllegalStateException("boom"));
+
+        assertTrue(first.isCompletedExceptionally());
+        assertTrue(second.isCompletedExceptionally());
+        assertEquals(1L, coalescer.getMetrics().get("upstreamCalls"));
+    }
+
+    private static ApiRequest.Builder get(String path) {
+        return ApiRequest.builder().url("https://api.example.com" + path).method("GET");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
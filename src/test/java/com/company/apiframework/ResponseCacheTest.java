@@ -0,0 +1,343 @@
+package com.company.apiframework;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.company.apiframework.cache.CachedResponse;
+import com.company.apiframework.cache.CachingApiClient;
+import com.company.apiframework.cache.HttpResponseCache;
+import com.company.apiframework.cache.InMemoryResponseCache;
+import com.company.apiframework.cache.OffHeapResponseCache;
+import com.company.apiframework.cache.ResponseCache;
+import com.company.apiframework.client.ApiCallback;
+import com.company.apiframework.client.ApiClient;
+import com.company.apiframework.config.CacheProperties;
+import com.company.apiframework.config.CacheProperties.Tier;
+import com.company.apiframework.model.ApiRequest;
+import com.company.apiframework.model.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests for the HTTP response cache: freshness, revalidation, storability and size limits
+ */
+public class ResponseCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final StubUpstream upstream = new StubUpstream();
+
+    @Test
+    public void testFreshResponseIsServedFromCache() {
+        upstream.respond(200, "{\"id\":1,\"name\":\"Ada\"}", "Cache-Control", "max-age=60");
+        CachingApiClient client = client(new CacheProperties());
+
+        ApiResponse<String> first = client.execute(get("/users/1"));
+        clock.advance(30_000);
+        ApiResponse<User> second = client.execute(get("/users/1"), User.class);
+
+        assertEquals(1, upstream.requests.size());
+        assertEquals("{\"id\":1,\"name\":\"Ada\"}", first.getBody());
+        assertTrue(second.isSuccess());
+        assertEquals("Ada", second.getBody().name);
+        assertEquals("30", second.getHeaders().get("Age"));
+    }
+
+    @Test
+    public void testStaleResponseIsRevalidatedWithValidators() {
+        upstream.respond(200, "catalog-v1", "Cache-Control", "max-age=10", "ETag", "\"v1\"",
+                "Last-Modified", "Tue, 13 Oct 2026 10:00:00 GMT");
+        HttpResponseCache cache = cache(new CacheProperties());
+        CachingApiClient client = new CachingApiClient(upstream, cache, new ObjectMapper());
+        client.execute(get("/catalog"));
+
+        clock.advance(11_000);
+        upstream.respond(304, null, "Cache-Control", "max-age=120");
+        ApiResponse<String> revalidated = client.execute(get("/catalog"));
+
+        assertEquals(2, upstream.requests.size());
+        ApiRequest conditional = upstream.requests.get(1);
+        assertEquals("\"v1\"", conditional.getHeaders().get("If-None-Match"));
+        assertEquals("Tue, 13 Oct 2026 10:00:00 GMT", conditional.getHeaders().get("If-Modified-Since"));
+        assertEquals(200, revalidated.getStatusCode());
+        assertEquals("catalog-v1", revalidated.getBody());
+
+        clock.advance(60_000);
+        client.execute(get("/catalog"));
+        assertEquals(2, upstream.requests.size());
+        Map<String, Object> metrics = cache.getMetrics();
+        assertEquals(1L, metrics.get("hits"));
+        assertEquals(1L, metrics.get("revalidated"));
+        assertEquals(1L, metrics.get("misses"));
+    }
+
+    @Test
+    public void testUncacheableResponsesAreNotStored() {
+        CachingApiClient client = client(new CacheProperties());
+
+        upstream.respond(200, "a", "Cache-Control", "no-store, max-age=60");
+        client.execute(get("/no-store"));
+        client.execute(get("/no-store"));
+        upstream.respond(200, "b", "Cache-Control", "private, max-age=60");
+        client.execute(get("/private"));
+        client.execute(get("/private"));
+        upstream.respond(200, "c");
+        client.execute(get("/no-freshness"));
+        client.execute(get("/no-freshness"));
+        upstream.respond(200, "d", "Cache-Control", "max-age=60");
+        client.execute(get("/auth", "Authorization", "Bearer alice"));
+        client.execute(get("/auth", "Authorization", "Bearer bob"));
+
+        assertEquals(8, upstream.requests.size());
+    }
+
+    @Test
+    public void testExpiresAndVaryAreHonoured() {
+        CachingApiClient client = client(new CacheProperties());
+        upstream.respond(200, "fr", "Date", "Thu, 15 Oct 2026 10:00:00 GMT",
+                "Expires", "Thu, 15 Oct 2026 10:01:00 GMT", "Vary", "Accept-Language");
+
+        client.execute(get("/greeting", "Accept-Language", "fr"));
+        client.execute(get("/greeting", "Accept-Language", "fr"));
+        assertEquals(1, upstream.requests.size());
+
+        client.execute(get("/greeting", "Accept-Language", "de"));
+        assertEquals(2, upstream.requests.size());
+
+        clock.advance(61_000);
+        client.execute(get("/greeting", "Accept-Language", "de"));
+        assertEquals(3, upstream.requests.size());
+    }
+
+    @Test
+    public void testRoutesLimitCachingAndUnsafeRequestsInvalidate() {
+        CacheProperties properties = new CacheProperties();
+        properties.setRoutes(Arrays.asList("https://api.example.com/catalog/*"));
+        CachingApiClient client = client(properties);
+        upstream.respond(200, "x", "Cache-Control", "max-age=60");
+
+        client.execute(get("/users/1"));
+        client.execute(get("/users/1"));
+        assertEquals(2, upstream.requests.size());
+
+        client.execute(get("/catalog/1"));
+        client.execute(get("/catalog/1"));
+        assertEquals(3, upstream.requests.size());
+
+        client.execute(ApiRequest.builder().url("https://api.example.com/catalog/1").method("PUT").body("{}").build());
+        client.execute(get("/catalog/1"));
+        assertEquals(5, upstream.requests.size());
+    }
+
+    @Test
+    public void testStoreIsBoundedBySize() {
+        InMemoryResponseCache store = new InMemoryResponseCache(100, 4096, 2048);
+        CachingApiClient client = new CachingApiClient(upstream,
+                new HttpResponseCache("default", new CacheProperties(), store, clock), new ObjectMapper());
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 1500; i++) {
+            body.append('x');
+        }
+        upstream.respond(200, body.toString(), "Cache-Control", "max-age=60");
+
+        for (int i = 0; i < 5; i++) {
+            client.execute(get("/blob/" + i));
+        }
+
+        Map<String, Object> metrics = store.getMetrics();
+        assertEquals(2, metrics.get("entries"));
+        assertTrue((Long) metrics.get("sizeBytes") <= 4096);
+        assertEquals(3L, metrics.get("evictions"));
+        assertNull(store.get("https://api.example.com/blob/0"));
+    }
+
+    @Test
+    public void testOffHeapStoreKeepsSerializedEntriesInBlocks() {
+        OffHeapResponseCache store = new OffHeapResponseCache(100, 8 * 1024, 4096, 1024);
+        Map<String, String> headers = new HashMap<>();
+        headers.put("ETag", "\"r1\"");
+        Map<String, String> vary = new HashMap<>();
+        vary.put("accept-language", "fr");
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(store.put("report-" + i, new CachedResponse(200, "OK", headers, repeat('r', 3000) + i,
+                    clock.millis(), 0, 60_000, vary)));
+        }
+
+        Map<String, Object> metrics = store.getMetrics();
+        assertEquals(2, metrics.get("entries"));
+        assertEquals(1L, metrics.get("evictions"));
+        assertEquals(6L * 1024, metrics.get("usedBytes"));
+        assertNull(store.get("report-0"));
+        CachedResponse cached = store.get("report-2");
+        assertEquals(repeat('r', 3000) + 2, cached.getBody());
+        assertEquals("\"r1\"", cached.getHeaders().get("etag"));
+        assertEquals("OK", cached.getStatusMessage());
+        assertEquals("fr", cached.getVaryValues().get("accept-language"));
+        assertTrue(cached.isFresh(clock.millis()));
+        assertFalse(store.put("too-large", new CachedResponse(200, "OK", headers, repeat('x', 5000),
+                clock.millis(), 0, 60_000, vary)));
+    }
+
+    @Test
+    public void testRoutesChooseTheirTier() throws Exception {
+        CacheProperties properties = new CacheProperties();
+        properties.setRoutes(Arrays.asList("https://api.example.com/catalog/*"));
+        properties.setOffHeapRoutes(Arrays.asList("https://api.example.com/reports/*"));
+        Path file = Files.createTempFile("api-cache-test-", ".bin");
+        InMemoryResponseCache heap = new InMemoryResponseCache(100, 1024 * 1024, 64 * 1024);
+        OffHeapResponseCache offHeap = new OffHeapResponseCache(100, 64 * 1024, 32 * 1024, 4096, file);
+        Map<Tier, ResponseCache> stores = new EnumMap<>(Tier.class);
+        stores.put(Tier.HEAP, heap);
+        stores.put(Tier.OFF_HEAP, offHeap);
+        HttpResponseCache cache = new HttpResponseCache("default", properties, stores, clock);
+        CachingApiClient client = new CachingApiClient(upstream, cache, new ObjectMapper());
+        upstream.respond(200, "{\"id\":7,\"name\":\"Q3\"}", "Cache-Control", "max-age=60");
+
+        client.execute(get("/catalog/1"));
+        client.execute(get("/reports/7"));
+        client.execute(get("/users/1"));
+        ApiResponse<User> report = client.execute(get("/reports/7"), User.class);
+
+        assertEquals(3, upstream.requests.size());
+        assertEquals("Q3", report.getBody().name);
+        assertEquals(1, heap.getMetrics().get("entries"));
+        assertEquals(1, offHeap.getMetrics().get("entries"));
+        assertEquals(true, offHeap.getMetrics().get("memoryMapped"));
+        assertTrue(cache.getMetrics().containsKey("offHeap"));
+
+        cache.close();
+        assertFalse(Files.exists(file));
+    }
+
+    private static String repeat(char c, int count) {
+        StringBuilder value = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            value.append(c);
+        }
+        return value.toString();
+    }
+
+    private CachingApiClient client(CacheProperties properties) {
+        return new CachingApiClient(upstream, cache(properties), new ObjectMapper());
+    }
+
+    private HttpResponseCache cache(CacheProperties properties) {
+        return new HttpResponseCache("default", properties,
+                new InMemoryResponseCache(properties.getMaxEntries(), properties.getMaxSizeBytes(),
+                        properties.getMaxEntrySizeBytes()), clock);
+    }
+
+    private static ApiRequest get(String path) {
+        return ApiRequest.builder().url("https://api.example.com" + path).method("GET").build();
+    }
+
+    private static ApiRequest get(String path, String header, String value) {
+        return ApiRequest.builder().url("https://api.example.com" + path).method("GET").header(header, value).build();
+    }
+
+    public static class User {
+        public int id;
+        public String name;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private long millis = Instant.parse("2026-10-15T10:00:00Z").toEpochMilli();
+
+        private void advance(long deltaMillis) {
+            millis += deltaMillis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+
+    /**
+     * Records requests and answers each with the configured response.
+     */
+    private static final class StubUpstream implements ApiClient {
+
+        private final List<ApiRequest> requests = new ArrayList<>();
+        private int status;
+        private String body;
+        private Map<String, String> headers = new HashMap<>();
+
+        private void respond(int status, String body, String... headerPairs) {
+            this.status = status;
+            this.body = body;
+            this.headers = new HashMap<>();
+            for (int i = 0; i < headerPairs.length; i += 2) {
+                headers.put(headerPairs[i], headerPairs[i + 1]);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> ApiResponse<T> execute(ApiRequest request, Class<T> responseType) {
+            requests.add(request);
+            ApiResponse<T> response = new ApiResponse<>(status, (T) body);
+            response.setSuccess(status < 400);
+            response.getHeaders().putAll(headers);
+            return response;
+        }
+
+        @Override
+        public ApiResponse<String> execute(ApiRequest request) {
+            return execute(request, String.class);
+        }
+
+        @Override
+        public <T> void executeAsync(ApiRequest request, Class<T> responseType, ApiCallback<T> callback) {
+            callback.onSuccess(execute(request, responseType));
+        }
+
+        @Override
+        public <T> CompletionStage<ApiResponse<T>> executeAsync(ApiRequest request, Class<T> responseType) {
+            return CompletableFuture.completedFuture(execute(request, responseType));
+        }
+
+        @Override
+        public boolean supportsProtocol(String protocol) {
+            return true;
+        }
+
+        @Override
+        public String getProtocolType() {
+            return "REST";
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.company.apiframework;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.company.apiframework.routing.RouteDecisionCache;
+
+/**
+ * Tests for the bounded cache of URL routing decisions
+ */
+public class RouteDecisionCacheTest {
+
+    @Test
+    public void testRoutePrefixDropsDeeperPathSegments() {
+        assertEquals("https://api.example.com/users/",
+                RouteDecisionCache.routePrefix("https://api.example.com/users/123", 1));
+        assertEquals("https://api.example.com/orders/",
+                RouteDecisionCache.routePrefix("https://api.example.com/orders/456/items", 1));
+        assertEquals("https://api.example.com/orders/456/",
+                RouteDecisionCache.routePrefix("https://api.example.com/orders/456/items", 2));
+        assertEquals("https://api.example.com/",
+                RouteDecisionCache.routePrefix("https://api.example.com/users/123", 0));
+        assertEquals("https://api.example.com/users",
+                RouteDecisionCache.routePrefix("https://api.example.com/users", 1));
+        assertEquals("https://api.example.com",
+                RouteDecisionCache.routePrefix("https://api.example.com", 1));
+    }
+
+    @Test
+    public void testIdBearingPathsShareOneEntry() {
+        RouteDecisionCache<String> cache = new RouteDecisionCache<>(16);
+
+        for (int id = 0; id < 1000; id++) {
+            for (String url : new String[] {"https://API.example.com/users/" + id + "?expand=true",
+                    "https://api.example.com/orders/" + id + "/items"}) {
+                String key = RouteDecisionCache.routePrefix(RouteDecisionCache.normalize(url), 1);
+                assertEquals("route", cache.getOrCompute(key, prefix -> "route"));
+            }
+        }
+
+        assertEquals(2, cache.size());
+        assertEquals(2L, cache.getStats().get("misses"));
+        assertEquals(0L, cache.getStats().get("evictions"));
+        assertTrue(cache.getHitRatio() > 0.99, "hit ratio: " + cache.getHitRatio());
+    }
+
+    @Test
+    public void testEvictionKeepsRecentlyUsedEntries() {
+        RouteDecisionCache<String> cache = new RouteDecisionCache<>(4);
+        for (String key : new String[] {"a", "b", "c", "d"}) {
+            cache.getOrCompute(key, String::toUpperCase);
+        }
+        cache.getOrCompute("a", key -> "stale");
+
+        cache.getOrCompute("e", String::toUpperCase);
+
+        assertEquals(4, cache.size());
+        assertEquals(1L, cache.getStats().get("evictions"));
+        assertEquals("A", cache.getOrCompute("a", key -> "stale"));
+    }
+
+    @Test
+    public void testCacheStaysBoundedUnderChurn() {
+        RouteDecisionCache<Integer> cache = new RouteDecisionCache<>(64);
+
+        for (int i = 0; i < 10000; i++) {
+            cache.getOrCompute("https://host-" + i + ".example.com/", String::length);
+        }
+
+        assertEquals(64, cache.size());
+        assertEquals(10000L - 64, cache.getStats().get("evictions"));
+    }
+
+    @Test
+    public void testInvalidationDropsDecisions() {
+        RouteDecisionCache<String> cache = new RouteDecisionCache<>(16);
+        cache.getOrCompute("https://api.example.com/users/", prefix -> "old");
+
+        cache.invalidateAll();
+
+        assertEquals(0, cache.size());
+        assertEquals("new", cache.getOrCompute("https://api.example.com/users/", prefix -> "new"));
+    }
+}
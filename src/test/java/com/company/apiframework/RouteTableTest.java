@@ -0,0 +1,138 @@
+package com.company.apiframework;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.company.apiframework.routing.RouteDecisionCache;
+import com.company.apiframework.routing.RouteTable;
+import com.company.apiframework.routing.UrlPattern;
+
+/**
+ * Tests for compiled URL pattern matching and route precedence
+ */
+public class RouteTableTest {
+
+    @Test
+    public void testWildcardPatternMatching() {
+        UrlPattern hostPattern = UrlPattern.compile("https://payment.gateway.com/*");
+        assertTrue(hostPattern.matches("https://payment.gateway.com/process"));
+        assertTrue(hostPattern.matches("https://payment.gateway.com/"));
+        assertFalse(hostPattern.matches("https://payment-gateway.com/process"));
+        assertFalse(hostPattern.matches("http://payment.gateway.com/process"));
+
+        UrlPattern pathPattern = UrlPattern.compile("https://*/payment/*");
+        assertTrue(pathPattern.matches("https://shop.example.com/payment/charge"));
+        assertFalse(pathPattern.matches("https://shop.example.com/payments/charge"));
+
+        UrlPattern infixPattern = UrlPattern.compile("https://partner-*.com/*");
+        assertTrue(infixPattern.matches("https://partner-acme.com/orders"));
+        assertFalse(infixPattern.matches("https://partner-acme.org/orders"));
+
+        UrlPattern exactPattern = UrlPattern.compile("https://api.example.com/exact");
+        assertTrue(exactPattern.isExact());
+        assertTrue(exactPattern.matches("https://api.example.com/exact"));
+        assertFalse(exactPattern.matches("https://api.example.com/exact/more"));
+    }
+
+    @Test
+    public void testPrefixAndSuffixMustNotOverlap() {
+        UrlPattern pattern = UrlPattern.compile("https://a*a");
+        assertFalse(pattern.matches("https://a"));
+        assertTrue(pattern.matches("https://aa"));
+    }
+
+    @Test
+    public void testExactPatternTakesPrecedence() {
+        RouteTable<String> table = RouteTable.<String>builder()
+                .add("https://api.example.com/*", "wildcard")
+                .add("https://api.example.com/exact", "exact")
+                .build();
+
+        assertEquals("exact", table.match("https://api.example.com/exact"));
+        assertEquals("wildcard", table.match("https://api.example.com/other"));
+    }
+
+    @Test
+    public void testMoreSpecificPatternTakesPrecedence() {
+        RouteTable<String> table = RouteTable.<String>builder()
+                .add("https://*/payment/*", "generic-payment")
+                .add("https://payment.gateway.com/*", "gateway")
+                .build();
+
+        // Both match; the pattern with more literal characters wins regardless of order
+        assertEquals("gateway", table.match("https://payment.gateway.com/payment/charge"));
+        assertEquals("generic-payment", table.match("https://shop.example.com/payment/charge"));
+    }
+
+    @Test
+    public void testRegistrationOrderBreaksTies() {
+        Map<String, String> mappings = new LinkedHashMap<>();
+        mappings.put("https://*/batch/*", "first");
+        mappings.put("https://*/bulks/*", "second");
+        RouteTable<String> table = RouteTable.of(mappings);
+
+        assertEquals("first", table.match("https://host.example.com/bulks/batch/job"));
+    }
+
+    @Test
+    public void testNoMatch() {
+        RouteTable<String> table = RouteTable.<String>builder()
+                .add("https://*.external.com/*", "external")
+                .build();
+
+        assertNull(table.match("https://internal.example.com/data"));
+        assertNull(table.match(null));
+        assertNull(RouteTable.<String>empty().match("https://any.example.com/"));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    public void testNarrowedTableRoutesLikeTheFullTable() {
+        RouteTable<String> table = RouteTable.<String>builder()
+                .add("https://payment.gateway.com/*", "gateway")
+                .add("https://*/payment/*", "payment")
+                .add("https://*.external.com/*", "external")
+                .add("https://partner-*.com/*", "partner")
+                .add("https://api.example.com/users/*/profile", "profile")
+                .add("https://api.example.com/exact", "exact")
+                .build();
+        String[] urls = {
+            "https://payment.gateway.com/charge/42",
+            "https://shop.example.com/payment/42",
+            "https://shop.example.com/api/v1/payment/42",
+            "https://eu.external.com/orders/7",
+            "https://partner-acme.com/orders/7",
+            "https://api.example.com/users/123/profile",
+            "https://api.example.com/users/123/settings",
+            "https://api.example.com/exact",
+            "https://other.example.com/data/1"
+        };
+
+        for (String url : urls) {
+            for (int segments = 0; segments <= 3; segments++) {
+                RouteTable.PrefixMatch<String> narrowed = table.narrow(RouteDecisionCache.routePrefix(url, segments));
+                assertEquals(table.match(url), narrowed.match(url), url + " with " + segments + " segments");
+            }
+        }
+    }
+
+    @Test
+    public void testPrefixThatDecidesTheRouteIsFixed() {
+        RouteTable<String> table = RouteTable.<String>builder()
+                .add("https://payment.gateway.com/*", "gateway")
+                .add("https://*/payment/*", "payment")
+                .build();
+
+        assertTrue(table.narrow("https://payment.gateway.com/charge/").isFixed());
+        assertTrue(table.narrow("https://shop.example.com/payment/").isFixed());
+        assertEquals("payment", table.narrow("https://shop.example.com/payment/").match("https://shop.example.com/payment/1"));
+        // "/payment/" may still appear deeper in the path
+        assertFalse(table.narrow("https://shop.example.com/api/").isFixed());
+    }
+}
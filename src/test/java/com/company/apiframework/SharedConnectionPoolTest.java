@@ -0,0 +1,195 @@
+package com.company.apiframework;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.company.apiframework.config.PoolProperties;
+import com.company.apiframework.pool.ConnectionPoolRegistry;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests for connection pools shared by several profiles with per-profile quotas
+ */
+public class SharedConnectionPoolTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ExecutorService callers;
+    private String baseUrl;
+    private ConnectionPoolRegistry registry;
+    private CountDownLatch releaseSlowCalls;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        releaseSlowCalls = new CountDownLatch(1);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.createContext("/ok", SharedConnectionPoolTest::respond);
+        server.createContext("/slow", exchange -> {
+            try {
+                releaseSlowCalls.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange);
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        callers = Executors.newSingleThreadExecutor();
+        registry = new ConnectionPoolRegistry();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        releaseSlowCalls.countDown();
+        registry.destroy();
+        callers.shutdownNow();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testProfilesReuseConnectionsOfTheSharedPool() throws IOException {
+        CloseableHttpClient payment = registry.httpClientBuilder("payment-api", shared("gateway"), 50, 10).build();
+        CloseableHttpClient external = registry.httpClientBuilder("external-api", shared("gateway"), 20, 5).build();
+
+        get(payment, "/ok");
+        get(external, "/ok");
+
+        assertEquals(1, registry.getPoolNames().size());
+        assertTrue(registry.isSharedPool("gateway"));
+        Map<String, Object> metrics = registry.getMetrics("gateway");
+        assertEquals(70, metrics.get("maxTotal"));
+        assertEquals(15, metrics.get("defaultMaxPerRoute"));
+        // The second profile reused the connection opened by the first
+        assertEquals(1, metrics.get("available"));
+
+        Map<String, Map<String, Object>> profiles = (Map<String, Map<String, Object>>) metrics.get("profiles");
+        assertEquals(50, profiles.get("payment-api").get("maxTotal"));
+        assertEquals(5, profiles.get("external-api").get("maxPerRoute"));
+        assertEquals(0, profiles.get("external-api").get("leased"));
+    }
+
+    @Test
+    public void testProfileQuotaIsolatesProfiles() throws Exception {
+        CloseableHttpClient batch = registry.httpClientBuilder("batch-api", shared("gateway"), 10, 1).build();
+        CloseableHttpClient payment = registry.httpClientBuilder("payment-api", shared("gateway"), 10, 1).build();
+
+        // batch-api uses its only connection for the route
+        Future<?> slowCall = callers.submit(() -> {
+            get(batch, "/slow");
+            return null;
+        });
+        assertTrue(await(() -> profileLeased("batch-api") == 1));
+
+        HttpGet quick = new HttpGet(baseUrl + "/ok");
+        quick.setConfig(RequestConfig.custom().setConnectionRequestTimeout(100).build());
+        assertThrows(ConnectionPoolTimeoutException.class, () -> batch.execute(quick).close());
+
+        // payment-api still gets a connection to the same route
+        get(payment, "/ok");
+
+        releaseSlowCalls.countDown();
+        slowCall.get(5, TimeUnit.SECONDS);
+        assertEquals(0, profileLeased("batch-api"));
+        assertEquals(1L, profileMetrics("batch-api").get("quotaTimeouts"));
+    }
+
+    @Test
+    public void testClosingOneClientKeepsTheSharedPool() throws IOException {
+        CloseableHttpClient payment = registry.httpClientBuilder("payment-api", shared("gateway"), 50, 10).build();
+        CloseableHttpClient external = registry.httpClientBuilder("external-api", shared("gateway"), 20, 5).build();
+        get(payment, "/ok");
+
+        payment.close();
+
+        get(external, "/ok");
+        assertEquals(1, registry.getMetrics("gateway").get("available"));
+    }
+
+    @Test
+    public void testProfileLimitsOfSharedPoolAreItsQuota() {
+        registry.httpClientBuilder("payment-api", shared("gateway"), 50, 10);
+        registry.httpClientBuilder("batch-api", shared("gateway"), 10, 2);
+
+        assertEquals(50, registry.getMaxTotal("payment-api"));
+        assertEquals(10, registry.getMaxTotal("batch-api"));
+        assertEquals(10, registry.getMaxPerRoute("payment-api", baseUrl + "/ok"));
+        assertEquals(2, registry.getMaxPerRoute("batch-api", baseUrl + "/ok"));
+    }
+
+    @Test
+    public void testDedicatedPoolNameCannotBeShared() {
+        registry.createConnectionManager("payment-api", new PoolProperties(), 50, 10);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> registry.httpClientBuilder("external-api", shared("payment-api"), 20, 5));
+        assertFalse(registry.isSharedPool("payment-api"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> profileMetrics(String profile) {
+        return ((Map<String, Map<String, Object>>) registry.getMetrics("gateway").get("profiles")).get(profile);
+    }
+
+    private int profileLeased(String profile) {
+        return (Integer) profileMetrics(profile).get("leased");
+    }
+
+    private static PoolProperties shared(String name) {
+        PoolProperties properties = new PoolProperties();
+        properties.setSharedPool(name);
+        return properties;
+    }
+
+    private void get(CloseableHttpClient client, String path) throws IOException {
+        try (CloseableHttpResponse response = client.execute(new HttpGet(baseUrl + path))) {
+            assertEquals("ok", EntityUtils.toString(response.getEntity()));
+        }
+    }
+
+    private static void respond(HttpExchange exchange) throws IOException {
+        byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static boolean await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 3000;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(20);
+        }
+        return condition.getAsBoolean();
+    }
+}
@@ -0,0 +1,143 @@
+package com.company.apiframework;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import com.company.apiframework.client.rest.DeadlineAwareRequestFactory;
+import com.company.apiframework.client.rest.RestApiClient;
+import com.company.apiframework.model.ApiRequest;
+import com.company.apiframework.model.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests for streaming response bodies over the live connection
+ */
+public class StreamingResponseTest {
+
+    private static final int CHUNK = 64 * 1024;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private String baseUrl;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.createContext("/export", exchange -> {
+            int chunks = Integer.parseInt(exchange.getRequestURI().getQuery().substring("chunks=".length()));
+            byte[] chunk = new byte[CHUNK];
+            exchange.getResponseHeaders().add("Content-Type", "application/x-ndjson");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (int i = 0; i < chunks; i++) {
+                    out.write(chunk);
+                }
+            } catch (IOException e) {
+                // Client stopped reading
+            }
+        });
+        server.createContext("/missing", exchange -> {
+            byte[] bytes = "{\"error\":\"not found\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(404, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testLargeBodyIsStreamedToHandler() {
+        RestApiClient client = new RestApiClient(newRestTemplate(), new ObjectMapper());
+
+        // 64 MB, far more than the handler ever holds
+        ApiResponse<Long> response = client.executeStreaming(get("/export?chunks=1024"), streamed -> {
+            assertEquals("application/x-ndjson", streamed.getHeaders().get("content-type"));
+            return drain(streamed.getBody());
+        });
+
+        assertTrue(response.isSuccess());
+        assertEquals(200, response.getStatusCode());
+        assertEquals(1024L * CHUNK, response.getBody().longValue());
+    }
+
+    @Test
+    public void testConnectionIsReleasedWhenHandlerFails() {
+        // A single pooled connection: a leaked lease would make the next call time out
+        RestApiClient client = new RestApiClient(newRestTemplate(), new ObjectMapper());
+
+        ApiResponse<Long> failed = client.executeStreaming(get("/export?chunks=16"), streamed -> {
+            streamed.getBody().read();
+            throw new IOException("disk full");
+        });
+        ApiResponse<Long> next = client.executeStreaming(get("/export?chunks=16"), streamed -> drain(streamed.getBody()));
+
+        assertFalse(failed.isSuccess());
+        assertEquals("REST_ERROR", failed.getErrorCode());
+        assertTrue(next.isSuccess());
+        assertEquals(16L * CHUNK, next.getBody().longValue());
+    }
+
+    @Test
+    public void testHttpErrorIsReportedWithoutCallingHandler() {
+        RestApiClient client = new RestApiClient(newRestTemplate(), new ObjectMapper());
+        AtomicBoolean called = new AtomicBoolean();
+
+        ApiResponse<Long> response = client.executeStreaming(get("/missing"), streamed -> {
+            called.set(true);
+            return drain(streamed.getBody());
+        });
+
+        assertFalse(response.isSuccess());
+        assertEquals("REST_ERROR", response.getErrorCode());
+        assertFalse(called.get());
+    }
+
+    private ApiRequest get(String path) {
+        return ApiRequest.builder().url(baseUrl + path).method("GET").build();
+    }
+
+    private static long drain(InputStream body) throws IOException {
+        byte[] buffer = new byte[8192];
+        long total = 0;
+        int read;
+        while ((read = body.read(buffer)) != -1) {
+            total += read;
+        }
+        return total;
+    }
+
+    private static RestTemplate newRestTemplate() {
+        DeadlineAwareRequestFactory factory = new DeadlineAwareRequestFactory(
+                HttpClientBuilder.create().setMaxConnTotal(1).setMaxConnPerRoute(1).build());
+        factory.setConnectTimeout(1000);
+        factory.setReadTimeout(10000);
+        factory.setConnectionRequestTimeout(1000);
+        return new RestTemplate(factory);
+    }
+}
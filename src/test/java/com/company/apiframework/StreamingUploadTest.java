@@ -0,0 +1,163 @@
+package com.company.apiframework;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.apache.http.client.HttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.web.client.RestTemplate;
+
+import com.company.apiframework.client.rest.DeadlineAwareRequestFactory;
+import com.company.apiframework.client.rest.RestApiClient;
+import com.company.apiframework.client.transport.JdkHttpClientTransport;
+import com.company.apiframework.client.transport.TransportApiClient;
+import com.company.apiframework.config.TransportProperties;
+import com.company.apiframework.interceptor.LoggingInterceptor;
+import com.company.apiframework.model.ApiRequest;
+import com.company.apiframework.model.ApiResponse;
+import com.company.apiframework.model.RequestBodyWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests for streaming request bodies
+ */
+public class StreamingUploadTest {
+
+    private static final int CHUNK = 64 * 1024;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private String baseUrl;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        // Answers with the framing and size of the body it received
+        server.createContext("/upload", exchange -> {
+            long received = 0;
+            byte[] buffer = new byte[8192];
+            try (InputStream in = exchange.getRequestBody()) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    received += read;
+                }
+            }
+            String encoding = exchange.getRequestHeaders().getFirst("Transfer-Encoding");
+            String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+            byte[] bytes = ("{\"bytes\":" + received + ",\"encoding\":\"" + encoding
+                    + "\",\"contentType\":\"" + contentType + "\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testWriterBodyIsChunkedPastBufferingInterceptor() {
+        HttpClient httpClient = HttpClientBuilder.create().setMaxConnTotal(1).setMaxConnPerRoute(1).build();
+        RestTemplate restTemplate = new RestTemplate(newFactory(httpClient));
+        restTemplate.setInterceptors(Arrays.<ClientHttpRequestInterceptor>asList(new LoggingInterceptor()));
+        DeadlineAwareRequestFactory uploadFactory = newFactory(httpClient);
+        uploadFactory.setBufferRequestBody(false);
+        RestApiClient client = new RestApiClient(restTemplate, new ObjectMapper(),
+                Executors.newSingleThreadExecutor(), uploadFactory);
+
+        // 64 MB, produced while the request is sent
+        RequestBodyWriter writer = out -> {
+            byte[] chunk = new byte[CHUNK];
+            for (int i = 0; i < 1024; i++) {
+                out.write(chunk);
+            }
+        };
+        ApiResponse<UploadReceipt> response = client.execute(post(writer), UploadReceipt.class);
+
+        assertTrue(response.isSuccess());
+        assertEquals(1024L * CHUNK, response.getBody().bytes);
+        assertEquals("chunked", response.getBody().encoding);
+        assertEquals("application/octet-stream", response.getBody().contentType);
+    }
+
+    @Test
+    public void testFileBodyIsStreamedWithCallerContentType(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("export.csv");
+        byte[] content = new byte[3 * CHUNK + 17];
+        Arrays.fill(content, (byte) 'x');
+        Files.write(file, content);
+        DeadlineAwareRequestFactory uploadFactory = newFactory(HttpClientBuilder.create().build());
+        uploadFactory.setBufferRequestBody(false);
+        RestApiClient client = new RestApiClient(new RestTemplate(), new ObjectMapper(),
+                Executors.newSingleThreadExecutor(), uploadFactory);
+
+        ApiRequest request = post(file);
+        request.addHeader("Content-Type", "text/csv");
+        ApiResponse<UploadReceipt> response = client.execute(request, UploadReceipt.class);
+
+        assertTrue(response.isSuccess());
+        assertEquals(content.length, response.getBody().bytes);
+        assertEquals("text/csv", response.getBody().contentType);
+    }
+
+    @Test
+    public void testInputStreamBodyThroughNonBlockingTransport() {
+        JdkHttpClientTransport transport = new JdkHttpClientTransport("test", 1000, 10000, new TransportProperties());
+        try {
+            TransportApiClient client = new TransportApiClient(transport, new ObjectMapper());
+
+            ApiResponse<UploadReceipt> response = client.execute(
+                    post(new ByteArrayInputStream(new byte[5 * CHUNK])), UploadReceipt.class);
+
+            assertTrue(response.isSuccess());
+            assertEquals(5L * CHUNK, response.getBody().bytes);
+            assertEquals("chunked", response.getBody().encoding);
+        } finally {
+            transport.close();
+        }
+    }
+
+    private ApiRequest post(Object body) {
+        return ApiRequest.builder().url(baseUrl + "/upload").method("POST").body(body).build();
+    }
+
+    private static DeadlineAwareRequestFactory newFactory(HttpClient httpClient) {
+        DeadlineAwareRequestFactory factory = new DeadlineAwareRequestFactory(httpClient);
+        factory.setConnectTimeout(1000);
+        factory.setReadTimeout(10000);
+        factory.setConnectionRequestTimeout(1000);
+        return factory;
+    }
+
+    public static class UploadReceipt {
+        public long bytes;
+        public String encoding;
+        public String contentType;
+    }
+}
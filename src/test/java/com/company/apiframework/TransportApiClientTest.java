@@ -0,0 +1,297 @@
+package com.company.apiframework;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.company.apiframework.client.transport.JdkHttpClientTransport;
+import com.company.apiframework.client.transport.TransportApiClient;
+import com.company.apiframework.client.transport.TransportRequest;
+import com.company.apiframework.client.transport.TransportResponse;
+import com.company.apiframework.config.TransportProperties;
+import com.company.apiframework.model.ApiRequest;
+import com.company.apiframework.model.ApiResponse;
+import com.company.apiframework.model.Deadline;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests for the non-blocking JDK HttpClient transport against a local stub server
+ */
+public class TransportApiClientTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private JdkHttpClientTransport transport;
+    private TransportApiClient client;
+    private String baseUrl;
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger peakConcurrent = new AtomicInteger();
+    private final CountDownLatch firstLineRead = new CountDownLatch(1);
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newFixedThreadPool(16);
+        server.setExecutor(serverExecutor);
+        server.createContext("/users/1", exchange -> respond(exchange, 200, "{\"id\":1,\"name\":\"Ada\"}"));
+        server.createContext("/echo", exchange -> respond(exchange, 200,
+                new String(readAll(exchange), StandardCharsets.UTF_8)));
+        server.createContext("/slow", exchange -> {
+            peakConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrent.decrementAndGet();
+            }
+            respond(exchange, 200, "{}");
+        });
+        server.createContext("/lines", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write("first\n".getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                // The rest is only sent once the client has consumed the first line
+                try {
+                    firstLineRead.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                out.write("second\nthird\n".getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        server.createContext("/missing", exchange -> respond(exchange, 404, "{\"error\":\"not found\"}"));
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        transport = new JdkHttpClientTransport("test", 1000, 5000, new TransportProperties());
+        client = new TransportApiClient(transport, new ObjectMapper());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        transport.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testTypedResponse() {
+        ApiResponse<Map> response = client.execute(ApiRequest.builder().url(baseUrl + "/users/1").method("GET").build(),
+                Map.class);
+
+        assertTrue(response.isSuccess());
+        assertEquals(200, response.getStatusCode());
+        assertEquals("Ada", response.getBody().get("name"));
+    }
+
+    @Test
+    public void testObjectBodyIsSerializedAsJson() {
+        ApiRequest request = ApiRequest.builder().url(baseUrl + "/echo").method("POST")
+                .body(Map.of("amount", 10)).build();
+
+        ApiResponse<String> response = client.execute(request);
+
+        assertEquals("{\"amount\":10}", response.getBody());
+    }
+
+    @Test
+    public void testHttpErrorBecomesErrorResponse() {
+        ApiResponse<String> response = client.execute(ApiRequest.builder().url(baseUrl + "/missing").method("GET").build());
+
+        assertFalse(response.isSuccess());
+        assertEquals(404, response.getStatusCode());
+        assertEquals("REST_ERROR", response.getErrorCode());
+        assertEquals("{\"error\":\"not found\"}", response.getRawResponse());
+    }
+
+    @Test
+    public void testConnectionFailureBecomesErrorResponse() throws IOException {
+        server.stop(0);
+
+        ApiResponse<String> response = client.execute(ApiRequest.builder().url(baseUrl + "/users/1").method("GET").build());
+
+        assertFalse(response.isSuccess());
+        assertEquals("REST_ERROR", response.getErrorCode());
+    }
+
+    @Test
+    public void testManyConcurrentCallsShareFewThreads() throws Exception {
+        List<CompletableFuture<ApiResponse<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(client.executeAsync(ApiRequest.builder().url(baseUrl + "/users/1").method("GET").build(),
+                    String.class).toCompletableFuture());
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(30, TimeUnit.SECONDS);
+
+        for (CompletableFuture<ApiResponse<String>> future : futures) {
+            assertTrue(future.join().isSuccess());
+        }
+        assertEquals(100L, transport.getMetrics().get("requests"));
+        assertEquals(0, transport.getMetrics().get("inFlight"));
+    }
+
+    @Test
+    public void testStreamLimitCapsInFlightRequestsPerOrigin() throws Exception {
+        TransportProperties properties = new TransportProperties();
+        properties.setHttpVersion(TransportProperties.HttpVersion.HTTP_2);
+        properties.setMaxConcurrentStreams(2);
+        JdkHttpClientTransport limited = new JdkHttpClientTransport("limited", 1000, 5000, properties);
+        try {
+            TransportApiClient limitedClient = new TransportApiClient(limited, new ObjectMapper());
+            List<CompletableFuture<ApiResponse<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(limitedClient.executeAsync(ApiRequest.builder().url(baseUrl + "/slow").method("GET").build(),
+                        String.class).toCompletableFuture());
+            }
+
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(30, TimeUnit.SECONDS);
+
+            assertTrue(peakConcurrent.get() <= 2);
+            assertEquals("HTTP_2", limited.getMetrics().get("httpVersion"));
+            assertEquals(0, limited.getMetrics().get("waitingForStream"));
+        } finally {
+            limited.close();
+        }
+    }
+
+    @Test
+    public void testCancelWithdrawsRequestWaitingForStream() throws Exception {
+        TransportProperties properties = new TransportProperties();
+        properties.setMaxConcurrentStreams(1);
+        JdkHttpClientTransport limited = new JdkHttpClientTransport("limited", 1000, 5000, properties);
+        try {
+            CompletableFuture<TransportResponse> running = limited.send(
+                    new TransportRequest("GET", baseUrl + "/slow", new HashMap<>(), null));
+            CompletableFuture<TransportResponse> waiting = limited.send(
+                    new TransportRequest("GET", baseUrl + "/slow", new HashMap<>(), null));
+
+            assertTrue(waiting.cancel(true));
+            assertEquals(200, running.get(5, TimeUnit.SECONDS).getStatusCode());
+            assertEquals(1L, limited.getMetrics().get("requests"));
+        } finally {
+            limited.close();
+        }
+    }
+
+    @Test
+    public void testRequestFailingOnceStreamIsFreeReleasesIt() throws Exception {
+        TransportProperties properties = new TransportProperties();
+        properties.setMaxConcurrentStreams(1);
+        JdkHttpClientTransport limited = new JdkHttpClientTransport("limited", 1000, 5000, properties);
+        try {
+            AtomicInteger builds = new AtomicInteger();
+            TransportRequest rejectedWhenRebuilt = new TransportRequest("GET", baseUrl + "/users/1", new HashMap<>(),
+                    (byte[]) null, Deadline.after(5000)) {
+                @Override
+                public Map<String, String> getHeaders() {
+                    // Valid when the request is first built, invalid once it is rebuilt for the remaining budget
+                    return builds.incrementAndGet() == 1 ? super.getHeaders()
+                            : Collections.singletonMap("bad header", "value");
+                }
+            };
+            CompletableFuture<TransportResponse> running = limited.send(
+                    new TransportRequest("GET", baseUrl + "/slow", new HashMap<>(), null));
+            CompletableFuture<TransportResponse> rejected = limited.send(rejectedWhenRebuilt);
+
+            ExecutionException e = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+            assertEquals(200, running.get(5, TimeUnit.SECONDS).getStatusCode());
+            assertEquals(200, limited.send(new TransportRequest("GET", baseUrl + "/users/1", new HashMap<>(), null))
+                    .get(5, TimeUnit.SECONDS).getStatusCode());
+            // Origins without requests in flight are not kept
+            assertEquals(0, limited.getMetrics().get("origins"));
+        } finally {
+            limited.close();
+        }
+    }
+
+    @Test
+    public void testStreamingHandlerReadsBodyAsItArrives() {
+        long start = System.currentTimeMillis();
+        ApiResponse<Long> response = client.executeStreaming(
+                ApiRequest.builder().url(baseUrl + "/lines").method("GET").build(), streamed -> {
+                    BufferedReader reader = new BufferedReader(
+                            new InputStreamReader(streamed.getBody(), StandardCharsets.UTF_8));
+                    assertEquals("first", reader.readLine());
+                    firstLineRead.countDown();
+                    return 1 + reader.lines().count();
+                });
+
+        assertTrue(response.isSuccess());
+        assertEquals(3L, (long) response.getBody());
+        // A buffered body would only arrive after the server gave up waiting
+        assertTrue(System.currentTimeMillis() - start < 4000);
+    }
+
+    @Test
+    public void testStreamingHttpErrorBecomesErrorResponse() {
+        ApiResponse<String> response = client.executeStreaming(
+                ApiRequest.builder().url(baseUrl + "/missing").method("GET").build(), streamed -> "handled");
+
+        assertEquals(404, response.getStatusCode());
+        assertEquals("REST_ERROR", response.getErrorCode());
+        assertEquals("{\"error\":\"not found\"}", response.getRawResponse());
+    }
+
+    @Test
+    public void testStreamingReleasesStreamPermitWhenBodyIsClosed() {
+        TransportProperties properties = new TransportProperties();
+        properties.setMaxConcurrentStreams(1);
+        JdkHttpClientTransport limited = new JdkHttpClientTransport("limited", 1000, 5000, properties);
+        try {
+            TransportApiClient limitedClient = new TransportApiClient(limited, new ObjectMapper());
+            for (int i = 0; i < 3; i++) {
+                ApiResponse<Integer> response = limitedClient.executeStreaming(ApiRequest.builder()
+                        .url(baseUrl + "/users/1").method("GET").timeout(2000).build(),
+                        streamed -> streamed.getBody().read());
+
+                assertTrue(response.isSuccess());
+                assertEquals((int) '{', (int) response.getBody());
+            }
+            assertEquals(0, limited.getMetrics().get("waitingForStream"));
+        } finally {
+            limited.close();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static byte[] readAll(HttpExchange exchange) throws IOException {
+        return exchange.getRequestBody().readAllBytes();
+    }
+}
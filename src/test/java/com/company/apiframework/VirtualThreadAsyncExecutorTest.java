@@ -0,0 +1,80 @@
+package com.company.apiframework;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.company.apiframework.async.VirtualThreadAsyncExecutor;
+import com.company.apiframework.async.VirtualThreads;
+import com.company.apiframework.config.AsyncProperties;
+
+/**
+ * Tests for the virtual thread executor (skipped on JVMs without virtual threads)
+ */
+public class VirtualThreadAsyncExecutorTest {
+
+    private VirtualThreadAsyncExecutor executor;
+
+    @BeforeEach
+    public void setUp() {
+        assumeTrue(VirtualThreads.isSupported(), "Virtual threads require Java 21");
+        AsyncProperties properties = new AsyncProperties();
+        properties.setMode(AsyncProperties.Mode.VIRTUAL);
+        properties.setMaxConcurrency(4);
+        properties.setQueueCapacity(10000);
+        executor = new VirtualThreadAsyncExecutor("test", properties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdown(1000);
+        }
+    }
+
+    @Test
+    public void testConcurrencyIsLimitedByPermits() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            futures.add(executor.submit(() -> {
+                int now = running.incrementAndGet();
+                peak.accumulateAndGet(now, Math::max);
+                sleep(5);
+                running.decrementAndGet();
+                return now;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(30, TimeUnit.SECONDS);
+
+        assertTrue(peak.get() <= 4, "peak concurrency " + peak.get());
+        assertEquals(200L, executor.getMetrics().get("completedTasks"));
+        assertEquals("virtual", executor.getMetrics().get("mode"));
+    }
+
+    @Test
+    public void testCallsRunOnVirtualThreads() throws Exception {
+        String threadName = executor.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+
+        assertTrue(threadName.startsWith("api-vthread-test-"), threadName);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}